@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.airlift.compress.zstd;
+
+import static io.airlift.compress.zstd.Constants.LITERAL_LENGTH_TABLE_LOG;
+import static io.airlift.compress.zstd.Constants.MATCH_LENGTH_TABLE_LOG;
+import static io.airlift.compress.zstd.Constants.MAX_LITERALS_LENGTH_SYMBOL;
+import static io.airlift.compress.zstd.Constants.MAX_MATCH_LENGTH_SYMBOL;
+import static io.airlift.compress.zstd.Constants.MAX_OFFSET_CODE_SYMBOL;
+import static io.airlift.compress.zstd.Constants.OFFSET_TABLE_LOG;
+import static io.airlift.compress.zstd.Constants.REPEATED_OFFSET_COUNT;
+import static io.airlift.compress.zstd.Constants.SIZE_OF_INT;
+import static io.airlift.compress.zstd.UnsafeUtil.UNSAFE;
+import static io.airlift.compress.zstd.Util.verify;
+import static sun.misc.Unsafe.ARRAY_BYTE_BASE_OFFSET;
+
+/**
+ * A dictionary for decompressing ZStd frames that were compressed with one. This can either be a
+ * full dictionary (as made by "zstd --train"), which has an ID, entropy tables, and repeated
+ * offsets as well as the content, or a raw content dictionary, which is just the content.
+ */
+public class ZstdDictionary {
+
+  /** the magic number at the start of a full dictionary **/
+  static final int DICTIONARY_MAGIC_NUMBER = 0xEC30A437;
+
+  private final byte[] data;
+
+  private final long id;
+
+  private final int entropyOffset;
+
+  private final int contentOffset;
+
+  private final int[] repeatedOffsets = new int[REPEATED_OFFSET_COUNT];
+
+  /**
+   * Reads the dictionary from the {@code data}
+   */
+  public ZstdDictionary(byte[] data) {
+    this.data = data;
+
+    long inputAddress = ARRAY_BYTE_BASE_OFFSET;
+    long inputLimit = ARRAY_BYTE_BASE_OFFSET + data.length;
+
+    if (data.length < 8 || UNSAFE.getInt(data, inputAddress) != DICTIONARY_MAGIC_NUMBER) {
+      // raw content
+      id = 0;
+      entropyOffset = 0;
+      contentOffset = 0;
+      return;
+    }
+
+    id = UNSAFE.getInt(data, inputAddress + SIZE_OF_INT) & 0xFFFF_FFFFL;
+
+    long input = inputAddress + 8;
+    entropyOffset = (int) (input - inputAddress);
+
+    // read through the entropy tables to find where they end
+    input += new Huffman().readTable(data, input, (int) (inputLimit - input));
+
+    FseTableReader fse = new FseTableReader();
+    input += fse.readFseTable(new FiniteStateEntropy.Table(OFFSET_TABLE_LOG), data, input, inputLimit, MAX_OFFSET_CODE_SYMBOL, OFFSET_TABLE_LOG);
+    input += fse.readFseTable(new FiniteStateEntropy.Table(MATCH_LENGTH_TABLE_LOG), data, input, inputLimit, MAX_MATCH_LENGTH_SYMBOL, MATCH_LENGTH_TABLE_LOG);
+    input += fse.readFseTable(new FiniteStateEntropy.Table(LITERAL_LENGTH_TABLE_LOG), data, input, inputLimit, MAX_LITERALS_LENGTH_SYMBOL, LITERAL_LENGTH_TABLE_LOG);
+
+    verify(input + REPEATED_OFFSET_COUNT * SIZE_OF_INT <= inputLimit, input, "Not enough input bytes");
+    for (int i = 0; i < REPEATED_OFFSET_COUNT; i++) {
+      repeatedOffsets[i] = UNSAFE.getInt(data, input);
+      input += SIZE_OF_INT;
+    }
+
+    contentOffset = (int) (input - inputAddress);
+  }
+
+  /**
+   * Gets the ID of the dictionary, which frames that need it refer to. Raw content dictionaries
+   * have an ID of 0.
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the length of the content, which is the data before the start of each frame
+   */
+  public int getContentLength() {
+    return data.length - contentOffset;
+  }
+
+  int getContentOffset() {
+    return contentOffset;
+  }
+
+  byte[] getData() {
+    return data;
+  }
+
+  int getEntropyOffset() {
+    return entropyOffset;
+  }
+
+  int[] getRepeatedOffsets() {
+    return repeatedOffsets;
+  }
+
+  boolean hasEntropyTables() {
+    return contentOffset > entropyOffset;
+  }
+
+}
@@ -27,6 +27,7 @@ import static io.airlift.compress.zstd.Constants.MATCH_LENGTH_TABLE_LOG;
 import static io.airlift.compress.zstd.Constants.MAX_BLOCK_SIZE;
 import static io.airlift.compress.zstd.Constants.MAX_LITERALS_LENGTH_SYMBOL;
 import static io.airlift.compress.zstd.Constants.MAX_MATCH_LENGTH_SYMBOL;
+import static io.airlift.compress.zstd.Constants.MAX_OFFSET_CODE_SYMBOL;
 import static io.airlift.compress.zstd.Constants.MIN_BLOCK_SIZE;
 import static io.airlift.compress.zstd.Constants.MIN_SEQUENCES_SIZE;
 import static io.airlift.compress.zstd.Constants.MIN_WINDOW_LOG;
@@ -136,6 +137,9 @@ class ZstdFrameDecompressor {
 
   private final FseTableReader fse = new FseTableReader();
 
+  /** the largest window that a compressed block can use - 8MB unless the stream allows larger **/
+  private int maxWindowSize = MAX_WINDOW_SIZE;
+
   public int decompress(final Object inputBase, final long inputAddress, final long inputLimit, final Object outputBase, final long outputAddress, final long outputLimit) {
     if (outputAddress == outputLimit) {
       return 0;
@@ -150,6 +154,7 @@ class ZstdFrameDecompressor {
       input += verifyMagic(inputBase, inputAddress, inputLimit);
 
       FrameHeader frameHeader = readFrameHeader(inputBase, input, inputLimit);
+      verify(frameHeader.dictionaryId == -1, input, "Custom dictionaries not supported");
       input += frameHeader.headerSize;
 
       boolean lastBlock;
@@ -206,7 +211,14 @@ class ZstdFrameDecompressor {
     return (int) (output - outputAddress);
   }
 
-  private void reset() {
+  /**
+   * Sets the largest window that a compressed block can use
+   */
+  void setMaxWindowSize(int maxWindowSize) {
+    this.maxWindowSize = maxWindowSize;
+  }
+
+  void reset() {
     previousOffsets[0] = 1;
     previousOffsets[1] = 4;
     previousOffsets[2] = 8;
@@ -216,14 +228,46 @@ class ZstdFrameDecompressor {
     currentMatchLengthTable = null;
   }
 
-  private static int decodeRawBlock(Object inputBase, long inputAddress, int blockSize, Object outputBase, long outputAddress, long outputLimit) {
+  /**
+   * Resets the state for a new frame that uses the {@code dictionary}, loading the entropy tables
+   * and repeated offsets from it (if it has them)
+   */
+  void reset(ZstdDictionary dictionary) {
+    reset();
+
+    if (dictionary == null || !dictionary.hasEntropyTables()) {
+      return;
+    }
+
+    byte[] data = dictionary.getData();
+    long input = ARRAY_BYTE_BASE_OFFSET + dictionary.getEntropyOffset();
+    long inputLimit = ARRAY_BYTE_BASE_OFFSET + dictionary.getContentOffset();
+
+    input += huffman.readTable(data, input, (int) (inputLimit - input));
+
+    input += fse.readFseTable(offsetCodesTable, data, input, inputLimit, MAX_OFFSET_CODE_SYMBOL, OFFSET_TABLE_LOG);
+    currentOffsetCodesTable = offsetCodesTable;
+
+    input += fse.readFseTable(matchLengthTable, data, input, inputLimit, MAX_MATCH_LENGTH_SYMBOL, MATCH_LENGTH_TABLE_LOG);
+    currentMatchLengthTable = matchLengthTable;
+
+    input += fse.readFseTable(literalsLengthTable, data, input, inputLimit, MAX_LITERALS_LENGTH_SYMBOL, LITERAL_LENGTH_TABLE_LOG);
+    currentLiteralsLengthTable = literalsLengthTable;
+
+    int[] repeatedOffsets = dictionary.getRepeatedOffsets();
+    previousOffsets[0] = repeatedOffsets[0];
+    previousOffsets[1] = repeatedOffsets[1];
+    previousOffsets[2] = repeatedOffsets[2];
+  }
+
+  static int decodeRawBlock(Object inputBase, long inputAddress, int blockSize, Object outputBase, long outputAddress, long outputLimit) {
     verify(outputAddress + blockSize <= outputLimit, inputAddress, "Output buffer too small");
 
     UNSAFE.copyMemory(inputBase, inputAddress, outputBase, outputAddress, blockSize);
     return blockSize;
   }
 
-  private static int decodeRleBlock(int size, Object inputBase, long inputAddress, Object outputBase, long outputAddress, long outputLimit) {
+  static int decodeRleBlock(int size, Object inputBase, long inputAddress, Object outputBase, long outputAddress, long outputLimit) {
     verify(outputAddress + size <= outputLimit, inputAddress, "Output buffer too small");
 
     long output = outputAddress;
@@ -256,7 +300,7 @@ class ZstdFrameDecompressor {
     return size;
   }
 
-  private int decodeCompressedBlock(Object inputBase, final long inputAddress, int blockSize, Object outputBase, long outputAddress, long outputLimit, int windowSize, long outputAbsoluteBaseAddress) {
+  int decodeCompressedBlock(Object inputBase, final long inputAddress, int blockSize, Object outputBase, long outputAddress, long outputLimit, int windowSize, long outputAbsoluteBaseAddress) {
     long inputLimit = inputAddress + blockSize;
     long input = inputAddress;
 
@@ -285,7 +329,7 @@ class ZstdFrameDecompressor {
         throw fail(input, "Invalid literals block encoding type");
     }
 
-    verify(windowSize <= MAX_WINDOW_SIZE, input, "Window size too large (not yet supported)");
+    verify(windowSize <= maxWindowSize, input, "Window size too large (not yet supported)");
 
     return decompressSequences(
         inputBase, input, inputAddress + blockSize,
@@ -879,7 +923,6 @@ class ZstdFrameDecompressor {
         input += SIZE_OF_INT;
         break;
     }
-    verify(dictionaryId == -1, input, "Custom dictionaries not supported");
 
     // decode content size
     long contentSize = -1;
@@ -0,0 +1,421 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.airlift.compress.zstd;
+
+import static io.airlift.compress.zstd.Constants.COMPRESSED_BLOCK;
+import static io.airlift.compress.zstd.Constants.MAGIC_NUMBER;
+import static io.airlift.compress.zstd.Constants.MAX_BLOCK_SIZE;
+import static io.airlift.compress.zstd.Constants.RAW_BLOCK;
+import static io.airlift.compress.zstd.Constants.RLE_BLOCK;
+import static io.airlift.compress.zstd.Constants.SIZE_OF_BLOCK_HEADER;
+import static io.airlift.compress.zstd.Constants.SIZE_OF_INT;
+import static io.airlift.compress.zstd.Constants.SIZE_OF_LONG;
+import static sun.misc.Unsafe.ARRAY_BYTE_BASE_OFFSET;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Decompresses a ZStd stream one block at a time, so only the frame's window (plus 1 block) is
+ * held in memory, rather than the whole decompressed data. Supports multiple frames, skippable
+ * frames, and frames that were compressed with a dictionary. Frames that need a larger window than
+ * the maximum (8MB by default) are rejected, so a bad frame header can't make the stream allocate
+ * a huge buffer.
+ * <p>
+ * The decompressed data is written to a window buffer. The data that has been read is kept in the
+ * window (as later blocks can copy from it) until there isn't room for another block, then the
+ * last window's worth of data is moved back to the start of the buffer.
+ */
+public class ZstdInputStream
+    extends InputStream {
+
+  /** skippable frames have a magic number from 0x184D2A50 to 0x184D2A5F **/
+  private static final int SKIPPABLE_MAGIC_NUMBER = 0x184D2A50;
+
+  private static final int SKIPPABLE_MAGIC_MASK = 0xFFFFFFF0;
+
+  /** the largest window that is allowed, unless a different maximum is given to the constructor **/
+  public static final int DEFAULT_MAX_WINDOW_SIZE = 1 << 23;
+
+  /** the largest window that will be allocated **/
+  private final int maxWindowSize;
+
+  private final InputStream source;
+
+  private final ZstdDictionary dictionary;
+
+  private final ZstdFrameDecompressor decompressor = new ZstdFrameDecompressor();
+
+  /** the number of compressed bytes that can still be read from the source, or -1 to read until the end of the source **/
+  private long remainingInput;
+
+  /** the compressed data of the current block. Has extra space for long-at-a-time reads **/
+  private final byte[] input = new byte[MAX_BLOCK_SIZE + SIZE_OF_LONG];
+
+  /** the decompressed data of the current frame **/
+  private byte[] window;
+
+  /** the position in the window where the data of the current frame (or its dictionary) starts **/
+  private int windowStart;
+
+  /** the position in the window of the next byte to read **/
+  private int outputPosition;
+
+  /** the position in the window where the decompressed data ends **/
+  private int outputLimit;
+
+  /** the number of bytes of data that need to be kept before outputLimit, for later blocks to copy from **/
+  private int historySize;
+
+  private FrameHeader frameHeader;
+
+  private int frameWindowSize;
+
+  private boolean inFrame;
+
+  private boolean finished;
+
+  private int numFrames;
+
+  /**
+   * Decompresses the whole {@code source}
+   */
+  public ZstdInputStream(InputStream source) {
+    this(source, -1, null, DEFAULT_MAX_WINDOW_SIZE);
+  }
+
+  /**
+   * Decompresses {@code inputLength} bytes of the {@code source}. If the frames have been compressed
+   * with a dictionary, it must be given here, otherwise the {@code dictionary} can be null.
+   */
+  public ZstdInputStream(InputStream source, long inputLength, ZstdDictionary dictionary) {
+    this(source, inputLength, dictionary, DEFAULT_MAX_WINDOW_SIZE);
+  }
+
+  /**
+   * Decompresses {@code inputLength} bytes of the {@code source}, rejecting any frame that needs a
+   * window larger than {@code maxWindowSize} bytes. If the frames have been compressed with a
+   * dictionary, it must be given here, otherwise the {@code dictionary} can be null.
+   */
+  public ZstdInputStream(InputStream source, long inputLength, ZstdDictionary dictionary, int maxWindowSize) {
+    if (maxWindowSize <= 0 || maxWindowSize > Integer.MAX_VALUE - 2 * (MAX_BLOCK_SIZE + SIZE_OF_LONG)) {
+      throw new IllegalArgumentException("Invalid maximum window size: " + maxWindowSize);
+    }
+    this.source = source;
+    this.remainingInput = inputLength;
+    this.dictionary = dictionary;
+    this.maxWindowSize = maxWindowSize;
+    decompressor.setMaxWindowSize(maxWindowSize);
+  }
+
+  @Override
+  public int available() {
+    return outputLimit - outputPosition;
+  }
+
+  @Override
+  public void close()
+      throws IOException {
+    finished = true;
+    window = null;
+    source.close();
+  }
+
+  /**
+   * Decompresses the next block
+   *
+   * @return false if there are no more blocks in the stream
+   */
+  private boolean decodeNextBlock()
+      throws IOException {
+    while (!finished) {
+      if (!inFrame && !startFrame()) {
+        finished = true;
+        return false;
+      }
+
+      if (decodeBlock() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Decompresses a block of the current frame in to the window
+   *
+   * @return the number of bytes that were decompressed
+   */
+  private int decodeBlock()
+      throws IOException {
+    readInput(input, 0, SIZE_OF_BLOCK_HEADER);
+    int header = (input[0] & 0xFF) | ((input[1] & 0xFF) << 8) | ((input[2] & 0xFF) << 16);
+
+    boolean lastBlock = (header & 1) != 0;
+    int blockType = (header >>> 1) & 0b11;
+    int blockSize = (header >>> 3) & 0x1F_FFFF; // 21 bits
+
+    if (blockSize > MAX_BLOCK_SIZE) {
+      throw new MalformedInputException(0, "Block size too large");
+    }
+
+    makeRoomForBlock();
+
+    long outputAddress = ARRAY_BYTE_BASE_OFFSET + outputLimit;
+    long outputAddressLimit = ARRAY_BYTE_BASE_OFFSET + window.length;
+
+    int decodedSize;
+    switch (blockType) {
+      case RAW_BLOCK:
+        readInput(input, 0, blockSize);
+        decodedSize = ZstdFrameDecompressor.decodeRawBlock(input, ARRAY_BYTE_BASE_OFFSET, blockSize, window, outputAddress, outputAddressLimit);
+        break;
+      case RLE_BLOCK:
+        readInput(input, 0, 1);
+        decodedSize = ZstdFrameDecompressor.decodeRleBlock(blockSize, input, ARRAY_BYTE_BASE_OFFSET, window, outputAddress, outputAddressLimit);
+        break;
+      case COMPRESSED_BLOCK:
+        readInput(input, 0, blockSize);
+        Arrays.fill(input, blockSize, blockSize + SIZE_OF_LONG, (byte) 0);
+        decodedSize = decompressor.decodeCompressedBlock(input, ARRAY_BYTE_BASE_OFFSET, blockSize, window, outputAddress, outputAddressLimit, frameWindowSize, ARRAY_BYTE_BASE_OFFSET + windowStart);
+        break;
+      default:
+        throw new MalformedInputException(0, "Invalid block type");
+    }
+
+    outputLimit += decodedSize;
+
+    if (lastBlock) {
+      if (frameHeader.hasChecksum) {
+        // the checksum is of the whole frame, which isn't kept in memory, so it is skipped
+        readInput(input, 0, SIZE_OF_INT);
+      }
+      inFrame = false;
+    }
+
+    return decodedSize;
+  }
+
+  /**
+   * Makes sure there is room in the window for another block, by moving the data that needs to be
+   * kept back to the start of the window
+   */
+  private void makeRoomForBlock() {
+    if (window.length - outputLimit >= MAX_BLOCK_SIZE + SIZE_OF_LONG) {
+      return;
+    }
+
+    int keepStart = Math.max(windowStart, outputLimit - historySize);
+    int keepLength = outputLimit - keepStart;
+    System.arraycopy(window, keepStart, window, 0, keepLength);
+
+    windowStart = Math.max(0, windowStart - keepStart);
+    outputPosition -= keepStart;
+    outputLimit = keepLength;
+  }
+
+  @Override
+  public int read()
+      throws IOException {
+    if (outputPosition >= outputLimit && !decodeNextBlock()) {
+      return -1;
+    }
+    return window[outputPosition++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] destination, int offset, int length)
+      throws IOException {
+    if (length <= 0) {
+      return 0;
+    }
+
+    int readLength = 0;
+    while (readLength < length) {
+      if (outputPosition >= outputLimit && !decodeNextBlock()) {
+        break;
+      }
+
+      int copyLength = Math.min(length - readLength, outputLimit - outputPosition);
+      System.arraycopy(window, outputPosition, destination, offset + readLength, copyLength);
+      outputPosition += copyLength;
+      readLength += copyLength;
+    }
+
+    if (readLength == 0) {
+      return -1;
+    }
+    return readLength;
+  }
+
+  /**
+   * Reads {@code length} bytes of compressed data from the source
+   *
+   * @return false if there was no more data in the source, before anything was read
+   */
+  private boolean readInput(byte[] destination, int offset, int length, boolean allowEnd)
+      throws IOException {
+    if (remainingInput >= 0) {
+      if (remainingInput < length) {
+        if (allowEnd) {
+          return false;
+        }
+        throw new MalformedInputException(0, "Not enough input bytes");
+      }
+      remainingInput -= length;
+    }
+
+    int readLength = 0;
+    while (readLength < length) {
+      int blockLength = source.read(destination, offset + readLength, length - readLength);
+      if (blockLength <= 0) {
+        if (allowEnd && readLength == 0) {
+          return false;
+        }
+        throw new MalformedInputException(0, "Not enough input bytes");
+      }
+      readLength += blockLength;
+    }
+    return true;
+  }
+
+  private void readInput(byte[] destination, int offset, int length)
+      throws IOException {
+    readInput(destination, offset, length, false);
+  }
+
+  /**
+   * Skips {@code length} bytes of compressed data from the source
+   */
+  private void skipInput(long length)
+      throws IOException {
+    while (length > 0) {
+      int skipLength = (int) Math.min(length, input.length);
+      readInput(input, 0, skipLength);
+      length -= skipLength;
+    }
+  }
+
+  /**
+   * Reads the header of the next frame, skipping over any skippable frames, and prepares the
+   * window for it
+   *
+   * @return false if there are no more frames in the stream
+   */
+  private boolean startFrame()
+      throws IOException {
+    int magic;
+    while (true) {
+      if (!readInput(input, 0, SIZE_OF_INT, true)) {
+        return false;
+      }
+      magic = getInt(input, 0);
+
+      if ((magic & SKIPPABLE_MAGIC_MASK) != SKIPPABLE_MAGIC_NUMBER) {
+        break;
+      }
+
+      readInput(input, 0, SIZE_OF_INT);
+      skipInput(getInt(input, 0) & 0xFFFF_FFFFL);
+    }
+
+    if (magic != MAGIC_NUMBER) {
+      if (numFrames > 0 && magic == 0) {
+        return false; // padding after the last frame
+      }
+      ZstdFrameDecompressor.verifyMagic(input, ARRAY_BYTE_BASE_OFFSET, ARRAY_BYTE_BASE_OFFSET + SIZE_OF_INT); // throws the right error
+    }
+
+    // work out the size of the header from the first byte, then read the rest of it
+    readInput(input, 0, 1);
+    int frameHeaderDescriptor = input[0] & 0xFF;
+    boolean singleSegment = (frameHeaderDescriptor & 0b100000) != 0;
+    int dictionaryDescriptor = frameHeaderDescriptor & 0b11;
+    int contentSizeDescriptor = frameHeaderDescriptor >>> 6;
+
+    int headerSize = 1 +
+        (singleSegment ? 0 : 1) +
+        (dictionaryDescriptor == 0 ? 0 : (1 << (dictionaryDescriptor - 1))) +
+        (contentSizeDescriptor == 0 ? (singleSegment ? 1 : 0) : (1 << contentSizeDescriptor));
+    readInput(input, 1, headerSize - 1);
+
+    frameHeader = ZstdFrameDecompressor.readFrameHeader(input, ARRAY_BYTE_BASE_OFFSET, ARRAY_BYTE_BASE_OFFSET + headerSize);
+
+    long windowSize = frameHeader.windowSize;
+    if (singleSegment) {
+      windowSize = frameHeader.contentSize;
+    }
+    if (windowSize < 0 || windowSize > maxWindowSize) {
+      throw new MalformedInputException(0, "Window size too large (" + windowSize + " bytes, the maximum is " + maxWindowSize + ")");
+    }
+    frameWindowSize = (int) windowSize;
+
+    // use the dictionary, if there is one and the frame doesn't need a different one
+    boolean useDictionary = false;
+    if (frameHeader.dictionaryId > 0) {
+      if (dictionary == null || dictionary.getId() != frameHeader.dictionaryId) {
+        throw new MalformedInputException(0, "The frame needs dictionary " + frameHeader.dictionaryId);
+      }
+      useDictionary = true;
+    }
+    else if (dictionary != null) {
+      useDictionary = true;
+    }
+
+    int dictionaryLength = 0;
+    if (useDictionary) {
+      dictionaryLength = dictionary.getContentLength();
+      decompressor.reset(dictionary);
+    }
+    else {
+      decompressor.reset();
+    }
+
+    // the last window's worth of data is kept for later blocks to copy from, and matches can also
+    // copy from anywhere in the dictionary
+    long requiredHistory = (long) frameWindowSize + dictionaryLength;
+    if (requiredHistory > Integer.MAX_VALUE - 2 * (MAX_BLOCK_SIZE + SIZE_OF_LONG)) {
+      throw new MalformedInputException(0, "Window size too large (" + requiredHistory + " bytes, including the dictionary)");
+    }
+    historySize = (int) requiredHistory;
+
+    int requiredLength = historySize + 2 * (MAX_BLOCK_SIZE + SIZE_OF_LONG);
+    if (frameHeader.contentSize >= 0 && frameHeader.contentSize + dictionaryLength + MAX_BLOCK_SIZE + SIZE_OF_LONG < requiredLength) {
+      requiredLength = (int) (frameHeader.contentSize + dictionaryLength + MAX_BLOCK_SIZE + SIZE_OF_LONG);
+    }
+    if (window == null || window.length < requiredLength) {
+      window = new byte[requiredLength];
+    }
+
+    windowStart = 0;
+    outputPosition = 0;
+    outputLimit = 0;
+
+    if (useDictionary) {
+      System.arraycopy(dictionary.getData(), dictionary.getContentOffset(), window, 0, dictionaryLength);
+      outputPosition = dictionaryLength;
+      outputLimit = dictionaryLength;
+    }
+
+    inFrame = true;
+    numFrames++;
+    return true;
+  }
+
+  private static int getInt(byte[] data, int offset) {
+    return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16) | ((data[offset + 3] & 0xFF) << 24);
+  }
+
+}
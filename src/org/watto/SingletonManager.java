@@ -29,6 +29,9 @@ public class SingletonManager {
   /** the singleton objects **/
   static Hashtable<String, Object> singletons = new Hashtable<String, Object>();
 
+  /** the singleton objects that have been overwritten for a single thread **/
+  static ThreadLocal<Hashtable<String, Object>> threadSingletons = new ThreadLocal<Hashtable<String, Object>>();
+
   /***********************************************************************************************
    * Adds a <code>object</code>
    * @param code a unique codeword for this <code>object</code>
@@ -44,6 +47,13 @@ public class SingletonManager {
    * @return the object
    ***********************************************************************************************/
   public static Object get(String code) {
+    Hashtable<String, Object> threadObjects = threadSingletons.get();
+    if (threadObjects != null) {
+      Object object = threadObjects.get(code);
+      if (object != null) {
+        return object;
+      }
+    }
     return singletons.get(code);
   }
 
@@ -56,6 +66,10 @@ public class SingletonManager {
    *         <code>code</code>word
    ***********************************************************************************************/
   public static boolean has(String code) {
+    Hashtable<String, Object> threadObjects = threadSingletons.get();
+    if (threadObjects != null && threadObjects.containsKey(code)) {
+      return true;
+    }
     return singletons.containsKey(code);
   }
 
@@ -67,6 +81,20 @@ public class SingletonManager {
     singletons.remove(code);
   }
 
+  /***********************************************************************************************
+   * Removes a <code>object</code> that was set for the current thread only
+   * @param code the codeword for the object to remove
+   ***********************************************************************************************/
+  public static void removeForThread(String code) {
+    Hashtable<String, Object> threadObjects = threadSingletons.get();
+    if (threadObjects != null) {
+      threadObjects.remove(code);
+      if (threadObjects.isEmpty()) {
+        threadSingletons.remove();
+      }
+    }
+  }
+
   /***********************************************************************************************
    * Sets a singleton <code>object</code>
    * @param code a unique codeword for this <code>object</code>
@@ -75,4 +103,20 @@ public class SingletonManager {
   public static void set(String code, Object object) {
     singletons.put(code, object);
   }
+
+  /***********************************************************************************************
+   * Sets a singleton <code>object</code> for the current thread only. Other threads will still
+   * get the normal singleton <code>object</code>. Used when doing work in a background thread,
+   * where the normal singleton belongs to the Swing Event Dispatch Thread.
+   * @param code a unique codeword for this <code>object</code>
+   * @param object the object to set
+   ***********************************************************************************************/
+  public static void setForThread(String code, Object object) {
+    Hashtable<String, Object> threadObjects = threadSingletons.get();
+    if (threadObjects == null) {
+      threadObjects = new Hashtable<String, Object>();
+      threadSingletons.set(threadObjects);
+    }
+    threadObjects.put(code, object);
+  }
 }
\ No newline at end of file
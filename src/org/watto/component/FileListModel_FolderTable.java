@@ -19,6 +19,7 @@ import javax.swing.table.TableModel;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FileListSorter;
+import org.watto.ge.helper.FileTypeDetector;
 import org.watto.ge.plugin.ArchivePlugin;
 
 public class FileListModel_FolderTable implements FileListModel, TableModel {
@@ -107,7 +108,9 @@ public class FileListModel_FolderTable implements FileListModel, TableModel {
   **/
   @Override
   public Object getValueAt(int row, int column) {
-    return readPlugin.getColumnValue(resources[row], columns[column].getCharCode());
+    Resource resource = resources[row];
+    FileTypeDetector.prioritize(resource); // the row is visible, so identify it first
+    return readPlugin.getColumnValue(resource, columns[column].getCharCode());
   }
 
   /**
@@ -22,6 +22,7 @@ import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.helper.FileListFilter;
+import org.watto.ge.helper.FileTypeDetector;
 import org.watto.ge.helper.FileListSorter;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.RenamerPlugin;
@@ -120,7 +121,9 @@ public class FileListModel_Table implements FileListModel, TableModel {
   @Override
   public Object getValueAt(int row, int column) {
     try {
-      return readPlugin.getColumnValue(resources[row], columns[column].getCharCode());
+      Resource resource = resources[row];
+      FileTypeDetector.prioritize(resource); // the row is visible, so identify it first
+      return readPlugin.getColumnValue(resource, columns[column].getCharCode());
     }
     catch (Throwable t) {
       return "";
@@ -14,6 +14,9 @@
 
 package org.watto.component;
 
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.io.File;
 import javax.swing.SwingUtilities;
 import javax.swing.event.TableModelListener;
 import javax.swing.table.AbstractTableModel;
@@ -31,6 +34,7 @@ import org.watto.ge.plugin.exporter.Exporter_QuickBMSWrapper;
 import org.watto.ge.plugin.exporter.Exporter_QuickBMS_Decompression;
 import org.watto.task.Task;
 import org.watto.task.TaskProgressManager;
+import org.watto.task.ThumbnailLoadManager;
 import org.watto.task.Task_CreateImageResource;
 import org.watto.task.Task_LoadThumbnailLater;
 import org.watto.task.Task_QuickBMSBulkExport;
@@ -71,6 +75,26 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
     reload(new Resource[0]);
   }
 
+  /**
+  **********************************************************************************************
+  Can the thumbnail for this <i>resource</i> be generated in a background thread? Only if it's
+  already been exported, or its exporter can be used by many threads at once. Resources using
+  QuickBMS are always done in the Event Dispatch Thread, so they run after the bulk export.
+  **********************************************************************************************
+  **/
+  boolean canLoadInBackground(Resource resource) {
+    File exportedPath = resource.getExportedPath();
+    if (exportedPath != null) {
+      return exportedPath.exists();
+    }
+
+    ExporterPlugin exporter = resource.getExporter();
+    if (exporter == null || exporter instanceof Exporter_QuickBMSWrapper || exporter instanceof Exporter_QuickBMS_Decompression || exporter instanceof BlockQuickBMSExporterWrapper) {
+      return false;
+    }
+    return exporter.isThreadSafe();
+  }
+
   /**
   **********************************************************************************************
   
@@ -198,7 +222,15 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
       // Otherwise, in all normal cases, just trigger the extract and thumbnail generation as part of GameExtractor
       Task_LoadThumbnailLater task = new Task_LoadThumbnailLater(resource, table, this, row, column);
       task.setDirection(Task.DIRECTION_REDO);
-      SwingUtilities.invokeLater(task);
+
+      if (canLoadInBackground(resource)) {
+        // generate the thumbnail in a background thread, so the table can keep scrolling
+        updateVisibleRows();
+        ThumbnailLoadManager.queue(task);
+      }
+      else {
+        SwingUtilities.invokeLater(task);
+      }
 
     }
 
@@ -247,6 +279,9 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
     }
     */
 
+    // the old thumbnails don't need to be generated any more
+    ThumbnailLoadManager.cancelAll();
+
     this.resources = resources;
     readPlugin = Archive.getReadPlugin();
 
@@ -302,4 +337,31 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
   public void setValueAt(Object value, int row, int column) {
   }
 
+  /**
+  **********************************************************************************************
+  Tells the ThumbnailLoadManager which rows of the table are currently visible
+  **********************************************************************************************
+  **/
+  void updateVisibleRows() {
+    if (table == null) {
+      return;
+    }
+
+    Rectangle visibleRect = table.getVisibleRect();
+    if (visibleRect.height <= 0) {
+      ThumbnailLoadManager.setVisibleRows(table, -1, -1);
+      return;
+    }
+
+    int firstRow = table.rowAtPoint(new Point(visibleRect.x, visibleRect.y));
+    int lastRow = table.rowAtPoint(new Point(visibleRect.x, visibleRect.y + visibleRect.height - 1));
+    if (firstRow < 0) {
+      firstRow = 0;
+    }
+    if (lastRow < 0) {
+      lastRow = getRowCount() - 1;
+    }
+    ThumbnailLoadManager.setVisibleRows(table, firstRow, lastRow);
+  }
+
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.watto.datatype.Resource;
 import org.watto.event.WSResizableInterface;
 import org.watto.event.listener.WSResizableListener;
 import org.watto.ge.GameExtractor;
+import org.watto.ge.helper.FileListSorter;
 import org.watto.task.Task;
 import org.watto.task.Task_ReloadFileListPanel;
 import org.watto.xml.XMLNode;
@@ -285,6 +286,9 @@ public class WSFileListPanelHolder extends WSPanel {
       return;
     }
 
+    // the resources may have been renamed, replaced, etc, so the sort keys need to be read again
+    FileListSorter.clearCache();
+
     if (currentPanel instanceof FileListPanel) {
 
       //Task_ReloadFileListPanel task = new Task_ReloadFileListPanel((FileListPanel) currentPanel);
@@ -15,6 +15,7 @@
 package org.watto.datatype;
 
 import java.io.File;
+import java.util.IdentityHashMap;
 import javax.swing.Icon;
 import javax.swing.filechooser.FileSystemView;
 import org.watto.ErrorLogger;
@@ -24,6 +25,10 @@ import org.watto.component.ComponentRepository;
 import org.watto.component.SidePanel_DirectoryList;
 import org.watto.component.WSTableColumn;
 import org.watto.ge.GameExtractor;
+import org.watto.ge.helper.FileListFilter;
+import org.watto.ge.helper.FileTypeDetector;
+import org.watto.ge.helper.FileListSorter;
+import org.watto.ge.helper.ZipFileCache;
 import org.watto.ge.plugin.AllFilesPlugin;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.io.DirectoryBuilder;
@@ -53,9 +58,14 @@ public class Archive {
   /** The plugin used to read the <i>basePath</i> archive **/
   static ArchivePlugin readPlugin = new AllFilesPlugin();
 
-  /** The resources stored in this archive **/
+  /** The resources stored in this archive. While resources are being added, the array can be
+      longer than <i>numResources</i>, so they can be added without copying the array every time
+      (see ensureCapacity()). It's trimmed to the right length when each add or remove finishes. **/
   static Resource[] resources = new Resource[0];
 
+  /** The number of resources in the archive **/
+  static int numResources = 0;
+
   static Icon fileIcon;
 
   static Icon renamedIcon;
@@ -80,19 +90,28 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addDirectory(File directory, String directoryName) {
+    appendDirectory(directory, directoryName);
+    trimResources();
+  }
+
+  /**
+   **********************************************************************************************
+   * Adds all files in the <i>directory</i> (and its sub-directories) to the end of the array,
+   * without trimming it
+   **********************************************************************************************
+   **/
+  static void appendDirectory(File directory, String directoryName) {
     try {
 
       File[] files = directory.listFiles();
 
-      int numFiles = resources.length;
-      int newNumFiles = numFiles + files.length;
-      resizeResources(newNumFiles);
-      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
+      ensureCapacity(numResources + files.length);
+      for (int j = 0; j < files.length; j++) {
         if (files[j].isDirectory()) {
-          addDirectory(files[j], directoryName + files[j].getName() + File.separator);
+          appendDirectory(files[j], directoryName + files[j].getName() + File.separator);
         }
         else {
-          resources[i] = readPlugin.getBlankResource(files[j], directoryName + files[j].getName());
+          appendResource(readPlugin.getBlankResource(files[j], directoryName + files[j].getName()));
         }
       }
 
@@ -102,6 +121,17 @@ public class Archive {
     }
   }
 
+  /**
+   **********************************************************************************************
+   * Adds a resource to the end of the array, without trimming it
+   **********************************************************************************************
+   **/
+  static void appendResource(Resource file) {
+    ensureCapacity(numResources + 1);
+    resources[numResources] = file;
+    numResources++;
+  }
+
   /**
    **********************************************************************************************
    * Adds the <i>files</i> to the archive. If any of the files are a directory, the contents of
@@ -112,40 +142,35 @@ public class Archive {
   public static void addFiles(File[] files) {
     try {
 
-      int numFiles = resources.length;
-      int newNumFiles = numFiles + files.length;
-      resizeResources(newNumFiles);
-      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
+      ensureCapacity(numResources + files.length);
+      for (int j = 0; j < files.length; j++) {
         if (files[j].isDirectory()) {
-          addDirectory(files[j], files[j].getName() + File.separator);
+          // the directory doesn't appear as a file in the list, rather the contents of the directory are added instead
+          appendDirectory(files[j], files[j].getName() + File.separator);
         }
         else {
-          resources[i] = readPlugin.getBlankResource(files[j], files[j].getName());
+          appendResource(readPlugin.getBlankResource(files[j], files[j].getName()));
         }
       }
 
-      // when a directory is added, it doesn't appear as a file in the list,
-      // rather the contents of the directory are added instead. This call
-      // will ensure that any nulls created by adding a directory will be
-      // removed from the array.
-      removeNullResources();
-
     }
     catch (Throwable t) {
       logError(t);
     }
+    finally {
+      trimResources();
+    }
   }
 
   /**
    **********************************************************************************************
-   * Adds a resource to the archive
+   * Adds a resource to the archive. To add lots of resources, use addResources() instead.
    * @param file the resource to add
    **********************************************************************************************
    **/
   public static void addResource(Resource file) {
-    int numResources = resources.length;
-    resizeResources(numResources + 1);
-    resources[numResources] = file;
+    appendResource(file);
+    trimResources();
   }
 
   /**
@@ -155,15 +180,34 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addResources(Resource[] files) {
+    ensureCapacity(numResources + files.length);
+    System.arraycopy(files, 0, resources, numResources, files.length);
+    numResources += files.length;
+    trimResources();
+  }
 
-    int numFiles = resources.length;
-    int newNumFiles = numFiles + files.length;
-    resizeResources(newNumFiles);
+  /**
+   **********************************************************************************************
+   * Makes sure the <i>resources</i> array has room for at least <i>capacity</i> resources. The
+   * array at least doubles in size when it grows, so adding resources one at a time only copies
+   * the array a few times.
+   * @param capacity the number of resources that need to fit in the array
+   **********************************************************************************************
+   **/
+  static void ensureCapacity(int capacity) {
+    if (resources == null) {
+      resources = new Resource[0];
+      numResources = 0;
+    }
 
-    for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
-      resources[i] = files[j];
+    if (capacity <= resources.length) {
+      return;
     }
 
+    int newCapacity = Math.max(capacity, Math.max(resources.length * 2, 16));
+    Resource[] temp = resources;
+    resources = new Resource[newCapacity];
+    System.arraycopy(temp, 0, resources, 0, numResources);
   }
 
   /**
@@ -173,7 +217,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void extractAllResources(File directory) {
-    for (int i = 0; i < resources.length; i++) {
+    for (int i = 0; i < numResources; i++) {
       resources[i].extract(directory);
     }
   }
@@ -343,7 +387,8 @@ public class Archive {
 
   /**
    **********************************************************************************************
-   * Gets the number of resources in the archive
+   * Gets the number of resources in the archive. Together with getResource(), this reads the
+   * resources without copying or changing the array.
    * @return the number of files
    **********************************************************************************************
    **/
@@ -351,7 +396,7 @@ public class Archive {
     if (resources == null) {
       return 0;
     }
-    return resources.length;
+    return numResources;
   }
 
   /**
@@ -394,23 +439,36 @@ public class Archive {
 
   /**
    **********************************************************************************************
-   * Gets the resource from index <i>num</i> of the array
+   * Gets the resource from index <i>num</i> of the array. This never copies or changes the array.
    * @param num the resource number
    * @return the resource.
    **********************************************************************************************
    **/
   public static Resource getResource(int num) {
+    if (num >= numResources) {
+      throw new ArrayIndexOutOfBoundsException(num);
+    }
     return resources[num];
   }
 
   /**
    **********************************************************************************************
-   * Gets all the resources in the archive
+   * Gets all the resources in the archive. The array is the one stored in the Archive (it isn't
+   * a copy), and its length is the number of resources. This doesn't change the Archive, so it
+   * can be called from any thread.
    * @return the resources
    **********************************************************************************************
    **/
   public static Resource[] getResources() {
-    return resources;
+    Resource[] currentResources = resources;
+    int currentNumResources = numResources;
+    if (currentResources != null && currentResources.length != currentNumResources) {
+      // only while resources are being added - the array is trimmed when they're done
+      Resource[] exactResources = new Resource[currentNumResources];
+      System.arraycopy(currentResources, 0, exactResources, 0, Math.min(currentNumResources, currentResources.length));
+      return exactResources;
+    }
+    return currentResources;
   }
 
   /**
@@ -473,7 +531,18 @@ public class Archive {
    **/
   public static void makeNewArchive() {
 
+    // close any ZIP archives that were kept open for exporting from the old archive
+    ZipFileCache.closeAll();
+
+    // stop identifying the file types of the old resources
+    FileTypeDetector.stopBackgroundIdentification();
+
+    // the sort keys and filter values belong to the old resources
+    FileListSorter.clearCache();
+    FileListFilter.clearCache();
+
     resources = new Resource[0];
+    numResources = 0;
     readPlugin = new AllFilesPlugin();
     basePath = null;
 
@@ -492,6 +561,7 @@ public class Archive {
    **/
   public static void removeAllResources() {
     resources = new Resource[0];
+    numResources = 0;
   }
 
   /**
@@ -503,33 +573,21 @@ public class Archive {
   public static void removeNullResources() {
     try {
 
-      // find the 2 pointers
-      int nullPos = -1;
-      int nextFile = -1;
-      for (int i = 0; i < resources.length; i++) {
-        if (nullPos == -1 && resources[i] == null) {
-          nullPos = i;
-        }
-        if (nullPos > -1 && resources[i] != null) {
-          nextFile = i;
-          i = resources.length;
+      // move the resources up over the nulls, keeping them in the same order
+      int numKept = 0;
+      for (int i = 0; i < numResources; i++) {
+        if (resources[i] != null) {
+          resources[numKept] = resources[i];
+          numKept++;
         }
       }
 
-      // re-shuffle the resource array to the top
-      if (nullPos > -1 && nextFile > -1) {
-        for (int i = nextFile; i < resources.length; i++) {
-          if (resources[i] != null) {
-            resources[nullPos] = resources[i];
-            nullPos++;
-          }
-        }
+      for (int i = numKept; i < numResources; i++) {
+        resources[i] = null;
       }
+      numResources = numKept;
 
-      // resize the resources array
-      if (nullPos > -1) {
-        resizeResources(nullPos);
-      }
+      trimResources();
 
     }
     catch (Throwable t) {
@@ -566,17 +624,17 @@ public class Archive {
   public static void removeResources(Resource[] files) {
     try {
 
-      // null out the resources to remove
-      int filesPos = 0;
-      while (filesPos < files.length) {
-        for (int i = 0; i < resources.length; i++) {
-          if (files[filesPos] == resources[i]) {
-            resources[i] = null;
-            filesPos++;
-            if (filesPos >= files.length) {
-              i = resources.length;
-            }
-          }
+      // null out the resources to remove, in a single pass over the archive
+      IdentityHashMap<Resource, Resource> filesToRemove = new IdentityHashMap<Resource, Resource>(files.length * 2);
+      for (int i = 0; i < files.length; i++) {
+        if (files[i] != null) {
+          filesToRemove.put(files[i], files[i]);
+        }
+      }
+
+      for (int i = 0; i < numResources; i++) {
+        if (filesToRemove.containsKey(resources[i])) {
+          resources[i] = null;
         }
       }
 
@@ -598,12 +656,23 @@ public class Archive {
     Resource[] temp = resources;
     resources = new Resource[numResources];
 
-    if (numResources < temp.length) {
+    System.arraycopy(temp, 0, resources, 0, Math.min(numResources, Math.min(Archive.numResources, temp.length)));
+    Archive.numResources = numResources;
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes the spare room from the end of the <i>resources</i> array, so its length is the
+   * number of resources (as getResources() returns it). Called once each add or remove has
+   * finished, rather than for every resource.
+   **********************************************************************************************
+   **/
+  static void trimResources() {
+    if (resources != null && resources.length != numResources) {
+      Resource[] temp = resources;
+      resources = new Resource[numResources];
       System.arraycopy(temp, 0, resources, 0, numResources);
     }
-    else {
-      System.arraycopy(temp, 0, resources, 0, temp.length);
-    }
   }
 
   /**
@@ -674,6 +743,12 @@ public class Archive {
    **/
   public static void setResources(Resource[] resourcesNew) {
     resources = resourcesNew;
+    if (resources == null) {
+      numResources = 0;
+    }
+    else {
+      numResources = resources.length;
+    }
   }
 
   /**
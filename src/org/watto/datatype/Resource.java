@@ -360,6 +360,22 @@ public class Resource implements Comparable<Resource> {
         }
       }
 
+      return extractToFile(destination);
+    }
+    catch (Throwable t) {
+      logError(t);
+      return destination;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Extracts to exactly this <i>destination</i> file, without checking for duplicate filenames.
+  Used when the destination has already been worked out (eg by ParallelResourceExtractor)
+  **********************************************************************************************
+  **/
+  public File extractToFile(File destination) {
+    try {
       FileManipulator fm = new FileManipulator(destination, true);
       destination = fm.getFile();
       extract(fm);
@@ -378,20 +394,20 @@ public class Resource implements Comparable<Resource> {
 
   /**
   **********************************************************************************************
-  
+  Extracts using a copy of the exporter, so that many Resources can be extracted at the same time
   **********************************************************************************************
   **/
   public void extract(FileManipulator fm) {
-    exporter.extract(this, fm);
+    exporter.copy().extract(this, fm);
   }
 
   /**
   **********************************************************************************************
-  
+  Extracts using a copy of the exporter, so that many Resources can be extracted at the same time
   **********************************************************************************************
   **/
   public void extract(OutputStream outStream) {
-    exporter.extract(this, outStream);
+    exporter.copy().extract(this, outStream);
   }
 
   /////
@@ -0,0 +1,373 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.io.FileManipulator;
+import org.watto.io.Hex;
+import org.watto.io.buffer.ByteBuffer;
+import org.watto.io.converter.ByteArrayConverter;
+import org.watto.io.converter.HexConverter;
+
+/**
+**********************************************************************************************
+Finds which of the known AES keys (such as UE4Helper.getAESKeys()) decrypts an archive, by
+decrypting a small piece of the archive (usually the start of the directory) with each key and
+checking whether the result looks right.
+
+The key that works is remembered in a cache file (the <i>AESKeyCacheFile</i> setting), against
+the path and length of the archive and a hash of the encrypted data, so the next time the archive
+is opened the key is found straight away. If the archive isn't in the cache, the keys are tried
+by several threads at once.
+**********************************************************************************************
+**/
+public class AESKeyFinder {
+
+  /**
+  **********************************************************************************************
+  Checks whether some decrypted data looks right
+  **********************************************************************************************
+  **/
+  public interface KeyTester {
+
+    /**
+    **********************************************************************************************
+    Reads the decrypted data from the <i>fm</i> and throws an Exception if it doesn't look right.
+    This is called by several threads at once, so it must not change anything outside of itself.
+    **********************************************************************************************
+    **/
+    public void test(FileManipulator fm) throws Exception;
+  }
+
+  /** the AES block size - only whole blocks are decrypted **/
+  static final int BLOCK_SIZE = 16;
+
+  /** the keys that have been found for each archive, loaded from the cache file when first needed **/
+  static Properties foundKeys = null;
+
+  /**
+  **********************************************************************************************
+  Remembers the <i>key</i> that was found for an archive, and saves the cache file
+  **********************************************************************************************
+  **/
+  static synchronized void cacheKey(String cacheKey, byte[] key) {
+    Properties properties = getFoundKeys();
+    properties.setProperty(cacheKey, HexConverter.convertLittle(key).toString());
+
+    File cacheFile = getCacheFile();
+    if (cacheFile == null) {
+      return;
+    }
+
+    // write to a temporary file first, so an interruption while saving doesn't lose the old cache
+    File tempFile = new File(cacheFile.getAbsolutePath() + ".tmp");
+    FileOutputStream outStream = null;
+    try {
+      File directory = cacheFile.getAbsoluteFile().getParentFile();
+      if (directory != null && !directory.exists()) {
+        directory.mkdirs();
+      }
+
+      outStream = new FileOutputStream(tempFile);
+      properties.store(outStream, "Game Extractor - AES Keys Found For Archives");
+      outStream.close();
+      outStream = null;
+
+      cacheFile.delete();
+      tempFile.renameTo(cacheFile);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      if (outStream != null) {
+        try {
+          outStream.close();
+        }
+        catch (Throwable t) {
+        }
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the key that decrypts the archive, by decrypting <i>testLength</i> bytes from the
+  <i>offset</i> in the <i>path</i> with each of the <i>keys</i>, and giving the result to the
+  <i>tester</i>. If more than 1 key works, the first one in the list is used.
+  @return the key, or null if none of the keys work
+  **********************************************************************************************
+  **/
+  public static byte[] findKey(File path, long offset, int testLength, byte[][] keys, KeyTester tester) {
+    byte[] encrypted = readEncrypted(path, offset, testLength);
+    if (encrypted == null) {
+      return null;
+    }
+
+    String cacheKey = getCacheKey(path, offset, encrypted);
+
+    byte[] key = getCachedKey(cacheKey);
+    if (key != null && testKey(getCipher(), key, encrypted, tester)) {
+      return key;
+    }
+
+    if (keys == null || keys.length <= 0) {
+      return null;
+    }
+
+    key = searchKeys(keys, encrypted, tester);
+    if (key != null) {
+      cacheKey(cacheKey, key);
+    }
+    return key;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the cache file, from the <i>AESKeyCacheFile</i> setting
+  @return the file, or null if there isn't one set
+  **********************************************************************************************
+  **/
+  static File getCacheFile() {
+    String cacheFileString = Settings.get("AESKeyCacheFile");
+    if (cacheFileString == null || cacheFileString.equals("")) {
+      return null;
+    }
+    return new File(cacheFileString);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the key for the archive in the cache, which changes if the archive is modified
+  **********************************************************************************************
+  **/
+  static String getCacheKey(File path, long offset, byte[] encrypted) {
+    CRC32 crc = new CRC32();
+    crc.update(encrypted);
+    return path.getAbsolutePath() + "|" + path.length() + "|" + offset + "|" + Long.toHexString(crc.getValue());
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the key that was found the last time the archive was opened
+  @return the key, or null if the archive isn't in the cache
+  **********************************************************************************************
+  **/
+  static synchronized byte[] getCachedKey(String cacheKey) {
+    String hexString = getFoundKeys().getProperty(cacheKey);
+    if (hexString == null || hexString.equals("")) {
+      return null;
+    }
+    return ByteArrayConverter.convertLittle(new Hex(hexString));
+  }
+
+  /**
+  **********************************************************************************************
+  Gets a Cipher for decrypting with AES
+  @return the Cipher, or null if AES isn't available
+  **********************************************************************************************
+  **/
+  static Cipher getCipher() {
+    try {
+      return Cipher.getInstance("AES/ECB/NoPadding");
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the keys that have been found for each archive, loading them from the cache file if they
+  haven't been loaded yet
+  **********************************************************************************************
+  **/
+  static synchronized Properties getFoundKeys() {
+    if (foundKeys != null) {
+      return foundKeys;
+    }
+
+    foundKeys = new Properties();
+
+    File cacheFile = getCacheFile();
+    if (cacheFile == null || !cacheFile.exists()) {
+      return foundKeys;
+    }
+
+    FileInputStream inStream = null;
+    try {
+      inStream = new FileInputStream(cacheFile);
+      foundKeys.load(inStream);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      if (inStream != null) {
+        try {
+          inStream.close();
+        }
+        catch (Throwable t) {
+        }
+      }
+    }
+    return foundKeys;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to try the keys with, from the <i>NumberOfKeySearchThreads</i>
+  setting. If the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfKeySearchThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the encrypted data that the keys are tested on. Only whole AES blocks are read.
+  @return the data, or null if there isn't a whole block at the <i>offset</i>
+  **********************************************************************************************
+  **/
+  static byte[] readEncrypted(File path, long offset, int testLength) {
+    long remainingLength = path.length() - offset;
+    if (testLength > remainingLength) {
+      testLength = (int) remainingLength;
+    }
+    testLength -= testLength % BLOCK_SIZE;
+    if (testLength <= 0) {
+      return null;
+    }
+
+    FileManipulator fm = new FileManipulator(path, false, testLength);
+    try {
+      fm.seek(offset);
+      return fm.readBytes(testLength);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+    finally {
+      fm.close();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Tries each of the <i>keys</i> on the <i>encrypted</i> data, using several threads at once
+  @return the first key (in the order of the <i>keys</i>) that works, or null if none of them work
+  **********************************************************************************************
+  **/
+  static byte[] searchKeys(final byte[][] keys, final byte[] encrypted, final KeyTester tester) {
+    final int numKeys = keys.length;
+
+    // the lowest-numbered key that has worked so far - keys after it don't need to be tried
+    final AtomicInteger foundIndex = new AtomicInteger(numKeys);
+    final AtomicInteger nextIndex = new AtomicInteger(0);
+
+    Runnable searcher = new Runnable() {
+
+      @Override
+      public void run() {
+        Cipher cipher = getCipher();
+        if (cipher == null) {
+          return;
+        }
+
+        int index = nextIndex.getAndIncrement();
+        while (index < foundIndex.get()) {
+          if (testKey(cipher, keys[index], encrypted, tester)) {
+            int currentFound = foundIndex.get();
+            while (index < currentFound && !foundIndex.compareAndSet(currentFound, index)) {
+              currentFound = foundIndex.get();
+            }
+            return;
+          }
+          index = nextIndex.getAndIncrement();
+        }
+      }
+    };
+
+    int numThreads = Math.min(getNumThreads(), numKeys);
+    if (numThreads <= 1) {
+      searcher.run();
+    }
+    else {
+      ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+      try {
+        for (int i = 0; i < numThreads; i++) {
+          executor.execute(searcher);
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }
+
+    int index = foundIndex.get();
+    if (index < numKeys) {
+      return keys[index];
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Decrypts the <i>encrypted</i> data with the <i>key</i>, and asks the <i>tester</i> whether it
+  looks right
+  **********************************************************************************************
+  **/
+  static boolean testKey(Cipher cipher, byte[] key, byte[] encrypted, KeyTester tester) {
+    if (cipher == null || key == null) {
+      return false;
+    }
+
+    try {
+      cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"));
+      byte[] decrypted = cipher.doFinal(encrypted);
+
+      tester.test(new FileManipulator(new ByteBuffer(decrypted)));
+      return true;
+    }
+    catch (Throwable t) {
+      return false; // wrong key
+    }
+  }
+
+}
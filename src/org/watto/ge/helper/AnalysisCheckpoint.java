@@ -0,0 +1,178 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Properties;
+import org.watto.ErrorLogger;
+
+/**
+**********************************************************************************************
+Records how far through a directory analysis (Task_AnalyzeDirectory) has got, so that if it is
+interrupted, it can carry on from the same place the next time it is run. The checkpoint is
+stored in a small file next to the report.
+**********************************************************************************************
+**/
+public class AnalysisCheckpoint {
+
+  /** the file that the checkpoint is stored in **/
+  File checkpointFile;
+
+  /** the directory being analyzed **/
+  String directoryPath = "";
+
+  /** the options used for the analysis - a checkpoint can only be resumed with the same options **/
+  String options = "";
+
+  /** the number of files (in the order they're analyzed) that have been fully written to the report **/
+  long numFilesDone = 0;
+
+  /** the length of the report when the checkpoint was saved **/
+  long reportLength = 0;
+
+  /** whether an archive has been written to the report already (for writing commas in JSON) **/
+  boolean foundMultipleArchives = false;
+
+  /** whether a viewer has been written to the report already (for writing commas in JSON) **/
+  boolean foundMultipleViewers = false;
+
+  /**
+  **********************************************************************************************
+  A checkpoint for the analysis of the <i>directory</i>, stored in the <i>checkpointFile</i>
+  **********************************************************************************************
+  **/
+  public AnalysisCheckpoint(File checkpointFile, File directory, String options) {
+    this.checkpointFile = checkpointFile;
+    this.directoryPath = directory.getAbsolutePath();
+    this.options = options;
+  }
+
+  /**
+  **********************************************************************************************
+  Removes the checkpoint, once the analysis has finished
+  **********************************************************************************************
+  **/
+  public void delete() {
+    checkpointFile.delete();
+  }
+
+  public long getNumFilesDone() {
+    return numFilesDone;
+  }
+
+  public long getReportLength() {
+    return reportLength;
+  }
+
+  public boolean isFoundMultipleArchives() {
+    return foundMultipleArchives;
+  }
+
+  public boolean isFoundMultipleViewers() {
+    return foundMultipleViewers;
+  }
+
+  /**
+  **********************************************************************************************
+  Loads the checkpoint from disk, if there is one for the same directory and options
+  @return true if the checkpoint was loaded, and the analysis can be resumed from it
+  **********************************************************************************************
+  **/
+  public boolean load() {
+    if (!checkpointFile.exists()) {
+      return false;
+    }
+
+    FileInputStream inStream = null;
+    try {
+      inStream = new FileInputStream(checkpointFile);
+      Properties properties = new Properties();
+      properties.load(inStream);
+
+      if (!directoryPath.equals(properties.getProperty("Directory")) || !options.equals(properties.getProperty("Options"))) {
+        return false; // a checkpoint for a different analysis
+      }
+
+      numFilesDone = Long.parseLong(properties.getProperty("NumFilesDone", "0"));
+      reportLength = Long.parseLong(properties.getProperty("ReportLength", "0"));
+      foundMultipleArchives = Boolean.parseBoolean(properties.getProperty("FoundMultipleArchives", "false"));
+      foundMultipleViewers = Boolean.parseBoolean(properties.getProperty("FoundMultipleViewers", "false"));
+
+      return numFilesDone > 0 && reportLength > 0;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+    finally {
+      if (inStream != null) {
+        try {
+          inStream.close();
+        }
+        catch (Throwable t) {
+        }
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Saves the checkpoint to disk. The report must already have been written to disk up to the
+  <i>reportLength</i>.
+  **********************************************************************************************
+  **/
+  public void save(long numFilesDone, long reportLength, boolean foundMultipleArchives, boolean foundMultipleViewers) {
+    this.numFilesDone = numFilesDone;
+    this.reportLength = reportLength;
+    this.foundMultipleArchives = foundMultipleArchives;
+    this.foundMultipleViewers = foundMultipleViewers;
+
+    Properties properties = new Properties();
+    properties.setProperty("Directory", directoryPath);
+    properties.setProperty("Options", options);
+    properties.setProperty("NumFilesDone", "" + numFilesDone);
+    properties.setProperty("ReportLength", "" + reportLength);
+    properties.setProperty("FoundMultipleArchives", "" + foundMultipleArchives);
+    properties.setProperty("FoundMultipleViewers", "" + foundMultipleViewers);
+
+    // write to a temporary file first, so an interruption while saving doesn't lose the old checkpoint
+    File tempFile = new File(checkpointFile.getAbsolutePath() + ".tmp");
+    FileOutputStream outStream = null;
+    try {
+      outStream = new FileOutputStream(tempFile);
+      properties.store(outStream, "Game Extractor - Analyze Directory Checkpoint");
+      outStream.close();
+      outStream = null;
+
+      checkpointFile.delete();
+      tempFile.renameTo(checkpointFile);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      if (outStream != null) {
+        try {
+          outStream.close();
+        }
+        catch (Throwable t) {
+        }
+      }
+    }
+  }
+
+}
@@ -38,12 +38,54 @@ public class CommandLineProcessor {
   public CommandLineProcessor() {
   }
 
+  /**
+  **********************************************************************************************
+  Checks that the thread-safe exporters decode the files in the archive the same on
+  <i>numThreads</i> threads as on 1 thread (0 or less uses 1 thread per processor). This is for
+  testing the exporters, rather than for users.
+  **********************************************************************************************
+  **/
+  public void commandLineCheckThreads(String input, int numThreads) {
+    if (input == null) {
+      return; // force terminate
+    }
+
+    if (!commandLineReadArchive(input)) {
+      return;
+    }
+
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+
+    Resource[] resources = Archive.getResources();
+    int numChecked = ExporterConcurrencyChecker.getNumCheckable(resources);
+    System.out.println("Checking " + numChecked + " of " + resources.length + " files on " + numThreads + " threads");
+
+    Resource[] failed = ExporterConcurrencyChecker.check(resources, numThreads, 2);
+    for (int i = 0; i < failed.length; i++) {
+      System.out.println("Failed: " + failed[i].getName() + " (" + failed[i].getExporter().getClass().getName() + ")");
+    }
+
+    System.out.println("Finished checking files - " + failed.length + " of " + numChecked + " files decoded differently on several threads");
+  }
+
   /**
   **********************************************************************************************
   Runs an Extract from the command line
   **********************************************************************************************
   **/
   public void commandLineExtract(String input, String output, String convert, String filter) {
+    commandLineExtract(input, output, convert, filter, -1);
+  }
+
+  /**
+  **********************************************************************************************
+  Runs an Extract from the command line, using <i>numThreads</i> threads for extracting the
+  files (0 or less uses the NumberOfExportThreads setting)
+  **********************************************************************************************
+  **/
+  public void commandLineExtract(String input, String output, String convert, String filter, int numThreads) {
     if (output == null || input == null) {
       return; // force terminate
     }
@@ -122,6 +164,7 @@ public class CommandLineProcessor {
     // Extract the files to disk (and set the converter, if one was chosen)
     Task_ExportFiles task = new Task_ExportFiles(new File(output), resources);
     task.setShowPopups(false);
+    task.setNumThreads(numThreads);
     if (plugin != null) {
       task.setConverterPlugins(new ViewerPlugin[] { plugin });
     }
@@ -394,6 +437,7 @@ public class CommandLineProcessor {
     String filter = null;
     String format = null;
     String[] fields = new String[0];
+    int numThreads = -1;
 
     System.out.println("Game Extractor " + Settings.getDouble("Version"));
     System.out.println("===========================================================");
@@ -409,6 +453,8 @@ public class CommandLineProcessor {
         System.out.println("                       (BMP, DXT1, DXT3, DXT5, GIF, JPG, PCX, PNG, TGA)");
         System.out.println("  [-filter <regex>]    Only files that match the regex expression will be");
         System.out.println("                       exported");
+        System.out.println("  [-threads <number>]  The number of files to extract at the same time");
+        System.out.println("                       (0 = use the NumberOfExportThreads setting)");
         System.out.println("");
         System.out.println("-list                  List the contents of an archive without extracting them");
         System.out.println("  -input <file>        The archive file to examine");
@@ -421,6 +467,12 @@ public class CommandLineProcessor {
         System.out.println("                       Extension, FilePath, Filename, Offset, SourceFile)");
         System.out.println("  [-filter <regex>]    Only files that match the regex expression will be");
         System.out.println("                       listeded");
+        System.out.println("");
+        System.out.println("-checkthreads          Check that the files in an archive are decoded the same");
+        System.out.println("                       when several threads read them at once (for testing)");
+        System.out.println("  -input <file>        The archive file to check");
+        System.out.println("  [-threads <number>]  The number of threads to read with");
+        System.out.println("                       (0 = one for each processor)");
         return;
       }
       else if (arg.equals("-extract")) {
@@ -429,6 +481,9 @@ public class CommandLineProcessor {
       else if (arg.equals("-list")) {
         action = "list";
       }
+      else if (arg.equals("-checkthreads")) {
+        action = "checkthreads";
+      }
       else if (arg.equals("-input")) {
         // check that the next arg contains an existing file
         if (i + 1 >= numArgs) {
@@ -494,6 +549,27 @@ public class CommandLineProcessor {
         filter = args[i + 1];
         i++;
       }
+      else if (arg.equals("-threads")) {
+        // check that the next arg is a number
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-threads\" must be followed by the number of threads");
+          return; // force terminate
+        }
+
+        String threadsValue = args[i + 1];
+        i++;
+
+        try {
+          numThreads = Integer.parseInt(threadsValue);
+        }
+        catch (NumberFormatException e) {
+          numThreads = -1;
+        }
+        if (numThreads < 0) {
+          System.out.println("Error: The \"-threads\" value \"" + threadsValue + "\" is not valid");
+          return; // force terminate
+        }
+      }
       else if (arg.equals("-format")) {
         // check that the next arg is one of the format formats
         if (i + 1 >= numArgs) {
@@ -561,7 +637,7 @@ public class CommandLineProcessor {
       }
 
       // now run the extract
-      commandLineExtract(input, output, convert, filter);
+      commandLineExtract(input, output, convert, filter, numThreads);
     }
     else if (action.equals("list")) {
       // check that we have all the mandatory fields
@@ -584,6 +660,15 @@ public class CommandLineProcessor {
       // now run the extract
       commandLineList(input, output, format, fields, filter);
     }
+    else if (action.equals("checkthreads")) {
+      // check that we have all the mandatory fields
+      if (input == null) {
+        System.out.println("Error: \"-checkthreads\" is missing the mandatory field \"-input\"");
+        return; // force terminate
+      }
+
+      commandLineCheckThreads(input, numThreads);
+    }
 
   }
 
@@ -0,0 +1,184 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.watto.ErrorLogger;
+import org.watto.datatype.Archive;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.ExporterSession;
+
+/**
+**********************************************************************************************
+Checks that the exporters which say they're thread-safe (see ExporterPlugin.isThreadSafe()) really
+are. Each file is decoded on a single thread first, then the same files are decoded by several
+threads at the same time, and the hash of every decode is compared to the single-threaded one.
+
+Each thread starts at a different place in the list, so different threads are usually reading
+the same file (through the same exporter class) at the same time. Any file that decodes
+differently is logged, along with the exporter that was used.
+
+Run it from the command line with <i>-checkthreads -input archive [-threads number]</i>. An
+exporter should only say it's thread-safe once it has passed this check.
+**********************************************************************************************
+**/
+public class ExporterConcurrencyChecker {
+
+  /** the amount of data that is read from a session at a time **/
+  static final int BLOCK_SIZE = 65536;
+
+  /**
+  **********************************************************************************************
+  Checks the files in the archive that's currently loaded, with 1 thread per processor
+  **********************************************************************************************
+  **/
+  public static Resource[] check() {
+    return check(Archive.getResources(), Runtime.getRuntime().availableProcessors(), 2);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of <i>resources</i> that check() will check (the ones with a thread-safe
+  exporter)
+  **********************************************************************************************
+  **/
+  public static int getNumCheckable(Resource[] resources) {
+    int numCheckable = 0;
+    for (int i = 0; i < resources.length; i++) {
+      ExporterPlugin exporter = resources[i].getExporter();
+      if (exporter != null && exporter.isThreadSafe()) {
+        numCheckable++;
+      }
+    }
+    return numCheckable;
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes the <i>resources</i> on a single thread, then decodes them <i>numRounds</i> times on
+  each of <i>numThreads</i> threads at once, comparing the hashes. Only the resources with a
+  thread-safe exporter are checked, as the others are never read on more than 1 thread at once.
+  @return the resources that didn't decode the same on every thread
+  **********************************************************************************************
+  **/
+  public static Resource[] check(Resource[] resources, int numThreads, final int numRounds) {
+    // only check the resources that are allowed to be read at the same time
+    ArrayList<Resource> checkList = new ArrayList<Resource>(resources.length);
+    for (int i = 0; i < resources.length; i++) {
+      ExporterPlugin exporter = resources[i].getExporter();
+      if (exporter != null && exporter.isThreadSafe()) {
+        checkList.add(resources[i]);
+      }
+    }
+
+    final Resource[] checkResources = checkList.toArray(new Resource[0]);
+    final int numResources = checkResources.length;
+    if (numResources <= 0) {
+      return new Resource[0];
+    }
+
+    // the hashes when each file is decoded on its own
+    final byte[][] expectedHashes = new byte[numResources][];
+    for (int i = 0; i < numResources; i++) {
+      expectedHashes[i] = hash(checkResources[i]);
+    }
+
+    // 1 if the resource decoded differently on any thread
+    final AtomicIntegerArray mismatches = new AtomicIntegerArray(numResources);
+
+    if (numThreads < 1) {
+      numThreads = 1;
+    }
+    final int threadCount = numThreads;
+
+    Thread[] threads = new Thread[threadCount];
+    for (int t = 0; t < threadCount; t++) {
+      final int startPos = (int) ((long) numResources * t / threadCount);
+
+      threads[t] = new Thread(new Runnable() {
+
+        @Override
+        public void run() {
+          for (int r = 0; r < numRounds; r++) {
+            for (int i = 0; i < numResources; i++) {
+              int pos = (startPos + i) % numResources;
+              if (!MessageDigest.isEqual(expectedHashes[pos], hash(checkResources[pos]))) {
+                mismatches.set(pos, 1);
+              }
+            }
+          }
+        }
+      }, "ExporterConcurrencyChecker " + t);
+      threads[t].setDaemon(true);
+      threads[t].start();
+    }
+
+    for (int t = 0; t < threadCount; t++) {
+      try {
+        threads[t].join();
+      }
+      catch (Throwable t2) {
+        ErrorLogger.log(t2);
+      }
+    }
+
+    ArrayList<Resource> failed = new ArrayList<Resource>();
+    for (int i = 0; i < numResources; i++) {
+      if (mismatches.get(i) == 1) {
+        Resource resource = checkResources[i];
+        ErrorLogger.log("[ExporterConcurrencyChecker] " + resource.getExporter().getClass().getName() + " decoded " + resource.getName() + " differently when reading on " + threadCount + " threads");
+        failed.add(resource);
+      }
+    }
+    return failed.toArray(new Resource[0]);
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes the <i>resource</i> through its own exporter session, and hashes the decoded data
+  @return the hash, or an empty array if the resource couldn't be decoded
+  **********************************************************************************************
+  **/
+  static byte[] hash(Resource resource) {
+    ExporterSession session = null;
+    try {
+      MessageDigest digest = MessageDigest.getInstance("MD5");
+
+      session = resource.getExporter().openSession(resource);
+
+      byte[] buffer = new byte[BLOCK_SIZE];
+      int readLength = session.read(buffer, 0, BLOCK_SIZE);
+      while (readLength > 0) {
+        digest.update(buffer, 0, readLength);
+        readLength = session.read(buffer, 0, BLOCK_SIZE);
+      }
+
+      return digest.digest();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return new byte[0];
+    }
+    finally {
+      if (session != null) {
+        session.close();
+      }
+    }
+  }
+
+}
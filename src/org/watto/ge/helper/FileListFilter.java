@@ -12,8 +12,17 @@
  * details. For further information on this application, refer to the authors' website.
  */
 
+
 package org.watto.ge.helper;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 import org.watto.ErrorLogger;
 import org.watto.Settings;
 import org.watto.SingletonManager;
@@ -21,22 +30,66 @@ import org.watto.component.WSTableColumn;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.resource.Resource_Property;
 
 /**
 **********************************************************************************************
+Filters the resources shown in the file list to those that match the value in the Search panel.
 
+The search value is compiled once per filter, rather than for every cell. The values of the name
+columns (path, directory, filename, extension) are cached for each Resource, and are only read
+again if the Resource is renamed. If the <i>UseFilterIndex</i> setting is turned on, an index of
+the name columns is also built, so plain-text filters only need to look at the resources that
+might match. Large lists are filtered by several threads at once.
 **********************************************************************************************
 **/
 
 public class FileListFilter {
 
+  /** lists with fewer resources than this are filtered by a single thread **/
+  static final int PARALLEL_THRESHOLD = 20000;
+
+  /** the columns whose values only come from the name of the Resource **/
+  static final String NAME_COLUMNS = "PFNE";
+
+  /** the resources that the cached values belong to **/
+  static Resource[] cachedResources = null;
+
+  /** the position of each resource in <i>cachedResources</i> **/
+  static IdentityHashMap<Resource, Integer> cachedPositions = null;
+
+  /** the plugin that the cached values were read with **/
+  static ArchivePlugin cachedPlugin = null;
+
+  /** the name of each resource when its values were cached, to find resources that have been renamed **/
+  static String[] cachedNames = null;
+
+  /** the values of each name column that has been filtered, in the order of <i>cachedResources</i> **/
+  static HashMap<Character, String[]> cachedValues = new HashMap<Character, String[]>();
+
+  /** the index of each name column that has been filtered, in the order of <i>cachedResources</i> **/
+  static HashMap<Character, SubstringIndex> cachedIndexes = new HashMap<Character, SubstringIndex>();
+
+  /**
+  **********************************************************************************************
+  Removes the cached values and indexes
+  **********************************************************************************************
+  **/
+  public static synchronized void clearCache() {
+    cachedResources = null;
+    cachedPositions = null;
+    cachedPlugin = null;
+    cachedNames = null;
+    cachedValues.clear();
+    cachedIndexes.clear();
+  }
+
   /**
    **********************************************************************************************
    Filters a list of Resources
    @return the filtered list of resources
    **********************************************************************************************
    **/
-  @SuppressWarnings("rawtypes")
   public static Resource[] filterResources(Resource[] resources) {
 
     if (SingletonManager.has("FileListFilterValue")) {
@@ -44,101 +97,387 @@ public class FileListFilter {
         String filterValue = (String) SingletonManager.get("FileListFilterValue");
         WSTableColumn[] filterColumns = (WSTableColumn[]) SingletonManager.get("FileListFilterColumns");
 
-        int numColumns = filterColumns.length;
+        ArchivePlugin readPlugin = Archive.getReadPlugin();
+        return filterResources(resources, filterValue, filterColumns, readPlugin);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+    }
+
+    return resources;
+  }
+
+  /**
+  **********************************************************************************************
+  Filters the <i>resources</i> to those where any of the <i>filterColumns</i> match the
+  <i>filterValue</i>
+  @return the filtered list of resources, in the same order
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  static synchronized Resource[] filterResources(final Resource[] resources, String filterValue, WSTableColumn[] filterColumns, ArchivePlugin readPlugin) throws Exception {
+    final FileListFilter filter = new FileListFilter(filterValue, filterColumns, readPlugin);
 
-        boolean isNumber = false;
-        long searchValNumber = -1;
-        try {
-          searchValNumber = Long.parseLong(filterValue);
-          isNumber = true;
+    final int numFiles = resources.length;
+    final int[] positions = prepareCache(resources, readPlugin);
+
+    // get the cached values for the name columns
+    int numColumns = filterColumns.length;
+    filter.columnValues = new String[numColumns][];
+    boolean allColumnsIndexable = true;
+    for (int c = 0; c < numColumns; c++) {
+      WSTableColumn column = filterColumns[c];
+      Class type = column.getType();
+      if (type == String.class && NAME_COLUMNS.indexOf(column.getCharCode()) >= 0) {
+        filter.columnValues[c] = getCachedValues(column.getCharCode());
+      }
+      else if (type == String.class || (filter.isNumber && type == Long.class) || (filter.isBoolean && type == Boolean.class)) {
+        allColumnsIndexable = false;
+      }
+    }
+
+    // if all the columns are indexed, only the resources that might match need to be checked
+    boolean[] candidates = null;
+    if (allColumnsIndexable && !filter.regexSearch && Settings.getBoolean("UseFilterIndex") && SubstringIndex.canFind(filter.searchValString)) {
+      candidates = new boolean[cachedResources.length];
+      for (int c = 0; c < numColumns; c++) {
+        if (filter.columnValues[c] == null) {
+          continue;
         }
-        catch (Throwable t) {
+        SubstringIndex index = getCachedIndex(filterColumns[c].getCharCode());
+        int[] columnCandidates = index.findCandidates(filter.searchValString);
+        for (int i = 0; i < columnCandidates.length; i++) {
+          candidates[columnCandidates[i]] = true;
         }
 
-        boolean isBoolean = false;
-        boolean searchValBoolean = true;
-        if (filterValue.equals("true")) {
-          isBoolean = true;
-          searchValBoolean = true;
-        }
-        else if (filterValue.equals("false")) {
-          isBoolean = true;
-          searchValBoolean = false;
+        // values that aren't cached (eg Resource_Properties) aren't in the index, so always check them
+        int[] nullPositions = index.getNullPositions();
+        for (int i = 0; i < nullPositions.length; i++) {
+          candidates[nullPositions[i]] = true;
         }
+      }
+    }
 
-        boolean regexSearch = false;
+    // check each resource, in blocks if there are several threads
+    final boolean[] found = new boolean[numFiles];
+    final boolean[] candidateFiles = candidates;
 
-        String searchValString = filterValue;
-        if (Settings.getBoolean("SearchWildcardConversion")) {
-          searchValString = filterValue.replace("*", "(.*)");
-          regexSearch = true;
+    int numThreads = getNumThreads();
+    if (numThreads <= 1 || numFiles < PARALLEL_THRESHOLD) {
+      filter.checkResources(resources, positions, candidateFiles, found, 0, numFiles);
+    }
+    else {
+      ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+      try {
+        int blockSize = (numFiles + numThreads - 1) / numThreads;
+        ArrayList<Future<Object>> blocks = new ArrayList<Future<Object>>(numThreads);
+        for (int start = 0; start < numFiles; start += blockSize) {
+          final int blockStart = start;
+          final int blockEnd = Math.min(start + blockSize, numFiles);
+          blocks.add(executor.submit(new Callable<Object>() {
+
+            @Override
+            public Object call() {
+              filter.checkResources(resources, positions, candidateFiles, found, blockStart, blockEnd);
+              return null;
+            }
+          }));
         }
 
-        if (Settings.getBoolean("SearchRegExConversion")) {
-          regexSearch = true;
+        for (int b = 0; b < blocks.size(); b++) {
+          blocks.get(b).get();
         }
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }
 
-        // determine the starting position
-        int numFiles = resources.length;
-        ArchivePlugin readPlugin = Archive.getReadPlugin();
+    // build the list of matching resources, in the same order
+    int numFound = 0;
+    for (int i = 0; i < numFiles; i++) {
+      if (found[i]) {
+        numFound++;
+      }
+    }
 
-        // search for the files 
-        int numFound = 0;
-        Resource[] filteredResources = new Resource[numFiles];
-
-        for (int i = 0; i < numFiles; i++) {
-          Resource resource = resources[i];
-          if (resource != null) {
-            for (int c = 0; c < numColumns; c++) {
-              WSTableColumn column = filterColumns[c];
-              Class type = column.getType();
-              char columnChar = column.getCharCode();
-
-              boolean found = false;
-              if (type == String.class) {
-                if (regexSearch) { // regex
-                  try {
-                    found = ((String) readPlugin.getColumnValue(resource, columnChar)).matches(searchValString);
-                  }
-                  catch (Throwable t) {
-                  }
-                }
-                else { // literal
-                  found = (((String) readPlugin.getColumnValue(resource, columnChar)).indexOf(searchValString) >= 0);
-                }
-              }
-              else if (isNumber && type == Long.class) {
-                found = (((Long) readPlugin.getColumnValue(resource, columnChar)).longValue() == searchValNumber);
-              }
-              else if (isBoolean && type == Boolean.class) {
-                found = (((Boolean) readPlugin.getColumnValue(resource, columnChar)).booleanValue() == searchValBoolean);
-              }
-
-              if (found) {
-                filteredResources[numFound] = resource;
-                numFound++;
-                break; // stop searching the remaining columns - begin searching for the next file
-              }
+    if (numFound == numFiles) {
+      return resources;
+    }
 
-            }
-          }
-        }
+    Resource[] filteredResources = new Resource[numFound];
+    int f = 0;
+    for (int i = 0; i < numFiles; i++) {
+      if (found[i]) {
+        filteredResources[f++] = resources[i];
+      }
+    }
+    return filteredResources;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the index of the cached values of a name <i>column</i>, building it if it hasn't been
+  built yet
+  **********************************************************************************************
+  **/
+  static SubstringIndex getCachedIndex(char column) {
+    SubstringIndex index = cachedIndexes.get(column);
+    if (index == null) {
+      index = new SubstringIndex(getCachedValues(column));
+      cachedIndexes.put(column, index);
+    }
+    return index;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the cached values of a name <i>column</i>, reading them if they haven't been read yet.
+  Resource_Properties aren't cached (their value is null), as their name can change without them
+  being renamed.
+  **********************************************************************************************
+  **/
+  static String[] getCachedValues(char column) {
+    String[] values = cachedValues.get(column);
+    if (values == null) {
+      int numResources = cachedResources.length;
+      values = new String[numResources];
+      for (int i = 0; i < numResources; i++) {
+        values[i] = readCachedValue(cachedResources[i], column);
+      }
+      cachedValues.put(column, values);
+    }
+    return values;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to filter with, from the <i>NumberOfFilterThreads</i> setting. If
+  the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfFilterThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Makes sure the cache belongs to the <i>resources</i>, rebuilding it if not, and re-reads the
+  values of any resources that have been renamed since they were cached.
+  @return the position of each resource in <i>cachedResources</i>, or -1 for null resources
+  **********************************************************************************************
+  **/
+  static int[] prepareCache(Resource[] resources, ArchivePlugin readPlugin) {
+    int numFiles = resources.length;
+    int[] positions = new int[numFiles];
+
+    boolean cacheValid = (cachedResources != null && cachedPlugin == readPlugin);
+    for (int i = 0; cacheValid && i < numFiles; i++) {
+      Resource resource = resources[i];
+      if (resource == null) {
+        positions[i] = -1;
+        continue;
+      }
+      Integer position = cachedPositions.get(resource);
+      if (position == null) {
+        cacheValid = false;
+      }
+      else {
+        positions[i] = position.intValue();
+      }
+    }
+
+    if (!cacheValid) {
+      clearCache();
 
-        if (numFound == numFiles) {
-          return resources;
+      cachedResources = resources.clone();
+      cachedPlugin = readPlugin;
+      cachedNames = new String[numFiles];
+      cachedPositions = new IdentityHashMap<Resource, Integer>(numFiles * 2);
+      for (int i = 0; i < numFiles; i++) {
+        Resource resource = resources[i];
+        if (resource == null) {
+          positions[i] = -1;
+          continue;
         }
-        else {
-          resources = new Resource[numFound];
-          System.arraycopy(filteredResources, 0, resources, 0, numFound);
-          return resources;
+        cachedNames[i] = resource.getName();
+        cachedPositions.put(resource, i);
+        positions[i] = i;
+      }
+      return positions;
+    }
+
+    // re-read the values of any resources that have been renamed
+    boolean renamed = false;
+    for (int i = 0; i < numFiles; i++) {
+      int position = positions[i];
+      if (position < 0) {
+        continue;
+      }
+
+      Resource resource = cachedResources[position];
+      String name = resource.getName();
+      if (name != cachedNames[position]) {
+        cachedNames[position] = name;
+        for (Character column : cachedValues.keySet()) {
+          cachedValues.get(column)[position] = readCachedValue(resource, column.charValue());
         }
+        renamed = true;
+      }
+    }
+
+    if (renamed) {
+      cachedIndexes.clear(); // will be rebuilt when they're next needed
+    }
+
+    return positions;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the value of a name <i>column</i> for the <i>resource</i>, to store in the cache
+  **********************************************************************************************
+  **/
+  static String readCachedValue(Resource resource, char column) {
+    if (resource == null || resource instanceof Resource_Property) {
+      return null;
+    }
+    return (String) cachedPlugin.getColumnValue(resource, column);
+  }
+
+  /** the columns to look in **/
+  WSTableColumn[] filterColumns;
+
+  /** the plugin to read the column values with **/
+  ArchivePlugin readPlugin;
+
+  /** the cached values for each of the <i>filterColumns</i>, or null if the values aren't cached **/
+  String[][] columnValues;
+
+  /** the value to find in String columns (a regular expression if <i>regexSearch</i> is true) **/
+  String searchValString;
+
+  /** true if <i>searchValString</i> is a regular expression **/
+  boolean regexSearch = false;
+
+  /** the compiled regular expression, or null if it isn't valid **/
+  Pattern searchPattern = null;
+
+  boolean isNumber = false;
+
+  long searchValNumber = -1;
+
+  boolean isBoolean = false;
+
+  boolean searchValBoolean = true;
+
+  /**
+  **********************************************************************************************
+  A filter for the <i>filterValue</i> in the <i>filterColumns</i>
+  **********************************************************************************************
+  **/
+  FileListFilter(String filterValue, WSTableColumn[] filterColumns, ArchivePlugin readPlugin) {
+    this.filterColumns = filterColumns;
+    this.readPlugin = readPlugin;
+
+    try {
+      searchValNumber = Long.parseLong(filterValue);
+      isNumber = true;
+    }
+    catch (Throwable t) {
+    }
+
+    if (filterValue.equals("true")) {
+      isBoolean = true;
+      searchValBoolean = true;
+    }
+    else if (filterValue.equals("false")) {
+      isBoolean = true;
+      searchValBoolean = false;
+    }
+
+    searchValString = filterValue;
+    if (Settings.getBoolean("SearchWildcardConversion")) {
+      searchValString = filterValue.replace("*", "(.*)");
+      regexSearch = true;
+    }
+
+    if (Settings.getBoolean("SearchRegExConversion")) {
+      regexSearch = true;
+    }
 
+    if (regexSearch) {
+      try {
+        searchPattern = Pattern.compile(searchValString);
       }
       catch (Throwable t) {
-        ErrorLogger.log(t);
+        // not a valid regular expression, so no String will match it
       }
     }
+  }
 
-    return resources;
+  /**
+  **********************************************************************************************
+  Checks the <i>resources</i> from <i>start</i> to <i>end</i>, setting <i>found</i> for each one
+  that matches
+  @param positions the position of each resource in the cache
+  @param candidates the cached resources that might match, or null to check them all
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  void checkResources(Resource[] resources, int[] positions, boolean[] candidates, boolean[] found, int start, int end) {
+    int numColumns = filterColumns.length;
+
+    for (int i = start; i < end; i++) {
+      Resource resource = resources[i];
+      int position = positions[i];
+      if (resource == null || (candidates != null && !candidates[position])) {
+        continue;
+      }
+
+      for (int c = 0; c < numColumns; c++) {
+        WSTableColumn column = filterColumns[c];
+        Class type = column.getType();
+        char columnChar = column.getCharCode();
+
+        boolean matched = false;
+        if (type == String.class) {
+          String value = null;
+          if (columnValues[c] != null) {
+            value = columnValues[c][position];
+          }
+          if (value == null) {
+            value = (String) readPlugin.getColumnValue(resource, columnChar);
+          }
+
+          if (value == null) {
+            matched = false;
+          }
+          else if (regexSearch) { // regex
+            matched = (searchPattern != null && searchPattern.matcher(value).matches());
+          }
+          else { // literal
+            matched = (value.indexOf(searchValString) >= 0);
+          }
+        }
+        else if (isNumber && type == Long.class) {
+          matched = (((Long) readPlugin.getColumnValue(resource, columnChar)).longValue() == searchValNumber);
+        }
+        else if (isBoolean && type == Boolean.class) {
+          matched = (((Boolean) readPlugin.getColumnValue(resource, columnChar)).booleanValue() == searchValBoolean);
+        }
+
+        if (matched) {
+          found[i] = true;
+          break; // stop searching the remaining columns - begin searching for the next file
+        }
+      }
+    }
   }
+
 }
@@ -14,6 +14,11 @@
 
 package org.watto.ge.helper;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import org.watto.ErrorLogger;
 import org.watto.component.WSTableColumn;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
@@ -22,6 +27,11 @@ import org.watto.ge.plugin.ArchivePlugin;
 /**
 **********************************************************************************************
 THIS IS ENHANCED SUCH THAT, IF THERE ARE 2 EQUAL VALUES IN A COLUMN, IT WILL SORT BY THE FILEPATH
+
+The value of each column is read from every Resource once, into an array of sort keys (lower-case
+Strings, or longs for numbers and booleans), and the sort only compares the keys. The keys are
+kept until the archive changes, so sorting by the same column again (such as to reverse the order)
+doesn't need to read the values again.
 **********************************************************************************************
 **/
 
@@ -33,6 +43,35 @@ public class FileListSorter {
 
   static char filePathCode = 'P';
 
+  /** the resources that the cached sort keys belong to, in the order of the key arrays **/
+  static Resource[] cachedResources = null;
+
+  /** the position of each resource in <i>cachedResources</i> **/
+  static IdentityHashMap<Resource, Integer> cachedPositions = null;
+
+  /** the plugin that the cached sort keys were read with **/
+  static ArchivePlugin cachedPlugin = null;
+
+  /** the sort keys for each column that has been sorted (String[] or long[]), in the order of <i>cachedResources</i> **/
+  static HashMap<Character, Object> cachedKeys = new HashMap<Character, Object>();
+
+  /** the rank of each resource when sorted ascending by each column (then by file path), in the order of <i>cachedResources</i> **/
+  static HashMap<Character, int[]> cachedRanks = new HashMap<Character, int[]>();
+
+  /**
+  **********************************************************************************************
+  Removes the cached sort keys, so they're read again the next time the list is sorted. Needs to
+  be called whenever the resources are changed (renamed, replaced, etc).
+  **********************************************************************************************
+  **/
+  public static synchronized void clearCache() {
+    cachedResources = null;
+    cachedPositions = null;
+    cachedPlugin = null;
+    cachedKeys.clear();
+    cachedRanks.clear();
+  }
+
   /**
   **********************************************************************************************
 
@@ -164,6 +203,46 @@ public class FileListSorter {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Gets the sort keys for the column <i>code</i>, reading them from the resources if they haven't
+  been read already.
+  @return a String[] of lower-case values for String columns, or a long[] for other columns
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  static Object getSortKeys(char code, Class sortType) {
+    Object keys = cachedKeys.get(code);
+    if (keys != null) {
+      return keys;
+    }
+
+    int numResources = cachedResources.length;
+    if (sortType == String.class) {
+      String[] stringKeys = new String[numResources];
+      for (int i = 0; i < numResources; i++) {
+        stringKeys[i] = ((String) readPlugin.getColumnValue(cachedResources[i], code)).toLowerCase();
+      }
+      keys = stringKeys;
+    }
+    else {
+      long[] longKeys = new long[numResources];
+      for (int i = 0; i < numResources; i++) {
+        Object value = readPlugin.getColumnValue(cachedResources[i], code);
+        if (value instanceof Boolean) {
+          longKeys[i] = ((Boolean) value).booleanValue() ? 1 : 0;
+        }
+        else {
+          longKeys[i] = ((Number) value).longValue();
+        }
+      }
+      keys = longKeys;
+    }
+
+    cachedKeys.put(code, keys);
+    return keys;
+  }
+
   /**
   **********************************************************************************************
 
@@ -203,6 +282,18 @@ public class FileListSorter {
 
     Class sortType = column.getType();
 
+    if (sortType == String.class || sortType == Integer.class || sortType == Long.class || sortType == Boolean.class) {
+      try {
+        sortByKeys(resources, sortType);
+        return resources;
+      }
+      catch (Throwable t) {
+        // a column value wasn't the expected type - sort by reading the values directly instead
+        ErrorLogger.log(t);
+        clearCache();
+      }
+    }
+
     if (sortType == String.class) {
       sortStrings(resources.clone(), resources, 0, resources.length);
     }
@@ -277,6 +368,140 @@ public class FileListSorter {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Gets the rank of each cached resource when sorted ascending by the column <i>code</i>, and then
+  by the file path, working them out if they haven't been already. Resources with the same value
+  and path have the same rank.
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  static int[] getSortRanks(char code, Class sortType) {
+    int[] ranks = cachedRanks.get(code);
+    if (ranks != null) {
+      return ranks;
+    }
+
+    final Object keys = getSortKeys(code, sortType);
+    final String[] pathKeys = (String[]) getSortKeys(filePathCode, String.class);
+
+    Comparator<Integer> comparator;
+    if (keys instanceof String[]) {
+      final String[] stringKeys = (String[]) keys;
+      comparator = new Comparator<Integer>() {
+
+        @Override
+        public int compare(Integer position1, Integer position2) {
+          int p1 = position1.intValue();
+          int p2 = position2.intValue();
+          int result = stringKeys[p1].compareTo(stringKeys[p2]);
+          if (result == 0) {
+            result = pathKeys[p1].compareTo(pathKeys[p2]);
+          }
+          return result;
+        }
+      };
+    }
+    else {
+      final long[] longKeys = (long[]) keys;
+      comparator = new Comparator<Integer>() {
+
+        @Override
+        public int compare(Integer position1, Integer position2) {
+          int p1 = position1.intValue();
+          int p2 = position2.intValue();
+          long value1 = longKeys[p1];
+          long value2 = longKeys[p2];
+          int result = (value1 < value2) ? -1 : ((value1 == value2) ? 0 : 1);
+          if (result == 0) {
+            result = pathKeys[p1].compareTo(pathKeys[p2]);
+          }
+          return result;
+        }
+      };
+    }
+
+    // only needs to be done once for each column - later sorts just use the ranks
+    int numResources = cachedResources.length;
+    Integer[] order = new Integer[numResources];
+    for (int i = 0; i < numResources; i++) {
+      order[i] = i;
+    }
+    Arrays.parallelSort(order, comparator);
+
+    ranks = new int[numResources];
+    int rank = 0;
+    for (int i = 0; i < numResources; i++) {
+      if (i > 0 && comparator.compare(order[i - 1], order[i]) != 0) {
+        rank++;
+      }
+      ranks[order[i].intValue()] = rank;
+    }
+
+    cachedRanks.put(code, ranks);
+    return ranks;
+  }
+
+  /**
+  **********************************************************************************************
+  Sorts the <i>resources</i> (in place) by the current sort column, using the cached sort ranks.
+  The order is the same as the compare*() methods - by the column value, and then by the file
+  path. Each resource is packed into a long, with its rank in the high 32 bits and its index in
+  the low 32 bits, so the sort is on primitives and keeps resources with the same rank in their
+  current order. Large lists are sorted by several threads at once.
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  static synchronized void sortByKeys(Resource[] resources, Class sortType) {
+    int numResources = resources.length;
+
+    // check that the cached ranks belong to these resources
+    boolean cacheValid = (cachedResources != null && cachedPlugin == readPlugin);
+
+    int[] positions = new int[numResources];
+    for (int i = 0; cacheValid && i < numResources; i++) {
+      Integer position = cachedPositions.get(resources[i]);
+      if (position == null) {
+        cacheValid = false;
+      }
+      else {
+        positions[i] = position.intValue();
+      }
+    }
+
+    if (!cacheValid) {
+      clearCache();
+
+      cachedResources = resources.clone();
+      cachedPlugin = readPlugin;
+      cachedPositions = new IdentityHashMap<Resource, Integer>(numResources * 2);
+      for (int i = 0; i < numResources; i++) {
+        cachedPositions.put(resources[i], i);
+        positions[i] = i;
+      }
+    }
+
+    int[] ranks = getSortRanks(sortColumnCode, sortType);
+    int maxRank = cachedResources.length;
+
+    long[] order = new long[numResources];
+    for (int i = 0; i < numResources; i++) {
+      long rank = ranks[positions[i]];
+      if (!ascending) {
+        rank = maxRank - rank;
+      }
+      order[i] = (rank << 32) | i;
+    }
+
+    // only splits the sort across threads for large lists
+    Arrays.parallelSort(order);
+
+    Resource[] unsorted = resources.clone();
+    for (int i = 0; i < numResources; i++) {
+      resources[i] = unsorted[(int) order[i]];
+    }
+  }
+
   /**
   **********************************************************************************************
 
@@ -14,26 +14,29 @@
 
 package org.watto.ge.helper;
 
+import java.awt.Component;
 import java.io.File;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.swing.SwingUtilities;
 
 import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
+import org.watto.component.ComponentRepository;
+import org.watto.component.WSComponent;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.BlockQuickBMSExporterWrapper;
-import org.watto.ge.plugin.exporter.Exporter_Default;
-import org.watto.ge.plugin.exporter.Exporter_LZO_SingleBlock;
-import org.watto.ge.plugin.exporter.Exporter_Oodle;
 import org.watto.ge.plugin.exporter.Exporter_QuickBMSWrapper;
 import org.watto.ge.plugin.exporter.Exporter_QuickBMS_Decompression;
 import org.watto.io.FileManipulator;
 import org.watto.io.FilenameChecker;
-import org.watto.io.buffer.ExporterByteBuffer;
 import org.watto.io.converter.IntConverter;
 import org.watto.io.converter.ShortConverter;
 import org.watto.task.TaskProgressManager;
@@ -47,6 +50,15 @@ public class FileTypeDetector {
 
   static Hashtable<String, FileType> specific = new Hashtable<String, FileType>();
 
+  /** the maximum number of archives that the extensions are cached for **/
+  static final int MAX_CACHED_ARCHIVES = 4;
+
+  /** the extensions found for each of the recently read archives, in the order they were last used (oldest first) **/
+  static LinkedHashMap<String, String[]> cachedExtensions = new LinkedHashMap<String, String[]>(16, 0.75f, true);
+
+  /** the resources that are being identified in the background, if any **/
+  static volatile FileTypeIdentifier backgroundIdentifier = null;
+
   /**
   **********************************************************************************************
   
@@ -103,10 +115,137 @@ public class FileTypeDetector {
 
   /**
   **********************************************************************************************
-  
+  Applies the extensions that were found the last time the <i>archive</i> was read, if there are
+  any in the cache
+  @return true if the extensions were applied, false if the archive isn't in the cache
+  **********************************************************************************************
+  **/
+  static boolean applyCachedExtensions(Resource[] resources, String cacheKey) {
+    String[] extensions = getCachedExtensions(cacheKey);
+    if (extensions == null || extensions.length != resources.length) {
+      return false;
+    }
+
+    int numResources = resources.length;
+    for (int i = 0; i < numResources; i++) {
+      Resource resource = resources[i];
+      resource.setExtension(extensions[i]);
+      resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Exports all the <i>resources</i> that use QuickBMS compression in a single go, as it's much
+  quicker than running QuickBMS for each file. The headers are then read from the exported files.
+  **********************************************************************************************
+  **/
+  static void bulkExport(Resource[] resources) {
+    // First, go through all resources, look for any that need to be bulk-exported (eg ones that use QuickBMS compression)
+    int numResources = resources.length;
+    Resource[] bulkResources = new Resource[numResources];
+    int numBulkResources = 0;
+
+    for (int i = 0; i < numResources; i++) {
+      Resource resource = resources[i];
+      ExporterPlugin exporter = resource.getExporter();
+      if (exporter instanceof Exporter_QuickBMSWrapper || exporter instanceof Exporter_QuickBMS_Decompression || exporter instanceof BlockQuickBMSExporterWrapper) {
+        // add it to the Bulk list
+        bulkResources[numBulkResources] = resource;
+        numBulkResources++;
+      }
+      else {
+        // don't extract it, we're going to shortcut it in the FileTypeIdentifier down later
+      }
+    }
+
+    // Now run the bulk extract
+    if (numBulkResources > 0) {
+      if (numBulkResources != numResources) {
+        Resource[] oldResources = bulkResources;
+        bulkResources = new Resource[numBulkResources];
+        System.arraycopy(oldResources, 0, bulkResources, 0, numBulkResources);
+      }
+
+      File directory = new File(new File(Settings.get("TempDirectory")).getAbsolutePath());
+      directory = FilenameChecker.correctFilename(directory); // fix funny characters etc.
+
+      Task_QuickBMSBulkExport task = new Task_QuickBMSBulkExport(bulkResources, directory);
+      task.redo(); // run it within this Thread, not as a new one
+
+      SingletonManager.add("BulkExport_KeepTempFiles", "See FileTypeDetector.determineExtensions()");
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Adds the <i>extensions</i> found for an archive to the cache, removing the archive used the
+  longest time ago if there are too many in the cache
+  **********************************************************************************************
+  **/
+  static synchronized void cacheExtensions(String cacheKey, String[] extensions) {
+    if (cacheKey == null) {
+      return;
+    }
+
+    cachedExtensions.put(cacheKey, extensions);
+
+    Iterator<Map.Entry<String, String[]>> iterator = cachedExtensions.entrySet().iterator();
+    while (cachedExtensions.size() > MAX_CACHED_ARCHIVES && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Prepares to identify the <i>resources</i>. The resources that are too small to have a header
+  are given an extension straight away, so they aren't identified.
+  **********************************************************************************************
+  **/
+  static FileTypeIdentifier createIdentifier(Resource[] resources, ArchivePlugin readPlugin) {
+    int numResources = resources.length;
+    String[] extensions = new String[numResources];
+
+    for (int i = 0; i < numResources; i++) {
+      Resource resource = resources[i];
+
+      long decompLength = resource.getDecompressedLength();
+      if (decompLength < FileTypeIdentifier.HEADER_SIZE) {
+        // too small, set to "unknown" and move on
+        String extension = "unknown";
+        if (decompLength == 0) {
+          extension = "empty";
+        }
+        resource.setExtension(extension);
+        resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
+        extensions[i] = extension;
+      }
+    }
+
+    return new FileTypeIdentifier(resources, readPlugin, extensions, Settings.getBoolean("DebugMode"));
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the file type of all the <i>resources</i>, and sets their extensions
   **********************************************************************************************
   **/
   public static void determineExtensions(Resource[] resources, ArchivePlugin readPlugin) {
+    determineExtensions(resources, readPlugin, null);
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the file type of all the <i>resources</i>, and sets their extensions. The resources
+  are identified by several threads at once, and the extensions are cached, so if the same
+  <i>archive</i> is read again, the resources don't need to be identified again.
+  @param archive the archive that the resources were read from, or null to not cache the
+         extensions
+  **********************************************************************************************
+  **/
+  public static void determineExtensions(Resource[] resources, ArchivePlugin readPlugin, File archive) {
     try {
 
       if (readPlugin == null) {
@@ -119,175 +258,28 @@ public class FileTypeDetector {
         return;
       }
 
-      // First, go through all resources, look for any that need to be bulk-exported (eg ones that use QuickBMS compression)
-      int numResources = resources.length;
-      Resource[] bulkResources = new Resource[numResources];
-      int numBulkResources = 0;
-
-      for (int i = 0; i < numResources; i++) {
-        Resource resource = resources[i];
-        ExporterPlugin exporter = resource.getExporter();
-        if (exporter instanceof Exporter_QuickBMSWrapper || exporter instanceof Exporter_QuickBMS_Decompression || exporter instanceof BlockQuickBMSExporterWrapper) {
-          // add it to the Bulk list
-          bulkResources[numBulkResources] = resource;
-          numBulkResources++;
-        }
-        else {
-          // don't extract it, we're going to shortcut it in the ExporterByteBuffer down later
-        }
+      String cacheKey = getCacheKey(archive, readPlugin);
+      if (applyCachedExtensions(resources, cacheKey)) {
+        return;
       }
 
-      // Now run the bulk extract
-      if (numBulkResources > 0) {
-        if (numBulkResources != numResources) {
-          Resource[] oldResources = bulkResources;
-          bulkResources = new Resource[numBulkResources];
-          System.arraycopy(oldResources, 0, bulkResources, 0, numBulkResources);
-        }
-
-        File directory = new File(new File(Settings.get("TempDirectory")).getAbsolutePath());
-        directory = FilenameChecker.correctFilename(directory); // fix funny characters etc.
-
-        Task_QuickBMSBulkExport task = new Task_QuickBMSBulkExport(bulkResources, directory);
-        task.redo(); // run it within this Thread, not as a new one
-
-        SingletonManager.add("BulkExport_KeepTempFiles", "See FileTypeDetector.determineExtensions()");
-      }
+      bulkExport(resources);
 
       // Now, we have all the bulk ones extracted, and all the others can be read normally, so we're right to go.
 
-      int readSize = 12; // only really small reads from the beginning of the file
-
-      boolean debugMode = Settings.getBoolean("DebugMode");
       TaskProgressManager.setMessage(Language.get("IdentifyUnknownFileTypes"));
 
-      ExporterPlugin defaultExporter = Exporter_Default.getInstance();
-
-      for (int i = 0; i < numFiles; i++) {
-        Resource resource = resources[i];
-
-        long decompLength = resource.getDecompressedLength();
-        if (decompLength < readSize) {
-          // too small, set to "unknown" and move on
-          String extension = "unknown";
-          if (decompLength == 0) {
-            extension = "empty";
-          }
-          resource.setExtension(extension);
-          resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
-          continue;
-        }
-
-        // We only want to extract the first few bytes, so we want to create a dummy Resource that is a copy of the real Resource
-        // but with a small length. That way we can use the exporter plugin and it should, generally, only export a few bytes.
-        Resource clonedResource = (Resource) resource.clone();
-        ExporterPlugin clonedExporter = clonedResource.getExporter();
-        if (clonedExporter instanceof Exporter_Oodle || clonedExporter instanceof Exporter_LZO_SingleBlock) {
-          // These decompressions only works when you specify the actual decompLength.
-          // (we can't just extract a few bytes, we need to extract the full file)
-        }
-        else {
-          // small quick extract
-          clonedResource.setLength(readSize);
-        }
+      FileTypeIdentifier identifier = createIdentifier(resources, readPlugin);
+      identifier.run(getNumThreads(), new FileTypeIdentifier.ProgressListener() {
 
-        File exportedPath = clonedResource.getExportedPath();
-        if (exportedPath != null && exportedPath.exists()) {
-          // use the Default Exporter, pointing to the exported file
-          clonedResource.setExporter(defaultExporter);
-          clonedResource.setSource(exportedPath);
-          clonedResource.setOffset(0);
+        @Override
+        public void progress(int numIdentified) {
+          TaskProgressManager.setValue(numIdentified);
         }
+      });
 
-        // Open the file
-        ExporterByteBuffer byteBuffer = new ExporterByteBuffer(clonedResource);
-        FileManipulator fm = new FileManipulator(byteBuffer);
-
-        // Then we analyse the bytes to determine the file type
-        byte[] headerBytes = fm.readBytes(readSize);
-        int headerInt1 = IntConverter.convertLittle(new byte[] { headerBytes[0], headerBytes[1], headerBytes[2], headerBytes[3] });
-        int headerInt2 = IntConverter.convertLittle(new byte[] { headerBytes[4], headerBytes[5], headerBytes[6], headerBytes[7] });
-        int headerInt3 = IntConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9], headerBytes[10], headerBytes[11] });
-        short headerShort1 = ShortConverter.convertLittle(new byte[] { headerBytes[0], headerBytes[1] });
-        short headerShort2 = ShortConverter.convertLittle(new byte[] { headerBytes[2], headerBytes[3] });
-        short headerShort3 = ShortConverter.convertLittle(new byte[] { headerBytes[4], headerBytes[5] });
-        short headerShort4 = ShortConverter.convertLittle(new byte[] { headerBytes[6], headerBytes[7] });
-        short headerShort5 = ShortConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9] });
-        short headerShort6 = ShortConverter.convertLittle(new byte[] { headerBytes[10], headerBytes[11] });
-
-        fm.close();
-
-        String extension = null;
-        // first, ask the plugin for any game-specific headers we can associate
-        extension = readPlugin.guessFileExtension(resource, headerBytes, headerInt1, headerInt2, headerInt3, headerShort1, headerShort2, headerShort3, headerShort4, headerShort5, headerShort6);
-
-        // if no extension found from the plugin, try some standard ones
-        if (extension == null) {
-          if (headerShort1 == 19778) {
-            extension = "bmp";
-          }
-          else if (headerInt1 == 542327876) {
-            extension = "dds";
-          }
-          else if (headerInt1 == 1130450022) {
-            extension = "flac";
-          }
-          else if (headerInt1 == 944130375) {
-            extension = "gif";
-          }
-          else if (headerInt1 == -503326465) {
-            extension = "jpg";
-          }
-          else if (headerShort4 == 17994 && headerShort5 == 17993) {
-            extension = "jpg";
-          }
-          else if (headerInt1 == 1399285583) {
-            extension = "ogg";
-          }
-          else if (headerInt1 == 1196314761) {
-            extension = "png";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1163280727) { // RIFF WAVEfmt
-            extension = "wav";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1346520407) { // RIFF WEBP
-            extension = "webp";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1095587672) { // RIFF XWMA (XBox Audio)
-            extension = "xwma";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 542524742) { // RIFF FEV
-            extension = "fev";
-          }
-          else if (headerInt1 == 1179011410) {
-            extension = "riff"; // GENERIC RIFF, NEEDS TO BE AT THE END OF THE LIST!!! (or at least after WAV and WEBP)
-          }
-          else if (headerInt1 == 1836597052) {
-            extension = "xml";
-          }
-          else if (headerInt1 == 1178882085) {
-            extension = "pdf";
-          }
-          else if (headerInt1 == 1634038339 && headerInt2 == 1702259060 && headerInt3 == 1768904224) {
-            extension = "voc"; // Creative Voice File
-          }
-          else {
-            // if we didn't find any matches...
-            if (debugMode) {
-              //extension = "unknown" + headerInt1;
-              extension = "" + headerInt1;
-            }
-            else {
-              extension = "unknown";
-            }
-          }
-        }
-
-        resource.setExtension(extension);
-        resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
-
-        TaskProgressManager.setValue(i);
-
+      if (!identifier.isCancelled()) {
+        cacheExtensions(cacheKey, identifier.getExtensions());
       }
 
     }
@@ -305,6 +297,32 @@ public class FileTypeDetector {
     // NOT DONE
   }
 
+  /**
+  **********************************************************************************************
+  Gets the key for the <i>archive</i> in the cache, which changes if the archive is modified.
+  @return the key, or null if the <i>archive</i> is null
+  **********************************************************************************************
+  **/
+  static String getCacheKey(File archive, ArchivePlugin readPlugin) {
+    if (archive == null) {
+      return null;
+    }
+    return ZipFileCache.getKey(archive) + "|" + readPlugin.getClass().getName() + "|" + Settings.getBoolean("DebugMode");
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the extensions found the last time the archive was read
+  @return the extensions, or null if the archive isn't in the cache
+  **********************************************************************************************
+  **/
+  static synchronized String[] getCachedExtensions(String cacheKey) {
+    if (cacheKey == null) {
+      return null;
+    }
+    return cachedExtensions.get(cacheKey);
+  }
+
   /**
   **********************************************************************************************
   
@@ -331,6 +349,185 @@ public class FileTypeDetector {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Gets the number of threads to identify file types with, from the <i>NumberOfIdentifyThreads</i>
+  setting. If the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfIdentifyThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Works out the extension of the <i>resource</i> from the first 12 bytes of its data - first by
+  asking the <i>readPlugin</i>, then by looking for some common file types.
+  **********************************************************************************************
+  **/
+  public static String guessExtension(Resource resource, ArchivePlugin readPlugin, byte[] headerBytes, boolean debugMode) {
+    // Then we analyse the bytes to determine the file type
+    int headerInt1 = IntConverter.convertLittle(new byte[] { headerBytes[0], headerBytes[1], headerBytes[2], headerBytes[3] });
+    int headerInt2 = IntConverter.convertLittle(new byte[] { headerBytes[4], headerBytes[5], headerBytes[6], headerBytes[7] });
+    int headerInt3 = IntConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9], headerBytes[10], headerBytes[11] });
+    short headerShort1 = ShortConverter.convertLittle(new byte[] { headerBytes[0], headerBytes[1] });
+    short headerShort2 = ShortConverter.convertLittle(new byte[] { headerBytes[2], headerBytes[3] });
+    short headerShort3 = ShortConverter.convertLittle(new byte[] { headerBytes[4], headerBytes[5] });
+    short headerShort4 = ShortConverter.convertLittle(new byte[] { headerBytes[6], headerBytes[7] });
+    short headerShort5 = ShortConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9] });
+    short headerShort6 = ShortConverter.convertLittle(new byte[] { headerBytes[10], headerBytes[11] });
+
+    String extension = null;
+    // first, ask the plugin for any game-specific headers we can associate
+    extension = readPlugin.guessFileExtension(resource, headerBytes, headerInt1, headerInt2, headerInt3, headerShort1, headerShort2, headerShort3, headerShort4, headerShort5, headerShort6);
+
+    // if no extension found from the plugin, try some standard ones
+    if (extension == null) {
+      if (headerShort1 == 19778) {
+        extension = "bmp";
+      }
+      else if (headerInt1 == 542327876) {
+        extension = "dds";
+      }
+      else if (headerInt1 == 1130450022) {
+        extension = "flac";
+      }
+      else if (headerInt1 == 944130375) {
+        extension = "gif";
+      }
+      else if (headerInt1 == -503326465) {
+        extension = "jpg";
+      }
+      else if (headerShort4 == 17994 && headerShort5 == 17993) {
+        extension = "jpg";
+      }
+      else if (headerInt1 == 1399285583) {
+        extension = "ogg";
+      }
+      else if (headerInt1 == 1196314761) {
+        extension = "png";
+      }
+      else if (headerInt1 == 1179011410 && headerInt3 == 1163280727) { // RIFF WAVEfmt
+        extension = "wav";
+      }
+      else if (headerInt1 == 1179011410 && headerInt3 == 1346520407) { // RIFF WEBP
+        extension = "webp";
+      }
+      else if (headerInt1 == 1179011410 && headerInt3 == 1095587672) { // RIFF XWMA (XBox Audio)
+        extension = "xwma";
+      }
+      else if (headerInt1 == 1179011410 && headerInt3 == 542524742) { // RIFF FEV
+        extension = "fev";
+      }
+      else if (headerInt1 == 1179011410) {
+        extension = "riff"; // GENERIC RIFF, NEEDS TO BE AT THE END OF THE LIST!!! (or at least after WAV and WEBP)
+      }
+      else if (headerInt1 == 1836597052) {
+        extension = "xml";
+      }
+      else if (headerInt1 == 1178882085) {
+        extension = "pdf";
+      }
+      else if (headerInt1 == 1634038339 && headerInt2 == 1702259060 && headerInt3 == 1768904224) {
+        extension = "voc"; // Creative Voice File
+      }
+      else {
+        // if we didn't find any matches...
+        if (debugMode) {
+          //extension = "unknown" + headerInt1;
+          extension = "" + headerInt1;
+        }
+        else {
+          extension = "unknown";
+        }
+      }
+    }
+
+    return extension;
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the file type of the <i>resources</i> in the background, after the file list has
+  been shown. The extensions of the resources are set as they're identified, and the file list is
+  repainted every now and then to show them. Resources that are shown in the file list are
+  identified first (see prioritize()). If the same <i>archive</i> was read recently, the
+  extensions are taken from the cache instead.
+  **********************************************************************************************
+  **/
+  public static void identifyInBackground(Resource[] resources, ArchivePlugin readPlugin, File archive) {
+    try {
+      stopBackgroundIdentification();
+
+      if (readPlugin == null || resources.length < 1) {
+        return;
+      }
+
+      final String cacheKey = getCacheKey(archive, readPlugin);
+      if (applyCachedExtensions(resources, cacheKey)) {
+        return;
+      }
+
+      bulkExport(resources);
+
+      final FileTypeIdentifier identifier = createIdentifier(resources, readPlugin);
+
+      // previews and thumbnails could be using the exporters that aren't thread-safe, so identify those now
+      identifier.identifyNotThreadSafe();
+
+      identifier.allowPriority();
+      identifier.applyLater();
+      backgroundIdentifier = identifier;
+
+      Thread thread = new Thread(new Runnable() {
+
+        @Override
+        public void run() {
+          identifier.run(getNumThreads(), new FileTypeIdentifier.ProgressListener() {
+
+            @Override
+            public void progress(int numIdentified) {
+              applyIdentifiedExtensions(identifier, false);
+            }
+          });
+
+          if (identifier.isCancelled()) {
+            return;
+          }
+
+          cacheExtensions(cacheKey, identifier.getExtensions());
+
+          synchronized (FileTypeDetector.class) {
+            if (backgroundIdentifier == identifier) {
+              backgroundIdentifier = null;
+            }
+          }
+
+          applyIdentifiedExtensions(identifier, true);
+        }
+      }, "FileTypeDetector");
+      thread.setDaemon(true);
+      thread.start();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Should file types be identified in the background, after the file list is shown, rather than
+  before? Set by the <i>IdentifyFileTypesInBackground</i> setting.
+  **********************************************************************************************
+  **/
+  public static boolean isIdentifyingInBackground() {
+    return Settings.getBoolean("IdentifyFileTypesInBackground");
+  }
+
   /**
   **********************************************************************************************
   
@@ -361,6 +558,74 @@ public class FileTypeDetector {
     new FileType(); // load the FileType static Images
   }
 
+  /**
+  **********************************************************************************************
+  Identifies the <i>resource</i> before the others, if file types are being identified in the
+  background. Called when the <i>resource</i> is shown in the file list.
+  **********************************************************************************************
+  **/
+  public static void prioritize(Resource resource) {
+    FileTypeIdentifier identifier = backgroundIdentifier;
+    if (identifier != null) {
+      identifier.prioritize(resource);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the extensions that have been identified in the background on the event thread (so they
+  don't change while the user is renaming a file), then repaints the file list to show them
+  @param finished true if all the resources have been identified
+  **********************************************************************************************
+  **/
+  static void applyIdentifiedExtensions(final FileTypeIdentifier identifier, final boolean finished) {
+    SwingUtilities.invokeLater(new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          identifier.applyExtensions();
+
+          if (finished) {
+            // the names of the resources have changed
+            FileListSorter.clearCache();
+            FileListFilter.clearCache();
+          }
+
+          repaintFileList();
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Repaints the file list, to show the extensions that have been identified in the background
+  **********************************************************************************************
+  **/
+  static void repaintFileList() {
+    WSComponent fileListPanelHolder = ComponentRepository.get("FileListPanelHolder");
+    if (fileListPanelHolder instanceof Component) {
+      ((Component) fileListPanelHolder).repaint();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Stops identifying file types in the background, such as when a different archive is loaded
+  (see Archive.makeNewArchive())
+  **********************************************************************************************
+  **/
+  public static synchronized void stopBackgroundIdentification() {
+    if (backgroundIdentifier != null) {
+      backgroundIdentifier.cancel();
+      backgroundIdentifier = null;
+    }
+  }
+
   /**
   **********************************************************************************************
   
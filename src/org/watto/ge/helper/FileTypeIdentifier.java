@@ -0,0 +1,638 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.watto.ErrorLogger;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.ExporterSession;
+import org.watto.ge.plugin.exporter.Exporter_Default;
+import org.watto.ge.plugin.exporter.Exporter_LZO_SingleBlock;
+import org.watto.ge.plugin.exporter.Exporter_Oodle;
+import org.watto.io.FileManipulator;
+
+/**
+**********************************************************************************************
+Identifies the file types of the Resources in an archive, using several threads at once (see
+FileTypeDetector.determineExtensions()). The Resources are identified in the order they're
+stored in their source files, and each thread works through a block of neighbouring Resources at
+a time, so the header reads from each source file are close together.
+
+Resources that are stored without compression are identified by reading their header directly
+from the source file. All others are read through an ExporterSession, which only decodes as much
+as it needs to. Exporters that can't be used by more than 1 thread (see
+ExporterPlugin.isThreadSafe()) are only used by 1 thread at a time.
+
+Resources can be moved to the front of the queue by prioritize(), which is used when the
+Resources are being identified in the background while the file list is shown. In the
+background, the exporters that aren't thread-safe could also be in use by a preview or a
+thumbnail, so those Resources are identified beforehand by identifyNotThreadSafe(). The
+extensions found in the background are only set on the Resources by applyExtensions(), which is
+called on the event thread, so they don't change while the user is renaming them.
+**********************************************************************************************
+**/
+public class FileTypeIdentifier {
+
+  /** the number of header bytes read from each Resource **/
+  public static final int HEADER_SIZE = 12;
+
+  /** the number of neighbouring Resources that each thread identifies at a time **/
+  static final int BLOCK_SIZE = 256;
+
+  /** how often (in milliseconds) the progress is reported while the threads are running **/
+  static final int PROGRESS_INTERVAL = 250;
+
+  /** the state of a Resource that hasn't been identified yet **/
+  static final int STATE_WAITING = 0;
+
+  /** the state of a Resource that has been moved to the front of the queue **/
+  static final int STATE_PRIORITIZED = 1;
+
+  /** the state of a Resource that has been (or is being) identified by a thread **/
+  static final int STATE_CLAIMED = 2;
+
+  /** a lock for each exporter that isn't thread-safe, so they're only used by 1 thread at a time **/
+  static Hashtable<Class<?>, Object> exporterLocks = new Hashtable<Class<?>, Object>();
+
+  /**
+  **********************************************************************************************
+  Gets the lock for an exporter that isn't thread-safe
+  **********************************************************************************************
+  **/
+  static Object getExporterLock(ExporterPlugin exporter) {
+    Class<?> exporterClass = exporter.getClass();
+    synchronized (exporterLocks) {
+      Object lock = exporterLocks.get(exporterClass);
+      if (lock == null) {
+        lock = new Object();
+        exporterLocks.put(exporterClass, lock);
+      }
+      return lock;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the Resources in a block at a time, keeping the source file open between Resources
+  **********************************************************************************************
+  **/
+  class Worker implements Runnable {
+
+    /** the source file that is open for reading headers directly **/
+    File openSource = null;
+
+    /** the open source file **/
+    FileManipulator openFM = null;
+
+    /** the next position in the <i>order</i> to identify in this block **/
+    int blockPos = 0;
+
+    /** the end of this block in the <i>order</i> **/
+    int blockEnd = 0;
+
+    /**
+    **********************************************************************************************
+    Closes the open source file
+    **********************************************************************************************
+    **/
+    void closeSource() {
+      if (openFM != null) {
+        openFM.close();
+        openFM = null;
+      }
+      openSource = null;
+    }
+
+    /**
+    **********************************************************************************************
+    Claims the next Resource to identify - a prioritized Resource if there is one, otherwise the
+    next Resource in this block (or the next block)
+    @return the index of the Resource, or -1 if there are none left
+    **********************************************************************************************
+    **/
+    int claimNext() {
+      Integer prioritized = prioritizedIndexes.pollFirst();
+      while (prioritized != null) {
+        if (states.compareAndSet(prioritized, STATE_PRIORITIZED, STATE_CLAIMED)) {
+          return prioritized;
+        }
+        prioritized = prioritizedIndexes.pollFirst();
+      }
+
+      while (true) {
+        while (blockPos < blockEnd) {
+          int index = order[blockPos++];
+          if (claim(index)) {
+            return index;
+          }
+        }
+
+        blockPos = nextBlock.getAndAdd(BLOCK_SIZE);
+        if (blockPos >= order.length) {
+          return -1;
+        }
+        blockEnd = Math.min(blockPos + BLOCK_SIZE, order.length);
+      }
+    }
+
+    /**
+    **********************************************************************************************
+    Identifies the Resource at the <i>index</i>
+    **********************************************************************************************
+    **/
+    void identify(int index) {
+      Resource resource = resources[index];
+
+      String extension = null;
+      try {
+        byte[] headerBytes = readHeader(resource);
+        extension = FileTypeDetector.guessExtension(resource, readPlugin, headerBytes, debugMode);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+        extension = "unknown";
+      }
+
+      extensions[index] = extension;
+
+      if (applyLater) {
+        identifiedIndexes.add(index); // set on the event thread by applyExtensions()
+      }
+      else {
+        applyExtension(index);
+      }
+    }
+
+    /**
+    **********************************************************************************************
+    Reads the first HEADER_SIZE bytes of the <i>resource</i>. Anything past the end of the
+    Resource is left as 0.
+    **********************************************************************************************
+    **/
+    byte[] readHeader(Resource resource) {
+      byte[] headerBytes = new byte[HEADER_SIZE];
+
+      File exportedPath = resource.getExportedPath();
+      if (exportedPath != null && exportedPath.exists()) {
+        // already exported to a file (eg by the QuickBMS bulk export)
+        readDirect(exportedPath, 0, HEADER_SIZE, headerBytes);
+        return headerBytes;
+      }
+
+      ExporterPlugin exporter = resource.getExporter();
+      if (exporter == null || exporter.getClass() == Exporter_Default.class) {
+        // stored without compression, so read it straight from the source file
+        readDirect(resource.getSource(), resource.getOffset(), resource.getLength(), headerBytes);
+        return headerBytes;
+      }
+
+      // We only want to extract the first few bytes, so we want to create a dummy Resource that is a copy of the real Resource
+      // but with a small length. That way we can use the exporter plugin and it should, generally, only export a few bytes.
+      Resource clonedResource = (Resource) resource.clone();
+      if (exporter instanceof Exporter_Oodle || exporter instanceof Exporter_LZO_SingleBlock) {
+        // These decompressions only works when you specify the actual decompLength.
+        // (we can't just extract a few bytes, we need to extract the full file)
+      }
+      else {
+        // small quick extract
+        clonedResource.setLength(HEADER_SIZE);
+      }
+
+      if (exporter.isThreadSafe()) {
+        readSession(exporter, clonedResource, headerBytes);
+      }
+      else {
+        synchronized (getExporterLock(exporter)) {
+          readSession(exporter, clonedResource, headerBytes);
+        }
+      }
+      return headerBytes;
+    }
+
+    /**
+    **********************************************************************************************
+    Reads up to <i>length</i> bytes from the <i>offset</i> in the <i>source</i> file. The source
+    file is kept open, as the next Resource is usually in the same file.
+    **********************************************************************************************
+    **/
+    void readDirect(File source, long offset, long length, byte[] headerBytes) {
+      if (!source.equals(openSource)) {
+        closeSource();
+        openFM = new FileManipulator(source, false);
+        openSource = source;
+      }
+
+      long remainingLength = openFM.getLength() - offset;
+      if (length > remainingLength) {
+        length = remainingLength;
+      }
+      if (length <= 0) {
+        return;
+      }
+
+      openFM.seek(offset);
+      openFM.readBytes(headerBytes, 0, (int) Math.min(length, headerBytes.length));
+    }
+
+    /**
+    **********************************************************************************************
+    Reads the start of the <i>resource</i> through an ExporterSession
+    **********************************************************************************************
+    **/
+    void readSession(ExporterPlugin exporter, Resource resource, byte[] headerBytes) {
+      ExporterSession session = exporter.openSession(resource);
+      try {
+        int readPos = 0;
+        while (readPos < headerBytes.length) {
+          int readLength = session.read(headerBytes, readPos, headerBytes.length - readPos);
+          if (readLength <= 0) {
+            break;
+          }
+          readPos += readLength;
+        }
+      }
+      finally {
+        session.close();
+      }
+    }
+
+    /**
+    **********************************************************************************************
+    Identifies Resources until there are none left, or until identification is cancelled
+    **********************************************************************************************
+    **/
+    @Override
+    public void run() {
+      try {
+        while (!cancelled) {
+          int index = claimNext();
+          if (index < 0) {
+            break;
+          }
+          identify(index);
+          numIdentified.incrementAndGet();
+        }
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+      finally {
+        closeSource();
+      }
+    }
+  }
+
+  /** the resources being identified **/
+  Resource[] resources;
+
+  /** the plugin that read the archive, for game-specific file types **/
+  ArchivePlugin readPlugin;
+
+  /** whether unknown file types are named by their header number (DebugMode) **/
+  boolean debugMode;
+
+  /** the indexes of the resources, in the order they're stored in their source files **/
+  int[] order;
+
+  /** the position in the <i>order</i> of the next block to give to a thread **/
+  AtomicInteger nextBlock = new AtomicInteger(0);
+
+  /** whether each resource is waiting, prioritized, or claimed by a thread **/
+  AtomicIntegerArray states;
+
+  /** the resources to identify next, most recently requested first **/
+  ConcurrentLinkedDeque<Integer> prioritizedIndexes = new ConcurrentLinkedDeque<Integer>();
+
+  /** the index of each resource, for prioritize(). Only built if it's needed. **/
+  IdentityHashMap<Resource, Integer> indexes = null;
+
+  /** the extension found for each resource **/
+  String[] extensions;
+
+  /** the number of resources that have been identified (including those that didn't need to be) **/
+  AtomicInteger numIdentified = new AtomicInteger(0);
+
+  /** set to stop the threads early **/
+  volatile boolean cancelled = false;
+
+  /** whether the extensions are set on the resources by applyExtensions(), rather than as they're identified **/
+  volatile boolean applyLater = false;
+
+  /** the resources that have been identified, but haven't had their extension set by applyExtensions() yet **/
+  ConcurrentLinkedQueue<Integer> identifiedIndexes = new ConcurrentLinkedQueue<Integer>();
+
+  /**
+  **********************************************************************************************
+  Prepares to identify the <i>resources</i>. Resources with an extension already in the
+  <i>extensions</i> (eg too small to have a header) aren't identified again.
+  **********************************************************************************************
+  **/
+  public FileTypeIdentifier(Resource[] resources, ArchivePlugin readPlugin, String[] extensions, boolean debugMode) {
+    this.resources = resources;
+    this.readPlugin = readPlugin;
+    this.extensions = extensions;
+    this.debugMode = debugMode;
+
+    int numResources = resources.length;
+    states = new AtomicIntegerArray(numResources);
+
+    int numToIdentify = 0;
+    Integer[] sortedIndexes = new Integer[numResources];
+    for (int i = 0; i < numResources; i++) {
+      if (extensions[i] == null) {
+        sortedIndexes[numToIdentify++] = i;
+      }
+      else {
+        states.set(i, STATE_CLAIMED);
+      }
+    }
+
+    final Resource[] sortResources = resources;
+    Arrays.sort(sortedIndexes, 0, numToIdentify, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer index1, Integer index2) {
+        Resource resource1 = sortResources[index1];
+        Resource resource2 = sortResources[index2];
+
+        File source1 = resource1.getSource();
+        File source2 = resource2.getSource();
+        if (source1 != source2) {
+          String path1 = (source1 == null) ? "" : source1.getPath();
+          String path2 = (source2 == null) ? "" : source2.getPath();
+          int pathOrder = path1.compareTo(path2);
+          if (pathOrder != 0) {
+            return pathOrder;
+          }
+        }
+        return Long.compare(resource1.getOffset(), resource2.getOffset());
+      }
+    });
+
+    numIdentified.set(numResources - numToIdentify);
+
+    order = new int[numToIdentify];
+    for (int i = 0; i < numToIdentify; i++) {
+      order[i] = sortedIndexes[i];
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the extension that was found for the resource at the <i>index</i>
+  **********************************************************************************************
+  **/
+  void applyExtension(int index) {
+    Resource resource = resources[index];
+
+    // don't replace a name that has been changed since the archive was read
+    if (resource.getName().equals(resource.getOriginalName())) {
+      resource.setExtension(extensions[index]);
+      resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the extensions on the resources that have been identified since this was last called.
+  Only needed after applyLater(), and must be called on the event thread.
+  **********************************************************************************************
+  **/
+  public void applyExtensions() {
+    Integer index = identifiedIndexes.poll();
+    while (index != null) {
+      if (!cancelled) {
+        applyExtension(index);
+      }
+      index = identifiedIndexes.poll();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Keeps the extensions that are found from now on until applyExtensions() is called, rather than
+  setting them on the resources straight away
+  **********************************************************************************************
+  **/
+  public void applyLater() {
+    applyLater = true;
+  }
+
+  /**
+  **********************************************************************************************
+  Can the <i>resource</i> be identified while other threads are using its exporter? Only the
+  resources that are read directly, or through a thread-safe exporter, can be.
+  **********************************************************************************************
+  **/
+  static boolean canIdentifyInBackground(Resource resource) {
+    File exportedPath = resource.getExportedPath();
+    if (exportedPath != null && exportedPath.exists()) {
+      return true;
+    }
+
+    ExporterPlugin exporter = resource.getExporter();
+    return exporter == null || exporter.getClass() == Exporter_Default.class || exporter.isThreadSafe();
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the resources that can't be identified in the background (see
+  canIdentifyInBackground()) on this thread, and sets their extensions straight away
+  **********************************************************************************************
+  **/
+  public void identifyNotThreadSafe() {
+    Worker worker = new Worker();
+    try {
+      int numToIdentify = order.length;
+      for (int i = 0; i < numToIdentify && !cancelled; i++) {
+        int index = order[i];
+        if (!canIdentifyInBackground(resources[index]) && claim(index)) {
+          worker.identify(index);
+          numIdentified.incrementAndGet();
+        }
+      }
+    }
+    finally {
+      worker.closeSource();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Claims the resource at the <i>index</i> for the current thread
+  @return true if it was claimed, false if another thread has already claimed it
+  **********************************************************************************************
+  **/
+  boolean claim(int index) {
+    return states.compareAndSet(index, STATE_WAITING, STATE_CLAIMED) || states.compareAndSet(index, STATE_PRIORITIZED, STATE_CLAIMED);
+  }
+
+  /**
+  **********************************************************************************************
+  Stops identifying resources
+  **********************************************************************************************
+  **/
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the extension found for each resource
+  **********************************************************************************************
+  **/
+  public String[] getExtensions() {
+    return extensions;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of resources that have been identified so far, including those that didn't
+  need to be
+  **********************************************************************************************
+  **/
+  public int getNumIdentified() {
+    return numIdentified.get();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of resources that need to be identified
+  **********************************************************************************************
+  **/
+  public int getNumToIdentify() {
+    return order.length;
+  }
+
+  /**
+  **********************************************************************************************
+  Was identification stopped before all the resources were identified?
+  **********************************************************************************************
+  **/
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+  **********************************************************************************************
+  Moves the <i>resource</i> to the front of the queue, if it hasn't been identified yet
+  **********************************************************************************************
+  **/
+  public void prioritize(Resource resource) {
+    IdentityHashMap<Resource, Integer> currentIndexes = indexes;
+    if (currentIndexes == null) {
+      return;
+    }
+
+    Integer index = currentIndexes.get(resource);
+    if (index != null && states.compareAndSet(index, STATE_WAITING, STATE_PRIORITIZED)) {
+      prioritizedIndexes.addFirst(index);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies all the resources, using <i>numThreads</i> threads, and waits for them to finish.
+  The <i>listener</i> is told the number of resources identified so far, every now and then.
+  **********************************************************************************************
+  **/
+  public void run(int numThreads, ProgressListener listener) {
+    if (order.length <= 0) {
+      return;
+    }
+
+    if (numThreads > (order.length + BLOCK_SIZE - 1) / BLOCK_SIZE) {
+      numThreads = (order.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    if (numThreads <= 1) {
+      // not worth starting any threads
+      new Worker().run();
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "FileTypeIdentifier");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+
+    try {
+      for (int i = 0; i < numThreads; i++) {
+        executor.execute(new Worker());
+      }
+      executor.shutdown();
+
+      int reportedIdentified = 0;
+      while (!executor.awaitTermination(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS)) {
+        int currentIdentified = numIdentified.get();
+        if (listener != null && currentIdentified != reportedIdentified) {
+          listener.progress(currentIdentified);
+          reportedIdentified = currentIdentified;
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      cancelled = true;
+      Thread.currentThread().interrupt();
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Allows resources to be moved to the front of the queue by prioritize()
+  **********************************************************************************************
+  **/
+  public void allowPriority() {
+    int numResources = resources.length;
+    IdentityHashMap<Resource, Integer> newIndexes = new IdentityHashMap<Resource, Integer>(numResources);
+    for (int i = 0; i < numResources; i++) {
+      newIndexes.put(resources[i], i);
+    }
+    indexes = newIndexes;
+  }
+
+  /**
+  **********************************************************************************************
+  Is told how many resources have been identified so far
+  **********************************************************************************************
+  **/
+  public interface ProgressListener {
+
+    public void progress(int numIdentified);
+  }
+
+}
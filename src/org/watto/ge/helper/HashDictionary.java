@@ -0,0 +1,450 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+
+package org.watto.ge.helper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+
+/**
+**********************************************************************************************
+A list of filenames for archives that only store a hash of each filename, such as the lists in
+the <i>HashesDirectory</i>. Each line of the list is <i>hash=filename</i>, where the hash is
+either a decimal number (KEY_DECIMAL) or a hex number (KEY_HEX).
+<br><br>
+The first time a list is used, it's compiled into a binary file in the
+<i>CompiledHashesDirectory</i>, which is an open-addressed hash table that points into a table of
+the filenames. The binary file is memory-mapped, so opening an archive doesn't need to read the
+whole list again, and lists with millions of filenames only use memory for the parts that are
+looked at. The binary file is rebuilt if the list changes. The directory must be outside of the
+temp directory, as that is emptied whenever an archive is opened.
+<br><br>
+A HashDictionary can be used by many threads at once.
+**********************************************************************************************
+**/
+public class HashDictionary {
+
+  /** the keys are decimal numbers, like <i>288848=\GAME\STARTUP2.HTM.TIM</i> **/
+  public static final int KEY_DECIMAL = 0;
+
+  /** the keys are hex numbers, like <i>0373CCAC=English.msg</i> **/
+  public static final int KEY_HEX = 1;
+
+  /** the start of a compiled dictionary file **/
+  static final int MAGIC = 0x47454844; // "GEHD"
+
+  /** the format of the compiled dictionary file - change this if the format changes **/
+  static final int VERSION = 1;
+
+  /** the length of the header of a compiled dictionary file **/
+  static final int HEADER_LENGTH = 40;
+
+  /** the length of each slot in the hash table (8-byte key, 4-byte filename offset) **/
+  static final int SLOT_LENGTH = 12;
+
+  /** the filename offset of an empty slot **/
+  static final int EMPTY_SLOT = -1;
+
+  /** the dictionaries that have been opened, by the path of the list and the key format **/
+  static HashMap<String, HashDictionary> dictionaries = new HashMap<String, HashDictionary>();
+
+  /** the encoding of the filenames - each byte is 1 character, like FileManipulator.readLine() **/
+  static Charset charset = Charset.forName("ISO-8859-1");
+
+  /**
+  **********************************************************************************************
+  Builds the compiled dictionary for a list of filenames
+  @return the compiled dictionary
+  **********************************************************************************************
+  **/
+  static byte[] compile(File listFile, int keyFormat) throws Exception {
+    int numEntries = 0;
+    long[] keys = new long[1024];
+    int[] nameOffsets = new int[1024];
+    ByteArrayOutputStream names = new ByteArrayOutputStream((int) Math.min(listFile.length(), Integer.MAX_VALUE - 8));
+
+    // read the list
+    BufferedInputStream inStream = new BufferedInputStream(new FileInputStream(listFile), 65536);
+    try {
+      ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+      boolean endOfFile = false;
+      while (!endOfFile) {
+        int currentByte = inStream.read();
+        if (currentByte >= 0 && currentByte != '\n' && currentByte != '\r') {
+          line.write(currentByte);
+          continue;
+        }
+
+        endOfFile = (currentByte < 0);
+        if (line.size() <= 0) {
+          continue; // blank line, or the \n of a \r\n
+        }
+
+        String entry = new String(line.toByteArray(), charset);
+        line.reset();
+
+        int equalPos = entry.indexOf('=');
+        if (equalPos <= 0) {
+          continue; // not a hash=filename line
+        }
+
+        long key;
+        try {
+          key = parseKey(entry.substring(0, equalPos), keyFormat);
+        }
+        catch (Throwable t) {
+          continue; // not a valid hash
+        }
+
+        if (numEntries >= keys.length) {
+          long[] oldKeys = keys;
+          keys = new long[numEntries * 2];
+          System.arraycopy(oldKeys, 0, keys, 0, numEntries);
+
+          int[] oldOffsets = nameOffsets;
+          nameOffsets = new int[numEntries * 2];
+          System.arraycopy(oldOffsets, 0, nameOffsets, 0, numEntries);
+        }
+
+        byte[] nameBytes = entry.substring(equalPos + 1).getBytes(charset);
+        int nameLength = Math.min(nameBytes.length, 65535);
+
+        keys[numEntries] = key;
+        nameOffsets[numEntries] = names.size();
+        numEntries++;
+
+        names.write(nameLength >> 8);
+        names.write(nameLength);
+        names.write(nameBytes, 0, nameLength);
+      }
+    }
+    finally {
+      inStream.close();
+    }
+
+    // build the hash table (at most half full, so the probes stay short)
+    int numSlots = 16;
+    while (numSlots < numEntries * 2) {
+      numSlots *= 2;
+    }
+    int slotBits = Integer.numberOfTrailingZeros(numSlots);
+
+    long[] slotKeys = new long[numSlots];
+    int[] slotOffsets = new int[numSlots];
+    for (int s = 0; s < numSlots; s++) {
+      slotOffsets[s] = EMPTY_SLOT;
+    }
+
+    int numUnique = 0;
+    for (int e = 0; e < numEntries; e++) {
+      long key = keys[e];
+      int slot = getSlot(key, slotBits);
+      while (slotOffsets[slot] != EMPTY_SLOT && slotKeys[slot] != key) {
+        slot = (slot + 1) & (numSlots - 1);
+      }
+      if (slotOffsets[slot] == EMPTY_SLOT) {
+        numUnique++;
+      }
+      slotKeys[slot] = key;
+      slotOffsets[slot] = nameOffsets[e]; // a later line replaces an earlier one with the same hash
+    }
+
+    // write the dictionary
+    int namesLength = names.size();
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + numSlots * SLOT_LENGTH + namesLength);
+    buffer.putInt(MAGIC);
+    buffer.putInt(VERSION);
+    buffer.putLong(listFile.length());
+    buffer.putLong(listFile.lastModified());
+    buffer.putInt(keyFormat);
+    buffer.putInt(numUnique);
+    buffer.putInt(slotBits);
+    buffer.putInt(namesLength);
+
+    for (int s = 0; s < numSlots; s++) {
+      buffer.putLong(slotKeys[s]);
+      buffer.putInt(slotOffsets[s]);
+    }
+    buffer.put(names.toByteArray(), 0, namesLength);
+
+    return buffer.array();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the dictionary for the list of filenames in <i>HashesDirectory/pluginCode/listName</i>,
+  such as <i>getDictionary("BIG_7", "filenames.txt", HashDictionary.KEY_DECIMAL)</i>
+  @return the dictionary, or null if the list doesn't exist
+  **********************************************************************************************
+  **/
+  public static HashDictionary getDictionary(String pluginCode, String listName, int keyFormat) {
+    File listFile = new File(Settings.get("HashesDirectory") + File.separatorChar + pluginCode + File.separatorChar + listName);
+    return getDictionary(listFile, keyFormat);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the dictionary for the list of filenames in the <i>listFile</i>, compiling it if it hasn't
+  been compiled yet, or if the list has changed since it was compiled
+  @return the dictionary, or null if the list doesn't exist or can't be read
+  **********************************************************************************************
+  **/
+  public static synchronized HashDictionary getDictionary(File listFile, int keyFormat) {
+    if (!listFile.exists()) {
+      return null;
+    }
+
+    String key = listFile.getAbsolutePath() + "|" + keyFormat;
+
+    HashDictionary dictionary = dictionaries.get(key);
+    if (dictionary != null && dictionary.isCurrent(listFile)) {
+      return dictionary;
+    }
+
+    try {
+      File compiledFile = getCompiledFile(listFile, keyFormat);
+
+      // use the compiled dictionary if it's up to date
+      ByteBuffer buffer = null;
+      if (compiledFile.exists()) {
+        buffer = map(compiledFile);
+        dictionary = new HashDictionary(buffer);
+        if (!dictionary.isValid(listFile, keyFormat)) {
+          dictionary = null;
+        }
+      }
+
+      // otherwise compile it again
+      if (dictionary == null) {
+        byte[] compiled = compile(listFile, keyFormat);
+
+        buffer = null;
+        try {
+          write(compiledFile, compiled);
+          buffer = map(compiledFile);
+        }
+        catch (Throwable t) {
+          // can't write the compiled file (such as if the old one is still mapped), so just keep it in memory
+        }
+        if (buffer == null) {
+          buffer = ByteBuffer.wrap(compiled);
+        }
+
+        dictionary = new HashDictionary(buffer);
+      }
+
+      dictionaries.put(key, dictionary);
+      return dictionary;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log("[HashDictionary] Problem reading filename hashes from " + listFile.getName());
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the file that the compiled dictionary is stored in
+  **********************************************************************************************
+  **/
+  static File getCompiledFile(File listFile, int keyFormat) {
+    File directory = new File(new File(Settings.get("CompiledHashesDirectory")).getAbsolutePath());
+    if (!directory.exists()) {
+      directory.mkdirs();
+    }
+
+    String name = listFile.getAbsoluteFile().getParentFile().getName() + "_" + listFile.getName() + "_" + keyFormat + ".ghd";
+    return new File(directory.getAbsolutePath() + File.separatorChar + name);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the slot in the hash table where the search for a <i>key</i> starts
+  **********************************************************************************************
+  **/
+  static int getSlot(long key, int slotBits) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - slotBits));
+  }
+
+  /**
+  **********************************************************************************************
+  Maps a compiled dictionary file into memory
+  **********************************************************************************************
+  **/
+  static ByteBuffer map(File compiledFile) throws Exception {
+    RandomAccessFile file = new RandomAccessFile(compiledFile, "r");
+    try {
+      FileChannel channel = file.getChannel();
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    finally {
+      file.close(); // the mapping stays valid after the file is closed
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Converts the hash at the start of a line into its key
+  **********************************************************************************************
+  **/
+  static long parseKey(String hash, int keyFormat) {
+    if (keyFormat == KEY_HEX) {
+      return Long.parseLong(hash.trim(), 16);
+    }
+    return Long.parseLong(hash.trim());
+  }
+
+  /**
+  **********************************************************************************************
+  Writes a compiled dictionary to a temporary file first, so an interrupted write doesn't leave
+  a broken dictionary behind
+  **********************************************************************************************
+  **/
+  static void write(File compiledFile, byte[] compiled) throws Exception {
+    File tempFile = new File(compiledFile.getAbsolutePath() + ".tmp");
+    FileOutputStream outStream = new FileOutputStream(tempFile);
+    try {
+      outStream.write(compiled);
+    }
+    finally {
+      outStream.close();
+    }
+
+    if (compiledFile.exists() && !compiledFile.delete()) {
+      tempFile.delete();
+      throw new Exception("The compiled dictionary " + compiledFile.getName() + " is in use.");
+    }
+    if (!tempFile.renameTo(compiledFile)) {
+      tempFile.delete();
+      throw new Exception("The compiled dictionary " + compiledFile.getName() + " couldn't be written.");
+    }
+  }
+
+  /** the compiled dictionary **/
+  ByteBuffer buffer;
+
+  /** the number of bits in a slot number **/
+  int slotBits = 0;
+
+  /** the number of slots in the hash table **/
+  int numSlots = 0;
+
+  /** the offset to the table of filenames **/
+  int namesOffset = 0;
+
+  /** the number of filenames in the dictionary **/
+  int numEntries = 0;
+
+  /**
+  **********************************************************************************************
+  A dictionary for the compiled data in the <i>buffer</i>
+  **********************************************************************************************
+  **/
+  HashDictionary(ByteBuffer buffer) {
+    this.buffer = buffer;
+
+    if (buffer.capacity() >= HEADER_LENGTH) {
+      numEntries = buffer.getInt(28);
+      slotBits = buffer.getInt(32);
+      if (slotBits > 0 && slotBits < 31) {
+        numSlots = 1 << slotBits;
+      }
+      namesOffset = HEADER_LENGTH + numSlots * SLOT_LENGTH;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the filename for the <i>hash</i>
+  @return the filename, or null if the hash isn't in the dictionary
+  **********************************************************************************************
+  **/
+  public String get(long hash) {
+    if (numSlots <= 0) {
+      return null;
+    }
+
+    int slot = getSlot(hash, slotBits);
+    for (int i = 0; i < numSlots; i++) {
+      int slotOffset = HEADER_LENGTH + slot * SLOT_LENGTH;
+      int nameOffset = buffer.getInt(slotOffset + 8);
+      if (nameOffset == EMPTY_SLOT) {
+        return null;
+      }
+
+      if (buffer.getLong(slotOffset) == hash) {
+        int namePos = namesOffset + nameOffset;
+        int nameLength = ((buffer.get(namePos) & 0xFF) << 8) | (buffer.get(namePos + 1) & 0xFF);
+
+        byte[] nameBytes = new byte[nameLength];
+        ByteBuffer nameBuffer = buffer.duplicate(); // so the position isn't shared with other threads
+        nameBuffer.position(namePos + 2);
+        nameBuffer.get(nameBytes);
+        return new String(nameBytes, charset);
+      }
+
+      slot = (slot + 1) & (numSlots - 1);
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of filenames in the dictionary
+  **********************************************************************************************
+  **/
+  public int getNumEntries() {
+    return numEntries;
+  }
+
+  /**
+  **********************************************************************************************
+  Was this dictionary compiled from the current version of the <i>listFile</i>?
+  **********************************************************************************************
+  **/
+  boolean isCurrent(File listFile) {
+    return buffer.getLong(8) == listFile.length() && buffer.getLong(16) == listFile.lastModified();
+  }
+
+  /**
+  **********************************************************************************************
+  Is this a complete dictionary, compiled from the current version of the <i>listFile</i>?
+  **********************************************************************************************
+  **/
+  boolean isValid(File listFile, int keyFormat) {
+    if (buffer.capacity() < HEADER_LENGTH) {
+      return false;
+    }
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(24) != keyFormat) {
+      return false;
+    }
+    if (numSlots <= 0 || (long) namesOffset + buffer.getInt(36) != buffer.capacity()) {
+      return false;
+    }
+    return isCurrent(listFile);
+  }
+
+}
@@ -0,0 +1,327 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.io.FilenameChecker;
+import org.watto.io.FilenameSplitter;
+import org.watto.task.TaskProgressManager;
+
+/**
+**********************************************************************************************
+Extracts many Resources to a directory, using several threads at once.
+
+The destination filenames are all worked out up-front, in the same order as the Resources were
+added, so that duplicate names get the same name1, name2, ... suffixes as a one-at-a-time
+extract would give them. The Resources are then extracted in order of their source file and
+offset, so each thread is reading forwards through the archive. Resources with an exporter that
+isn't thread-safe (see ExporterPlugin.isThreadSafe()) are all extracted by the calling thread,
+one at a time.
+**********************************************************************************************
+**/
+public class ParallelResourceExtractor {
+
+  /**
+  **********************************************************************************************
+  A single Resource to extract, and the file to extract it to
+  **********************************************************************************************
+  **/
+  class ExtractJob implements Comparable<ExtractJob> {
+
+    Resource resource;
+
+    File destination;
+
+    String sourcePath;
+
+    public ExtractJob(Resource resource, File destination) {
+      this.resource = resource;
+      this.destination = destination;
+
+      File source = resource.getSource();
+      if (source == null) {
+        sourcePath = "";
+      }
+      else {
+        sourcePath = source.getAbsolutePath();
+      }
+    }
+
+    @Override
+    public int compareTo(ExtractJob otherJob) {
+      int sourceCompare = sourcePath.compareTo(otherJob.sourcePath);
+      if (sourceCompare != 0) {
+        return sourceCompare;
+      }
+
+      long offset = resource.getOffset();
+      long otherOffset = otherJob.resource.getOffset();
+      if (offset == otherOffset) {
+        return 0;
+      }
+      else if (offset < otherOffset) {
+        return -1;
+      }
+      else {
+        return 1;
+      }
+    }
+
+    public void extract() {
+      try {
+        resource.extractToFile(destination);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to use for extracting, from the <i>NumberOfExportThreads</i>
+  setting. If the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfExportThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /** the directory to extract the files in to **/
+  File directory;
+
+  /** the number of threads to extract with **/
+  int numThreads = 1;
+
+  /** all the resources to extract, with their destination files **/
+  ArrayList<ExtractJob> jobs = new ArrayList<ExtractJob>();
+
+  /** the destination files already taken by an earlier resource **/
+  HashSet<String> claimedPaths = new HashSet<String>();
+
+  /** the number of resources that have been extracted so far **/
+  AtomicInteger numExtracted = new AtomicInteger(0);
+
+  /** true if filenames aren't case-sensitive on this system **/
+  boolean ignoreCase = (File.separatorChar == '\\');
+
+  /**
+  **********************************************************************************************
+  Extracts to the <i>directory</i>, using the number of threads in the settings
+  **********************************************************************************************
+  **/
+  public ParallelResourceExtractor(File directory) {
+    this(directory, getNumThreads());
+  }
+
+  /**
+  **********************************************************************************************
+  Extracts to the <i>directory</i>, using <i>numThreads</i> threads. If <i>numThreads</i> is
+  0 or less, uses the number of threads in the settings
+  **********************************************************************************************
+  **/
+  public ParallelResourceExtractor(File directory, int numThreads) {
+    this.directory = directory;
+    if (numThreads <= 0) {
+      numThreads = getNumThreads();
+    }
+    this.numThreads = numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a Resource to be extracted, and works out which file it will be extracted to.
+  @return the file that the <i>resource</i> will be extracted to
+  **********************************************************************************************
+  **/
+  public File addResource(Resource resource) {
+    File destination = getDestination(resource);
+    jobs.add(new ExtractJob(resource, destination));
+    return destination;
+  }
+
+  /**
+  **********************************************************************************************
+  Extracts all the Resources that have been added, and waits until they're all done. The
+  progress is written to progress bar 1 of the TaskProgressManager.
+  **********************************************************************************************
+  **/
+  public void extract() {
+    int numJobs = jobs.size();
+    if (numJobs <= 0) {
+      return;
+    }
+
+    Collections.sort(jobs);
+
+    // split the resources into ones that can be extracted at the same time, and ones that can't
+    final ArrayList<ExtractJob> parallelJobs = new ArrayList<ExtractJob>(numJobs);
+    ArrayList<ExtractJob> serialJobs = new ArrayList<ExtractJob>();
+    for (int i = 0; i < numJobs; i++) {
+      ExtractJob job = jobs.get(i);
+      ExporterPlugin exporter = job.resource.getExporter();
+      if (exporter != null && exporter.isThreadSafe()) {
+        parallelJobs.add(job);
+      }
+      else {
+        serialJobs.add(job);
+      }
+    }
+
+    int numParallelJobs = parallelJobs.size();
+    int threadCount = numThreads;
+    if (threadCount > numParallelJobs) {
+      threadCount = numParallelJobs;
+    }
+
+    if (threadCount <= 1) {
+      // not worth starting any threads - just do them all one at a time, in order
+      for (int i = 0; i < numJobs; i++) {
+        jobs.get(i).extract();
+        TaskProgressManager.setValue(numExtracted.incrementAndGet(), 1);
+      }
+      return;
+    }
+
+    // each thread takes the next resource from the list, until there's none left
+    final AtomicInteger nextJob = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    for (int t = 0; t < threadCount; t++) {
+      executor.execute(new Runnable() {
+
+        @Override
+        public void run() {
+          int jobNumber = nextJob.getAndIncrement();
+          while (jobNumber < parallelJobs.size()) {
+            parallelJobs.get(jobNumber).extract();
+            numExtracted.incrementAndGet();
+            jobNumber = nextJob.getAndIncrement();
+          }
+        }
+      });
+    }
+    executor.shutdown();
+
+    // meanwhile, this thread does all the ones that need to be done one at a time.
+    // Only this thread updates the progress bar, as the TaskProgressManager isn't thread-safe.
+    int numSerialJobs = serialJobs.size();
+    for (int i = 0; i < numSerialJobs; i++) {
+      serialJobs.get(i).extract();
+      numExtracted.incrementAndGet();
+      TaskProgressManager.setValue(numExtracted.get(), 1);
+    }
+
+    try {
+      while (!executor.awaitTermination(250, TimeUnit.MILLISECONDS)) {
+        TaskProgressManager.setValue(numExtracted.get(), 1);
+      }
+    }
+    catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+
+    TaskProgressManager.setValue(numExtracted.get(), 1);
+  }
+
+  /**
+  **********************************************************************************************
+  Works out the file to extract the <i>resource</i> to. This is the same as Resource.extract(File)
+  except that it also checks the files that earlier Resources will be extracted to, as they won't
+  exist on disk yet.
+  **********************************************************************************************
+  **/
+  File getDestination(Resource resource) {
+    File destination = directory;
+    if (destination.isDirectory()) {
+      destination = new File(destination.getAbsolutePath() + File.separator + resource.getName());
+    }
+
+    destination = FilenameChecker.correctFilename(destination, '_');
+
+    if (isClaimed(destination) || (destination.exists() && destination.isFile())) {
+      // to cater for archives with multiple files of the same name, append a number to the end of the name
+      String path = FilenameSplitter.getDirectory(destination) + File.separator + FilenameSplitter.getFilename(destination);
+      String extension = "." + FilenameSplitter.getExtension(destination);
+
+      for (int i = 1; i < 1000; i++) {
+        File testDestination = new File(path + i + extension);
+        if (!isClaimed(testDestination) && !testDestination.exists()) {
+          destination = testDestination;
+          break;
+        }
+      }
+    }
+
+    claimedPaths.add(getPathKey(destination));
+    return destination;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of Resources that have been extracted so far
+  **********************************************************************************************
+  **/
+  public int getNumExtracted() {
+    return numExtracted.get();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of Resources that have been added
+  **********************************************************************************************
+  **/
+  public int getNumResources() {
+    return jobs.size();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the key used to check whether 2 files are the same
+  **********************************************************************************************
+  **/
+  String getPathKey(File file) {
+    String path = file.getAbsolutePath();
+    if (ignoreCase) {
+      path = path.toLowerCase();
+    }
+    return path;
+  }
+
+  /**
+  **********************************************************************************************
+  Has this file already been taken by an earlier Resource?
+  **********************************************************************************************
+  **/
+  boolean isClaimed(File file) {
+    return claimedPaths.contains(getPathKey(file));
+  }
+
+}
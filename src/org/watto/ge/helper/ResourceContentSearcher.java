@@ -0,0 +1,290 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.ExporterSession;
+import org.watto.io.FileManipulator;
+
+/**
+**********************************************************************************************
+Searches the contents of Resources for a value. Each Resource is read through its exporter (so
+compressed and encrypted files are searched after they're decoded) and only the data belonging to
+that Resource is searched. The search value is looked for as UTF-8 text, UTF-16LE text, and if it
+is written as hex (such as <i>0x4D5A</i> or <i>4D 5A 90</i>) as the raw bytes, all at once.
+
+A searcher can be used by many threads at once, as long as the exporters are thread-safe (see
+ExporterPlugin.isThreadSafe()).
+**********************************************************************************************
+**/
+public class ResourceContentSearcher {
+
+  /** the size of each block that is read from a Resource and searched **/
+  static final int BLOCK_SIZE = 65536;
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to search with, from the <i>NumberOfSearchThreads</i> setting. If
+  the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfSearchThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Converts a hex value (such as <i>0x4D5A</i> or <i>4D 5A 90</i>) into bytes
+  @return the bytes, or null if the <i>value</i> isn't written as hex
+  **********************************************************************************************
+  **/
+  static byte[] parseHex(String value) {
+    String hex = value.trim();
+    boolean prefixed = hex.startsWith("0x") || hex.startsWith("0X");
+    if (prefixed) {
+      hex = hex.substring(2);
+    }
+    else if (hex.indexOf(' ') < 0) {
+      return null; // plain text that happens to use hex characters, like "face"
+    }
+
+    hex = hex.replace(" ", "");
+    int length = hex.length();
+    if (length <= 0 || length % 2 != 0) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length / 2];
+    for (int i = 0; i < length; i += 2) {
+      int high = Character.digit(hex.charAt(i), 16);
+      int low = Character.digit(hex.charAt(i + 1), 16);
+      if (high < 0 || low < 0) {
+        return null;
+      }
+      bytes[i / 2] = (byte) ((high << 4) | low);
+    }
+    return bytes;
+  }
+
+  /** the byte patterns to look for **/
+  byte[][] patterns;
+
+  /** the Boyer-Moore-Horspool skip table for each pattern **/
+  int[][] skipTables;
+
+  /** the length of the longest pattern **/
+  int maxPatternLength = 0;
+
+  /**
+  **********************************************************************************************
+  Searches for the <i>searchValue</i> as text (UTF-8 and UTF-16LE) and, if it's written as hex,
+  as bytes
+  **********************************************************************************************
+  **/
+  public ResourceContentSearcher(String searchValue) {
+    ArrayList<byte[]> patternList = new ArrayList<byte[]>(3);
+
+    byte[] hexBytes = parseHex(searchValue);
+    if (hexBytes != null) {
+      patternList.add(hexBytes);
+    }
+
+    patternList.add(searchValue.getBytes(Charset.forName("UTF-8")));
+    patternList.add(searchValue.getBytes(Charset.forName("UTF-16LE")));
+
+    int numPatterns = patternList.size();
+    patterns = new byte[numPatterns][];
+    skipTables = new int[numPatterns][];
+    for (int p = 0; p < numPatterns; p++) {
+      byte[] pattern = patternList.get(p);
+      patterns[p] = pattern;
+      skipTables[p] = buildSkipTable(pattern);
+      if (pattern.length > maxPatternLength) {
+        maxPatternLength = pattern.length;
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Builds the Boyer-Moore-Horspool table of how far to move along, for each byte value, when the
+  last byte of the window doesn't lead to a match
+  **********************************************************************************************
+  **/
+  int[] buildSkipTable(byte[] pattern) {
+    int length = pattern.length;
+    int[] skipTable = new int[256];
+    for (int i = 0; i < 256; i++) {
+      skipTable[i] = length;
+    }
+    for (int i = 0; i < length - 1; i++) {
+      skipTable[pattern[i] & 0xFF] = length - 1 - i;
+    }
+    return skipTable;
+  }
+
+  /**
+  **********************************************************************************************
+  Does the <i>data</i> (from <i>start</i> to <i>end</i>) contain any of the patterns?
+  **********************************************************************************************
+  **/
+  boolean containsPattern(byte[] data, int start, int end) {
+    int numPatterns = patterns.length;
+    for (int p = 0; p < numPatterns; p++) {
+      if (indexOf(data, start, end, patterns[p], skipTables[p]) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Does the <i>resource</i> contain the search value?
+  **********************************************************************************************
+  **/
+  public boolean contains(Resource resource) {
+    if (maxPatternLength <= 0) {
+      return false;
+    }
+
+    File exportedPath = resource.getExportedPath();
+    if (exportedPath != null && exportedPath.exists()) {
+      return containsInFile(exportedPath);
+    }
+
+    ExporterPlugin exporter = resource.getExporter();
+    if (exporter == null) {
+      return false;
+    }
+
+    ExporterSession session = null;
+    try {
+      session = exporter.openSession(resource);
+
+      // the end of the previous block is kept at the start of the buffer, so matches across 2 blocks are found
+      int overlap = maxPatternLength - 1;
+      byte[] buffer = new byte[overlap + BLOCK_SIZE];
+      int bufferLength = 0;
+
+      int readLength = session.read(buffer, bufferLength, BLOCK_SIZE);
+      while (readLength > 0) {
+        bufferLength += readLength;
+
+        if (containsPattern(buffer, 0, bufferLength)) {
+          return true;
+        }
+
+        int keepLength = Math.min(overlap, bufferLength);
+        System.arraycopy(buffer, bufferLength - keepLength, buffer, 0, keepLength);
+        bufferLength = keepLength;
+
+        readLength = session.read(buffer, bufferLength, BLOCK_SIZE);
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      if (session != null) {
+        session.close();
+      }
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Does the <i>file</i> contain the search value?
+  **********************************************************************************************
+  **/
+  boolean containsInFile(File file) {
+    FileManipulator fm = new FileManipulator(file, false, BLOCK_SIZE + maxPatternLength);
+    try {
+      long remainingLength = fm.getLength();
+
+      int overlap = maxPatternLength - 1;
+      byte[] buffer = new byte[overlap + BLOCK_SIZE];
+      int bufferLength = 0;
+
+      while (remainingLength > 0) {
+        int readLength = (int) Math.min(BLOCK_SIZE, remainingLength);
+        fm.readBytes(buffer, bufferLength, readLength);
+        remainingLength -= readLength;
+        bufferLength += readLength;
+
+        if (containsPattern(buffer, 0, bufferLength)) {
+          return true;
+        }
+
+        int keepLength = Math.min(overlap, bufferLength);
+        System.arraycopy(buffer, bufferLength - keepLength, buffer, 0, keepLength);
+        bufferLength = keepLength;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      fm.close();
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the first <i>pattern</i> in the <i>data</i> (from <i>start</i> to <i>end</i>) using the
+  Boyer-Moore-Horspool algorithm
+  @return the offset to the match, or -1 if it wasn't found
+  **********************************************************************************************
+  **/
+  int indexOf(byte[] data, int start, int end, byte[] pattern, int[] skipTable) {
+    int patternLength = pattern.length;
+    if (patternLength <= 0) {
+      return -1;
+    }
+
+    int lastPatternPos = patternLength - 1;
+    byte lastPatternByte = pattern[lastPatternPos];
+
+    int pos = start;
+    int maxPos = end - patternLength;
+    while (pos <= maxPos) {
+      byte lastByte = data[pos + lastPatternPos];
+      if (lastByte == lastPatternByte) {
+        int i = lastPatternPos - 1;
+        while (i >= 0 && data[pos + i] == pattern[i]) {
+          i--;
+        }
+        if (i < 0) {
+          return pos;
+        }
+      }
+      pos += skipTable[lastByte & 0xFF];
+    }
+    return -1;
+  }
+
+}
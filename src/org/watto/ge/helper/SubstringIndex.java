@@ -0,0 +1,195 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.util.HashMap;
+
+/**
+**********************************************************************************************
+An index of every 3-character sequence (trigram) in a list of values, ignoring case, so that the
+values which might contain a substring can be found without looking at every value. The index
+only narrows down the values - each candidate still needs to be checked, as the trigrams can be
+found in a value without being next to each other.
+**********************************************************************************************
+**/
+public class SubstringIndex {
+
+  /**
+  **********************************************************************************************
+  The positions of the values that contain a trigram, in increasing order
+  **********************************************************************************************
+  **/
+  static class PostingList {
+
+    int[] positions = new int[4];
+
+    int count = 0;
+
+    /**
+    **********************************************************************************************
+    Adds a <i>position</i>, if it isn't already the last position in the list
+    **********************************************************************************************
+    **/
+    void add(int position) {
+      if (count > 0 && positions[count - 1] == position) {
+        return; // the same trigram appears more than once in the value
+      }
+      if (count >= positions.length) {
+        int[] temp = positions;
+        positions = new int[count * 2];
+        System.arraycopy(temp, 0, positions, 0, count);
+      }
+      positions[count++] = position;
+    }
+  }
+
+  /** the length of each sequence in the index **/
+  public static final int GRAM_LENGTH = 3;
+
+  /**
+  **********************************************************************************************
+  Gets the key for the trigram starting at <i>offset</i> in the <i>value</i>. Each character is
+  converted to lower case on its own, so the key doesn't depend on the characters around it.
+  **********************************************************************************************
+  **/
+  static long getGramKey(String value, int offset) {
+    long key = 0;
+    for (int i = 0; i < GRAM_LENGTH; i++) {
+      key = (key << 16) | Character.toLowerCase(value.charAt(offset + i));
+    }
+    return key;
+  }
+
+  /** the values that contain each trigram **/
+  HashMap<Long, PostingList> postingLists = new HashMap<Long, PostingList>();
+
+  /** the null values, which aren't in any posting list **/
+  PostingList nullValues = new PostingList();
+
+  /**
+  **********************************************************************************************
+  Builds the index for the <i>values</i>. Null values aren't indexed, but their positions are
+  kept so they can be found by getNullPositions().
+  **********************************************************************************************
+  **/
+  public SubstringIndex(String[] values) {
+    int numValues = values.length;
+    for (int v = 0; v < numValues; v++) {
+      String value = values[v];
+      if (value == null) {
+        nullValues.add(v);
+        continue;
+      }
+
+      int numGrams = value.length() - GRAM_LENGTH + 1;
+      for (int g = 0; g < numGrams; g++) {
+        Long key = getGramKey(value, g);
+        PostingList postingList = postingLists.get(key);
+        if (postingList == null) {
+          postingList = new PostingList();
+          postingLists.put(key, postingList);
+        }
+        postingList.add(v);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Can the index be used to find the <i>substring</i>? Only if it's at least 1 trigram long.
+  **********************************************************************************************
+  **/
+  public static boolean canFind(String substring) {
+    return substring.length() >= GRAM_LENGTH;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the positions of the null values, which findCandidates() never returns. The caller needs
+  to check these values some other way.
+  @return the positions, in increasing order
+  **********************************************************************************************
+  **/
+  public int[] getNullPositions() {
+    int[] positions = new int[nullValues.count];
+    System.arraycopy(nullValues.positions, 0, positions, 0, nullValues.count);
+    return positions;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the positions of the values that might contain the <i>substring</i> (ignoring case)
+  @return the positions, in increasing order
+  **********************************************************************************************
+  **/
+  public int[] findCandidates(String substring) {
+    int numGrams = substring.length() - GRAM_LENGTH + 1;
+    if (numGrams <= 0) {
+      return new int[0];
+    }
+
+    // find the posting list for each trigram, starting from the shortest
+    PostingList[] lists = new PostingList[numGrams];
+    for (int g = 0; g < numGrams; g++) {
+      PostingList postingList = postingLists.get(getGramKey(substring, g));
+      if (postingList == null) {
+        return new int[0]; // no value contains this trigram
+      }
+      lists[g] = postingList;
+    }
+
+    int shortest = 0;
+    for (int g = 1; g < numGrams; g++) {
+      if (lists[g].count < lists[shortest].count) {
+        shortest = g;
+      }
+    }
+
+    int[] candidates = new int[lists[shortest].count];
+    int numCandidates = lists[shortest].count;
+    System.arraycopy(lists[shortest].positions, 0, candidates, 0, numCandidates);
+
+    // only keep the positions that are in all the lists
+    for (int g = 0; g < numGrams && numCandidates > 0; g++) {
+      if (g == shortest) {
+        continue;
+      }
+
+      int[] positions = lists[g].positions;
+      int count = lists[g].count;
+
+      int numKept = 0;
+      int p = 0;
+      for (int c = 0; c < numCandidates; c++) {
+        int candidate = candidates[c];
+        while (p < count && positions[p] < candidate) {
+          p++;
+        }
+        if (p < count && positions[p] == candidate) {
+          candidates[numKept++] = candidate;
+        }
+      }
+      numCandidates = numKept;
+    }
+
+    if (numCandidates < candidates.length) {
+      int[] temp = candidates;
+      candidates = new int[numCandidates];
+      System.arraycopy(temp, 0, candidates, 0, numCandidates);
+    }
+    return candidates;
+  }
+
+}
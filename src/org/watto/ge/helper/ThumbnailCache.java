@@ -0,0 +1,418 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.ImageResource;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+
+/**
+**********************************************************************************************
+A cache of generated thumbnails, stored on disk in the <i>ThumbnailCacheDirectory</i>, so that
+re-opening an archive can show the thumbnails straight away without extracting and decoding every
+image again. Each thumbnail is keyed by the archive (path, size, and last modified date), the
+position of the Resource in the archive, and the thumbnail settings. The pixels are stored already
+shrunk to the thumbnail size, and compressed. The directory is kept outside of the temp directory,
+as that is emptied whenever an archive is opened.
+
+The total size of the cache is limited by the <i>ThumbnailCacheSize</i> setting (in MB). When it
+gets too big, the thumbnails that were used the longest time ago are removed first.
+**********************************************************************************************
+**/
+public class ThumbnailCache {
+
+  /** the version of the cache file format **/
+  static final int CACHE_VERSION = 1;
+
+  /** the cache files, in the order they were last used (oldest first), and their file sizes **/
+  static LinkedHashMap<String, Long> cacheFiles = null;
+
+  /** the total size of all the files in the cache **/
+  static long cacheSize = 0;
+
+  /** the directory the cache files are stored in **/
+  static File cacheDirectory = null;
+
+  /**
+  **********************************************************************************************
+  Removes the oldest thumbnails from the cache, until it is smaller than the maximum size
+  **********************************************************************************************
+  **/
+  static void checkCacheSize() {
+    long maxSize = getMaxCacheSize();
+
+    Iterator<Map.Entry<String, Long>> iterator = cacheFiles.entrySet().iterator();
+    while (cacheSize > maxSize && iterator.hasNext()) {
+      Map.Entry<String, Long> entry = iterator.next();
+      new File(cacheDirectory, entry.getKey()).delete();
+      cacheSize -= entry.getValue().longValue();
+      iterator.remove();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Removes all the thumbnails from the cache
+  **********************************************************************************************
+  **/
+  public static synchronized void clear() {
+    if (!loadCacheIndex()) {
+      return;
+    }
+
+    Iterator<String> iterator = cacheFiles.keySet().iterator();
+    while (iterator.hasNext()) {
+      new File(cacheDirectory, iterator.next()).delete();
+    }
+
+    cacheFiles.clear();
+    cacheSize = 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the cached thumbnail for the <i>resource</i>
+  @return the thumbnail, or null if it isn't in the cache
+  **********************************************************************************************
+  **/
+  public static ImageResource get(Resource resource) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    String filename = getCacheFilename(resource);
+    if (filename == null) {
+      return null;
+    }
+
+    File cacheFile;
+    synchronized (ThumbnailCache.class) {
+      if (!loadCacheIndex()) {
+        return null;
+      }
+
+      Long fileSize = cacheFiles.remove(filename);
+      if (fileSize == null) {
+        return null; // not in the cache
+      }
+      cacheFiles.put(filename, fileSize); // move it to the end (most recently used)
+
+      cacheFile = new File(cacheDirectory, filename);
+    }
+
+    DataInputStream inStream = null;
+    try {
+      inStream = new DataInputStream(new InflaterInputStream(new BufferedInputStream(new FileInputStream(cacheFile))));
+
+      int version = inStream.readInt();
+      int width = inStream.readInt();
+      int height = inStream.readInt();
+      if (version != CACHE_VERSION || width <= 0 || height <= 0 || width > 4096 || height > 4096) {
+        inStream.close();
+        inStream = null;
+        remove(filename);
+        return null;
+      }
+
+      int numPixels = width * height;
+      int[] pixels = new int[numPixels];
+      for (int i = 0; i < numPixels; i++) {
+        pixels[i] = inStream.readInt();
+      }
+
+      inStream.close();
+      inStream = null;
+
+      // so the oldest thumbnails can still be found the next time the cache is loaded
+      cacheFile.setLastModified(System.currentTimeMillis());
+
+      ImageResource imageResource = new ImageResource(resource, pixels, width, height);
+      imageResource.setImageShrunk(true);
+      return imageResource;
+    }
+    catch (Throwable t) {
+      // the cache file is corrupt or has been deleted, so just generate the thumbnail again
+      if (inStream != null) {
+        try {
+          inStream.close();
+        }
+        catch (Throwable t2) {
+        }
+      }
+      remove(filename);
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the name of the cache file for the <i>resource</i>, which is a hash of everything that
+  identifies the thumbnail.
+  @return the filename, or null if the resource can't be cached
+  **********************************************************************************************
+  **/
+  static String getCacheFilename(Resource resource) {
+    try {
+      File sourceFile = resource.getSource();
+      long offset = resource.getOffset();
+      long length = resource.getLength();
+
+      File exportedPath = resource.getExportedPath();
+      if (exportedPath != null && exportedPath.exists()) {
+        // the thumbnail is generated from the exported file instead of the archive
+        sourceFile = exportedPath;
+        offset = 0;
+        length = exportedPath.length();
+      }
+
+      if (sourceFile == null || !sourceFile.exists()) {
+        return null;
+      }
+
+      ExporterPlugin exporter = resource.getExporter();
+      String exporterName = (exporter == null) ? "" : exporter.getClass().getName();
+
+      String key = sourceFile.getAbsolutePath() + "|" + sourceFile.length() + "|" + sourceFile.lastModified() + "|" + offset + "|" + length + "|" + resource.getDecompressedLength() + "|" + resource.getName() + "|" + exporterName + "|" + getThumbnailSize() + "|" + Settings.getBoolean("HighQualityThumbnails") + "|" + Settings.getBoolean("UpscaleSmallThumbnails");
+
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      byte[] hash = digest.digest(key.getBytes("UTF-8"));
+
+      StringBuilder filename = new StringBuilder(hash.length * 2 + 4);
+      for (int i = 0; i < hash.length; i++) {
+        int value = hash[i] & 0xFF;
+        if (value < 16) {
+          filename.append('0');
+        }
+        filename.append(Integer.toHexString(value));
+      }
+      filename.append(".thb");
+
+      return filename.toString();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the maximum size of the cache, in bytes, from the <i>ThumbnailCacheSize</i> setting (in MB)
+  **********************************************************************************************
+  **/
+  static long getMaxCacheSize() {
+    return Settings.getLong("ThumbnailCacheSize") * 1024 * 1024;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the size of the thumbnails that are generated
+  **********************************************************************************************
+  **/
+  static int getThumbnailSize() {
+    return new ImageResource(new int[0], 0, 0).getThumbnailSize();
+  }
+
+  /**
+  **********************************************************************************************
+  Is the thumbnail cache turned on?
+  **********************************************************************************************
+  **/
+  public static boolean isEnabled() {
+    return Settings.getBoolean("UseThumbnailCache") && getMaxCacheSize() > 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds all the files in the cache directory, the first time the cache is used
+  @return true if the cache can be used
+  **********************************************************************************************
+  **/
+  static boolean loadCacheIndex() {
+    if (cacheFiles != null) {
+      return true;
+    }
+
+    try {
+      File directory = new File(new File(Settings.get("ThumbnailCacheDirectory")).getAbsolutePath());
+      if (!directory.exists() && !directory.mkdirs()) {
+        return false;
+      }
+
+      File[] files = directory.listFiles();
+      if (files == null) {
+        return false;
+      }
+
+      // oldest first, so the LinkedHashMap is in the order they were last used
+      Arrays.sort(files, new Comparator<File>() {
+
+        @Override
+        public int compare(File file1, File file2) {
+          long modified1 = file1.lastModified();
+          long modified2 = file2.lastModified();
+          if (modified1 == modified2) {
+            return 0;
+          }
+          return (modified1 < modified2) ? -1 : 1;
+        }
+      });
+
+      LinkedHashMap<String, Long> loadedFiles = new LinkedHashMap<String, Long>(files.length * 2);
+      long loadedSize = 0;
+      for (int i = 0; i < files.length; i++) {
+        File file = files[i];
+        if (!file.isFile() || !file.getName().endsWith(".thb")) {
+          continue;
+        }
+        long fileSize = file.length();
+        loadedFiles.put(file.getName(), fileSize);
+        loadedSize += fileSize;
+      }
+
+      cacheDirectory = directory;
+      cacheFiles = loadedFiles;
+      cacheSize = loadedSize;
+
+      // in case the maximum size was reduced since last time
+      checkCacheSize();
+
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Stores the <i>imageResource</i> in the cache as the thumbnail for the <i>resource</i>. The
+  <i>imageResource</i> must already be shrunk to the thumbnail size.
+  **********************************************************************************************
+  **/
+  public static void put(Resource resource, ImageResource imageResource) {
+    if (imageResource == null || !imageResource.isImageShrunk() || !isEnabled()) {
+      return;
+    }
+
+    int width = imageResource.getWidth();
+    int height = imageResource.getHeight();
+    int[] pixels = imageResource.getPixels();
+    if (width <= 0 || height <= 0 || pixels == null || pixels.length < width * height) {
+      return;
+    }
+
+    String filename = getCacheFilename(resource);
+    if (filename == null) {
+      return;
+    }
+
+    File directory;
+    synchronized (ThumbnailCache.class) {
+      if (!loadCacheIndex() || cacheFiles.containsKey(filename)) {
+        return;
+      }
+      directory = cacheDirectory;
+    }
+
+    // write to a temporary file first, so a half-written file is never read from the cache
+    File tempFile = new File(directory, filename + "." + Thread.currentThread().getId() + ".tmp");
+    File cacheFile = new File(directory, filename);
+
+    DataOutputStream outStream = null;
+    try {
+      outStream = new DataOutputStream(new DeflaterOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))));
+
+      outStream.writeInt(CACHE_VERSION);
+      outStream.writeInt(width);
+      outStream.writeInt(height);
+
+      int numPixels = width * height;
+      for (int i = 0; i < numPixels; i++) {
+        outStream.writeInt(pixels[i]);
+      }
+
+      outStream.close();
+      outStream = null;
+
+      synchronized (ThumbnailCache.class) {
+        if (cacheFiles.containsKey(filename)) {
+          // another thread cached it at the same time
+          tempFile.delete();
+          return;
+        }
+
+        cacheFile.delete();
+        if (!tempFile.renameTo(cacheFile)) {
+          tempFile.delete();
+          return;
+        }
+
+        long fileSize = cacheFile.length();
+        cacheFiles.put(filename, fileSize);
+        cacheSize += fileSize;
+
+        checkCacheSize();
+      }
+    }
+    catch (Throwable t) {
+      if (outStream != null) {
+        try {
+          outStream.close();
+        }
+        catch (Throwable t2) {
+        }
+      }
+      tempFile.delete();
+      ErrorLogger.log(t);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Removes a single file from the cache
+  **********************************************************************************************
+  **/
+  static synchronized void remove(String filename) {
+    if (cacheFiles == null) {
+      return;
+    }
+
+    Long fileSize = cacheFiles.remove(filename);
+    if (fileSize != null) {
+      cacheSize -= fileSize.longValue();
+    }
+    new File(cacheDirectory, filename).delete();
+  }
+
+}
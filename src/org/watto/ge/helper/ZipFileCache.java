@@ -0,0 +1,179 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+/**
+**********************************************************************************************
+Keeps the ZIP archives that are being exported from open, so the central directory of each
+archive is only read once, rather than every time a file is exported from it.
+
+Only a few archives are kept open at once - the one used the longest time ago is removed when
+another is opened. All the archives are removed when a different archive is loaded (see
+Archive.makeNewArchive()), or before an archive is overwritten.
+
+Each archive counts the callers that are reading from it (see openZipFile() and
+releaseZipFile()). An archive that is removed while it's still being read by other threads is
+only closed once the last of them releases it, so their streams aren't broken.
+**********************************************************************************************
+**/
+public class ZipFileCache {
+
+  /**
+  **********************************************************************************************
+  An open archive, and the number of callers that are reading from it
+  **********************************************************************************************
+  **/
+  static class CachedZipFile {
+
+    /** the open archive **/
+    ZipFile zipFile;
+
+    /** the number of callers that have opened the archive, and not released it yet **/
+    int numOpen = 0;
+
+    /** whether the archive has been removed from the cache, so it's closed once it's released **/
+    boolean removed = false;
+
+    CachedZipFile(ZipFile zipFile) {
+      this.zipFile = zipFile;
+    }
+  }
+
+  /** the maximum number of archives that are kept in the cache at once **/
+  static final int MAX_OPEN_FILES = 4;
+
+  /** the archives in the cache, in the order they were last used (oldest first) **/
+  static LinkedHashMap<String, CachedZipFile> openFiles = new LinkedHashMap<String, CachedZipFile>(16, 0.75f, true);
+
+  /** all the archives that haven't been closed yet, including those removed from the cache that are still being read **/
+  static IdentityHashMap<ZipFile, CachedZipFile> unclosedFiles = new IdentityHashMap<ZipFile, CachedZipFile>();
+
+  /**
+  **********************************************************************************************
+  Removes all the archives from the cache. Each one is closed now, or when the last caller that's
+  reading from it releases it.
+  **********************************************************************************************
+  **/
+  public static synchronized void closeAll() {
+    Iterator<CachedZipFile> iterator = openFiles.values().iterator();
+    while (iterator.hasNext()) {
+      removeFile(iterator.next());
+    }
+    openFiles.clear();
+  }
+
+  /**
+  **********************************************************************************************
+  Closes an archive that was removed from the cache, and that nothing is reading from
+  **********************************************************************************************
+  **/
+  static void closeFile(CachedZipFile cachedFile) {
+    unclosedFiles.remove(cachedFile.zipFile);
+    try {
+      cachedFile.zipFile.close();
+    }
+    catch (Throwable t) {
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the key for the <i>file</i>, which changes if the file is modified, so a rewritten
+  archive is opened again rather than using the old central directory.
+  **********************************************************************************************
+  **/
+  static String getKey(File file) {
+    return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the open Java ZipFile for the <i>file</i>, opening it if it isn't in the cache. The
+  ZipFile can be read by many threads at once. It must not be closed by the caller - instead,
+  the caller must give it to releaseZipFile() once it has finished reading from it.
+  **********************************************************************************************
+  **/
+  public static synchronized ZipFile openZipFile(File file) throws Exception {
+    String key = getKey(file);
+
+    CachedZipFile cachedFile = openFiles.get(key);
+    if (cachedFile == null) {
+      cachedFile = new CachedZipFile(new ZipFile(file));
+      unclosedFiles.put(cachedFile.zipFile, cachedFile);
+      put(key, cachedFile);
+    }
+
+    cachedFile.numOpen++;
+    return cachedFile.zipFile;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds an open archive to the cache, removing the oldest archive if there are too many
+  **********************************************************************************************
+  **/
+  static void put(String key, CachedZipFile cachedFile) {
+    openFiles.put(key, cachedFile);
+
+    Iterator<Map.Entry<String, CachedZipFile>> iterator = openFiles.entrySet().iterator();
+    while (openFiles.size() > MAX_OPEN_FILES && iterator.hasNext()) {
+      Map.Entry<String, CachedZipFile> entry = iterator.next();
+      if (entry.getValue() == cachedFile) {
+        continue; // the one being added
+      }
+      removeFile(entry.getValue());
+      iterator.remove();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Tells the cache that the caller has finished reading from a ZipFile from openZipFile(). If the
+  archive has been removed from the cache, and this was the last caller reading from it, it's
+  closed.
+  **********************************************************************************************
+  **/
+  public static synchronized void releaseZipFile(ZipFile zipFile) {
+    CachedZipFile cachedFile = unclosedFiles.get(zipFile);
+    if (cachedFile == null) {
+      return;
+    }
+
+    cachedFile.numOpen--;
+    if (cachedFile.removed && cachedFile.numOpen <= 0) {
+      closeFile(cachedFile);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Marks an archive as removed from the cache, and closes it if nothing is reading from it
+  **********************************************************************************************
+  **/
+  static void removeFile(CachedZipFile cachedFile) {
+    cachedFile.removed = true;
+    if (cachedFile.numOpen <= 0) {
+      closeFile(cachedFile);
+    }
+  }
+
+}
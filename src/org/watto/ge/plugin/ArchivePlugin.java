@@ -15,7 +15,14 @@
 package org.watto.ge.plugin;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.swing.Icon;
 import javax.swing.filechooser.FileSystemView;
 import org.watto.ErrorLogger;
@@ -39,6 +46,8 @@ import org.watto.io.DirectoryBuilder;
 import org.watto.io.FileManipulator;
 import org.watto.io.FilenameChecker;
 import org.watto.io.FilenameSplitter;
+import org.watto.io.buffer.ByteBuffer;
+import org.watto.io.converter.ByteArrayConverter;
 import org.watto.task.TaskProgressManager;
 
 /**
@@ -58,6 +67,15 @@ compatable read plugin are also supplied.
 **/
 public abstract class ArchivePlugin extends WSObjectPlugin {
 
+  /** files larger than this (decompressed) are packed by the writer itself, rather than being held in memory by a packing thread **/
+  static final int PACK_AHEAD_MAX_LENGTH = 8 * 1024 * 1024;
+
+  /** the number of files that can be packed ahead of the writer, for each packing thread **/
+  static final int PACK_AHEAD_PER_THREAD = 4;
+
+  /** the most threads that are used for packing when the <i>NumberOfWriteThreads</i> setting is 0 **/
+  static final int MAX_DEFAULT_WRITE_THREADS = 4;
+
   /**
   **********************************************************************************************
   Gets a file with the same name, but different extension, to the <i>source</i>
@@ -173,6 +191,11 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   **********************************************************************************************
   **/
   public static long[] write(ExporterPlugin exporter, Resource[] resources, FileManipulator destination) {
+    int numThreads = getNumWriteThreads();
+    if (numThreads > 1 && resources.length > 1 && exporter.isThreadSafe() && !(exporter instanceof Exporter_Default)) {
+      return writeInParallel(exporter, resources, destination, numThreads);
+    }
+
     long[] compLengths = new long[resources.length];
     for (int i = 0; i < resources.length; i++) {
       long length = write(exporter, resources[i], destination);
@@ -182,6 +205,167 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     return compLengths;
   }
 
+  /**
+  **********************************************************************************************
+  Writes the <i>resources</i> into the <i>destination</i> archive, using the <i>exporter</i> for
+  formatting the output. The files are packed (compressed, etc) by several threads at once, ahead
+  of this thread, which writes them into the <i>destination</i> in order. Files that are too large
+  to hold in memory, or that can't be read by more than 1 thread, are packed by this thread when
+  it gets to them.
+  @param exporter the exporter that converts a file for writing (must be thread-safe)
+  @param resources the files to write
+  @param destination the archive to write to.
+  @param numThreads the number of threads to pack the files with
+  @return the length of each file in the archive
+  **********************************************************************************************
+  **/
+  static long[] writeInParallel(ExporterPlugin exporter, Resource[] resources, FileManipulator destination, int numThreads) {
+    int numResources = resources.length;
+    long[] compLengths = new long[numResources];
+
+    ArrayList<Future<ByteBuffer>> packedFiles = new ArrayList<Future<ByteBuffer>>(numResources);
+    int[] packedSizes = new int[numResources]; // the memory held for each file that's packed ahead
+    int numSubmitted = 0;
+    int maxAhead = numThreads * PACK_AHEAD_PER_THREAD;
+
+    // the memory held by the files that have been packed ahead, but not written yet
+    long aheadBytes = 0;
+    long maxAheadBytes = getWriteAheadMemorySize();
+
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      for (int i = 0; i < numResources; i++) {
+        // keep the packing threads busy with the files ahead of this one, as long as there's memory for them
+        while (numSubmitted < numResources && numSubmitted < i + maxAhead) {
+          Resource resource = resources[numSubmitted];
+          int packSize = getPackAheadSize(resource);
+          if (packSize > 0 && aheadBytes > 0 && aheadBytes + packSize > maxAheadBytes) {
+            break; // wait for the writer to catch up
+          }
+
+          Future<ByteBuffer> packedFile = null;
+          if (packSize > 0) {
+            packedFile = packAhead(executor, exporter, resource, packSize);
+          }
+          if (packedFile != null) {
+            packedSizes[numSubmitted] = packSize;
+            aheadBytes += packSize;
+          }
+          packedFiles.add(packedFile);
+          numSubmitted++;
+        }
+
+        ByteBuffer packedFile = null;
+        if (i < numSubmitted && packedFiles.get(i) != null) {
+          try {
+            packedFile = packedFiles.get(i).get();
+          }
+          catch (Throwable t) {
+            logError(t);
+          }
+          packedFiles.set(i, null); // so the memory can be freed
+          aheadBytes -= packedSizes[i];
+        }
+
+        if (packedFile == null) {
+          // not packed ahead, or it failed, so pack it here instead
+          compLengths[i] = write(exporter, resources[i], destination);
+        }
+        else {
+          int packedLength = (int) packedFile.getPointer();
+          destination.writeBytes(packedFile.getBuffer(), 0, packedLength);
+          compLengths[i] = packedLength;
+        }
+
+        TaskProgressManager.setValue(i);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    return compLengths;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the size of the memory that's needed to pack the <i>resource</i> ahead of the writer
+  @return the size of the memory, or 0 if the resource can't be packed ahead
+  **********************************************************************************************
+  **/
+  static int getPackAheadSize(Resource resource) {
+    ExporterPlugin sourceExporter = resource.getExporter();
+    long decompLength = resource.getDecompressedLength();
+    if (sourceExporter == null || !sourceExporter.isThreadSafe() || decompLength < 0 || decompLength > PACK_AHEAD_MAX_LENGTH) {
+      return 0;
+    }
+    return (int) (decompLength + (decompLength / 8) + 1024);
+  }
+
+  /**
+  **********************************************************************************************
+  Starts packing the <i>resource</i> into memory in one of the <i>executor</i> threads. The
+  <i>resource</i> and the exporters are copied, so the packing thread doesn't change anything
+  that the writer is using.
+  @param initialSize the size of the memory to pack into, from getPackAheadSize()
+  @return the packed file, or null if the resource can't be packed ahead
+  **********************************************************************************************
+  **/
+  static Future<ByteBuffer> packAhead(ExecutorService executor, ExporterPlugin exporter, Resource resource, final int initialSize) {
+    ExporterPlugin sourceExporter = resource.getExporter();
+
+    // subclasses of Resource may hold details that the exporters need, but that aren't kept by clone()
+    Class<?> resourceClass = resource.getClass();
+    if (resourceClass != Resource.class && resourceClass != ReplacableResource.class) {
+      return null;
+    }
+
+    final Resource sourceCopy = (Resource) resource.clone();
+    sourceCopy.setExporter(sourceExporter.copy());
+
+    final ExporterPlugin exporterCopy = exporter.copy();
+
+    return executor.submit(new Callable<ByteBuffer>() {
+
+      @Override
+      public ByteBuffer call() {
+        ByteBuffer buffer = new ByteBuffer(initialSize);
+        exporterCopy.pack(sourceCopy, new FileManipulator(buffer));
+        return buffer;
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to pack files with when writing an archive, from the
+  <i>NumberOfWriteThreads</i> setting. If the setting is 0 (or missing), uses 1 thread per
+  processor, up to <i>MAX_DEFAULT_WRITE_THREADS</i>.
+  **********************************************************************************************
+  **/
+  public static int getNumWriteThreads() {
+    int numThreads = Settings.getInt("NumberOfWriteThreads");
+    if (numThreads <= 0) {
+      numThreads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_WRITE_THREADS);
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the most memory that can be held by files that are packed ahead of the writer, from the
+  <i>WriteAheadMemorySize</i> setting (in MB). At least 1 file is always packed ahead, even if
+  it's larger than this.
+  **********************************************************************************************
+  **/
+  public static long getWriteAheadMemorySize() {
+    long memorySize = Settings.getLong("WriteAheadMemorySize");
+    if (memorySize <= 0) {
+      memorySize = 32;
+    }
+    return memorySize * 1048576;
+  }
+
   /**
   **********************************************************************************************
   Writes the <i>resource</i> into the <i>destination</i> archive
@@ -220,6 +404,9 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   /** Can this plugin replace files within the archive? **/
   protected boolean canReplace = false;
 
+  /** Can this plugin write changes into the existing archive, rather than rewriting the whole archive? **/
+  protected boolean canPatch = false;
+
   /** Can implicit replacing be performed on the resources of this archive? **/
   protected boolean allowImplicitReplacing = false;
 
@@ -235,6 +422,9 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   /** The default extension of archives complying to this format **/
   protected String[] extensions = new String[] { "" };
 
+  /** The signatures a file needs (if it doesn't have one of the extensions) for getMatchRating() to reach 25%. null if not declared **/
+  protected MatchSignature[] matchSignatures = null;
+
   /** The platforms that this archive exists on (such as "PC", "XBox", or "PS2") **/
   protected String[] platforms = new String[] { "" };
 
@@ -431,6 +621,18 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     return allowImplicitReplacing;
   }
 
+  /**
+  **********************************************************************************************
+  Can this plugin write changes into the existing archive (see patch()), rather than rewriting the
+  whole archive? Archives that allow implicit replacing can always be patched, as the location of
+  every field that changes is already known.
+  @return true if the archive can be patched, false if it needs to be rewritten.
+  **********************************************************************************************
+  **/
+  public boolean canPatch() {
+    return (canPatch || allowImplicitReplacing);
+  }
+
   /**
   **********************************************************************************************
   Can this plugin read an archive?
@@ -1041,6 +1243,15 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Gets the signatures declared by this plugin, or null if it hasn't declared any
+  **********************************************************************************************
+  **/
+  public MatchSignature[] getMatchSignatures() {
+    return matchSignatures;
+  }
+
   /**
   **********************************************************************************************
   Gets the percentage chance that this plugin can read the file <i>fm</i>
@@ -1304,6 +1515,226 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     return null;
   }
 
+  /**
+  **********************************************************************************************
+  Writes the changes to the <i>resources</i> into the existing archive <i>destination</i>, without
+  rewriting the rest of the archive. Files that haven't changed stay where they are, and replaced
+  files are added to the end of the archive. The data of the existing files is never written over,
+  so the only changes to the existing part of the archive are the directory fields, which are
+  written last. If the archive can't be patched (such as when files have been added), nothing is
+  written and false is returned, so the whole archive can be written by replace() instead.
+  <br><br>
+  If the plugin allows implicit replacing, this is done automatically. Plugins for other formats
+  (such as those with the directory at the end of the archive) can overwrite this method, and call
+  setCanPatch(true).
+  @param resources the files in the archive
+  @param destination the archive to patch, which is the archive the <i>resources</i> were read from
+  @return true if the archive was patched, false if it needs to be rewritten instead
+  @throws Exception if the archive couldn't be patched. The archive is put back the way it was, as
+          far as possible, but the save has failed and must be reported to the user.
+  **********************************************************************************************
+  **/
+  public boolean patch(Resource[] resources, File destination) throws Exception {
+    if (allowImplicitReplacing) {
+      return patchImplicitReplace(resources, destination);
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Patches an archive that allows implicit replacing, by adding the replaced files to the end of the
+  archive, and then writing their directory fields (Offset, Length, etc) into the existing archive.
+  The old value of each directory field is read first, so if anything goes wrong, the fields are
+  put back and the added data is removed.
+  <br><br>
+  This uses a RandomAccessFile rather than a FileManipulator, so that any problem writing to the
+  archive is thrown rather than only being logged.
+  @param resources the files in the archive
+  @param destination the archive to patch
+  @return true if the archive was patched, false if it needs to be rewritten instead
+  @throws Exception if the archive couldn't be patched
+  **********************************************************************************************
+  **/
+  public boolean patchImplicitReplace(Resource[] resources, File destination) throws Exception {
+    int numFiles = resources.length;
+
+    ReplacableResource[] replacedResources = new ReplacableResource[numFiles];
+    File[] packedFiles = new File[numFiles];
+    long[] newOffsets = new long[numFiles];
+    int numReplaced = 0;
+
+    File archiveFile = destination.getAbsoluteFile();
+    long arcSize = archiveFile.length();
+
+    try {
+      // Work out where each replaced file is going to go, before changing anything in the archive
+      long appendOffset = arcSize;
+      for (int i = 0; i < numFiles; i++) {
+        TaskProgressManager.setValue(i, 1);
+
+        if (!(resources[i] instanceof ReplacableResource)) {
+          return false; // an added file, which doesn't have a place in the directory
+        }
+
+        ReplacableResource resource = (ReplacableResource) resources[i];
+        if (!resource.isReplaced()) {
+          File source = resource.getSource();
+          if (source == null || !source.getAbsoluteFile().equals(archiveFile)) {
+            return false; // the file is coming from a different archive
+          }
+          continue;
+        }
+
+        if (resource.getOffsetPointerLength() <= 0) {
+          return false; // the offset isn't stored, so the file can't be moved to the end
+        }
+
+        // check that we know how to write all the fields
+        ReplaceDetails[] fields = resource.getReplaceDetails();
+        for (int f = 0; f < fields.length; f++) {
+          ReplaceDetails field = fields[f];
+          long length = field.getLength();
+          if (!(field instanceof ReplaceDetails_File) && length != 0 && length != 2 && length != 4 && length != 8) {
+            return false;
+          }
+        }
+
+        // pack the file first, so we know how big it will be in the archive
+        File packedFile = File.createTempFile("patch", ".tmp", archiveFile.getParentFile());
+        packedFiles[numReplaced] = packedFile;
+        replacedResources[numReplaced] = resource;
+        numReplaced++;
+
+        FileManipulator packFM = new FileManipulator(packedFile, true);
+        write(resource.getExporter(), resource, packFM);
+        packFM.close();
+
+        long packedLength = packedFile.length();
+
+        if (packedLength != resource.getImplicitReplaceFile().getLength() && resource.getLengthPointerLength() <= 0) {
+          return false; // the length isn't stored, so it's probably worked out from the position of the next file
+        }
+
+        // always added to the end of the archive, so the old data is still there if the save fails
+        newOffsets[numReplaced - 1] = appendOffset;
+        appendOffset += packedLength;
+      }
+
+      if (numReplaced == 0) {
+        return true; // nothing to write
+      }
+
+      // Work out the new bytes for each directory field, while nothing has been changed yet
+      int numFields = 0;
+      for (int i = 0; i < numReplaced; i++) {
+        numFields += replacedResources[i].getReplaceDetails().length;
+      }
+
+      long[] fieldOffsets = new long[numFields];
+      byte[][] newFieldBytes = new byte[numFields][];
+      byte[][] oldFieldBytes = new byte[numFields][];
+      numFields = 0;
+
+      for (int i = 0; i < numReplaced; i++) {
+        ReplacableResource resource = replacedResources[i];
+
+        // temporarily set the offset to where the file will be in the archive, so the Offset field is worked out correctly
+        long oldOffset = resource.getOffset();
+        resource.setOffset(newOffsets[i]);
+
+        try {
+          ReplaceDetails[] fields = resource.getReplaceDetails();
+          for (int f = 0; f < fields.length; f++) {
+            ReplaceDetails field = fields[f];
+            if (field instanceof ReplaceDetails_File || field.getLength() <= 0) {
+              continue;
+            }
+            if (!fitsReplaceField(field)) {
+              return false; // the archive has grown too big for the field (eg a 2-byte offset past 64KB)
+            }
+            fieldOffsets[numFields] = field.getOffset();
+            newFieldBytes[numFields] = getReplaceFieldBytes(field);
+            numFields++;
+          }
+        }
+        finally {
+          resource.setOffset(oldOffset);
+        }
+      }
+
+      RandomAccessFile raf = new RandomAccessFile(archiveFile, "rw");
+      boolean fieldsChanged = false;
+      try {
+        // read the old value of each field, so they can be put back if the save fails
+        for (int i = 0; i < numFields; i++) {
+          oldFieldBytes[i] = new byte[newFieldBytes[i].length];
+          raf.seek(fieldOffsets[i]);
+          raf.readFully(oldFieldBytes[i]);
+        }
+
+        // add the file data to the end of the archive, and make sure it's on the disk before the directory points to it
+        byte[] buffer = new byte[ExporterPlugin.BLOCK_SIZE];
+        for (int i = 0; i < numReplaced; i++) {
+          raf.seek(newOffsets[i]);
+
+          FileInputStream inStream = new FileInputStream(packedFiles[i]);
+          try {
+            int readLength = inStream.read(buffer);
+            while (readLength > 0) {
+              raf.write(buffer, 0, readLength);
+              readLength = inStream.read(buffer);
+            }
+          }
+          finally {
+            inStream.close();
+          }
+        }
+
+        if (raf.length() != appendOffset) {
+          throw new WSPluginException("The replaced files weren't all written to the end of the archive");
+        }
+        raf.getFD().sync();
+
+        // now that all the data is there, point the directory at it
+        fieldsChanged = true;
+        for (int i = 0; i < numFields; i++) {
+          raf.seek(fieldOffsets[i]);
+          raf.write(newFieldBytes[i]);
+        }
+        raf.getFD().sync();
+      }
+      catch (Throwable t) {
+        // put the archive back the way it was
+        try {
+          if (fieldsChanged) {
+            for (int i = 0; i < numFields; i++) {
+              raf.seek(fieldOffsets[i]);
+              raf.write(oldFieldBytes[i]);
+            }
+          }
+          raf.setLength(arcSize);
+        }
+        catch (Throwable t2) {
+          ErrorLogger.log(t2);
+        }
+        throw t;
+      }
+      finally {
+        raf.close();
+      }
+
+      TaskProgressManager.setValue(numFiles, 1);
+
+      return true;
+    }
+    finally {
+      for (int i = 0; i < numReplaced; i++) {
+        packedFiles[i].delete();
+      }
+    }
+  }
+
   /**
   **********************************************************************************************
   Reads the archive <i>source</i>
@@ -1340,6 +1771,17 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     this.allowImplicitReplacing = canReplace;
   }
 
+  /**
+  **********************************************************************************************
+  Sets whether this plugin can write changes into an existing archive. Plugins that set this
+  should also overwrite patch().
+  @param canPatch is patching allowed?
+  **********************************************************************************************
+  **/
+  public void setCanPatch(boolean canPatch) {
+    this.canPatch = canPatch;
+  }
+
   /**
   **********************************************************************************************
   Sets whether this plugin can read archives or not
@@ -1452,6 +1894,46 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     this.extensions = extensions;
   }
 
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file has one of the
+  extensions of this plugin. PluginFinder will skip this plugin for all other files.
+  **********************************************************************************************
+  **/
+  public void setMatchNeedsExtension() {
+    this.matchSignatures = new MatchSignature[0];
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file starts with this
+  little-endian int <i>header</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignature(int header) {
+    this.matchSignatures = new MatchSignature[] { new MatchSignature(header) };
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file starts with this
+  <i>header</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignature(String header) {
+    this.matchSignatures = new MatchSignature[] { new MatchSignature(header) };
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file contains one of these
+  <i>signatures</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignatures(MatchSignature... signatures) {
+    this.matchSignatures = signatures;
+  }
+
   /**
   **********************************************************************************************
   
@@ -1700,4 +2182,81 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Whether the value of the <i>field</i> fits in the number of bytes the field has in the archive.
+  The values are offsets and lengths, so they're treated as unsigned.
+  @param field the field to check
+  @return true if the value fits, false if writing it would cut it short
+  **********************************************************************************************
+  **/
+  public static boolean fitsReplaceField(ReplaceDetails field) {
+    long value = field.getValue();
+    long length = field.getLength();
+
+    if (value < 0) {
+      return false;
+    }
+    else if (length == 2) {
+      return value <= 0xFFFFL;
+    }
+    else if (length == 4) {
+      return value <= 0xFFFFFFFFL;
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the bytes that are written for the value of a directory <i>field</i> (such as an Offset or
+  Length), the same as writeReplaceField() would write them
+  **********************************************************************************************
+  **/
+  public byte[] getReplaceFieldBytes(ReplaceDetails field) throws WSPluginException {
+    long value = field.getValueWithEndian(); // changes it to big endian if required
+    long length = field.getLength();
+
+    if (length == 2) {
+      return ByteArrayConverter.convertLittle((short) value);
+    }
+    else if (length == 4) {
+      return ByteArrayConverter.convertLittle((int) value);
+    }
+    else if (length == 8) {
+      return ByteArrayConverter.convertLittle(value);
+    }
+    else if (length == 0) {
+      return new byte[0];
+    }
+    else {
+      throw new WSPluginException("Can not replace file - bad field length");
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the value of a directory <i>field</i> (such as an Offset or Length) at the current
+  position in the archive
+  **********************************************************************************************
+  **/
+  public void writeReplaceField(FileManipulator fm, ReplaceDetails field) throws WSPluginException {
+    long value = field.getValueWithEndian(); // changes it to big endian if required
+    long length = field.getLength();
+
+    if (length == 2) {
+      fm.writeShort((short) value);
+    }
+    else if (length == 4) {
+      fm.writeInt((int) value);
+    }
+    else if (length == 8) {
+      fm.writeLong(value);
+    }
+    else if (length == 0) {
+    }
+    else {
+      throw new WSPluginException("Can not replace file - bad field length");
+    }
+  }
+
 }
\ No newline at end of file
@@ -21,7 +21,10 @@ import org.watto.component.WSObjectPlugin;
 import org.watto.datatype.Resource;
 import org.watto.io.FileManipulator;
 
-public abstract class ExporterPlugin extends WSObjectPlugin {
+public abstract class ExporterPlugin extends WSObjectPlugin implements Cloneable {
+
+  /** The size of the block that is read from the exporter in each call to read(byte[],int,int) when extracting or packing **/
+  protected static final int BLOCK_SIZE = 65536;
 
   protected FileManipulator exportDestination;
 
@@ -51,6 +54,34 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
     open(source);
   }
 
+  /**
+  **********************************************************************************************
+  Creates a copy of this exporter, with all the same settings (keys, block tables, etc), but its
+  own per-stream state. The copy can be opened and read at the same time as this exporter,
+  without either of them affecting the other. Exporters that wrap other exporters, or that keep
+  buffers which are changed in-place while reading, need to override this to copy them as well.
+  <br><br>
+  Exporters that aren't thread-safe (see isThreadSafe()) may share state between copies, so this
+  exporter is returned instead of a copy. Overrides must do the same.
+  **********************************************************************************************
+  **/
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this;
+    }
+
+    try {
+      ExporterPlugin copy = (ExporterPlugin) clone();
+      copy.exportDestination = null;
+      return copy;
+    }
+    catch (CloneNotSupportedException e) {
+      // can't happen, as we're Cloneable
+      logError(e);
+      return this;
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -70,9 +101,14 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
       this.exportDestination = destination;
 
       open(source);
-      while (available()) {
-        destination.writeByte(read());
+
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = read(block, 0, BLOCK_SIZE);
       }
+
       close();
 
       this.exportDestination = null;
@@ -90,9 +126,14 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
   public void extract(Resource source, OutputStream destination) {
     try {
       open(source);
-      while (available()) {
-        destination.write(read());
+
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        destination.write(block, 0, blockLength);
+        blockLength = read(block, 0, BLOCK_SIZE);
       }
+
       close();
     }
     catch (Throwable t) {
@@ -121,6 +162,19 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
 
   }
 
+  /**
+   **********************************************************************************************
+   * Whether copies of this exporter (see copy()) can be read on different Threads at the same
+   * time. Exporters that still keep their stream state in <i>static</i> fields, or that run
+   * external programs, must return false, so they're only ever run one at a time. Exporters
+   * with mutable arrays or objects must also override copy() before returning true, and should
+   * pass the -checkthreads check (see ExporterConcurrencyChecker).
+   **********************************************************************************************
+   **/
+  public boolean isThreadSafe() {
+    return false;
+  }
+
   /**
    **********************************************************************************************
    * Opens the file for extracting
@@ -128,6 +182,18 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **/
   public abstract void open(Resource source);
 
+  /**
+   **********************************************************************************************
+   * Opens the file for extracting, in a new session that owns all the per-stream state. If this
+   * exporter is thread-safe, it isn't changed, so any number of sessions can be reading at the
+   * same time. Otherwise the session reads through this exporter (see copy()), so only 1 session
+   * can be used at a time.
+   **********************************************************************************************
+   **/
+  public ExporterSession openSession(Resource source) {
+    return new ExporterSession(copy(), source);
+  }
+
   /**
   **********************************************************************************************
   
@@ -142,4 +208,28 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **/
   public abstract int read();
 
+  /**
+   **********************************************************************************************
+   * Reads up to <i>length</i> bytes of data into the <i>destination</i> array, starting at the
+   * <i>offset</i> in the array. Exporters that can decompress or copy a whole block at once
+   * should override this - the default just calls available() and read() for each byte.
+   * @param destination the array to read the data in to
+   * @param offset the offset in the <i>destination</i> to start writing to
+   * @param length the maximum number of bytes to read
+   * @return the number of bytes read, or -1 if there is no more data to read
+   **********************************************************************************************
+   **/
+  public int read(byte[] destination, int offset, int length) {
+    int readCount = 0;
+    while (readCount < length && available()) { // important - some exporters only load the bytes from the file when calling available()
+      destination[offset + readCount] = (byte) read();
+      readCount++;
+    }
+
+    if (readCount == 0 && length > 0) {
+      return -1;
+    }
+    return readCount;
+  }
+
 }
\ No newline at end of file
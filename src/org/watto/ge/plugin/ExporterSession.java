@@ -0,0 +1,190 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.io.OutputStream;
+import org.watto.datatype.Resource;
+import org.watto.io.FileManipulator;
+
+/**
+**********************************************************************************************
+A single read of a <i>Resource</i> through an <i>ExporterPlugin</i>. If the exporter is thread
+safe (see ExporterPlugin.isThreadSafe()), the session owns a private copy of it, so all the
+per-stream state (source files, decompression streams, buffers, read lengths, etc) belongs to
+this session alone, and many Resources can be decoded at the same time even when they all point
+to the same shared exporter instance. Otherwise the session uses the shared exporter itself, as
+ExporterPlugin.copy() returns the same instance, so its sessions must not be read at the same time.
+**********************************************************************************************
+**/
+public class ExporterSession {
+
+  /** the exporter that does all the work for this session - a private copy if it's thread safe **/
+  ExporterPlugin exporter;
+
+  /** the resource being read **/
+  Resource resource;
+
+  /** true once the session has been closed **/
+  boolean closed = false;
+
+  /**
+  **********************************************************************************************
+  Opens a session for reading the <i>resource</i>. The <i>exporter</i> must already have been
+  copied, if it can be (see ExporterPlugin.openSession())
+  **********************************************************************************************
+  **/
+  ExporterSession(ExporterPlugin exporter, Resource resource) {
+    this.exporter = exporter;
+    this.resource = resource;
+
+    exporter.open(resource);
+  }
+
+  /**
+  **********************************************************************************************
+  false if the file has been read fully, true if there is more to read.
+  **********************************************************************************************
+  **/
+  public boolean available() {
+    if (closed) {
+      return false;
+    }
+    return exporter.available();
+  }
+
+  /**
+  **********************************************************************************************
+  Closes the session. It can't be read from after this.
+  **********************************************************************************************
+  **/
+  public void close() {
+    if (closed) {
+      return;
+    }
+    exporter.close();
+    closed = true;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads all the remaining data in this session, and writes it to the <i>destination</i>, then
+  closes the session.
+  **********************************************************************************************
+  **/
+  public void extract(FileManipulator destination) {
+    try {
+      byte[] block = new byte[ExporterPlugin.BLOCK_SIZE];
+      int blockLength = read(block, 0, block.length);
+      while (blockLength > 0) {
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = read(block, 0, block.length);
+      }
+    }
+    catch (Throwable t) {
+      ExporterPlugin.logError(t);
+    }
+    finally {
+      close();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Reads all the remaining data in this session, and writes it to the <i>destination</i>, then
+  closes the session.
+  **********************************************************************************************
+  **/
+  public void extract(OutputStream destination) {
+    try {
+      byte[] block = new byte[ExporterPlugin.BLOCK_SIZE];
+      int blockLength = read(block, 0, block.length);
+      while (blockLength > 0) {
+        destination.write(block, 0, blockLength);
+        blockLength = read(block, 0, block.length);
+      }
+    }
+    catch (Throwable t) {
+      ExporterPlugin.logError(t);
+    }
+    finally {
+      close();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the private exporter used by this session
+  **********************************************************************************************
+  **/
+  public ExporterPlugin getExporter() {
+    return exporter;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the resource being read by this session
+  **********************************************************************************************
+  **/
+  public Resource getResource() {
+    return resource;
+  }
+
+  /**
+  **********************************************************************************************
+  Is this session still open for reading?
+  **********************************************************************************************
+  **/
+  public boolean isOpen() {
+    return !closed;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the next byte of data
+  **********************************************************************************************
+  **/
+  public int read() {
+    return exporter.read();
+  }
+
+  /**
+  **********************************************************************************************
+  Reads up to <i>length</i> bytes of data into the <i>destination</i> array
+  @return the number of bytes read, or -1 if there is no more data to read
+  **********************************************************************************************
+  **/
+  public int read(byte[] destination, int offset, int length) {
+    if (closed) {
+      return -1;
+    }
+    return exporter.read(destination, offset, length);
+  }
+
+  /**
+  **********************************************************************************************
+  Goes back to the start of the resource
+  **********************************************************************************************
+  **/
+  public void reopen() {
+    if (closed) {
+      exporter.open(resource);
+      closed = false;
+    }
+    else {
+      exporter.closeAndReopen(resource);
+    }
+  }
+
+}
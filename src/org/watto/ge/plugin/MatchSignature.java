@@ -0,0 +1,118 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import org.watto.io.converter.ByteArrayConverter;
+
+/**
+**********************************************************************************************
+A fixed group of bytes (such as a header) at a fixed offset in a file. If a plugin declares
+its MatchSignatures, PluginFinder will only call getMatchRating() on that plugin if the file
+contains one of the signatures, or has one of the plugin extensions.
+**********************************************************************************************
+**/
+public class MatchSignature {
+
+  /** the offset to the signature, from the start of the file **/
+  int offset = 0;
+
+  /** the signature bytes **/
+  byte[] bytes = new byte[0];
+
+  /**
+  **********************************************************************************************
+  A signature of <i>bytes</i> at the given <i>offset</i>
+  **********************************************************************************************
+  **/
+  public MatchSignature(int offset, byte[] bytes) {
+    this.offset = offset;
+    this.bytes = bytes;
+  }
+
+  /**
+  **********************************************************************************************
+  A little-endian int <i>header</i> at the start of the file
+  **********************************************************************************************
+  **/
+  public MatchSignature(int header) {
+    this(0, ByteArrayConverter.convertLittle(header));
+  }
+
+  /**
+  **********************************************************************************************
+  A String <i>header</i> (ASCII only) at the start of the file
+  **********************************************************************************************
+  **/
+  public MatchSignature(String header) {
+    this(0, header.getBytes());
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the offset to the end of the signature
+  **********************************************************************************************
+  **/
+  public int getEndOffset() {
+    return offset + bytes.length;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public int getLength() {
+    return bytes.length;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+  **********************************************************************************************
+  Does the <i>head</i> of a file contain this signature?
+  @param head the bytes from the start of the file
+  @param headLength the number of valid bytes in <i>head</i>
+  **********************************************************************************************
+  **/
+  public boolean matches(byte[] head, int headLength) {
+    int length = bytes.length;
+    if (offset + length > headLength) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (head[offset + i] != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
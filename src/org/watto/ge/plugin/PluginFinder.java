@@ -15,15 +15,104 @@
 package org.watto.ge.plugin;
 
 import java.io.File;
-
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import org.watto.ErrorLogger;
+import org.watto.Settings;
 import org.watto.component.WSPlugin;
 import org.watto.component.WSPluginGroup;
 import org.watto.component.WSPluginManager;
 import org.watto.io.FileManipulator;
+import org.watto.io.FilenameSplitter;
+import org.watto.io.buffer.ByteBuffer;
+import org.watto.io.buffer.FileBuffer;
+import org.watto.io.buffer.ManipulatorBuffer;
+import org.watto.io.buffer.SharedHeadTailBuffer;
 
 public class PluginFinder {
 
+  /**
+  **********************************************************************************************
+  Rates a range of plugins against a shared buffer, splitting the range up between threads
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("serial")
+  static class PluginRatingTask extends RecursiveAction {
+
+    /** the most plugins to rate on a single thread, before splitting them up **/
+    static final int PLUGINS_PER_TASK = 16;
+
+    ManipulatorBuffer sharedBuffer;
+
+    File file;
+
+    WSPlugin[] plugins;
+
+    boolean[] candidates;
+
+    int[] ratings;
+
+    int start;
+
+    int end;
+
+    public PluginRatingTask(ManipulatorBuffer sharedBuffer, File file, WSPlugin[] plugins, boolean[] candidates, int[] ratings, int start, int end) {
+      this.sharedBuffer = sharedBuffer;
+      this.file = file;
+      this.plugins = plugins;
+      this.candidates = candidates;
+      this.ratings = ratings;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > PLUGINS_PER_TASK) {
+        int middle = (start + end) / 2;
+        invokeAll(new PluginRatingTask(sharedBuffer, file, plugins, candidates, ratings, start, middle), new PluginRatingTask(sharedBuffer, file, plugins, candidates, ratings, middle, end));
+        return;
+      }
+
+      FileManipulator fm = null;
+      for (int i = start; i < end; i++) {
+        if (candidates != null && !candidates[i]) {
+          continue;
+        }
+
+        if (fm == null) {
+          fm = createSharedView(sharedBuffer, file);
+        }
+
+        try {
+          ratings[i] = ratePlugin(plugins[i], fm);
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+          ratings[i] = 0;
+        }
+      }
+
+      if (fm != null) {
+        fm.close();
+      }
+    }
+  }
+
+  /** the number of bytes at the start of the file that are shared between the rating threads **/
+  static final int SHARED_HEAD_LENGTH = 65536;
+
+  /** the number of bytes at the end of the file that are shared between the rating threads **/
+  static final int SHARED_TAIL_LENGTH = 65536;
+
+  /** the signature index for each plugin group **/
+  static HashMap<String, PluginSignatureIndex> indexes = new HashMap<String, PluginSignatureIndex>();
+
+  /** the threads for rating plugins **/
+  static ForkJoinPool ratingPool = null;
+
   /**
   **********************************************************************************************
   does not do sorting!
@@ -40,19 +129,18 @@ public class PluginFinder {
   does not do sorting!
   **********************************************************************************************
   **/
-  @SuppressWarnings({ "rawtypes", "unused" })
+  @SuppressWarnings({ "rawtypes" })
   public static RatedPlugin[] findPlugins(FileManipulator fm, Class pluginType) {
     try {
       WSPlugin[] plugins = new ArchivePlugin[0];
-
-      // should we only use plugins with rating > 25%
-      boolean checkRating = false;
+      String groupName = null;
 
       if (pluginType == ArchivePlugin.class) {
+        groupName = "Archive";
         plugins = WSPluginManager.getGroup("Archive").getPlugins();
-        checkRating = true;
       }
       else if (pluginType == ViewerPlugin.class) {
+        groupName = "Viewer";
         WSPluginGroup group = WSPluginManager.getGroup("Viewer");
         if (group != null) {
           plugins = group.getPlugins();
@@ -60,59 +148,49 @@ public class PluginFinder {
         else {
           plugins = new WSPlugin[0];
         }
-        checkRating = true;
+      }
+      else {
+        plugins = new WSPlugin[0];
       }
 
-      RatedPlugin[] results = new RatedPlugin[plugins.length];
-      int zeroPos = plugins.length - 1;
-      int startPos = 0;
+      RatedPlugin[] results = null;
 
-      if (pluginType == ArchivePlugin.class) {
-        for (int i = 0; i < results.length; i++) {
-          //if (plugins[i] == null){
-          //  zeroPos
-          //  continue();
-          //  }
-
-          fm.seek(0);
-          //System.out.println("Trying plugin " + plugins[i]);
-          int rating = ((ArchivePlugin) plugins[i]).getMatchRating(fm);
-          if (checkRating && rating < 25) {
-            // failed plugin
-            zeroPos--;
-          }
-          else {
-            // successful plugin
-            results[startPos] = new RatedPlugin(plugins[i], rating);
-            startPos++;
-          }
+      if (groupName != null && Settings.getBoolean("UsePluginSignatureIndex")) {
+        // only try the plugins that have a matching signature or extension, or that haven't declared any signatures
+        PluginSignatureIndex index = getIndex(groupName, plugins);
+
+        int headLength = index.getHeadLength();
+        long arcSize = fm.getLength();
+        if (headLength > arcSize) {
+          headLength = (int) arcSize;
         }
-      }
+        fm.seek(0);
+        byte[] head = fm.readBytes(headLength);
 
-      else if (pluginType == ViewerPlugin.class) {
-        for (int i = 0; i < results.length; i++) {
-          fm.seek(0);
-          //System.out.println("Trying plugin " + plugins[i]);
-          int rating = ((ViewerPlugin) plugins[i]).getMatchRating(fm);
-          if (checkRating && rating < 25) {
-            // failed plugin
-            zeroPos--;
-          }
-          else {
-            // successful plugin
-            results[startPos] = new RatedPlugin(plugins[i], rating);
-            startPos++;
-          }
+        String extension = null;
+        try {
+          extension = FilenameSplitter.getExtension(fm.getFile()).toLowerCase();
+        }
+        catch (Throwable t) {
+          // no file, so no extension (getMatchRating() will fail on the extension check anyway)
+        }
+
+        boolean[] candidates = index.findCandidates(head, headLength, extension, plugins);
+        results = ratePlugins(fm, plugins, candidates);
+
+        if (Settings.getBoolean("DebugPluginSignatureIndex")) {
+          // check the index didn't skip any plugins that would have matched
+          RatedPlugin[] allResults = ratePlugins(fm, plugins, null);
+          compareResults(fm, results, allResults);
+          results = allResults;
         }
       }
+      else {
+        results = ratePlugins(fm, plugins, null);
+      }
 
       fm.close();
 
-      // resize the results array
-      RatedPlugin[] temp = results;
-      results = new RatedPlugin[startPos];
-      System.arraycopy(temp, 0, results, 0, startPos);
-
       return results;
     }
     catch (Throwable t) {
@@ -121,6 +199,184 @@ public class PluginFinder {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reports any plugins that are in <i>allResults</i> but not in <i>indexedResults</i>. These are
+  plugins with a signature that is wrong, and needs to be fixed.
+  **********************************************************************************************
+  **/
+  static void compareResults(FileManipulator fm, RatedPlugin[] indexedResults, RatedPlugin[] allResults) {
+    IdentityHashMap<WSPlugin, Boolean> indexedPlugins = new IdentityHashMap<WSPlugin, Boolean>();
+    for (int i = 0; i < indexedResults.length; i++) {
+      indexedPlugins.put(indexedResults[i].getPlugin(), Boolean.TRUE);
+    }
+
+    for (int i = 0; i < allResults.length; i++) {
+      WSPlugin plugin = allResults[i].getPlugin();
+      if (!indexedPlugins.containsKey(plugin)) {
+        String filename = "";
+        try {
+          filename = fm.getFile().getAbsolutePath();
+        }
+        catch (Throwable t) {
+        }
+        ErrorLogger.log("PluginSignatureIndex", "Plugin " + plugin.getClass().getName() + " was skipped by the signature index, but has a match rating of " + allResults[i].getRating() + " for the file " + filename);
+      }
+    }
+
+    if (indexedResults.length != allResults.length) {
+      ErrorLogger.log("PluginSignatureIndex", "The signature index found " + indexedResults.length + " plugins, but checking all plugins found " + allResults.length);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Loads the start and end of the file in <i>fm</i> in to a buffer that can be shared between
+  threads. Returns null if the file can't be shared this way, in which case the plugins are
+  rated one at a time.
+  **********************************************************************************************
+  **/
+  static ManipulatorBuffer createSharedBuffer(FileManipulator fm) {
+    try {
+      ManipulatorBuffer buffer = fm.getBuffer();
+      if (buffer instanceof FileBuffer) {
+        return new SharedHeadTailBuffer(fm.getFile(), SHARED_HEAD_LENGTH, SHARED_TAIL_LENGTH);
+      }
+      else if (buffer.getClass() == ByteBuffer.class) {
+        // already in memory, so each thread can just read the same array
+        return buffer;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a FileManipulator that reads its own copy of the <i>sharedBuffer</i>
+  **********************************************************************************************
+  **/
+  static FileManipulator createSharedView(ManipulatorBuffer sharedBuffer, File file) {
+    FileManipulator fm;
+    if (sharedBuffer instanceof SharedHeadTailBuffer) {
+      fm = new FileManipulator(new SharedHeadTailBuffer((SharedHeadTailBuffer) sharedBuffer));
+    }
+    else {
+      fm = new FileManipulator(new ByteBuffer(((ByteBuffer) sharedBuffer).getBuffer()));
+    }
+    fm.setFakeFile(file); // so the plugins can check the extension
+    return fm;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the signature index for the plugin group, building it if the plugins have changed
+  **********************************************************************************************
+  **/
+  static synchronized PluginSignatureIndex getIndex(String groupName, WSPlugin[] plugins) {
+    PluginSignatureIndex index = indexes.get(groupName);
+    if (index == null || !index.containsAll(plugins)) {
+      index = new PluginSignatureIndex(plugins);
+      indexes.put(groupName, index);
+    }
+    return index;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the thread pool for rating plugins
+  **********************************************************************************************
+  **/
+  static synchronized ForkJoinPool getRatingPool() {
+    if (ratingPool == null) {
+      ratingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+    return ratingPool;
+  }
+
+  /**
+  **********************************************************************************************
+  Calls getMatchRating() on a single plugin
+  **********************************************************************************************
+  **/
+  static int ratePlugin(WSPlugin plugin, FileManipulator fm) {
+    fm.seek(0);
+    //System.out.println("Trying plugin " + plugin);
+    if (plugin instanceof ArchivePlugin) {
+      return ((ArchivePlugin) plugin).getMatchRating(fm);
+    }
+    else if (plugin instanceof ViewerPlugin) {
+      return ((ViewerPlugin) plugin).getMatchRating(fm);
+    }
+    return 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Calls getMatchRating() on each of the <i>plugins</i>, and returns the ones that rated 25% or
+  more. If <i>candidates</i> is not null, only the plugins that are true in <i>candidates</i>
+  are tried. If the <i>ParallelPluginRating</i> setting is on (it's off by default, as the plugins
+  aren't checked for shared state while rating) and there are lots of plugins to try, the start
+  and end of the file are loaded once, and the plugins are rated on several threads, each reading
+  their own copy of that data. Otherwise they're rated one at a time using <i>fm</i>.
+  **********************************************************************************************
+  **/
+  static RatedPlugin[] ratePlugins(FileManipulator fm, WSPlugin[] plugins, boolean[] candidates) {
+    int numPlugins = plugins.length;
+    int[] ratings = new int[numPlugins];
+
+    ManipulatorBuffer sharedBuffer = null;
+    if (Settings.getBoolean("ParallelPluginRating")) {
+      int numCandidates = numPlugins;
+      if (candidates != null) {
+        numCandidates = 0;
+        for (int i = 0; i < numPlugins; i++) {
+          if (candidates[i]) {
+            numCandidates++;
+          }
+        }
+      }
+
+      if (numCandidates > PluginRatingTask.PLUGINS_PER_TASK * 2) {
+        sharedBuffer = createSharedBuffer(fm);
+      }
+    }
+
+    if (sharedBuffer != null) {
+      File file = fm.getFile();
+      getRatingPool().invoke(new PluginRatingTask(sharedBuffer, file, plugins, candidates, ratings, 0, numPlugins));
+    }
+    else {
+      for (int i = 0; i < numPlugins; i++) {
+        if (candidates != null && !candidates[i]) {
+          continue;
+        }
+        ratings[i] = ratePlugin(plugins[i], fm);
+      }
+    }
+
+    // keep the plugins that rated 25% or more, in the same order as the plugins
+    RatedPlugin[] results = new RatedPlugin[numPlugins];
+    int startPos = 0;
+
+    for (int i = 0; i < numPlugins; i++) {
+      if (ratings[i] >= 25) {
+        // successful plugin
+        results[startPos] = new RatedPlugin(plugins[i], ratings[i]);
+        startPos++;
+      }
+    }
+
+    // resize the results array
+    RatedPlugin[] temp = results;
+    results = new RatedPlugin[startPos];
+    System.arraycopy(temp, 0, results, 0, startPos);
+
+    return results;
+  }
+
   /**
   **********************************************************************************************
   
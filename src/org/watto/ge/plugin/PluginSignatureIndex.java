@@ -0,0 +1,244 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import org.watto.component.WSPlugin;
+
+/**
+**********************************************************************************************
+An index of the MatchSignatures and extensions declared by a group of plugins, so PluginFinder
+can work out which plugins could possibly match a file, without calling getMatchRating() on
+every one of them. Plugins that haven't declared any signatures are always tried.
+**********************************************************************************************
+**/
+public class PluginSignatureIndex {
+
+  /** signatures past this offset aren't indexed - the plugin is always tried instead **/
+  public static final int MAX_HEAD_LENGTH = 4096;
+
+  /** all the plugins that were given to the index, and whether they have declared signatures **/
+  IdentityHashMap<WSPlugin, Boolean> plugins = new IdentityHashMap<WSPlugin, Boolean>();
+
+  /** the plugins for each extension (lower case) **/
+  HashMap<String, ArrayList<WSPlugin>> extensionIndex = new HashMap<String, ArrayList<WSPlugin>>();
+
+  /** the plugins for each signature, stored by [offset]:[signature bytes] **/
+  HashMap<String, ArrayList<WSPlugin>> signatureIndex = new HashMap<String, ArrayList<WSPlugin>>();
+
+  /** the different [offset,length] pairs of all the signatures **/
+  ArrayList<int[]> signatureRanges = new ArrayList<int[]>();
+
+  /** the number of bytes at the start of a file that need to be read to check all the signatures **/
+  int headLength = 0;
+
+  /**
+  **********************************************************************************************
+  Builds the index for these <i>plugins</i>
+  **********************************************************************************************
+  **/
+  public PluginSignatureIndex(WSPlugin[] plugins) {
+    int numPlugins = plugins.length;
+    for (int i = 0; i < numPlugins; i++) {
+      addPlugin(plugins[i]);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a plugin to the index
+  **********************************************************************************************
+  **/
+  void addPlugin(WSPlugin plugin) {
+    MatchSignature[] signatures = null;
+    String[] extensions = null;
+
+    if (plugin instanceof ArchivePlugin) {
+      signatures = ((ArchivePlugin) plugin).getMatchSignatures();
+      extensions = ((ArchivePlugin) plugin).getExtensions();
+    }
+    else if (plugin instanceof ViewerPlugin) {
+      signatures = ((ViewerPlugin) plugin).getMatchSignatures();
+      extensions = ((ViewerPlugin) plugin).getExtensions();
+    }
+
+    if (signatures == null) {
+      // not declared, so it'll always be tried
+      plugins.put(plugin, Boolean.FALSE);
+      return;
+    }
+
+    int numSignatures = signatures.length;
+    for (int s = 0; s < numSignatures; s++) {
+      if (signatures[s].getEndOffset() > MAX_HEAD_LENGTH || signatures[s].getLength() <= 0) {
+        // can't index this signature, so the plugin will always be tried
+        plugins.put(plugin, Boolean.FALSE);
+        return;
+      }
+    }
+
+    plugins.put(plugin, Boolean.TRUE);
+
+    for (int s = 0; s < numSignatures; s++) {
+      MatchSignature signature = signatures[s];
+      int offset = signature.getOffset();
+      int length = signature.getLength();
+
+      addToIndex(signatureIndex, getSignatureKey(offset, signature.getBytes(), 0, length), plugin);
+
+      boolean found = false;
+      int numRanges = signatureRanges.size();
+      for (int r = 0; r < numRanges; r++) {
+        int[] range = signatureRanges.get(r);
+        if (range[0] == offset && range[1] == length) {
+          found = true;
+          break;
+        }
+      }
+      if (!found) {
+        signatureRanges.add(new int[] { offset, length });
+      }
+
+      if (offset + length > headLength) {
+        headLength = offset + length;
+      }
+    }
+
+    if (extensions != null) {
+      int numExtensions = extensions.length;
+      for (int e = 0; e < numExtensions; e++) {
+        String extension = extensions[e];
+        if (extension == null) {
+          continue;
+        }
+        addToIndex(extensionIndex, extension.toLowerCase(), plugin);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Adds the <i>plugin</i> to the list for the <i>key</i>
+  **********************************************************************************************
+  **/
+  void addToIndex(HashMap<String, ArrayList<WSPlugin>> index, String key, WSPlugin plugin) {
+    ArrayList<WSPlugin> list = index.get(key);
+    if (list == null) {
+      list = new ArrayList<WSPlugin>(1);
+      index.put(key, list);
+    }
+    list.add(plugin);
+  }
+
+  /**
+  **********************************************************************************************
+  Does this index know about all these <i>plugins</i>? If not, the index needs to be rebuilt.
+  **********************************************************************************************
+  **/
+  public boolean containsAll(WSPlugin[] checkPlugins) {
+    int numPlugins = checkPlugins.length;
+    for (int i = 0; i < numPlugins; i++) {
+      if (!plugins.containsKey(checkPlugins[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Works out which plugins need to have getMatchRating() called, for a file with this <i>head</i>
+  and <i>extension</i>
+  @param head the bytes from the start of the file
+  @param headLength the number of valid bytes in <i>head</i>
+  @param extension the extension of the file (lower case), or null if not known
+  @param checkPlugins the plugins to check
+  @return true for each plugin in <i>checkPlugins</i> that needs to be tried
+  **********************************************************************************************
+  **/
+  public boolean[] findCandidates(byte[] head, int headLength, String extension, WSPlugin[] checkPlugins) {
+    IdentityHashMap<WSPlugin, Boolean> matches = new IdentityHashMap<WSPlugin, Boolean>();
+
+    // the plugins with a matching signature
+    int numRanges = signatureRanges.size();
+    for (int r = 0; r < numRanges; r++) {
+      int[] range = signatureRanges.get(r);
+      int offset = range[0];
+      int length = range[1];
+      if (offset + length > headLength) {
+        continue;
+      }
+      ArrayList<WSPlugin> list = signatureIndex.get(getSignatureKey(offset, head, offset, length));
+      if (list != null) {
+        int numMatches = list.size();
+        for (int m = 0; m < numMatches; m++) {
+          matches.put(list.get(m), Boolean.TRUE);
+        }
+      }
+    }
+
+    // the plugins with a matching extension
+    if (extension != null) {
+      ArrayList<WSPlugin> list = extensionIndex.get(extension);
+      if (list != null) {
+        int numMatches = list.size();
+        for (int m = 0; m < numMatches; m++) {
+          matches.put(list.get(m), Boolean.TRUE);
+        }
+      }
+    }
+
+    int numPlugins = checkPlugins.length;
+    boolean[] candidates = new boolean[numPlugins];
+    for (int i = 0; i < numPlugins; i++) {
+      WSPlugin plugin = checkPlugins[i];
+      Boolean indexed = plugins.get(plugin);
+      if (indexed == null || !indexed.booleanValue()) {
+        // no signatures, so always try it
+        candidates[i] = true;
+      }
+      else {
+        candidates[i] = matches.containsKey(plugin);
+      }
+    }
+
+    return candidates;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of bytes at the start of a file that need to be read to check all the signatures
+  **********************************************************************************************
+  **/
+  public int getHeadLength() {
+    return headLength;
+  }
+
+  /**
+  **********************************************************************************************
+  Builds the key for a signature of <i>length</i> <i>bytes</i> at the <i>offset</i>
+  **********************************************************************************************
+  **/
+  String getSignatureKey(int offset, byte[] bytes, int bytesOffset, int length) {
+    char[] key = new char[length];
+    for (int i = 0; i < length; i++) {
+      key[i] = (char) (bytes[bytesOffset + i] & 0xFF);
+    }
+    return offset + ":" + new String(key);
+  }
+
+}
@@ -24,6 +24,9 @@ public abstract class ScannerPlugin extends WSObjectPlugin {
 
   static FieldValidator check = new FieldValidator();
 
+  /** the bytes that a file found by this scanner must start with. If null, every byte is given to scan() **/
+  protected byte[][] scanSignatures = null;
+
   /**
   **********************************************************************************************
   
@@ -44,6 +47,16 @@ public abstract class ScannerPlugin extends WSObjectPlugin {
     return toString() + "\n\n" + Language.get("Description_ScannerPlugin");
   }
 
+  /**
+  **********************************************************************************************
+  Gets the bytes that a file found by this scanner must start with
+  @return the signatures, or null if every byte needs to be given to scan()
+  **********************************************************************************************
+  **/
+  public byte[][] getScanSignatures() {
+    return scanSignatures;
+  }
+
   /**
   **********************************************************************************************
   Tests the input byte b, and if it is recognized by this scanner then it can read onwards using
@@ -53,4 +66,37 @@ public abstract class ScannerPlugin extends WSObjectPlugin {
   **/
   public abstract Resource scan(int b, FileManipulator fm);
 
-}
\ No newline at end of file
+
+  /**
+  **********************************************************************************************
+  Sets the bytes that a file found by this scanner must start with. scan() will only be called at
+  the offsets where one of these <i>signatures</i> is found, so they must contain all the bytes
+  that scan() checks before it reads anything else.
+  **********************************************************************************************
+  **/
+  public void setScanSignatures(byte[]... signatures) {
+    this.scanSignatures = signatures;
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the bytes that a file found by this scanner must start with, where each character in the
+  <i>signatures</i> is a single byte (0-255).
+  **********************************************************************************************
+  **/
+  public void setScanSignatures(String... signatures) {
+    int numSignatures = signatures.length;
+    byte[][] signatureBytes = new byte[numSignatures][0];
+    for (int i = 0; i < numSignatures; i++) {
+      String signature = signatures[i];
+      int length = signature.length();
+      byte[] bytes = new byte[length];
+      for (int c = 0; c < length; c++) {
+        bytes[c] = (byte) signature.charAt(c);
+      }
+      signatureBytes[i] = bytes;
+    }
+    this.scanSignatures = signatureBytes;
+  }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+**********************************************************************************************
+Finds all the places in some data where any of the ScannerPlugins could find a file, by looking
+for all the scanner signatures (see ScannerPlugin.getScanSignatures()) in a single pass over the
+data. This is an Aho-Corasick matcher, so the time taken doesn't depend on how many signatures
+there are.
+
+Each match is returned as a <i>candidate</i>, which is the offset where the signature starts and
+the number of the scanner it belongs to, packed into a single long - see getCandidateOffset() and
+getCandidateScanner(). Once built, a matcher can be used by many threads at once.
+**********************************************************************************************
+**/
+public class ScannerSignatureMatcher {
+
+  /** the number of bits used for the scanner number in a candidate **/
+  static final int SCANNER_BITS = 16;
+
+  /**
+  **********************************************************************************************
+  Gets the offset of the start of the signature for a <i>candidate</i>
+  **********************************************************************************************
+  **/
+  public static long getCandidateOffset(long candidate) {
+    return candidate >>> SCANNER_BITS;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of the scanner that a <i>candidate</i> belongs to
+  **********************************************************************************************
+  **/
+  public static int getCandidateScanner(long candidate) {
+    return (int) (candidate & ((1 << SCANNER_BITS) - 1));
+  }
+
+  /** the next state for each state and input byte **/
+  int[][] transitions;
+
+  /** for each state, the [scanner number, signature length] of all the signatures that end at this state **/
+  int[][][] outputs;
+
+  /** true if every scanner has declared its signatures **/
+  boolean allScannersHaveSignatures = true;
+
+  /** the length of the longest signature **/
+  int maxSignatureLength = 0;
+
+  /**
+  **********************************************************************************************
+  Builds a matcher for the signatures of all the <i>scanners</i>
+  **********************************************************************************************
+  **/
+  public ScannerSignatureMatcher(ScannerPlugin[] scanners) {
+    // build the trie of all the signatures
+    ArrayList<int[]> trie = new ArrayList<int[]>();
+    ArrayList<ArrayList<int[]>> trieOutputs = new ArrayList<ArrayList<int[]>>();
+
+    trie.add(newState());
+    trieOutputs.add(new ArrayList<int[]>());
+
+    int numScanners = scanners.length;
+    if (numScanners >= (1 << SCANNER_BITS)) {
+      numScanners = (1 << SCANNER_BITS) - 1;
+    }
+
+    for (int s = 0; s < numScanners; s++) {
+      byte[][] signatures = scanners[s].getScanSignatures();
+      if (signatures == null || signatures.length <= 0) {
+        allScannersHaveSignatures = false;
+        continue;
+      }
+
+      for (int g = 0; g < signatures.length; g++) {
+        byte[] signature = signatures[g];
+        int length = signature.length;
+        if (length <= 0) {
+          allScannersHaveSignatures = false;
+          continue;
+        }
+
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+          int b = signature[i] & 0xFF;
+          int nextState = trie.get(state)[b];
+          if (nextState <= 0) {
+            nextState = trie.size();
+            trie.add(newState());
+            trieOutputs.add(new ArrayList<int[]>());
+            trie.get(state)[b] = nextState;
+          }
+          state = nextState;
+        }
+
+        trieOutputs.get(state).add(new int[] { s, length });
+
+        if (length > maxSignatureLength) {
+          maxSignatureLength = length;
+        }
+      }
+    }
+
+    // add the failure links, turning the trie into a full state machine (breadth-first, so the
+    // failure state of each state is always finished before the state itself)
+    int numStates = trie.size();
+    int[] failures = new int[numStates];
+    int[] queue = new int[numStates];
+    int queueStart = 0;
+    int queueEnd = 0;
+
+    int[] root = trie.get(0);
+    for (int b = 0; b < 256; b++) {
+      int nextState = root[b];
+      if (nextState > 0) {
+        failures[nextState] = 0;
+        queue[queueEnd++] = nextState;
+      }
+      else {
+        root[b] = 0;
+      }
+    }
+
+    while (queueStart < queueEnd) {
+      int state = queue[queueStart++];
+      int[] stateTransitions = trie.get(state);
+
+      // a state also matches everything that its failure state matches
+      trieOutputs.get(state).addAll(trieOutputs.get(failures[state]));
+
+      for (int b = 0; b < 256; b++) {
+        int nextState = stateTransitions[b];
+        if (nextState > 0) {
+          failures[nextState] = trie.get(failures[state])[b];
+          queue[queueEnd++] = nextState;
+        }
+        else {
+          stateTransitions[b] = trie.get(failures[state])[b];
+        }
+      }
+    }
+
+    transitions = trie.toArray(new int[numStates][]);
+    outputs = new int[numStates][][];
+    for (int i = 0; i < numStates; i++) {
+      ArrayList<int[]> stateOutputs = trieOutputs.get(i);
+      outputs[i] = stateOutputs.toArray(new int[stateOutputs.size()][]);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Do all the scanners have signatures? If not, this matcher won't find all the candidates, and
+  every byte needs to be given to the scanners instead.
+  **********************************************************************************************
+  **/
+  public boolean canMatchAll() {
+    return allScannersHaveSignatures;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds all the candidates in the <i>data</i>
+  @param data the data to search
+  @param length the number of valid bytes in the <i>data</i>
+  @param dataOffset the offset in the file where the <i>data</i> came from
+  @param maxOffset only signatures that start before this offset (in the file) are returned
+  @return the candidates, sorted by offset and then scanner number
+  **********************************************************************************************
+  **/
+  public long[] findCandidates(byte[] data, int length, long dataOffset, long maxOffset) {
+    long[] candidates = new long[64];
+    int numCandidates = 0;
+
+    int state = 0;
+    for (int i = 0; i < length; i++) {
+      state = transitions[state][data[i] & 0xFF];
+
+      int[][] stateOutputs = outputs[state];
+      int numOutputs = stateOutputs.length;
+      for (int o = 0; o < numOutputs; o++) {
+        int[] output = stateOutputs[o];
+        long offset = dataOffset + i - output[1] + 1;
+        if (offset >= maxOffset) {
+          continue;
+        }
+
+        if (numCandidates >= candidates.length) {
+          candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        candidates[numCandidates++] = (offset << SCANNER_BITS) | output[0];
+      }
+    }
+
+    candidates = Arrays.copyOf(candidates, numCandidates);
+    Arrays.sort(candidates);
+
+    // remove duplicates (where a scanner has 2 signatures that match at the same offset)
+    int numUnique = 0;
+    for (int i = 0; i < numCandidates; i++) {
+      if (numUnique == 0 || candidates[numUnique - 1] != candidates[i]) {
+        candidates[numUnique++] = candidates[i];
+      }
+    }
+
+    if (numUnique < numCandidates) {
+      candidates = Arrays.copyOf(candidates, numUnique);
+    }
+    return candidates;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the length of the longest signature. Data that is split in to chunks needs to overlap by
+  this many bytes (less 1) so that signatures across the chunk boundaries are found.
+  **********************************************************************************************
+  **/
+  public int getMaxSignatureLength() {
+    return maxSignatureLength;
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a new state with no transitions
+  **********************************************************************************************
+  **/
+  int[] newState() {
+    return new int[256];
+  }
+
+}
@@ -43,6 +43,9 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
   /** The default extension of archives complying to this format **/
   protected String[] extensions = new String[] { "" };
 
+  /** The signatures a file needs (if it doesn't have one of the extensions) for getMatchRating() to reach 25%. null if not declared **/
+  protected MatchSignature[] matchSignatures = null;
+
   /** The games that use this archive format **/
   protected String[] games = new String[] { "" };
 
@@ -277,6 +280,15 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Gets the signatures declared by this plugin, or null if it hasn't declared any
+  **********************************************************************************************
+  **/
+  public MatchSignature[] getMatchSignatures() {
+    return matchSignatures;
+  }
+
   /**
   **********************************************************************************************
   
@@ -369,6 +381,46 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
     this.extensions = extensions;
   }
 
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file has one of the
+  extensions of this plugin. PluginFinder will skip this plugin for all other files.
+  **********************************************************************************************
+  **/
+  public void setMatchNeedsExtension() {
+    this.matchSignatures = new MatchSignature[0];
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file starts with this
+  little-endian int <i>header</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignature(int header) {
+    this.matchSignatures = new MatchSignature[] { new MatchSignature(header) };
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file starts with this
+  <i>header</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignature(String header) {
+    this.matchSignatures = new MatchSignature[] { new MatchSignature(header) };
+  }
+
+  /**
+  **********************************************************************************************
+  Declares that getMatchRating() can only give 25% or more if the file contains one of these
+  <i>signatures</i>, or has one of the extensions of this plugin.
+  **********************************************************************************************
+  **/
+  public void setMatchSignatures(MatchSignature... signatures) {
+    this.matchSignatures = signatures;
+  }
+
   /**
   **********************************************************************************************
   
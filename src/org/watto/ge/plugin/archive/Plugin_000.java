@@ -44,6 +44,7 @@ public class Plugin_000 extends ArchivePlugin {
 
     setGames("Dominion: Storm Over Gift 3");
     setExtensions("000");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
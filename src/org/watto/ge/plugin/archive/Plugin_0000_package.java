@@ -46,6 +46,7 @@ public class Plugin_0000_package extends ArchivePlugin {
         "Journey To The Center Of The Earth",
         "Adventures Of Sherlock Holmes: The Case Of The Silver Earring");
     setExtensions("0000");
+    setMatchSignature("package");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_0000_package_2 extends ArchivePlugin {
 
     setGames("80 Days");
     setExtensions("0000");
+    setMatchSignature("package");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_000_3 extends ArchivePlugin {
 
     setGames("Dungeon Lords");
     setExtensions("000");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_000_4 extends ArchivePlugin {
 
     setGames("Runaway");
     setExtensions("000");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -51,6 +51,7 @@ public class Plugin_000_9 extends ArchivePlugin {
         "Tomb Raider: Legend",
         "Tomb Raider: Underworld");
     setExtensions("000"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_000_FFIJ extends ArchivePlugin {
 
     setGames("Afterlife");
     setExtensions("000");
+    setMatchSignature("FFIJ");
     setPlatforms("PC");
 
   }
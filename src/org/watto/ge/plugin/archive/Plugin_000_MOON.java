@@ -44,6 +44,7 @@ public class Plugin_000_MOON extends ArchivePlugin {
 
     setGames("Mr Robot");
     setExtensions("000");
+    setMatchSignature("MOON");
     setPlatforms("PC");
 
     //setFileTypes("","",
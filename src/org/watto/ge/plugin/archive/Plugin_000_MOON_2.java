@@ -43,6 +43,7 @@ public class Plugin_000_MOON_2 extends ArchivePlugin {
 
     setGames("Starscape");
     setExtensions("000");
+    setMatchSignature("MOON");
     setPlatforms("PC");
 
     //setFileTypes("","",
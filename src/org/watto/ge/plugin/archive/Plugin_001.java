@@ -48,6 +48,7 @@ public class Plugin_001 extends ArchivePlugin {
         "The Even More Incredible Machine",
         "The Incredible Machine 3");
     setExtensions("001", "002", "003", "004");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_001_3 extends ArchivePlugin {
 
     setGames("Dr Muto");
     setExtensions("001");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_001_4 extends ArchivePlugin {
     setGames("Police Quest: SWAT",
         "Betrayal in Antara");
     setExtensions("001", "002", "003"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_001_LECF extends ArchivePlugin {
 
     setGames("Indiana Jones and the Fate of Atlantis");
     setExtensions("001"); // MUST BE LOWER CASE
+    setMatchSignature(623651375);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_001_TCLF extends ArchivePlugin {
 
     setGames("Twilight");
     setExtensions("001");
+    setMatchSignature("TCLF");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_11k extends ArchivePlugin {
     setGames("Turok: Dinosaur Hunter",
         "Turok 2: Seeds Of Evil");
     setExtensions("11k", "22k", "11c", "22c");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_22K_CGDS extends ArchivePlugin {
 
     setGames("Esoteria");
     setExtensions("22k");
+    setMatchSignature("cgds");
     setPlatforms("PC");
 
   }
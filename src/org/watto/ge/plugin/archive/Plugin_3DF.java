@@ -48,6 +48,7 @@ public class Plugin_3DF extends ArchivePlugin {
         "Carnivores 2",
         "Carnivores: Ice Age");
     setExtensions("3df");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("tri", "3D Triangle",
@@ -42,6 +42,7 @@ public class Plugin_3DG extends ArchivePlugin {
 
     setGames("HyperBall Racing");
     setExtensions("3dg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
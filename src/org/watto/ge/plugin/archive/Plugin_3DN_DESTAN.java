@@ -43,6 +43,7 @@ public class Plugin_3DN_DESTAN extends ArchivePlugin {
 
     setGames("Burn");
     setExtensions("3dn"); // MUST BE LOWER CASE
+    setMatchSignature("Destan file format, Michal Tatka 2005");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
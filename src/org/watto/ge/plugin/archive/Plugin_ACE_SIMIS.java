@@ -49,6 +49,7 @@ public class Plugin_ACE_SIMIS extends ArchivePlugin {
 
     setGames("Microsoft Train Simulator");
     setExtensions("ace");
+    setMatchSignature("SIMISA@F");
     setPlatforms("PC");
 
     setFileTypes("ace", "Ace Image");
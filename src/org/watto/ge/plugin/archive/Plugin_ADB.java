@@ -47,6 +47,7 @@ public class Plugin_ADB extends ArchivePlugin {
     setGames("Nibiru: Age Of Secrets",
         "Tale Of A Hero");
     setExtensions("adb");
+    setMatchSignature(666);
     setPlatforms("PC");
 
   }
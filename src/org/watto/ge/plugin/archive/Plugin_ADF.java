@@ -48,6 +48,7 @@ public class Plugin_ADF extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("adf");
+    setMatchNeedsExtension();
     setGames("GTA3", "GTA Vice City");
     setPlatforms("PC");
 
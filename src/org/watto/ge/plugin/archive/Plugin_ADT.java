@@ -48,6 +48,7 @@ public class Plugin_ADT extends ArchivePlugin {
 
     setGames("Hyper Cycles");
     setExtensions("adt");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_AE extends ArchivePlugin {
 
     setGames("Curse The Eye Of Isis");
     setExtensions("ae");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     //setFileTypes("","",
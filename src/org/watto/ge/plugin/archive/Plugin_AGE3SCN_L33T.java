@@ -49,6 +49,7 @@ public class Plugin_AGE3SCN_L33T extends ArchivePlugin {
 
     setGames("Age Of Empires 3");
     setExtensions("age3scn");
+    setMatchSignature("l33t");
     setPlatforms("PC");
 
     setFileTypes("scn", "Decompressed Scenario");
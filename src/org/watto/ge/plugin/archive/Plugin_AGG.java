@@ -48,6 +48,7 @@ public class Plugin_AGG extends ArchivePlugin {
 
     setGames("Heroes of Might and Magic 2");
     setExtensions("agg");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
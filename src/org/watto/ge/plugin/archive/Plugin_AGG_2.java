@@ -48,6 +48,7 @@ public class Plugin_AGG_2 extends ArchivePlugin {
 
     setGames("Heroes of Might and Magic");
     setExtensions("agg");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
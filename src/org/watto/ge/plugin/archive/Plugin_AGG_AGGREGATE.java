@@ -46,6 +46,7 @@ public class Plugin_AGG_AGGREGATE extends ArchivePlugin {
 
     setGames("Dangerous Waters");
     setExtensions("agg"); // MUST BE LOWER CASE
+    setMatchSignature("Aggregate ");
     setPlatforms("PC");
 
     //setFileTypes("","",
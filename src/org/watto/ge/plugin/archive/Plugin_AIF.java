@@ -43,6 +43,7 @@ public class Plugin_AIF extends ArchivePlugin {
 
     setGames("SAS: Anti-Terror Force");
     setExtensions("aif");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_ALD extends ArchivePlugin {
 
     setGames("War of the Human Tanks");
     setExtensions("ald"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_ALL extends ArchivePlugin {
 
     setGames("Naval Warfare");
     setExtensions("all"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_AMB_AMB extends ArchivePlugin {
 
     setGames("Sonic the Hedgehog 4");
     setExtensions("amb"); // MUST BE LOWER CASE
+    setMatchSignature("#AMB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_AMM_FORM extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("amm", "atl");
+    setMatchSignature("FORM");
     setGames("Army Men: Toys In Space");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_ANB_LZPK extends ArchivePlugin {
 
     setGames("Addiction Pinball");
     setExtensions("anb"); // MUST BE LOWER CASE
+    setMatchSignature("LZPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_ANI extends ArchivePlugin {
 
     setGames("Sudden Strike");
     setExtensions("ani");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_ANI_2 extends ArchivePlugin {
 
     setGames("Warhammer 40,000: Chaos Gate");
     setExtensions("ani"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_ANI_ANI extends ArchivePlugin {
 
     setGames("Chill Manor");
     setExtensions("ani");
+    setMatchSignature("ANI ");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_APK_APKF extends ArchivePlugin {
     setGames("Spider-Man 3",
         "Kung Fu Panda");
     setExtensions("apk"); // MUST BE LOWER CASE
+    setMatchSignature("APKF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
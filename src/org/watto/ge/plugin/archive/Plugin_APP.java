@@ -47,6 +47,7 @@ public class Plugin_APP extends ArchivePlugin {
 
     setGames("Wii");
     setExtensions("app"); // MUST BE LOWER CASE
+    setMatchSignature(758688341);
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_APS_FZFF extends ArchivePlugin {
 
     setGames("Hidden Strike 2");
     setExtensions("aps");
+    setMatchSignature("FZFF");
     setPlatforms("PC");
 
   }
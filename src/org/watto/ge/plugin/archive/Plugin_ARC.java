@@ -47,6 +47,7 @@ public class Plugin_ARC extends ArchivePlugin {
 
     setGames("Custom Person");
     setExtensions("arc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -57,6 +57,7 @@ public class Plugin_ARCH00_LTAR extends ArchivePlugin {
         "Middle Earth: Shadow Of War",
         "SAS: Secure Tomorrow");
     setExtensions("arch00", "arch01", "arch05");
+    setMatchSignature("LTAR");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_ARCHIVE_ARCH extends ArchivePlugin {
 
     setGames("Deus Ex: Mankind Divided");
     setExtensions("archive"); // MUST BE LOWER CASE
+    setMatchSignature("ARCH");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
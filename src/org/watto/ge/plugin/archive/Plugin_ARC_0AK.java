@@ -42,6 +42,7 @@ public class Plugin_ARC_0AK extends ArchivePlugin {
 
     setGames("Hegemony: Philip Of Macedon");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("0AK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
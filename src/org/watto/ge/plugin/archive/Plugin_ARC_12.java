@@ -44,6 +44,7 @@ public class Plugin_ARC_12 extends ArchivePlugin {
     setGames("Rockman X4",
         "Mega Man X4");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC", "PSX");
 
     // MUST BE LOWER CASE !!!
@@ -54,6 +54,7 @@ public class Plugin_ARC_14 extends ArchivePlugin {
     setGames("The Urbz: Sims in the City",
         "The Sims 2");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_ARC_15 extends ArchivePlugin {
 
     setGames("The Urbz: Sims in the City");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("GameCube");
 
     // MUST BE LOWER CASE !!!
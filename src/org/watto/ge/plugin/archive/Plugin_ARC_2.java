@@ -46,6 +46,7 @@ public class Plugin_ARC_2 extends ArchivePlugin {
 
     setGames("Silent Hill 3");
     setExtensions("arc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
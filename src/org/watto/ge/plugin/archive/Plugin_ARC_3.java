@@ -48,6 +48,7 @@ public class Plugin_ARC_3 extends ArchivePlugin {
 
     setGames("Revolution");
     setExtensions("arc");
+    setMatchSignature("x");
     setPlatforms("PC");
 
   }
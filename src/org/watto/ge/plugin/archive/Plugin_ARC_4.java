@@ -44,6 +44,7 @@ public class Plugin_ARC_4 extends ArchivePlugin {
 
     setGames("Test Drive Off-Road 3");
     setExtensions("arc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
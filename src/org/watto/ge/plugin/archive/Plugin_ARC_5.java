@@ -46,6 +46,7 @@ public class Plugin_ARC_5 extends ArchivePlugin {
 
     setGames("Over The Hedge");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature(4);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_ARC_7 extends ArchivePlugin {
     setGames("Club Penguin: Elite Penguin Force",
         "Club Penguin: Herberts Revenge");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Nintendo DS");
 
     setCanScanForFileTypes(true);
@@ -42,6 +42,7 @@ public class Plugin_ARC_A20 extends ArchivePlugin {
 
     setGames("Silent Hill: Origins");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("A2.0");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_ARC_ARC0 extends ArchivePlugin {
 
     setGames("Big Mutha Truckers");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("ARC0");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
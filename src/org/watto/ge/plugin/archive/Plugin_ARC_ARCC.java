@@ -46,6 +46,7 @@ public class Plugin_ARC_ARCC extends ArchivePlugin {
 
     setGames("Street Racing Syndicate");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("ARCC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_ARC_NARC extends ArchivePlugin {
 
     setGames("Nintendo DS");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("NARC");
     setPlatforms("NDS");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_ARC_SARC extends ArchivePlugin {
 
     setGames("Mii Maker");
     setExtensions("arc"); // MUST BE LOWER CASE
+    setMatchSignature("SARC");
     setPlatforms("Wii U");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_ARF_AR extends ArchivePlugin {
     setGames("Snowy: Fish Frenzy",
         "The Apprentice: Los Angeles");
     setExtensions("arf");
+    setMatchSignature("AR");
     setPlatforms("PC");
 
   }
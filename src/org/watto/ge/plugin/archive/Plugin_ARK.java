@@ -47,6 +47,7 @@ public class Plugin_ARK extends ArchivePlugin {
 
     setGames("Virtual Pool Tournament Edition");
     setExtensions("ark");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
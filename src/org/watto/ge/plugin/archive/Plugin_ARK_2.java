@@ -14,13 +14,13 @@
 package org.watto.ge.plugin.archive;
 
 import java.io.File;
-import java.util.HashMap;
 
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FieldValidator;
+import org.watto.ge.helper.HashDictionary;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.Exporter_Default;
@@ -159,32 +159,7 @@ public class Plugin_ARK_2 extends ArchivePlugin {
       TaskProgressManager.setMaximum(numFiles);
 
       // See if we have a file with the filenames in it, and if so, we need to read them in so the decryption works properly
-      HashMap<String, String> hashMap = new HashMap<String, String>(numFiles);
-      File hashFile = new File(Settings.get("HashesDirectory") + File.separatorChar + "ARK_2" + File.separatorChar + "filenames.txt");
-      if (hashFile.exists()) {
-        int hashFileLength = (int) hashFile.length();
-
-        char equalSign = '=';
-
-        FileManipulator hashFM = new FileManipulator(hashFile, false);
-        while (hashFM.getOffset() < hashFileLength) {
-          String name = hashFM.readLine();
-          if (name.equals("")) {
-            break; // EOF
-          }
-
-          int equalPos = name.indexOf(equalSign);
-          if (equalPos <= 0) {
-            break; // EOF
-          }
-
-          String hash = name.substring(0, equalPos);
-          String filename = name.substring(equalPos + 1);
-
-          hashMap.put(hash, filename);
-        }
-        hashFM.close();
-      }
+      HashDictionary hashMap = HashDictionary.getDictionary("ARK_2", "filenames.txt", HashDictionary.KEY_HEX);
 
       // Loop through directory
       for (int i = 0; i < numFiles; i++) {
@@ -212,7 +187,10 @@ public class Plugin_ARK_2 extends ArchivePlugin {
         
         String filename = Resource.generateFilename(i) + "." + ext;
         */
-        String filename = hashMap.get(hash);
+        String filename = null;
+        if (hashMap != null) {
+          filename = hashMap.get(Long.parseLong(hash, 16));
+        }
         if (filename == null) {
           filename = Resource.generateFilename(i) + "-" + hash;
         }
@@ -44,6 +44,7 @@ public class Plugin_ARK_4 extends ArchivePlugin {
 
     setGames("Split Second");
     setExtensions("ark"); // MUST BE LOWER CASE
+    setMatchSignature(65536);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_ART extends ArchivePlugin {
 
     setGames("Requiem: Avenging Angel");
     setExtensions("art"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_ARZ extends ArchivePlugin {
 
     setGames("Titan Quest");
     setExtensions("arz"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_AR_ARCC extends ArchivePlugin {
 
     setGames("Big Mutha Truckers 2: Truck Me Harder");
     setExtensions("ar");
+    setMatchSignature("ARCC");
     setPlatforms("PC");
 
   }
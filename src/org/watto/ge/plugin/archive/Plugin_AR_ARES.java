@@ -46,6 +46,7 @@ public class Plugin_AR_ARES extends ArchivePlugin {
 
     setGames("Midtown Madness");
     setExtensions("ar");
+    setMatchSignature("ARES");
     setPlatforms("PC");
 
     setFileTypes("msh", "Object Mesh",
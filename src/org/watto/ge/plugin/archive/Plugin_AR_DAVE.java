@@ -47,6 +47,7 @@ public class Plugin_AR_DAVE extends ArchivePlugin {
 
     setGames("Midtown Madness 2");
     setExtensions("ar");
+    setMatchSignature("DAVE");
     setPlatforms("PC");
 
   }
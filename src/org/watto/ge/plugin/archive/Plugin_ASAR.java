@@ -52,6 +52,7 @@ public class Plugin_ASAR extends ArchivePlugin {
     setGames("Jawns",
         "Subserial Network");
     setExtensions("asar"); // MUST BE LOWER CASE
+    setMatchSignature(4);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
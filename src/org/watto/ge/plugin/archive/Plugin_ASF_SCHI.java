@@ -46,6 +46,7 @@ public class Plugin_ASF_SCHI extends ArchivePlugin {
 
     setGames("NHL 2001");
     setExtensions("asf"); // MUST BE LOWER CASE
+    setMatchSignature("SCHl");
     setPlatforms("PS1");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURAZBB extends ArchivePlugin {
     setGames("Strange Brigade",
         "Atomfall");
     setExtensions("asr", "gui"); // MUST BE LOWER CASE
+    setMatchSignature("AsuraZbb");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_ASR_ASURAZLB extends ArchivePlugin {
     setGames("Alien vs Predator (2010)",
         "Atomfall");
     setExtensions("asr"); // MUST BE LOWER CASE
+    setMatchSignature("AsuraZlb");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURA_HTXT extends ArchivePlugin {
 
     setGames("Sniper Elite");
     setExtensions("asr");
+    setMatchSignature("Asura   HTXT");
     setPlatforms("PC");
 
   }
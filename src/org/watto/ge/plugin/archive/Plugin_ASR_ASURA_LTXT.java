@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURA_LTXT extends ArchivePlugin {
 
     setGames("Sniper Elite");
     setExtensions("asr");
+    setMatchSignature("Asura   LTXT");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURA_PTXT extends ArchivePlugin {
 
     setGames("Sniper Elite");
     setExtensions("asr");
+    setMatchSignature("Asura   PTXT");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURA_RSCF extends ArchivePlugin {
         "Sniper Elite",
         "Atomfall");
     setExtensions("asr");
+    setMatchSignature("Asura   ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_ASR_ASURA_RUDE extends ArchivePlugin {
 
     setGames("Sniper Elite");
     setExtensions("asr");
+    setMatchSignature("Asura   RUDE");
     setPlatforms("PC");
 
   }
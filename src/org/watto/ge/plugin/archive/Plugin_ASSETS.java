@@ -43,6 +43,7 @@ public class Plugin_ASSETS extends ArchivePlugin {
 
     setGames("StuntMANIA!Jnr");
     setExtensions("assets"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //////////////////
@@ -47,6 +47,7 @@ public class Plugin_ASSETS_5 extends ArchivePlugin {
     setGames("StuntMANIA!Jnr",
         "The Graveyard");
     setExtensions("assets"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(Unity3DHelper.getFileTypes());
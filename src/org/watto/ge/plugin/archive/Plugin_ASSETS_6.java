@@ -48,6 +48,7 @@ public class Plugin_ASSETS_6 extends ArchivePlugin {
         "Max And The Magic Marker",
         "StuntMANIA");
     setExtensions("assets"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     /*
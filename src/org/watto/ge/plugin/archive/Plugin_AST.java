@@ -45,6 +45,7 @@ public class Plugin_AST extends ArchivePlugin {
 
     setGames("Small Soldiers: Squad Commander");
     setExtensions("ast"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
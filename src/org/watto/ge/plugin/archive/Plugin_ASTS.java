@@ -44,6 +44,7 @@ public class Plugin_ASTS extends ArchivePlugin {
     setGames("Strange Brigade",
         "Atomfall");
     setExtensions("asts"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
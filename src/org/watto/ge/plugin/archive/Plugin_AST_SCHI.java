@@ -57,6 +57,7 @@ public class Plugin_AST_SCHI extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ast", "mus", "sng", "asf");
+    setMatchSignature("SCHl");
     setGames("Need For Speed Underground",
         "Need For Speed Underground 2",
         "MVP Baseball 2005",
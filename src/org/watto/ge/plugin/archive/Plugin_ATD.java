@@ -47,6 +47,7 @@ public class Plugin_ATD extends ArchivePlugin {
 
     setGames("Die By The Sword");
     setExtensions("atd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -125,6 +125,7 @@ public class Plugin_AUDO extends ArchivePlugin {
         "Your Car Shooter",
         "Z55Z");
     setExtensions("audo"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_AVL_VOLT extends ArchivePlugin {
     setGames("Catwoman",
         "Bionicle");
     setExtensions("avl", "vol");
+    setMatchSignature("VOLT");
     setPlatforms("PC");
 
   }
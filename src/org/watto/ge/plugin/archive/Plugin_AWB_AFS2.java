@@ -45,6 +45,7 @@ public class Plugin_AWB_AFS2 extends ArchivePlugin {
     setGames("Daemon x Machina",
         "Shenmue 3");
     setExtensions("awb"); // MUST BE LOWER CASE
+    setMatchSignature("AFS2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
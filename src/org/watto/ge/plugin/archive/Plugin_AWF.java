@@ -43,6 +43,7 @@ public class Plugin_AWF extends ArchivePlugin {
 
     setGames("Abomination: The Nemesis Project");
     setExtensions("awf");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_AZP extends ArchivePlugin {
 
     setGames("Close Combat 4: The Battle Of The Bulge");
     setExtensions("azp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("fx", "Visual Effects",
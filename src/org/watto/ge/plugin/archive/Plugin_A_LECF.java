@@ -50,6 +50,7 @@ public class Plugin_A_LECF extends ArchivePlugin {
     setGames("Fatty Bear's Birthday Surprise",
         "Moonbase Commander");
     setExtensions("(a)"); // MUST BE LOWER CASE
+    setMatchSignature(791292965);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_BAF extends ArchivePlugin {
 
     setGames("Goblin Commander: Unleash the Horde");
     setExtensions("baf"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_BAF_BANK extends ArchivePlugin {
 
     setGames("The Club");
     setExtensions("baf"); // MUST BE LOWER CASE
+    setMatchSignature("BANK");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_BAG_2 extends ArchivePlugin {
 
     setGames("Rebel Raiders: Operation Nighthawk");
     setExtensions("bag");
+    setMatchSignature(1);
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_BAG_4 extends ArchivePlugin {
 
     setGames("Austerlitz");
     setExtensions("bag");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
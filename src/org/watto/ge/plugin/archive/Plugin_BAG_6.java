@@ -52,6 +52,7 @@ public class Plugin_BAG_6 extends ArchivePlugin {
     setGames("Brian Lara International Cricket 2005",
         "Ricky Ponting International Cricket 2005");
     setExtensions("bag");
+    setMatchSignature(1);
     setPlatforms("PS2");
 
     // We can convert some images into TEX format when replacing
@@ -45,6 +45,7 @@ public class Plugin_BANK_QL extends ArchivePlugin {
         "Fire Captain: Fire Department 2",
         "Silverfall");
     setExtensions("bank", "pak");
+    setMatchSignature("QL");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_BAR_ESPN extends ArchivePlugin {
 
     setGames("Age Of Empires 3");
     setExtensions("bar");
+    setMatchSignature("ESPN");
     setPlatforms("PC");
 
     setFileTypes("xmb", "Unknown",
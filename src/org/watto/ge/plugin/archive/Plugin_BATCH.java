@@ -46,6 +46,7 @@ public class Plugin_BATCH extends ArchivePlugin {
 
     setGames("Switchball");
     setExtensions("batch");
+    setMatchSignature("THIS IS A BATCH FILE");
     setPlatforms("PC");
 
     //setFileTypes("","",
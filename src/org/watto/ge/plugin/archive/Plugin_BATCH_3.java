@@ -42,6 +42,7 @@ public class Plugin_BATCH_3 extends ArchivePlugin {
 
     setGames("Prismata");
     setExtensions("batch"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_BCB extends ArchivePlugin {
     setGames("Stolen",
         "Peter Pan: The Legend of Neverland");
     setExtensions("bcb");
+    setMatchNeedsExtension();
     setPlatforms("PC", "PS2");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_BCP_PAKFILE2 extends ArchivePlugin {
 
     setGames("Warrior Kings: Battles");
     setExtensions("bcp");
+    setMatchSignature("PAK File 2.01 (c) Black Cactus Games Limited");
     setPlatforms("PC");
 
   }
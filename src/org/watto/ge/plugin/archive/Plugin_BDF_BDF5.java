@@ -48,6 +48,7 @@ public class Plugin_BDF_BDF5 extends ArchivePlugin {
 
     setGames("Expendable");
     setExtensions("bdf");
+    setMatchSignature("BDF5 Rage Games Sound BDF Standard");
     setPlatforms("PC");
 
   }
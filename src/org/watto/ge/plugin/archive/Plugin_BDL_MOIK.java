@@ -45,6 +45,7 @@ public class Plugin_BDL_MOIK extends ArchivePlugin {
 
     setGames("Worms Revolution");
     setExtensions("bdl", "xom"); // MUST BE LOWER CASE
+    setMatchSignature("MOIK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
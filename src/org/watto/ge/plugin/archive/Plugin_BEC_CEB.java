@@ -46,6 +46,7 @@ public class Plugin_BEC_CEB extends ArchivePlugin {
 
     setGames("Gladius");
     setExtensions("bec");
+    setMatchSignature(" ceb");
     setPlatforms("PS2");
 
   }
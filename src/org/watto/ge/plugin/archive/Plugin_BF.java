@@ -48,6 +48,7 @@ public class Plugin_BF extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("bf");
+    setMatchNeedsExtension();
     setGames("Prince of Persia: Sands of Time",
         "Prince of Persia: Warrior Within",
         "Prince Of Persia: The Two Thrones");
@@ -46,6 +46,7 @@ public class Plugin_BFL_CMPR extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("bfl");
+    setMatchSignature("CMPR");
     setGames("Colin McRae Rally 2");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_BFP extends ArchivePlugin {
     setGames("TOCA Touring Car Championship");
     setPlatforms("PC");
     setExtensions("bfp");
+    setMatchNeedsExtension();
 
   }
 
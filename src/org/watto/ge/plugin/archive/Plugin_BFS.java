@@ -48,6 +48,7 @@ public class Plugin_BFS extends ArchivePlugin {
 
     setGames("Flatout");
     setExtensions("bfs");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
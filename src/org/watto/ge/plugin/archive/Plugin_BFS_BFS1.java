@@ -48,6 +48,7 @@ public class Plugin_BFS_BFS1 extends ArchivePlugin {
 
     setGames("FlatOut 2");
     setExtensions("bfs");
+    setMatchSignature("bfs1");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_BFZ_ABE extends ArchivePlugin {
 
     setGames("Zombi");
     setExtensions("bfz"); // MUST BE LOWER CASE
+    setMatchSignature(4538945);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_BF_2 extends ArchivePlugin {
 
     setGames("Zombie Pinball");
     setExtensions("bf"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BF_ABE extends ArchivePlugin {
 
     setGames("Michael Jackson: The Experience");
     setExtensions("bf"); // MUST BE LOWER CASE
+    setMatchSignature(4538945);
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
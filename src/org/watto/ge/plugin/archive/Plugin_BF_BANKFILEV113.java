@@ -45,6 +45,7 @@ public class Plugin_BF_BANKFILEV113 extends ArchivePlugin {
 
     setGames("Ultimate Race Pro");
     setExtensions("bd", "bd4", "bf", "bf4", "bp", "bp4", "bv", "bv4"); // MUST BE LOWER CASE
+    setMatchSignature("Bank file v1.13");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
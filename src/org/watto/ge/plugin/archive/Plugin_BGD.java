@@ -49,6 +49,7 @@ public class Plugin_BGD extends ArchivePlugin {
 
     setGames("Redline");
     setExtensions("bgd"); // MUST BE LOWER CASE
+    setMatchSignature(2);
     setPlatforms("PC");
 
     setFileTypes(new FileType("anm", "Animation", FileType.TYPE_OTHER),
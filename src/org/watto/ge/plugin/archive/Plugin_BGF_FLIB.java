@@ -47,6 +47,7 @@ public class Plugin_BGF_FLIB extends ArchivePlugin {
 
     setGames("Jack Nicklaus 4");
     setExtensions("bgf"); // MUST BE LOWER CASE
+    setMatchSignature("FLIB");
     setPlatforms("PC");
 
     //setFileTypes("","",
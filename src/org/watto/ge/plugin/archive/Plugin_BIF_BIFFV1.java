@@ -46,6 +46,7 @@ public class Plugin_BIF_BIFFV1 extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("bif");
+    setMatchSignature("BIFFV1");
     setGames("Baldur's Gate",
         "Baldur's Gate 2",
         "Planetscape: Torment",
@@ -43,6 +43,7 @@ public class Plugin_BIF_BIFFV11 extends ArchivePlugin {
     setGames("The Witcher",
         "The Witcher: Enhanced Edition");
     setExtensions("bif"); // MUST BE LOWER CASE
+    setMatchSignature("BIFFV1.1");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_BIGFILE extends ArchivePlugin {
 
     setGames("2Dark");
     setExtensions("bigfile"); // MUST BE LOWER CASE
+    setMatchSignature(16);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
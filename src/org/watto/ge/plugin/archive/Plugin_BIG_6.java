@@ -44,6 +44,7 @@ public class Plugin_BIG_6 extends ArchivePlugin {
 
     setGames("Lost: Via Domus");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
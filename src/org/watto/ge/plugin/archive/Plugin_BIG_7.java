@@ -15,9 +15,7 @@
 package org.watto.ge.plugin.archive;
 
 import java.io.File;
-import java.util.HashMap;
 
-import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.TemporarySettings;
@@ -25,6 +23,7 @@ import org.watto.component.WSPluginManager;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FieldValidator;
+import org.watto.ge.helper.HashDictionary;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ViewerPlugin;
 import org.watto.io.FileManipulator;
@@ -51,6 +50,7 @@ public class Plugin_BIG_7 extends ArchivePlugin {
 
     setGames("Blood Omen: Legacy of Kain");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("tim", "TIM Image", FileType.TYPE_IMAGE),
@@ -123,39 +123,7 @@ public class Plugin_BIG_7 extends ArchivePlugin {
       TaskProgressManager.setMaximum(numFiles);
 
       // See if we have a file with the filenames in it, and if so, we need to read them in so the decryption works properly
-      HashMap<Integer, String> hashMap = new HashMap<Integer, String>(numFiles);
-      try {
-        File hashFile = new File(Settings.get("HashesDirectory") + File.separatorChar + "BIG_7" + File.separatorChar + "filenames.txt");
-        if (hashFile.exists()) {
-          int hashFileLength = (int) hashFile.length();
-
-          char equalsChar = '=';
-
-          FileManipulator hashFM = new FileManipulator(hashFile, false);
-          while (hashFM.getOffset() < hashFileLength) {
-            String name = hashFM.readLine();
-            if (name.equals("")) {
-              break; // EOF
-            }
-
-            int equalPos = name.indexOf(equalsChar);
-            if (equalPos > 0) {
-              String hash = name.substring(0, equalPos);
-              name = name.substring(equalPos + 1);
-
-              int hashInt = Integer.parseInt(hash);
-
-              hashMap.put(hashInt, name);
-            }
-
-          }
-          hashFM.close();
-        }
-      }
-      catch (Throwable t) {
-        ErrorLogger.log("[BIG_7] Problem reading filename hashes");
-        ErrorLogger.log(t);
-      }
+      HashDictionary hashMap = HashDictionary.getDictionary("BIG_7", "filenames.txt", HashDictionary.KEY_DECIMAL);
 
       // Loop through directory
       for (int i = 0; i < numFiles; i++) {
@@ -171,7 +139,10 @@ public class Plugin_BIG_7 extends ArchivePlugin {
         long offset = fm.readInt();
         FieldValidator.checkOffset(offset, arcSize);
 
-        String filename = hashMap.get(hashInt);
+        String filename = null;
+        if (hashMap != null) {
+          filename = hashMap.get(hashInt);
+        }
         if (filename == null) {
           //System.out.println(hashInt);
           filename = Resource.generateFilename(i);
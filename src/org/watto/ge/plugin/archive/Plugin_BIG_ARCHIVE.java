@@ -49,6 +49,7 @@ public class Plugin_BIG_ARCHIVE extends ArchivePlugin {
 
     setGames("Homeworld 2", "Homeworld Remastered");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchSignature("_ARCHIVE");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_BIG_BIGF_2 extends ArchivePlugin {
         "Toca Race Driver 3",
         "Sensible Soccer 2006");
     setExtensions("big", "b2k", "b64");
+    setMatchSignature("BIGF");
     setPlatforms("PC");
 
   }
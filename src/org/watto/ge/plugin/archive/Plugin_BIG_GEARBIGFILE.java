@@ -43,6 +43,7 @@ public class Plugin_BIG_GEARBIGFILE extends ArchivePlugin {
 
     setGames("Lost: Via Domus");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchSignature("[ GEAR BigFile ]");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_BIG_GOEFILE extends ArchivePlugin {
 
     setGames("Blood Omen 2: Legacy of Kain");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchSignature("goefile");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
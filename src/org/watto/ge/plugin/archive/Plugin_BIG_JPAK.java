@@ -45,6 +45,7 @@ public class Plugin_BIG_JPAK extends ArchivePlugin {
 
     setGames("Toca Race Driver 3");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchSignature("JPAK");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_BIG_RBF1 extends ArchivePlugin {
 
     setGames("Homeworld Classic");
     setExtensions("big");
+    setMatchSignature("RBF1.23");
     setPlatforms("PC");
 
     setTextPreviewExtensions("bat", "cred", "dist", "ebg", "l", "level", "list", "lod", "lst", "mif", "mission", "missphere", "plug", "script", "shp"); // LOWER CASE
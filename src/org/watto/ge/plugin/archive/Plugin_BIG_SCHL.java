@@ -47,6 +47,7 @@ public class Plugin_BIG_SCHL extends ArchivePlugin {
     setGames("MVP Baseball 2005",
         "Triple Play 2000");
     setExtensions("big"); // MUST BE LOWER CASE
+    setMatchSignature("SCHl");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_BIK_BIKI extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("bik");
+    setMatchSignature("BIKi");
     setGames("Thief 3: Deadly Shadows",
         "Tony Hawk: Pro Skater 2");
     setPlatforms("PC");
@@ -47,6 +47,7 @@ public class Plugin_BIN extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("bin");
+    setMatchNeedsExtension();
     setGames("Star Wars: Battle for Naboo");
     setPlatforms("PC");
 
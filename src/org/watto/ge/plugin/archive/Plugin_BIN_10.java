@@ -47,6 +47,7 @@ public class Plugin_BIN_10 extends ArchivePlugin {
 
     setGames("Resident Evil 2");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
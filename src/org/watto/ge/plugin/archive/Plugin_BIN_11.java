@@ -48,6 +48,7 @@ public class Plugin_BIN_11 extends ArchivePlugin {
 
     setGames("Resident Evil 2");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_BIN_12 extends ArchivePlugin {
 
     setGames("McFarlane's Monsters: Evil Prophecy");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
   }
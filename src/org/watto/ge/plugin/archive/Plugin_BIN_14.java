@@ -50,6 +50,7 @@ public class Plugin_BIN_14 extends ArchivePlugin {
 
     setGames("Need For Speed: Most Wanted", "Need For Speed: Pro Street");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_BIN_17 extends ArchivePlugin {
 
     setGames("Test Drive 4");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -47,6 +47,7 @@ public class Plugin_BIN_20 extends ArchivePlugin {
 
     setGames("Mob Ties Tokyo");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_BIN_23 extends ArchivePlugin {
         "Mario Party 6",
         "Mario Party 7");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("GameCube");
 
     // MUST BE LOWER CASE !!!
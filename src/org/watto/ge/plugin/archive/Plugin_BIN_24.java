@@ -51,6 +51,7 @@ public class Plugin_BIN_24 extends ArchivePlugin {
 
     setGames("Beyond Good & Evil");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature(512000);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_BIN_25 extends ArchivePlugin {
 
     setGames("Wildfire");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature(100);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
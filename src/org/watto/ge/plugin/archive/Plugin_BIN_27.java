@@ -43,6 +43,7 @@ public class Plugin_BIN_27 extends ArchivePlugin {
 
     setGames("Daytona USA");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_BIN_29 extends ArchivePlugin {
 
     setGames("Heroes and Generals WWII");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
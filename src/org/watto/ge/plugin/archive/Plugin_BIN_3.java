@@ -47,6 +47,7 @@ public class Plugin_BIN_3 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("bin");
+    setMatchNeedsExtension();
     setGames("Apache Longbow");
     setPlatforms("PC");
 
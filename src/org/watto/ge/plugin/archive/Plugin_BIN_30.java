@@ -44,6 +44,7 @@ public class Plugin_BIN_30 extends ArchivePlugin {
 
     setGames("Space Invaders");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
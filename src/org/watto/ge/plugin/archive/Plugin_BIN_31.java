@@ -49,6 +49,7 @@ public class Plugin_BIN_31 extends ArchivePlugin {
 
     setGames("Driver 2");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_BIN_32 extends ArchivePlugin {
 
     setGames("LEGO Super Mario");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Android", "iOS");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_BIN_34 extends ArchivePlugin {
 
     setGames("007: Tomorrow Never Dies");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature(16);
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_BIN_35 extends ArchivePlugin {
     setGames("B-Hunter",
         "Beyond Pearl Harbor: Pacific Warriors");
     setExtensions("bin", "dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
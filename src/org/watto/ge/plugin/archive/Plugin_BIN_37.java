@@ -45,6 +45,7 @@ public class Plugin_BIN_37 extends ArchivePlugin {
 
     setGames("Michael Jackson: The Experience");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
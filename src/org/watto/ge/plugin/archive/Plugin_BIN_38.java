@@ -45,6 +45,7 @@ public class Plugin_BIN_38 extends ArchivePlugin {
 
     setGames("Guilty Gear X");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
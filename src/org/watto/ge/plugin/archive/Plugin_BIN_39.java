@@ -45,6 +45,7 @@ public class Plugin_BIN_39 extends ArchivePlugin {
 
     setGames("Guilty Gear X");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_BIN_40 extends ArchivePlugin {
 
     setGames("Guilty Gear X");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature(64);
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
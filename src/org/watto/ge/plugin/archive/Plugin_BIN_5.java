@@ -49,6 +49,7 @@ public class Plugin_BIN_5 extends ArchivePlugin {
 
     setGames("Destruction Derby");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_BIN_6 extends ArchivePlugin {
 
     setGames("Champ Kong");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -53,6 +53,7 @@ public class Plugin_BIN_7L extends ArchivePlugin {
         "The Great Word Adventure",
         "The Universe According To Virgil");
     setExtensions("bin");
+    setMatchSignature("7L");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -51,6 +51,7 @@ public class Plugin_BIN_7LB extends ArchivePlugin {
         "The Great Word Adventure",
         "The Universe According To Virgil");
     setExtensions("bin");
+    setMatchSignature(21122103);
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_BIN_7LB_2 extends ArchivePlugin {
 
     setGames("Ace Ventura");
     setExtensions("bin");
+    setMatchSignature("7Lb");
     setPlatforms("PC");
 
   }
@@ -55,6 +55,7 @@ public class Plugin_BIN_7LU extends ArchivePlugin {
         "The Great Word Adventure",
         "The Universe According To Virgil");
     setExtensions("bin");
+    setMatchSignature("7L");
     setPlatforms("PC");
 
   }
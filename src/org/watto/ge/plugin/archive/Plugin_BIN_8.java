@@ -48,6 +48,7 @@ public class Plugin_BIN_8 extends ArchivePlugin {
 
     setGames("Warning Forever");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
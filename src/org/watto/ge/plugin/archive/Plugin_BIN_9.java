@@ -47,6 +47,7 @@ public class Plugin_BIN_9 extends ArchivePlugin {
 
     setGames("Cyberia 2");
     setExtensions("bin");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
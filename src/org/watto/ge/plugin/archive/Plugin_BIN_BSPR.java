@@ -42,6 +42,7 @@ public class Plugin_BIN_BSPR extends ArchivePlugin {
 
     setGames("Crouching Pony Hidden Dragon");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("BSPR");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
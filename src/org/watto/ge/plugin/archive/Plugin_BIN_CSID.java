@@ -48,6 +48,7 @@ public class Plugin_BIN_CSID extends ArchivePlugin {
 
     setGames("Chasm: The Rift");
     setExtensions("bin");
+    setMatchSignature("CSid");
     setPlatforms("PC");
 
     setFileTypes("ani", "Animation",
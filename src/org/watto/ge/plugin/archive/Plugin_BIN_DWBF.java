@@ -46,6 +46,7 @@ public class Plugin_BIN_DWBF extends ArchivePlugin {
 
     setGames("Cold Fear");
     setExtensions("bin");
+    setMatchSignature("DWBF");
     setPlatforms("PS2");
 
   }
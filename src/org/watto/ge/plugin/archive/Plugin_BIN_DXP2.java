@@ -53,6 +53,7 @@ public class Plugin_BIN_DXP2 extends ArchivePlugin {
     setGames("Wings Of Prey",
         "Blades of Time");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("DxP2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
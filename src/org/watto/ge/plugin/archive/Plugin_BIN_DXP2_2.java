@@ -46,6 +46,7 @@ public class Plugin_BIN_DXP2_2 extends ArchivePlugin {
 
     setGames("CRSED: F.O.A.D.");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("DxP2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
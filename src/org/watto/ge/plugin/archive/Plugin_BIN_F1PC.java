@@ -47,6 +47,7 @@ public class Plugin_BIN_F1PC extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("bin");
+    setMatchSignature("f1pcanim");
     setGames("Grand Prix 2");
     setPlatforms("PC");
 
@@ -42,6 +42,7 @@ public class Plugin_BIN_HOGP extends ArchivePlugin {
 
     setGames("Shadow Warrior 2");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("HOGP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_BIN_LINK extends ArchivePlugin {
 
     setGames("Romance Of The Three Kingdoms XI");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("LINK");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -42,6 +42,7 @@ public class Plugin_BIN_LINK_2 extends ArchivePlugin {
 
     setGames("Dynasty Warriors 5");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("LINK");
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
@@ -53,6 +53,7 @@ public class Plugin_BIN_MWO3 extends ArchivePlugin {
 
     setGames("ESPN National Hockey Night");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("MWo3");
     setPlatforms("PC");
 
     setFileTypes(new FileType("bin_tex", "Texture Image", FileType.TYPE_IMAGE));
@@ -46,6 +46,7 @@ public class Plugin_BIN_SDB2 extends ArchivePlugin {
 
     setGames("Surf's Up");
     setExtensions("bin");
+    setMatchSignature("SDB2");
     setPlatforms("PC");
 
     //setFileTypes("","",
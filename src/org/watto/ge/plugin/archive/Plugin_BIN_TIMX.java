@@ -43,6 +43,7 @@ public class Plugin_BIN_TIMX extends ArchivePlugin {
 
     setGames("Dynasty Warriors 5");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("TIMX");
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BIN_VPAK extends ArchivePlugin {
 
     setGames("Need For Speed: Pro Street");
     setExtensions("bin"); // MUST BE LOWER CASE
+    setMatchSignature("VPAK");
     setPlatforms("PC");
 
     //setFileTypes("","",
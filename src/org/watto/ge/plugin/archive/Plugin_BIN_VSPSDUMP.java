@@ -46,6 +46,7 @@ public class Plugin_BIN_VSPSDUMP extends ArchivePlugin {
 
     setGames("Adrenalin 2: Rush Hour");
     setExtensions("bin");
+    setMatchSignature("VSPSdump");
     setPlatforms("PC");
 
     //setFileTypes("","",
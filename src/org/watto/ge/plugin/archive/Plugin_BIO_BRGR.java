@@ -46,6 +46,7 @@ public class Plugin_BIO_BRGR extends ArchivePlugin {
 
     setGames("Defiance");
     setExtensions("dat", "bio", "rez");
+    setMatchSignature("BRGR");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_BKF extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("bkf");
+    setMatchNeedsExtension();
     setGames("MotoRacer",
         "MotoRacer GP");
     setPlatforms("PC");
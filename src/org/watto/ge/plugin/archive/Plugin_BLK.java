@@ -48,6 +48,7 @@ public class Plugin_BLK extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("blk");
+    setMatchNeedsExtension();
     setGames("Apache Longbow");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_BLK_2 extends ArchivePlugin {
 
     setGames("Test Drive Off-Road 2");
     setExtensions("blk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
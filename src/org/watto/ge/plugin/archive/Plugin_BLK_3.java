@@ -44,6 +44,7 @@ public class Plugin_BLK_3 extends ArchivePlugin {
 
     setGames("Driver 2");
     setExtensions("blk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
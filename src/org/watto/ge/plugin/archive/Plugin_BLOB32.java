@@ -48,6 +48,7 @@ public class Plugin_BLOB32 extends ArchivePlugin {
 
     setGames("Real E$tate Empire");
     setExtensions("blob32"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -42,6 +42,7 @@ public class Plugin_BLOCK extends ArchivePlugin {
 
     setGames("Mercenaries 2");
     setExtensions("block"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
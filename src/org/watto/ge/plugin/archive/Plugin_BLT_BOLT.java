@@ -48,6 +48,7 @@ public class Plugin_BLT_BOLT extends ArchivePlugin {
 
     setGames("Star Trek: Deep Space Nine: Dominion Wars");
     setExtensions("blt");
+    setMatchSignature("BOLT");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_BLUERESOURCEPCWINDOWS_XV4 extends ArchivePlugin {
 
     setGames("Greed Corp.");
     setExtensions("blueresourcepc_windows"); // MUST BE LOWER CASE
+    setMatchSignature("xV4");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BM extends ArchivePlugin {
     setGames("Blood Magic",
         "Dawn Of Magic");
     setExtensions("bm");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_BMOD_OMOD extends ArchivePlugin {
 
     setGames("Platoon");
     setExtensions("bmod"); // MUST BE LOWER CASE
+    setMatchSignature("OMOD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
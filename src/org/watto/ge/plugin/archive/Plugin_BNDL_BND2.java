@@ -44,6 +44,7 @@ public class Plugin_BNDL_BND2 extends ArchivePlugin {
 
     setGames("Need for Speed: Most Wanted");
     setExtensions("bndl"); // MUST BE LOWER CASE
+    setMatchSignature("bnd2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
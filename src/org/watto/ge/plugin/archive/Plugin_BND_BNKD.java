@@ -46,6 +46,7 @@ public class Plugin_BND_BNKD extends ArchivePlugin {
 
     setGames("Tales Of Eternia Online");
     setExtensions("bnd");
+    setMatchSignature("BNDK");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_BNI extends ArchivePlugin {
 
     setGames("MDK");
     setExtensions("bni"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BNK_2 extends ArchivePlugin {
     setGames("Austin Powers Pinball",
         "Balls Of Steel");
     setExtensions("bnk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -66,6 +66,7 @@ public class Plugin_BNK_BKHD extends ArchivePlugin {
         "Warhammer: End Times: Vermintide",
         "Yooka Laylee");
     setExtensions("bnk"); // MUST BE LOWER CASE
+    setMatchSignature("BKHD");
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
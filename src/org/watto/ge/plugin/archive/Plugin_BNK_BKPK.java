@@ -42,6 +42,7 @@ public class Plugin_BNK_BKPK extends ArchivePlugin {
 
     setGames("Batman: Arkham Knight");
     setExtensions("bnk"); // MUST BE LOWER CASE
+    setMatchSignature("BKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
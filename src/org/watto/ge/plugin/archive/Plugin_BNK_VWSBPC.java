@@ -42,6 +42,7 @@ public class Plugin_BNK_VWSBPC extends ArchivePlugin {
 
     setGames("Saints Row: The Third: Remastered");
     setExtensions("bnk"); // MUST BE LOWER CASE
+    setMatchSignature("VWSBPC  ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
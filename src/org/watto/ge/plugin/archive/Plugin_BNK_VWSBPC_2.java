@@ -43,6 +43,7 @@ public class Plugin_BNK_VWSBPC_2 extends ArchivePlugin {
 
     setGames("Saints Row IV");
     setExtensions("bnk_pc"); // MUST BE LOWER CASE
+    setMatchSignature("VWSBPC  ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
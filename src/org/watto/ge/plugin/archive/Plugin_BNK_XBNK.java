@@ -47,6 +47,7 @@ public class Plugin_BNK_XBNK extends ArchivePlugin {
 
     setGames("Score Hero");
     setExtensions("bnk"); // MUST BE LOWER CASE
+    setMatchSignature("XBNK");
     setPlatforms("android");
 
     // Read in WAV audio files and convert them
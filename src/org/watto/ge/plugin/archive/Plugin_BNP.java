@@ -47,6 +47,7 @@ public class Plugin_BNP extends ArchivePlugin {
 
     setGames("Saga Of Ryzom");
     setExtensions("bnp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
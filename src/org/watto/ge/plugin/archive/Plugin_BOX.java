@@ -43,6 +43,7 @@ public class Plugin_BOX extends ArchivePlugin {
 
     setGames("The Outforce");
     setExtensions("box");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
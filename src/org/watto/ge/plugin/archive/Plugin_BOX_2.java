@@ -42,6 +42,7 @@ public class Plugin_BOX_2 extends ArchivePlugin {
 
     setGames("Deathtrap Dungeon");
     setExtensions("box"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BOX_BOX extends ArchivePlugin {
 
     setGames("Beasts And Bumpkins");
     setExtensions("box"); // MUST BE LOWER CASE
+    setMatchSignature("BOX");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -45,6 +45,7 @@ public class Plugin_BOX_LEMBOX extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("box");
+    setMatchSignature("LEMBOX");
     setGames("Lemmings Revolution");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_BRN_GK3BARN extends ArchivePlugin {
 
     setGames("Gabriel Knight 3");
     setExtensions("brn");
+    setMatchSignature("GK3!Barn");
     setPlatforms("PC");
 
   }
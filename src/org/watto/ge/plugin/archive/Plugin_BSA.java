@@ -43,6 +43,7 @@ public class Plugin_BSA extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("bsa");
+    setMatchNeedsExtension();
     setGames("Terminator: Future Shock",
         "Battlespire",
         "Elder Scrolls: Arena");
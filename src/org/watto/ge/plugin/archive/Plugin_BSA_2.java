@@ -47,6 +47,7 @@ public class Plugin_BSA_2 extends ArchivePlugin {
 
     setGames("PBA Bowling 2");
     setExtensions("bsa"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
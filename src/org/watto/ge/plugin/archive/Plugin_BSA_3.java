@@ -43,6 +43,7 @@ public class Plugin_BSA_3 extends ArchivePlugin {
 
     setGames("Elder Scrolls 2: Daggerfall");
     setExtensions("bsa"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BSP extends ArchivePlugin {
 
     setGames("Eternal War: Shadows Of Light");
     setExtensions("bsp"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_BSP_VBSP extends ArchivePlugin {
     setGames("Half-Life 2",
         "Hidden");
     setExtensions("bsp");
+    setMatchSignature("VBSP");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_BUN extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("bun");
+    setMatchNeedsExtension();
     setGames("Network Q Rally Championship");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_BUNDLE_BND2 extends ArchivePlugin {
 
     setGames("Burnout Paradise");
     setExtensions("bundle"); // MUST BE LOWER CASE
+    setMatchSignature("bnd2");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
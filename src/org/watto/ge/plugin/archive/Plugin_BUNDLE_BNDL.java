@@ -54,6 +54,7 @@ public class Plugin_BUNDLE_BNDL extends ArchivePlugin {
         "Wanted: Weapons Of Fate",
         "Lead and Gold: Gangs of the Wild West");
     setExtensions("bundle");
+    setMatchSignature("BNDL");
     setPlatforms("PC");
 
     //setFileTypes("","",
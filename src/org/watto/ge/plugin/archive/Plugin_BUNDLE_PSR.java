@@ -50,6 +50,7 @@ public class Plugin_BUNDLE_PSR extends ArchivePlugin {
 
     setGames("The Lion's Song");
     setExtensions("bundle"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_BUN_2 extends ArchivePlugin {
 
     setGames("Need For Speed: Most Wanted");
     setExtensions("bun");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_BUN_LB83 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("bun");
+    setMatchSignature("LB83");
     setGames("Monkey Island 3");
     setPlatforms("PC");
 
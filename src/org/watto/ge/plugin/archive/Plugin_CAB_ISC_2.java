@@ -44,6 +44,7 @@ public class Plugin_CAB_ISC_2 extends ArchivePlugin {
 
     setGames("InstallShield");
     setExtensions("cab"); // MUST BE LOWER CASE
+    setMatchSignature("ISc(");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
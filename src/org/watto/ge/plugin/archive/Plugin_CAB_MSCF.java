@@ -58,6 +58,7 @@ public class Plugin_CAB_MSCF extends ArchivePlugin {
 
     setGames("Microsoft Cabinet");
     setExtensions("cab"); // MUST BE LOWER CASE
+    setMatchSignature("MSCF");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_CACHE extends ArchivePlugin {
 
     setGames("Half-Life 2");
     setExtensions("cache");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_CACHE_2 extends ArchivePlugin {
 
     setGames("Shadowbane: Throne Of Oblivion");
     setExtensions("cache");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_CACHE_4 extends ArchivePlugin {
 
     setGames("Witcher 3: Wild Hunt");
     setExtensions("cache"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
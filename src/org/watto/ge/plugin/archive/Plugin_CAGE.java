@@ -48,6 +48,7 @@ public class Plugin_CAGE extends ArchivePlugin {
 
     setGames("Darkest of Days");
     setExtensions("cage"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_CAM_CYLBPC extends ArchivePlugin {
 
     setGames("Deadlock 2");
     setExtensions("cam");
+    setMatchSignature("CYLBPC  ");
     setPlatforms("PC");
 
   }
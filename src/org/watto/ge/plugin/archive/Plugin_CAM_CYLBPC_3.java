@@ -49,6 +49,7 @@ public class Plugin_CAM_CYLBPC_3 extends ArchivePlugin {
 
     setGames("Playboy: The Mansion");
     setExtensions("cam");
+    setMatchSignature("CYLBPC  ");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_CAR extends ArchivePlugin {
         "Carnivores 2",
         "Carnivores: Ice Age");
     setExtensions("car");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("tri", "3D Triangle",
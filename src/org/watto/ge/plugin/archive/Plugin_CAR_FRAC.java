@@ -48,6 +48,7 @@ public class Plugin_CAR_FRAC extends ArchivePlugin {
 
     setGames("NASCAR Racing 2002 Season");
     setExtensions("car"); // MUST BE LOWER CASE
+    setMatchSignature("FRAC");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_CAR_RAC extends ArchivePlugin {
         "Control Craft 3",
         "Royal Heroes");
     setExtensions("car"); // MUST BE LOWER CASE
+    setMatchSignature("rac");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_CAT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("cat");
+    setMatchNeedsExtension();
     setGames("Transport Tycoon Deluxe");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_CAT_2 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("cat");
+    setMatchNeedsExtension();
     setGames("Magic: The Gathering",
         "Gunship!");
     setPlatforms("PC");
@@ -47,6 +47,7 @@ public class Plugin_CAT_2002 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("cat");
+    setMatchSignature("2002");
     setGames("Fighting Steel");
     setPlatforms("PC");
 
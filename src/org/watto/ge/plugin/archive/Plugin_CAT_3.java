@@ -47,6 +47,7 @@ public class Plugin_CAT_3 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("cat");
+    setMatchNeedsExtension();
     setGames("Silent Hunter");
     setPlatforms("PC");
 
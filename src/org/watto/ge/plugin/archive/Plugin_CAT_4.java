@@ -43,6 +43,7 @@ public class Plugin_CAT_4 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("cat");
+    setMatchNeedsExtension();
     setGames("OpenTTD");
     setPlatforms("PC");
 
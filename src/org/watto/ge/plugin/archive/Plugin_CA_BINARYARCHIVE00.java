@@ -47,6 +47,7 @@ public class Plugin_CA_BINARYARCHIVE00 extends ArchivePlugin {
 
     setGames("The Nations");
     setExtensions("ca"); // MUST BE LOWER CASE
+    setMatchSignature("binary.archive00");
     setPlatforms("PC");
 
     setTextPreviewExtensions("text"); // LOWER CASE
@@ -50,6 +50,7 @@ public class Plugin_CCD_FKNL extends ArchivePlugin {
 
     setGames("Harry Potter: Quidditch World Cup");
     setExtensions("ccd"); // MUST BE LOWER CASE
+    setMatchSignature("FKNL");
     setPlatforms("PC");
 
     //setFileTypes("","",
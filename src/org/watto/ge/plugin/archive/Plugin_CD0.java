@@ -46,6 +46,7 @@ public class Plugin_CD0 extends ArchivePlugin {
 
     setGames("Nightlong: Union City Conspiracy");
     setExtensions("cd0", "cd1");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_CDF extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("cdf");
+    setMatchNeedsExtension();
     setGames("European Air War");
     setPlatforms("PC");
 
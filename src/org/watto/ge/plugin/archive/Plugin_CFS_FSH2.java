@@ -45,6 +45,7 @@ public class Plugin_CFS_FSH2 extends ArchivePlugin {
 
     setGames("Small Soldiers: Squad Commander");
     setExtensions("cfs"); // MUST BE LOWER CASE
+    setMatchSignature("FSH2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_CGF_CRYTEK extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("cgf", "cga");
+    setMatchSignature("CryTek");
     setGames("Far Cry");
     setPlatforms("PC");
 
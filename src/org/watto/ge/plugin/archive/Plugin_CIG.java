@@ -47,6 +47,7 @@ public class Plugin_CIG extends ArchivePlugin {
 
     setGames("Growlanser Generations");
     setExtensions("cig"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -42,6 +42,7 @@ public class Plugin_CLT_AWAD extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("clt");
+    setMatchSignature("AWAD");
     setGames("Abomination: The Nemesis Project");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_CLU extends ArchivePlugin {
 
     setGames("Broken Sword 2: The Smoking Mirror");
     setExtensions("clu");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_CLV extends ArchivePlugin {
 
     setGames("Broken Sword: Shadow of the Templars");
     setExtensions("clv"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_CMN extends ArchivePlugin {
 
     setGames("NHL 2K3");
     setExtensions("cmn"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     setCanScanForFileTypes(true);
@@ -46,6 +46,7 @@ public class Plugin_CMP extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("cmp");
+    setMatchNeedsExtension();
     setGames("Duke Nukem 2");
     setPlatforms("PC");
 
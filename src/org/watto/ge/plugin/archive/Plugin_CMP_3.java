@@ -42,6 +42,7 @@ public class Plugin_CMP_3 extends ArchivePlugin {
 
     setGames("Rising Lands");
     setExtensions("cmp"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_CMP_EVG1 extends ArchivePlugin {
 
     setGames("Echelon");
     setExtensions("cmp", "dat");
+    setMatchSignature("EVG1");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_CMP_MULT extends ArchivePlugin {
 
     setGames("Moonbase Commander");
     setExtensions("cmp"); // MUST BE LOWER CASE
+    setMatchSignature("MULT");
     setPlatforms("PC");
 
     //setFileTypes("","",
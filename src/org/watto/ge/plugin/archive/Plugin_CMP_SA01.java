@@ -43,6 +43,7 @@ public class Plugin_CMP_SA01 extends ArchivePlugin {
 
     setGames("Mii Maker");
     setExtensions("cmp"); // MUST BE LOWER CASE
+    setMatchSignature("SA01");
     setPlatforms("Wii U");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
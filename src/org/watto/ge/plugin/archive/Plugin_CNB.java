@@ -48,6 +48,7 @@ public class Plugin_CNB extends ArchivePlugin {
 
     setGames("Pool Of Radiance");
     setExtensions("cnb", "cnk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_CNT extends ArchivePlugin {
     setGames("Rayman 2",
         "Rayman 3");
     setExtensions("cnt");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("gf", "Graphics File");
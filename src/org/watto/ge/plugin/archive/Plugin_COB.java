@@ -42,6 +42,7 @@ public class Plugin_COB extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("cob");
+    setMatchNeedsExtension();
     setGames("Ascendancy");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_COBI extends ArchivePlugin {
 
     setGames("Numba Deluxe");
     setExtensions("cobi");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_COD_KAPF extends ArchivePlugin {
 
     setGames("Call of Duty 3");
     setExtensions("cod"); // MUST BE LOWER CASE
+    setMatchSignature("KAPF");
     setPlatforms("XBox 360",
         "PS3");
 
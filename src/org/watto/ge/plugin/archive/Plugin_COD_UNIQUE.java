@@ -47,6 +47,7 @@ public class Plugin_COD_UNIQUE extends ArchivePlugin {
 
     setGames("Screamer 4x4");
     setExtensions("cod");
+    setMatchSignature("->Unique Pc HUNGARY<-");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_CON_NCBM extends ArchivePlugin {
 
     setGames("Advanced Strategic Command");
     setExtensions("con"); // MUST BE LOWER CASE
+    setMatchSignature("NCBM");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_CPK_CPK extends ArchivePlugin {
 
     setGames("Viking: Battle for Asgard");
     setExtensions("cpk"); // MUST BE LOWER CASE
+    setMatchSignature("CPK ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
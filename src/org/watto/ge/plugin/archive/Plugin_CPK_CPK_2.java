@@ -43,6 +43,7 @@ public class Plugin_CPK_CPK_2 extends ArchivePlugin {
 
     setGames("Sonic the Hedgehog 4");
     setExtensions("cpk"); // MUST BE LOWER CASE
+    setMatchSignature("CPK ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
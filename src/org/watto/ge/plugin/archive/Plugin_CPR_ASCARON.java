@@ -42,6 +42,7 @@ public class Plugin_CPR_ASCARON extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("cpr");
+    setMatchSignature("ASCARON_ARCHIVE ");
     setGames("Port Royale",
         "Patrician 2",
         "Patrician 3",
@@ -48,6 +48,7 @@ public class Plugin_CRH_MDMD extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("crh", "mga", "fga", "lz", "wlz");
+    setMatchSignature("MDmd");
     setGames("Links 368 Pro");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_CRS_MDMD extends ArchivePlugin {
 
     setGames("The Original LINKS");
     setExtensions("crs", "lz"); // MUST BE LOWER CASE
+    setMatchSignature("MDmd");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_CSA_GEEK extends ArchivePlugin {
     setGames("FBI Hostage Rescue",
         "Nosferatu: The Wrath of Malachi");
     setExtensions("csa");
+    setMatchSignature("GEEK");
     setPlatforms("PC");
 
   }
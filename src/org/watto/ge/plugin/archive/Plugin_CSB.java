@@ -44,6 +44,7 @@ public class Plugin_CSB extends ArchivePlugin {
     setGames("Dying Light",
         "Dying Light: Bad Blood");
     setExtensions("csb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
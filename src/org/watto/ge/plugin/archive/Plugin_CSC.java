@@ -52,6 +52,7 @@ public class Plugin_CSC extends ArchivePlugin {
     setGames("Deus Ex: Invisible War",
         "Thief 3: Deadly Shadows");
     setExtensions("csc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_CWG_VW extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("cwg");
+    setMatchSignature("vw");
     setGames("Castle Of The Winds");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_CXT_RIFX extends ArchivePlugin {
         "Macromedia Shockwave",
         "Tennis Without Limits");
     setExtensions("cxt", "dxr"); // MUST BE LOWER CASE
+    setMatchSignature("RIFX");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
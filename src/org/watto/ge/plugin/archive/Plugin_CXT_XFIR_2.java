@@ -48,6 +48,7 @@ public class Plugin_CXT_XFIR_2 extends ArchivePlugin {
     setGames("Last Call",
         "Macromedia Shockwave");
     setExtensions("cxt", "dxr"); // MUST BE LOWER CASE
+    setMatchSignature("XFIR");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_CY extends ArchivePlugin {
 
     setGames("Doki Doki Literature Club Plus!");
     setExtensions("cy"); // MUST BE LOWER CASE
+    setMatchSignature(1547781757);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_D3TFULL extends ArchivePlugin {
 
     setGames("Doom 3");
     setExtensions("d3tfull"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
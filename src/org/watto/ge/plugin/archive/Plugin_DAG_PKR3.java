@@ -46,6 +46,7 @@ public class Plugin_DAG_PKR3 extends ArchivePlugin {
 
     setGames("World Championship Poker 2");
     setExtensions("dag");
+    setMatchSignature("PKR3");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_DAR extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dar");
+    setMatchNeedsExtension();
     setGames("Metal Gear Solid");
     setPlatforms("PC");
 
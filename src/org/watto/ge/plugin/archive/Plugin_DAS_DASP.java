@@ -46,6 +46,7 @@ public class Plugin_DAS_DASP extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("das");
+    setMatchSignature("DASP");
     setGames("Normality");
     setPlatforms("PC");
 
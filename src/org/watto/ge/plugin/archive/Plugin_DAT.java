@@ -49,6 +49,7 @@ public class Plugin_DAT extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Empire 2");
     setPlatforms("PC");
 
@@ -42,6 +42,7 @@ public class Plugin_DATA extends ArchivePlugin {
 
     setGames("Assassins Creed: Valhalla");
     setExtensions("data"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
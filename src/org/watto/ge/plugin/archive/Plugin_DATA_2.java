@@ -45,6 +45,7 @@ public class Plugin_DATA_2 extends ArchivePlugin {
 
     setGames("Shantae and the Pirates Curse");
     setExtensions("data"); // MUST BE LOWER CASE
+    setMatchSignature(418590482);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
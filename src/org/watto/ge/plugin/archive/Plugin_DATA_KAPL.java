@@ -44,6 +44,7 @@ public class Plugin_DATA_KAPL extends ArchivePlugin {
 
     setGames("Full Throttle Remastered");
     setExtensions("data"); // MUST BE LOWER CASE
+    setMatchSignature("KAPL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_DAT_10 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Indycar Racing");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_DAT_100 extends ArchivePlugin {
 
     setGames("Kill Switch");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature(1817);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_DAT_102 extends ArchivePlugin {
 
     setGames("Turok: Dinosaur Hunter");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("N64");
 
     // MUST BE LOWER CASE !!!
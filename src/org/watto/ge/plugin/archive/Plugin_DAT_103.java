@@ -47,6 +47,7 @@ public class Plugin_DAT_103 extends ArchivePlugin {
 
     setGames("Summon Night 3");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
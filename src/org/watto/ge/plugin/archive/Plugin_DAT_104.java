@@ -48,6 +48,7 @@ public class Plugin_DAT_104 extends ArchivePlugin {
 
     setGames("Summon Night 2", "Summon Night 3", "Black Matrix Cross");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2", "PS1");
 
     // MUST BE LOWER CASE !!!
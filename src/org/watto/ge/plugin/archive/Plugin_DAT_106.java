@@ -45,6 +45,7 @@ public class Plugin_DAT_106 extends ArchivePlugin {
 
     setGames("Warhammer 40K: Rites of War");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
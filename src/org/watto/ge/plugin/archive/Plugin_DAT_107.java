@@ -48,6 +48,7 @@ public class Plugin_DAT_107 extends ArchivePlugin {
     setGames("Screamer Rally",
         "Screamer 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_11 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Prince Of Persia");
     setPlatforms("PC");
 
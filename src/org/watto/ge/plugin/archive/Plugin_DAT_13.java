@@ -46,6 +46,7 @@ public class Plugin_DAT_13 extends ArchivePlugin {
 
     setGames("Star Wars Rogue Squadron 3D");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
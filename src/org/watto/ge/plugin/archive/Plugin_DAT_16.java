@@ -46,6 +46,7 @@ public class Plugin_DAT_16 extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Game, Net, Match");
     setPlatforms("PC");
 
@@ -51,6 +51,7 @@ public class Plugin_DAT_17 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Fallout");
     setPlatforms("PC");
 
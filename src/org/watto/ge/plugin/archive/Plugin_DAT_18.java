@@ -46,6 +46,7 @@ public class Plugin_DAT_18 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("MegaRace");
     setPlatforms("PC");
 
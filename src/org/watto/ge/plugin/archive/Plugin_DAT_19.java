@@ -47,6 +47,7 @@ public class Plugin_DAT_19 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Earthworm Jim 3D");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_DAT_20 extends ArchivePlugin {
 
     setGames("Inferno");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_DAT_21 extends ArchivePlugin {
 
     setGames("Killswitch");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_DAT_23 extends ArchivePlugin {
 
     setGames("Jets N Guns");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
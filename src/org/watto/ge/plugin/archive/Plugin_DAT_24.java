@@ -47,6 +47,7 @@ public class Plugin_DAT_24 extends ArchivePlugin {
 
     setGames("Fallout 2", "Klingon Academy");
     setExtensions("dat");
+    setMatchSignature("x");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_DAT_25 extends ArchivePlugin {
 
     setGames("Juiced");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC", "PS2");
 
     // MUST BE LOWER CASE !!!
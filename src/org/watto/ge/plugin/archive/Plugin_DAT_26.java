@@ -45,6 +45,7 @@ public class Plugin_DAT_26 extends ArchivePlugin {
         "The Lost Vikings",
         "WarWind");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
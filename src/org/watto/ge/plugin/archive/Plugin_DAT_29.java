@@ -47,6 +47,7 @@ public class Plugin_DAT_29 extends ArchivePlugin {
 
     setGames("Far Cry: Instincts");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_DAT_3 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Kingdom O Magic", "Wacky Wheels");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_DAT_31 extends ArchivePlugin {
 
     setGames("Nascar Racing 2");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_DAT_32 extends ArchivePlugin {
 
     setGames("F-22 Total Air War");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
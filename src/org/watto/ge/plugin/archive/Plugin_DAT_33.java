@@ -47,6 +47,7 @@ public class Plugin_DAT_33 extends ArchivePlugin {
 
     setGames("Crime Life: Gang Wars");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
   }
@@ -51,6 +51,7 @@ public class Plugin_DAT_34 extends ArchivePlugin {
 
     setGames("Nexus: The Kingdom Of The Winds");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
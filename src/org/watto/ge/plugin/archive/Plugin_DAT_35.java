@@ -44,6 +44,7 @@ public class Plugin_DAT_35 extends ArchivePlugin {
     setGames("LEGO Star Wars 2: The Original Trilogy",
         "The Chronicles of Narnia: The Lion, The Witch and The Wardrobe");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
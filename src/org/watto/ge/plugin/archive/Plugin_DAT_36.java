@@ -48,6 +48,7 @@ public class Plugin_DAT_36 extends ArchivePlugin {
 
     setGames("World Snooker Championship 2005");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
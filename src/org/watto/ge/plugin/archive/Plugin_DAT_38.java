@@ -47,6 +47,7 @@ public class Plugin_DAT_38 extends ArchivePlugin {
 
     setGames("Silent Hunter 3");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("1", "3D Data?",
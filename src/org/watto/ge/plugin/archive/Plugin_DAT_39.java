@@ -47,6 +47,7 @@ public class Plugin_DAT_39 extends ArchivePlugin {
 
     setGames("Fizzball");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
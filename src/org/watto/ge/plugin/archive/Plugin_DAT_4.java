@@ -46,6 +46,7 @@ public class Plugin_DAT_4 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Outlive");
     setPlatforms("PC");
 
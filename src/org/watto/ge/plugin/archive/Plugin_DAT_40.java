@@ -47,6 +47,7 @@ public class Plugin_DAT_40 extends ArchivePlugin {
     setGames("Lego Bionicle Heroes",
         "Lego Star Wars 2");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
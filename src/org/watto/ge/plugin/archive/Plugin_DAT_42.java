@@ -57,6 +57,7 @@ public class Plugin_DAT_42 extends ArchivePlugin {
     setGames("LEGO Batman",
         "Transformers: The Game");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
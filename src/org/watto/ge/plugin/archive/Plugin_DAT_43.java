@@ -50,6 +50,7 @@ public class Plugin_DAT_43 extends ArchivePlugin {
 
     setGames("Turok: Dinosaur Hunter", "Turok 2: Seeds Of Evil");
     setExtensions("dat", "lss", "lsm"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
     setEnabled(false);
 
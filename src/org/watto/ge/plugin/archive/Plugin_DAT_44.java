@@ -46,6 +46,7 @@ public class Plugin_DAT_44 extends ArchivePlugin {
 
     setGames("NASCAR Racing 2002 Season");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
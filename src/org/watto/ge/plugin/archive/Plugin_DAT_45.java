@@ -46,6 +46,7 @@ public class Plugin_DAT_45 extends ArchivePlugin {
 
     setGames("Kung Fu Panda");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_DAT_47 extends ArchivePlugin {
 
     setGames("Cramgene");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes("","",
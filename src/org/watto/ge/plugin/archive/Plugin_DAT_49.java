@@ -45,6 +45,7 @@ public class Plugin_DAT_49 extends ArchivePlugin {
 
     setGames("Star Wars: Super Bombad Racing");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_DAT_5 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Imperium Galactica 2");
     setPlatforms("PC");
 
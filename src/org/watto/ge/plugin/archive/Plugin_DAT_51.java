@@ -42,6 +42,7 @@ public class Plugin_DAT_51 extends ArchivePlugin {
 
     setGames("Black Mirror 3");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_DAT_52 extends ArchivePlugin {
 
     setGames("Black Mirror 3");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
     setEnabled(false); // DISABLED - NOT WORKING, FILE FORMAT ISN'T QUITE LIKE THIS. Easier leaving it to the Scanner.
 
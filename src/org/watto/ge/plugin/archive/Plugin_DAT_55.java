@@ -43,6 +43,7 @@ public class Plugin_DAT_55 extends ArchivePlugin {
     setGames("Dungeon Keeper",
         "Theme Hospital");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_DAT_56 extends ArchivePlugin {
 
     setGames("Anti-Opoly");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
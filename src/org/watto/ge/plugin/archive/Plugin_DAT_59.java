@@ -42,6 +42,7 @@ public class Plugin_DAT_59 extends ArchivePlugin {
 
     setGames("Mata Hari");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_63 extends ArchivePlugin {
 
     setGames("Marco Polo");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
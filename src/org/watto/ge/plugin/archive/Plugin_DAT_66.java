@@ -42,6 +42,7 @@ public class Plugin_DAT_66 extends ArchivePlugin {
 
     setGames("Rollercoaster Tycoon Classic");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_DAT_67 extends ArchivePlugin {
 
     setGames("The Oregon Trail: 5th Edition");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
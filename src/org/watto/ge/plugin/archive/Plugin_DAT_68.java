@@ -42,6 +42,7 @@ public class Plugin_DAT_68 extends ArchivePlugin {
 
     setGames("Sins of a Solar Empire: Rebellion");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
@@ -45,6 +45,7 @@ public class Plugin_DAT_69 extends ArchivePlugin {
 
     setGames("Super Meat Boy");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_DAT_7 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Desert Strike");
     setPlatforms("PC");
 
@@ -49,6 +49,7 @@ public class Plugin_DAT_71 extends ArchivePlugin {
 
     setGames("Refuse: Home, Sweep Home");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature(1617375028);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
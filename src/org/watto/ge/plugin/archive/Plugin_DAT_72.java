@@ -43,6 +43,7 @@ public class Plugin_DAT_72 extends ArchivePlugin {
 
     setGames("Elder Scrolls 2: Daggerfall");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -15,12 +15,11 @@
 package org.watto.ge.plugin.archive;
 
 import java.io.File;
-import java.util.HashMap;
 
-import org.watto.Settings;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FieldValidator;
+import org.watto.ge.helper.HashDictionary;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.io.FileManipulator;
 import org.watto.io.Hex;
@@ -131,31 +130,8 @@ public class Plugin_DAT_78 extends ArchivePlugin {
       // See if we have a file with the filenames in it, and if so, we need to read them in so the decryption works properly
       String[] names = null;
 
-      HashMap<String, String> hashMap = new HashMap<String, String>(numFiles);
-      File hashFile = new File(Settings.get("HashesDirectory") + File.separatorChar + "DAT_78" + File.separatorChar + "legacyofkain_defiance.txt");
-      if (hashFile.exists()) {
-        int hashFileLength = (int) hashFile.length();
-
-        char equalsChar = '=';
-
-        FileManipulator hashFM = new FileManipulator(hashFile, false);
-        while (hashFM.getOffset() < hashFileLength) {
-          String name = hashFM.readLine();
-          if (name.equals("")) {
-            break; // EOF
-          }
-
-          int equalPos = name.indexOf(equalsChar);
-          if (equalPos > 0) {
-            String hash = name.substring(0, equalPos);
-            name = name.substring(equalPos + 1);
-
-            hashMap.put(hash, name);
-          }
-
-        }
-        hashFM.close();
-
+      HashDictionary hashMap = HashDictionary.getDictionary("DAT_78", "legacyofkain_defiance.txt", HashDictionary.KEY_HEX);
+      if (hashMap != null) {
         names = new String[numFiles];
         setCanScanForFileTypes(false);
       }
@@ -168,7 +144,7 @@ public class Plugin_DAT_78 extends ArchivePlugin {
         for (int i = 0; i < numFiles; i++) {
           // 4 - Hash
           Hex hash = fm.readHex(4);
-          names[i] = hashMap.get(hash.toString());
+          names[i] = hashMap.get(Long.parseLong(hash.toString(), 16));
         }
       }
 
@@ -45,6 +45,7 @@ public class Plugin_DAT_8 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Oni");
     setPlatforms("PC");
 
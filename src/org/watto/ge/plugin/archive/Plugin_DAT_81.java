@@ -43,6 +43,7 @@ public class Plugin_DAT_81 extends ArchivePlugin {
 
     setGames("Bicycle Hearts and Spades");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
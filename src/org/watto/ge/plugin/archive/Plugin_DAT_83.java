@@ -43,6 +43,7 @@ public class Plugin_DAT_83 extends ArchivePlugin {
 
     setGames("Who Wants To Be A Millionaire");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_DAT_85 extends ArchivePlugin {
 
     setGames("Arcanum: Of Steamworks and Magick Obscura");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_86 extends ArchivePlugin {
 
     setGames("Breath Of Fire 4");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_87 extends ArchivePlugin {
 
     setGames("Syndicate Wars");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("RIFF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
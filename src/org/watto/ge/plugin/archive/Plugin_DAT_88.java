@@ -42,6 +42,7 @@ public class Plugin_DAT_88 extends ArchivePlugin {
 
     setGames("Daria's Inferno");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_DAT_9 extends ArchivePlugin {
     setGames("In The Raven Shadow",
         "ShadowCaster");
     setExtensions("dat");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_DAT_92 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Prince Of Persia 2: The Shadow and The Flame");
     setPlatforms("PC");
 
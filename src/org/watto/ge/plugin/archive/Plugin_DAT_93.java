@@ -51,6 +51,7 @@ public class Plugin_DAT_93 extends ArchivePlugin {
 
     setGames("Asheron's Call 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_DAT_98 extends ArchivePlugin {
 
     setGames("Turok: Dinosaur Hunter");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature(1008);
     setPlatforms("PC");
 
     setFileTypes(new FileType("dat_tex", "Texture Image", FileType.TYPE_IMAGE));
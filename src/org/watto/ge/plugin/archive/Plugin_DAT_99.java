@@ -48,6 +48,7 @@ public class Plugin_DAT_99 extends ArchivePlugin {
 
     setGames("Turok: Dinosaur Hunter");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_DAT_ADAT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchSignature("ADAT");
     setGames("Anachronox");
     setPlatforms("PC");
 
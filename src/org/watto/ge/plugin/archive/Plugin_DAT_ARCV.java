@@ -54,6 +54,7 @@ public class Plugin_DAT_ARCV extends ArchivePlugin {
     setGames("Guacamelee!",
         "Guacamelee! 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("ARCV");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_DAT_CACH extends ArchivePlugin {
 
     setGames("Air Offensive", "Thunder Brigade");
     setExtensions("dat");
+    setMatchSignature("CACH");
     setPlatforms("PC");
 
   }
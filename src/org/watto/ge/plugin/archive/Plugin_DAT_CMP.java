@@ -46,6 +46,7 @@ public class Plugin_DAT_CMP extends ArchivePlugin {
 
     setGames("Black Matrix");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("CMP ");
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
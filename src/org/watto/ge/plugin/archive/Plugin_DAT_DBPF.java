@@ -53,6 +53,7 @@ public class Plugin_DAT_DBPF extends ArchivePlugin {
         "Simcity 4",
         "The Sims 2");
     setExtensions("dat", "package", "sc4lot", "sc4");
+    setMatchSignature("DBPF");
     setPlatforms("PC");
 
     // The Sims 2
@@ -47,6 +47,7 @@ public class Plugin_DAT_DG extends ArchivePlugin {
 
     setGames("Majestic Chess");
     setExtensions("dat");
+    setMatchSignature("DG");
     setPlatforms("PC");
 
   }
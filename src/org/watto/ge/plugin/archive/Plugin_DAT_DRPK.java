@@ -46,6 +46,7 @@ public class Plugin_DAT_DRPK extends ArchivePlugin {
 
     setGames("Inquisitor");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("DRPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_DSARCFL extends ArchivePlugin {
 
     setGames("Disgaea 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("DSARC FL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
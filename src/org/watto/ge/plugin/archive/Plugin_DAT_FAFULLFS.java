@@ -42,6 +42,7 @@ public class Plugin_DAT_FAFULLFS extends ArchivePlugin {
 
     setGames("Disgaea 5");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("FAFULLFS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
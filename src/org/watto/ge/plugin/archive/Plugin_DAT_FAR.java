@@ -48,6 +48,7 @@ public class Plugin_DAT_FAR extends ArchivePlugin {
 
     setGames("The Sims Online");
     setExtensions("dat");
+    setMatchSignature("FAR!byAZ");
     setPlatforms("PC");
 
     setFileTypes("anim", "Animation File",
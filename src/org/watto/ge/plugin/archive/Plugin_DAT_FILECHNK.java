@@ -45,6 +45,7 @@ public class Plugin_DAT_FILECHNK extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dat");
+    setMatchSignature("FILECHNK");
     setGames("Gunlock");
     setPlatforms("PC");
 
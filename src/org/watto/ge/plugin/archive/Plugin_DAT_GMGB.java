@@ -48,6 +48,7 @@ public class Plugin_DAT_GMGB extends ArchivePlugin {
 
     setGames("Still Life 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature(-956731794);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -51,6 +51,7 @@ public class Plugin_DAT_GRA2 extends ArchivePlugin {
     setGames("Legend of Grimrock",
         "Legend of Grimrock 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("GRA2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_DAT_HSFS extends ArchivePlugin {
 
     setGames("Broken Sword: Shadow of the Templars");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("HSFS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
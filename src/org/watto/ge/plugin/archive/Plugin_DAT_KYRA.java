@@ -43,6 +43,7 @@ public class Plugin_DAT_KYRA extends ArchivePlugin {
 
     setGames("Musaic Box");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("KYRA");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
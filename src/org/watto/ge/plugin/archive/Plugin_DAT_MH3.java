@@ -48,6 +48,7 @@ public class Plugin_DAT_MH3 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("dat");
+    setMatchNeedsExtension();
     setGames("Moorhuhn 3");
     setPlatforms("PC");
 
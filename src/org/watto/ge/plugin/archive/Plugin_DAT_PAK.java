@@ -44,6 +44,7 @@ public class Plugin_DAT_PAK extends ArchivePlugin {
 
     setGames("Scooby-Doo! and the Spooky Swamp");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PAK");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_DAT_PCMP extends ArchivePlugin {
 
     setGames("Black Matrix");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PCMP");
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
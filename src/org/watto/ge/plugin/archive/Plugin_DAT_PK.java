@@ -45,6 +45,7 @@ public class Plugin_DAT_PK extends ArchivePlugin {
 
     setGames("Jack Keane");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PK");
     setPlatforms("PC");
 
     setEnabled(false); // might be dangerous to leave this enabled, as it'll interfere with reading ZIP archives with non-zip file extensions
@@ -44,6 +44,7 @@ public class Plugin_DAT_PKG extends ArchivePlugin {
 
     setGames("Faster Than Light");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PKG");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_PSFSV1 extends ArchivePlugin {
 
     setGames("Disgaea 5");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PS_FS_V1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_DAT_PSPFSV1 extends ArchivePlugin {
 
     setGames("Disgaea 2");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("PSPFS_V1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
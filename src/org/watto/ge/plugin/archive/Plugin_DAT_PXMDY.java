@@ -49,6 +49,7 @@ public class Plugin_DAT_PXMDY extends ArchivePlugin {
 
     setGames("Backspin Billiards Deluxe");
     setExtensions("dat");
+    setMatchSignature("PXMDY");
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_DAT_RARC extends ArchivePlugin {
     setGames("Broken Sword: Shadow of the Templars",
         "Broken Sword 2: The Smoking Mirror");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("RARC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
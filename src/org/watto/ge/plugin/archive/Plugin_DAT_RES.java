@@ -46,6 +46,7 @@ public class Plugin_DAT_RES extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("dat");
+    setMatchSignature("RES");
     setGames("Motocross Madness");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_DAT_SFDC extends ArchivePlugin {
 
     setGames("Tribes: Aerial Assault");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("SFDC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -54,6 +54,7 @@ public class Plugin_DAT_SLHALL extends ArchivePlugin {
     setGames("Temporal",
         "Wizball");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("slh.ALL.");
     setPlatforms("PC");
 
     //setFileTypes("","",
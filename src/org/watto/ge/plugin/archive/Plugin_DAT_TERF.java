@@ -51,6 +51,7 @@ public class Plugin_DAT_TERF extends ArchivePlugin {
         "Madden 2005",
         "NFL Head Coach");
     setExtensions("dat");
+    setMatchSignature("TERF");
     setPlatforms("PC");
 
   }
@@ -58,6 +58,7 @@ public class Plugin_DAT_TEXPSX extends ArchivePlugin {
         "NHL FaceOff 99",
         "007: Tomorrow Never Dies");
     setExtensions("dat"); // DAT files as well, but the header should be enough to detect these files
+    setMatchSignature("TEX PSX ");
     setPlatforms("PS2");
 
     setFileTypes(new FileType("texpsx", "TEX PSX Image", FileType.TYPE_IMAGE));
@@ -44,6 +44,7 @@ public class Plugin_DAT_WAZZZZAUP extends ArchivePlugin {
         "Cursed",
         "Sinister City");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("wazzzzaup!");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
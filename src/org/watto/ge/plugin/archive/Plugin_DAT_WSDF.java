@@ -49,6 +49,7 @@ public class Plugin_DAT_WSDF extends ArchivePlugin {
 
     setGames("Enemy Nations");
     setExtensions("dat");
+    setMatchSignature("WSDF");
     setPlatforms("PC");
 
   }
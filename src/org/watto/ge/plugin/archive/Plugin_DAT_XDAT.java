@@ -49,6 +49,7 @@ public class Plugin_DAT_XDAT extends ArchivePlugin {
     setGames("Domination: Massive Assault",
         "Massive Assault Network 2");
     setExtensions("dat");
+    setMatchSignature("XDAT");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_DAT_XFLE3 extends ArchivePlugin {
 
     setGames("Harvester");
     setExtensions("dat"); // MUST BE LOWER CASE
+    setMatchSignature("XFLE");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -42,6 +42,7 @@ public class Plugin_DBI_MQDB extends ArchivePlugin {
 
     setGames("Disciples: Sacred Lands");
     setExtensions("dbi", "ff"); // MUST BE LOWER CASE
+    setMatchSignature("MQDB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_DBP_DBP1 extends ArchivePlugin {
 
     setGames("Diabotical");
     setExtensions("dbp"); // MUST BE LOWER CASE
+    setMatchSignature("DBP1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_DBS_WAVFILE extends ArchivePlugin {
 
     setGames("Cavewars");
     setExtensions("dbs");
+    setMatchSignature("wavfile");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_DBU extends ArchivePlugin {
 
     setGames("Chicken Little");
     setExtensions("dbu"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
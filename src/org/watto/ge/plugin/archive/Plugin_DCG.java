@@ -48,6 +48,7 @@ public class Plugin_DCG extends ArchivePlugin {
 
     setGames("Pro Pinball: Fantastic Journey");
     setExtensions("dcg", "dmg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
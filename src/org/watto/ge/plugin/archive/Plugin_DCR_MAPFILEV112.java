@@ -45,6 +45,7 @@ public class Plugin_DCR_MAPFILEV112 extends ArchivePlugin {
 
     setGames("Ultimate Race Pro");
     setExtensions("dcr"); // MUST BE LOWER CASE
+    setMatchSignature("Map file v1.12");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_DCX extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("dcx");
+    setMatchNeedsExtension();
     setGames("Enter The Matrix");
     setPlatforms("PC");
 
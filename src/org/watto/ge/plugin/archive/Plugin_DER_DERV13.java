@@ -42,6 +42,7 @@ public class Plugin_DER_DERV13 extends ArchivePlugin {
 
     setGames("Demise: Rise of the Ku'tan");
     setExtensions("der"); // MUST BE LOWER CASE
+    setMatchSignature("DERv1.3");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
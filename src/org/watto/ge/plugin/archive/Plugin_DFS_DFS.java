@@ -43,6 +43,7 @@ public class Plugin_DFS_DFS extends ArchivePlugin {
 
     setGames("Bust A Groove");
     setExtensions("dfs"); // MUST BE LOWER CASE
+    setMatchSignature("DFS_");
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
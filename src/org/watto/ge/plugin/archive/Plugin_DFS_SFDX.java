@@ -46,6 +46,7 @@ public class Plugin_DFS_SFDX extends ArchivePlugin {
 
     setGames("Area 51");
     setExtensions("dfs");
+    setMatchSignature("SFDX");
     setPlatforms("PC");
 
   }
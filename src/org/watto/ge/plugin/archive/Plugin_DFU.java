@@ -46,6 +46,7 @@ public class Plugin_DFU extends ArchivePlugin {
 
     setGames("Enter The Matrix");
     setExtensions("dfu"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_DHB extends ArchivePlugin {
 
     setGames("Die Hard Trilogy 2");
     setExtensions("dhb"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     setFileTypes(new FileType("dhb", "DHB Image", FileType.TYPE_IMAGE));
@@ -47,6 +47,7 @@ public class Plugin_DIR extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dir");
+    setMatchNeedsExtension();
     setGames("Commandos: Behind Enemy Lines",
         "Commandos: Beyond the Call of Duty");
     setPlatforms("PC");
@@ -62,6 +62,7 @@ public class Plugin_DLL_MZ extends ArchivePlugin {
     setGames("DLL/EXE Program Resources",
         "Petz 5");
     setExtensions("dll", "exe", "msstyles");
+    setMatchSignature("MZ");
     setPlatforms("PC");
 
   }
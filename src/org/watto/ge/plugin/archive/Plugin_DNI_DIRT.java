@@ -48,6 +48,7 @@ public class Plugin_DNI_DIRT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dni");
+    setMatchSignature("Dirt");
     setGames("Real Myst");
     setPlatforms("PC");
 
@@ -42,6 +42,7 @@ public class Plugin_DPC_181ASOBO extends ArchivePlugin {
 
     setGames("CT Special Forces");
     setExtensions("dpc"); // MUST BE LOWER CASE
+    setMatchSignature("v1.81 - Asobo Studio - Internal Cross Technology");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
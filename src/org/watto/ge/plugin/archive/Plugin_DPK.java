@@ -44,6 +44,7 @@ public class Plugin_DPK extends ArchivePlugin {
 
     setGames("Aces Of The Galaxy", "The UnderGarden");
     setExtensions("dpk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
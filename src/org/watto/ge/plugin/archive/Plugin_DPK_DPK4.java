@@ -49,6 +49,7 @@ public class Plugin_DPK_DPK4 extends ArchivePlugin {
         "Space Interceptor",
         "Terrorist Takedown");
     setExtensions("dpk");
+    setMatchSignature("DPK4");
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_DRS extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("drs");
+    setMatchSignature("Copyright (c) 1997 Ensemble Studios.");
     setGames("Age Of Empires",
         "Age Of Empires 2");
     setPlatforms("PC");
@@ -44,6 +44,7 @@ public class Plugin_DRS_3 extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("drs");
+    setMatchSignature("Copyright (c) 2001 LucasArts Entertainment Company LLC");
     setGames("Star Wars: Galactic Battlegrounds");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_DR_DR12 extends ArchivePlugin {
 
     setGames("Showdown: Legends of Wrestling");
     setExtensions("dr"); // MUST BE LOWER CASE
+    setMatchSignature("x");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
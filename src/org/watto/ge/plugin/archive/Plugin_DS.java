@@ -43,6 +43,7 @@ public class Plugin_DS extends ArchivePlugin {
 
     setGames("Warhammer 40,000: Chaos Gate");
     setExtensions("ds"); // MUST BE LOWER CASE
+    setMatchSignature(-1);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
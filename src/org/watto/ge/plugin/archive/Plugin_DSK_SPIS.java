@@ -47,6 +47,7 @@ public class Plugin_DSK_SPIS extends ArchivePlugin {
 
     setGames("Case Closed");
     setExtensions("dsk");
+    setMatchSignature("SPIS");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_DYN_DYNAMIX extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("dyn");
+    setMatchSignature("Dynamix Volume File");
     setGames("Command: Aces Of The Deep");
     setPlatforms("PC");
 
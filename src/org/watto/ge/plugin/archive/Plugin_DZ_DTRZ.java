@@ -47,6 +47,7 @@ public class Plugin_DZ_DTRZ extends ArchivePlugin {
         "Talisman",
         "The Lords of Midnight");
     setExtensions("dz"); // MUST BE LOWER CASE
+    setMatchSignature("DTRZ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_E3_ESV1 extends ArchivePlugin {
 
     setGames("Esoteria");
     setExtensions("e3");
+    setMatchSignature("ESv1.0 ");
     setPlatforms("PC");
 
   }
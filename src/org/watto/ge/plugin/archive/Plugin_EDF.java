@@ -46,6 +46,7 @@ public class Plugin_EDF extends ArchivePlugin {
 
     setGames("Jack Nicklaus 5");
     setExtensions("edf"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_EDT extends ArchivePlugin {
 
     setGames("Sudden Strike");
     setExtensions("edt", "pck");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
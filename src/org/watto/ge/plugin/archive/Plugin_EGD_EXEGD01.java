@@ -42,6 +42,7 @@ public class Plugin_EGD_EXEGD01 extends ArchivePlugin {
 
     setGames("Floresia I: Intemporel");
     setExtensions("egd"); // MUST BE LOWER CASE
+    setMatchSignature("EXEGD0.1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
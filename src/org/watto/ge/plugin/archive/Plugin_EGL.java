@@ -48,6 +48,7 @@ public class Plugin_EGL extends ArchivePlugin {
 
     setGames("Sabre Ace");
     setExtensions("egl");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
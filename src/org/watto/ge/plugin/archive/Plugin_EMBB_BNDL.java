@@ -51,6 +51,7 @@ public class Plugin_EMBB_BNDL extends ArchivePlugin {
     setGames("Middle Earth: Shadow Of Mordor",
         "Middle Earth: Shadow Of War");
     setExtensions("embb"); // MUST BE LOWER CASE
+    setMatchSignature("BNDL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
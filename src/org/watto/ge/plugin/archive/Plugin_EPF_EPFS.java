@@ -45,6 +45,7 @@ public class Plugin_EPF_EPFS extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("epf");
+    setMatchSignature("EPFS");
     setGames("Overdrive", "Project X", "Tower Assult");
     setPlatforms("PC");
 
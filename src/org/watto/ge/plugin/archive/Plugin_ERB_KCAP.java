@@ -46,6 +46,7 @@ public class Plugin_ERB_KCAP extends ArchivePlugin {
 
     setGames("Evil Genius");
     setExtensions("erb");
+    setMatchSignature("KCAP");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_ERF_ERFV10 extends ArchivePlugin {
     setGames("Star Wars: Knights Of The Old Republic",
         "Star Wars: Knights Of The Old Republic 2: The Sith Lords");
     setExtensions("erf"); // MUST BE LOWER CASE
+    setMatchSignature("ERF V1.0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
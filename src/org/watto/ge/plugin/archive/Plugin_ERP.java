@@ -43,6 +43,7 @@ public class Plugin_ERP extends ArchivePlugin {
 
     setGames("Alter Ego");
     setExtensions("erp"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
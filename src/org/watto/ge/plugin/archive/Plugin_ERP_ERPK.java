@@ -45,6 +45,7 @@ public class Plugin_ERP_ERPK extends ArchivePlugin {
 
     setGames("F1 2018");
     setExtensions("erp"); // MUST BE LOWER CASE
+    setMatchSignature("ERPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_EVT_FL00 extends ArchivePlugin {
 
     setGames("Xenosaga Episode 1");
     setExtensions("evt");
+    setMatchSignature("FL00");
     setPlatforms("PC");
 
     //setFileTypes("","",
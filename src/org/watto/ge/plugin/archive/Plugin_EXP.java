@@ -43,6 +43,7 @@ public class Plugin_EXP extends ArchivePlugin {
 
     setGames("Chef's Luv Shack");
     setExtensions("exp"); // MUST BE LOWER CASE
+    setMatchSignature(84);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
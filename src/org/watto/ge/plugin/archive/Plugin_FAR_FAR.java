@@ -47,6 +47,7 @@ public class Plugin_FAR_FAR extends ArchivePlugin {
 
     setGames("The Sims", "The Sims Online");
     setExtensions("far");
+    setMatchSignature("FAR!byAZ");
     setPlatforms("PC");
 
     setFileTypes("ffn", "Font File",
@@ -46,6 +46,7 @@ public class Plugin_FAT_030 extends ArchivePlugin {
 
     setGames("Beasts And Bumpkins");
     setExtensions("fat"); // MUST BE LOWER CASE
+    setMatchSignature("0.30");
     setPlatforms("PC");
 
     //setFileTypes("","",
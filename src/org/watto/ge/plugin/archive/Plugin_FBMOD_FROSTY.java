@@ -43,6 +43,7 @@ public class Plugin_FBMOD_FROSTY extends ArchivePlugin {
 
     setGames("Frosty Tool Suite");
     setExtensions("fbmod", "fifamod"); // MUST BE LOWER CASE
+    setMatchSignature("FROSTY");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_FBQ extends ArchivePlugin {
 
     setGames("Trine");
     setExtensions("fbq"); // MUST BE LOWER CASE
+    setMatchSignature(2);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
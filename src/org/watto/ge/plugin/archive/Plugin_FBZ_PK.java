@@ -47,6 +47,7 @@ public class Plugin_FBZ_PK extends ArchivePlugin {
 
     setGames("Shadowgrounds");
     setExtensions("fbz");
+    setMatchSignature("PK");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_FCL extends ArchivePlugin {
 
     setGames("Lead and Gold: Gangs of the Wild West");
     setExtensions("fcl"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_FF extends ArchivePlugin {
 
     setGames("Dink Smallwood");
     setExtensions("ff");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
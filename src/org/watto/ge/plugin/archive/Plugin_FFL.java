@@ -46,6 +46,7 @@ public class Plugin_FFL extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ffl");
+    setMatchNeedsExtension();
     setGames("Alien Vs Predator");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_FFL_RFFL extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("ffl");
+    setMatchSignature("RFFL");
     setGames("Alien vs Predator");
     setPlatforms("PC");
 
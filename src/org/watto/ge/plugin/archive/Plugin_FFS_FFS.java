@@ -48,6 +48,7 @@ public class Plugin_FFS_FFS extends ArchivePlugin {
 
     setGames("Heroes Of The Pacific");
     setExtensions("ffs");
+    setMatchSignature("FFS ");
     setPlatforms("PC");
 
     setFileTypes("fsd", "Audio Archive",
@@ -47,6 +47,7 @@ public class Plugin_FF_2 extends ArchivePlugin {
 
     setGames("Flying Saucer");
     setExtensions("ff");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_FF_3 extends ArchivePlugin {
 
     setGames("Mission Kelloggs");
     setExtensions("ff");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_FIB_FUSE100 extends ArchivePlugin {
 
     setGames("Lego Marvel Super Heroes");
     setExtensions("fib"); // MUST BE LOWER CASE
+    setMatchSignature("FUSE");
     setPlatforms("Android");
 
     // MUST BE LOWER CASE !!!
@@ -55,6 +55,7 @@ public class Plugin_FIFAMOD_FIFATOOL extends ArchivePlugin {
     setGames("Frosty Tool Suite",
         "FIFA Mod Manager");
     setExtensions("fifamod"); // MUST BE LOWER CASE
+    setMatchSignature("FIFATOOL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
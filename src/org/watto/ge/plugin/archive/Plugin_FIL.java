@@ -44,6 +44,7 @@ public class Plugin_FIL extends ArchivePlugin {
     setGames("Constructor",
         "Constructor Classic");
     setExtensions("fil"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_FLFL_RMIM extends ArchivePlugin {
 
     setGames("Moonbase Commander");
     setExtensions("flfl"); // MUST BE LOWER CASE
+    setMatchSignature("RMIM");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
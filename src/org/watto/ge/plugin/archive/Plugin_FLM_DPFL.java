@@ -42,6 +42,7 @@ public class Plugin_FLM_DPFL extends ArchivePlugin {
 
     setGames("Nation Red");
     setExtensions("flm"); // MUST BE LOWER CASE
+    setMatchSignature("DPFL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_FLX extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("flx");
+    setMatchSignature(437918234);
     setGames("Crusader: No Remorse", "Crusader: No Regret");
     setPlatforms("PC");
 
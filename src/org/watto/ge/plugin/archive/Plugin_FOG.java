@@ -45,6 +45,7 @@ public class Plugin_FOG extends ArchivePlugin {
 
     setGames("Syphon Filter");
     setExtensions("fog"); // MUST BE LOWER CASE
+    setMatchSignature(-2147483647);
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_FORGE_SCIMITAR extends ArchivePlugin {
         "Steep",
         "Tom Clancy's Ghost Recon Wildlands");
     setExtensions("forge"); // MUST BE LOWER CASE
+    setMatchSignature("scimitar");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_FPF extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("fpf");
+    setMatchNeedsExtension();
     setGames("Monopoly Deluxe");
     setPlatforms("PC");
 
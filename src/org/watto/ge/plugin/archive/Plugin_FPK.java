@@ -50,6 +50,7 @@ public class Plugin_FPK extends ArchivePlugin {
 
     setGames("WWE Raw 2");
     setExtensions("fpk");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_FPK_2 extends ArchivePlugin {
 
     setGames("Tatsunoko vs Capcom");
     setExtensions("fpk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_FPK_FKP extends ArchivePlugin {
 
     setGames("FLOCK!");
     setExtensions("fpk"); // MUST BE LOWER CASE
+    setMatchSignature("FKP.");
     setPlatforms("PC");
 
     setFileTypes(new FileType("pgl", "Language File", FileType.TYPE_DOCUMENT));
@@ -48,6 +48,7 @@ public class Plugin_FPK_JINDO extends ArchivePlugin {
 
     setGames("War Rock");
     setExtensions("fpk"); // MUST BE LOWER CASE
+    setMatchSignature("Jindo Pack File");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -47,6 +47,7 @@ public class Plugin_FS extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("fs");
+    setMatchNeedsExtension();
     setGames("Chaser", "Gene Troopers");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_FSB_FSB1 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("fsb");
+    setMatchSignature("FSB1");
     setGames("FMOD");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_FSB_FSB2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("fsb");
+    setMatchSignature("FSB2");
     setGames("FMOD");
     setPlatforms("PC");
 
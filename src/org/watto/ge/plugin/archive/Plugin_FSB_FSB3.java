@@ -45,6 +45,7 @@ public class Plugin_FSB_FSB3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("fsb");
+    setMatchSignature("FSB3");
     setGames("American Chopper 2: Full Throttle",
         "Battlestations: Midway",
         "Battlestations: Pacific",
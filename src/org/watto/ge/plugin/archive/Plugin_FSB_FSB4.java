@@ -45,6 +45,7 @@ public class Plugin_FSB_FSB4 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("fsb");
+    setMatchSignature("FSB4");
     setGames("A Vampyre Story",
         "Costume Quest",
         "Cryostasis",
@@ -47,6 +47,7 @@ public class Plugin_FST_2 extends ArchivePlugin {
 
     setGames("Microsoft Baseball 2000");
     setExtensions("fst");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
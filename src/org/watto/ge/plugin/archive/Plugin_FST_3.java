@@ -44,6 +44,7 @@ public class Plugin_FST_3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("fst");
+    setMatchNeedsExtension();
     setGames("Mech Commander",
         "Mech Commander Gold");
     setPlatforms("PC");
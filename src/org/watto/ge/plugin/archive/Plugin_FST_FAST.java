@@ -46,6 +46,7 @@ public class Plugin_FST_FAST extends ArchivePlugin {
     setGames("Crazy Machines: Elements",
         "Crazy Machines: Golden Gears");
     setExtensions("fst"); // MUST BE LOWER CASE
+    setMatchSignature("FAST");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
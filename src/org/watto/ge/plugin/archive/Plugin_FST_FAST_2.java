@@ -51,6 +51,7 @@ public class Plugin_FST_FAST_2 extends ArchivePlugin {
 
     setGames("Crazy Machines 2");
     setExtensions("fst"); // MUST BE LOWER CASE
+    setMatchSignature("FAST");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_FSYS_FSYS extends ArchivePlugin {
 
     setGames("Pokemon Battle Revolution");
     setExtensions("fsys"); // MUST BE LOWER CASE
+    setMatchSignature("FSYS");
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
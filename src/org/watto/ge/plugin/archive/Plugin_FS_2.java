@@ -49,6 +49,7 @@ public class Plugin_FS_2 extends ArchivePlugin {
 
     setGames("Hercules", "Tarzan");
     setExtensions("fs", "fsd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
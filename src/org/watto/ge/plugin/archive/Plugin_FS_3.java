@@ -47,6 +47,7 @@ public class Plugin_FS_3 extends ArchivePlugin {
 
     setGames("Fantastic 4", "Sopranos: Road to Respect");
     setExtensions("fs", "rs");
+    setMatchNeedsExtension();
     setPlatforms("PC", "XBox", "PS2");
 
     //setTextPreviewExtensions("colours", "rat", "screen", "styles"); // LOWER CASE
@@ -46,6 +46,7 @@ public class Plugin_FTG_BOTG extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("ftg");
+    setMatchSignature("BOTG");
     setGames("Dark Reign");
     setPlatforms("PC");
 
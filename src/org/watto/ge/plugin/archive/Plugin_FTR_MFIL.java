@@ -46,6 +46,7 @@ public class Plugin_FTR_MFIL extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ftr");
+    setMatchSignature("MFIL");
     setGames("Mortal Kombat 3");
     setPlatforms("PC");
 
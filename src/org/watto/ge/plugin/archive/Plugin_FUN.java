@@ -48,6 +48,7 @@ public class Plugin_FUN extends ArchivePlugin {
     setGames("Club Penguin: Elite Penguin Force",
         "Club Penguin: Herberts Revenge");
     setExtensions("fun"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Nintendo DS");
 
     // MUST BE LOWER CASE !!!
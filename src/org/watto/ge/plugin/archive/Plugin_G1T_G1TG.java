@@ -43,6 +43,7 @@ public class Plugin_G1T_G1TG extends ArchivePlugin {
 
     setGames("Nioh");
     setExtensions("g1t"); // MUST BE LOWER CASE
+    setMatchSignature("G1TG");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
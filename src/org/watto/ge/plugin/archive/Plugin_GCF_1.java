@@ -46,6 +46,7 @@ public class Plugin_GCF_1 extends ArchivePlugin {
 
     setGames("RACE 07");
     setExtensions("gcf"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_GD extends ArchivePlugin {
 
     setGames("Alien Nations: Amazons And Aliens");
     setExtensions("gd");
+    setMatchSignature(24);
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_GEO_01V extends ArchivePlugin {
 
     setGames("Mortal Kombat Gold");
     setExtensions("geo");
+    setMatchSignature("0.1v");
     setPlatforms("Dreamcast");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_GFX extends ArchivePlugin {
     setGames("Elf Bowling: Hawaiian Vacation",
         "Elf Bowling: The Last Insult");
     setExtensions("gfx"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
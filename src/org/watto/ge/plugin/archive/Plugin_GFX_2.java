@@ -48,6 +48,7 @@ public class Plugin_GFX_2 extends ArchivePlugin {
 
     setGames("Carrion Reanimating");
     setExtensions("gfx"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_GJD_2 extends ArchivePlugin {
 
     setGames("The 11th Hour");
     setExtensions("gjd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_GJD_3 extends ArchivePlugin {
 
     setGames("The 11th Hour");
     setExtensions("gjd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
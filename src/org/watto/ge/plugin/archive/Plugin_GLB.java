@@ -47,6 +47,7 @@ public class Plugin_GLB extends ArchivePlugin {
 
     setGames("Raptor: Call of the Shadows");
     setExtensions("glb"); // MUST BE LOWER CASE
+    setMatchSignature(164731748);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
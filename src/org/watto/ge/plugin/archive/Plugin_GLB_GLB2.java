@@ -47,6 +47,7 @@ public class Plugin_GLB_GLB2 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("glb");
+    setMatchSignature("GLB2.0");
     setGames("Demon Star");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_GLB_GOBJ extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("glb");
+    setMatchSignature("GOBJ");
     setGames("Cyclones");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_GLI_GLIB extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("gli", "glj");
+    setMatchSignature("GLIB2");
     setGames("Airline Tycoon");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_GLM extends ArchivePlugin {
 
     setGames("Auto Assault");
     setExtensions("glm");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -53,6 +53,7 @@ public class Plugin_GOB extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("gob");
+    setMatchNeedsExtension();
     setGames("EA Cricket 2004");
     setPlatforms("PC");
 
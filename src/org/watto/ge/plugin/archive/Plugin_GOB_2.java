@@ -44,6 +44,7 @@ public class Plugin_GOB_2 extends ArchivePlugin {
 
     setGames("The Bard's Tale");
     setExtensions("gob"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
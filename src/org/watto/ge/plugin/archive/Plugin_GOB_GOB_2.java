@@ -47,6 +47,7 @@ public class Plugin_GOB_GOB_2 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("gob");
+    setMatchSignature("GOB ");
     setGames("Droidworks",
         "Indiana Jones And The Infernal Machine",
         "Jedi Knight: Mysteries Of The Sith");
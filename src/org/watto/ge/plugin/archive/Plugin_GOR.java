@@ -48,6 +48,7 @@ public class Plugin_GOR extends ArchivePlugin {
 
     setGames("Myth: The Fallen Lords");
     setExtensions("gor"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_GOU_G12 extends ArchivePlugin {
 
     setGames("Zoids: Helic vs Zenebas");
     setExtensions("gou"); // MUST BE LOWER CASE
+    setMatchSignature("G_12");
     setPlatforms("PS1");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_GPAK extends ArchivePlugin {
 
     setGames("The End Is Nigh");
     setExtensions("gpak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_GPEG extends ArchivePlugin {
 
     setGames("Saints Row: The Third: Remastered");
     setExtensions("gpeg", "cpeg", "gvbh", "cvbh", "gvbm", "cvbm"); // MUST BE LOWER CASE
+    setMatchSignature("GEKV");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
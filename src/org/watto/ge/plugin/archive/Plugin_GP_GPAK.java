@@ -48,6 +48,7 @@ public class Plugin_GP_GPAK extends ArchivePlugin {
 
     setGames("American Conquest");
     setExtensions("gp");
+    setMatchSignature("GPAK");
     setPlatforms("PC");
 
   }
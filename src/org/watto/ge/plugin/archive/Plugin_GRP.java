@@ -47,6 +47,7 @@ public class Plugin_GRP extends ArchivePlugin {
         "Tale Of A Hero",
         "The Black Mirror");
     setExtensions("grp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_GRP_2 extends ArchivePlugin {
 
     setGames("Astro Avenger 2");
     setExtensions("grp"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -42,6 +42,7 @@ public class Plugin_GRP_GRP1 extends ArchivePlugin {
 
     setGames("Wings Of Prey");
     setExtensions("grp"); // MUST BE LOWER CASE
+    setMatchSignature("GRP1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
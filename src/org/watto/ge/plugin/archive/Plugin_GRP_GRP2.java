@@ -43,6 +43,7 @@ public class Plugin_GRP_GRP2 extends ArchivePlugin {
 
     setGames("CRSED: F.O.A.D.");
     setExtensions("grp"); // MUST BE LOWER CASE
+    setMatchSignature("GRP2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_GRP_KEN extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("grp");
+    setMatchSignature("KenSilverman");
     setGames("Duke Nukem 3D",
         "Shadow Warrior");
     setPlatforms("PC");
@@ -44,6 +44,7 @@ public class Plugin_GRP_RGRP extends ArchivePlugin {
 
     setGames("The Clue Finders 3rd Grade Adventures");
     setExtensions("grp"); // MUST BE LOWER CASE
+    setMatchSignature("RGrp");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_GSC_GSCFMT extends ArchivePlugin {
     setGames("American Conquest 2",
         "Heroes of Annihilated Empires");
     setExtensions("gsc");
+    setMatchSignature("GSCfmt");
     setPlatforms("PC");
 
   }
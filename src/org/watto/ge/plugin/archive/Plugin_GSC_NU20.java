@@ -42,6 +42,7 @@ public class Plugin_GSC_NU20 extends ArchivePlugin {
 
     setGames("LEGO Batman");
     setExtensions("gsc"); // MUST BE LOWER CASE
+    setMatchSignature("NU20");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
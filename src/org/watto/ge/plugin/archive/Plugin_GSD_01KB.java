@@ -44,6 +44,7 @@ public class Plugin_GSD_01KB extends ArchivePlugin {
 
     setGames("Driver 3");
     setExtensions("gsd");
+    setMatchSignature("01KB");
     setPlatforms("PC");
 
   }
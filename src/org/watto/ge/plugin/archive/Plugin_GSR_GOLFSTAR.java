@@ -45,6 +45,7 @@ public class Plugin_GSR_GOLFSTAR extends ArchivePlugin {
 
     setGames("GolfStar");
     setExtensions("gsr"); // MUST BE LOWER CASE
+    setMatchSignature("GolfStar Resource File, Version 1.1");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
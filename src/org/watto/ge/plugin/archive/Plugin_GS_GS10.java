@@ -44,6 +44,7 @@ public class Plugin_GS_GS10 extends ArchivePlugin {
 
     setGames("Cities In Motion");
     setExtensions("gs"); // MUST BE LOWER CASE
+    setMatchSignature("GS10");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -51,6 +51,7 @@ public class Plugin_GT1G0600_GT1G0600 extends ArchivePlugin {
 
     setGames("Ninja Gaiden Sigma");
     setExtensions("gt1g0600"); // MUST BE LOWER CASE
+    setMatchSignature("GT1G0600");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
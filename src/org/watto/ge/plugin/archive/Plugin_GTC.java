@@ -47,6 +47,7 @@ public class Plugin_GTC extends ArchivePlugin {
 
     setGames("Drome Racers");
     setExtensions("gtc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_GTD extends ArchivePlugin {
 
     setGames("Monopoly Tycoon");
     setExtensions("gtd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
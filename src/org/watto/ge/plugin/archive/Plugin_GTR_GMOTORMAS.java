@@ -55,6 +55,7 @@ public class Plugin_GTR_GMOTORMAS extends ArchivePlugin {
         "GTR2",
         "Race");
     setExtensions("gtr", "gtl", "bmw");
+    setMatchSignature("GMOTORMAS10");
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_GTX_TEXT extends ArchivePlugin {
 
     setGames("Armobiles");
     setExtensions("gtx");
+    setMatchSignature("TEXT");
     setPlatforms("PC");
 
   }
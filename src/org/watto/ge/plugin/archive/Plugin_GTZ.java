@@ -50,6 +50,7 @@ public class Plugin_GTZ extends ArchivePlugin {
 
     setGames("From Dusk Till Dawn");
     setExtensions("gtz"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_GUT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("gut");
+    setMatchSignature("**************************************************************");
     setGames("Shadow Company: Left For Dead");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_GW1_HOME extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("gw1");
+    setMatchSignature("HomeBrew File Folder");
     setGames("Gateworld");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_GXL extends ArchivePlugin {
 
     setGames("Lion");
     setExtensions("gxl");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
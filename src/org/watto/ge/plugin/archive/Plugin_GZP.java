@@ -46,6 +46,7 @@ public class Plugin_GZP extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("gzp");
+    setMatchNeedsExtension();
     setGames("Giants Citizen Kabuto",
         "Giants Citizen Kabuto: Reaper");
     setPlatforms("PC");
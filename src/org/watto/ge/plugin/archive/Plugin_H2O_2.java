@@ -47,6 +47,7 @@ public class Plugin_H2O_2 extends ArchivePlugin {
 
     setGames("Dragonshard");
     setExtensions("h2o");
+    setMatchSignature("LIQDLH2O");
     setPlatforms("PC");
 
   }
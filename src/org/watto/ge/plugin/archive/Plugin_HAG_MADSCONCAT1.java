@@ -42,6 +42,7 @@ public class Plugin_HAG_MADSCONCAT1 extends ArchivePlugin {
 
     setGames("Dragonsphere");
     setExtensions("hag"); // MUST BE LOWER CASE
+    setMatchSignature("MADSCONCAT 1.0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
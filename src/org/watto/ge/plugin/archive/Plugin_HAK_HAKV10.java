@@ -46,6 +46,7 @@ public class Plugin_HAK_HAKV10 extends ArchivePlugin {
 
     setGames("Neverwinter Nights");
     setExtensions("hak"); // MUST BE LOWER CASE
+    setMatchSignature("HAK V1.0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_HAL_APUK extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("hal");
+    setMatchSignature("APUK");
     setGames("Mortyr");
     setPlatforms("PC");
 
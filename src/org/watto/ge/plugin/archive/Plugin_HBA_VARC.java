@@ -49,6 +49,7 @@ public class Plugin_HBA_VARC extends ArchivePlugin {
 
     setGames("Thread Space Hyperbol");
     setExtensions("hba");
+    setMatchSignature("VARC");
     setPlatforms("PC");
 
     //setFileTypes("","",
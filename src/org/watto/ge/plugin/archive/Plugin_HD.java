@@ -46,6 +46,7 @@ public class Plugin_HD extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("hd", "cd");
+    setMatchNeedsExtension();
     setGames("Cyclones");
     setPlatforms("PC");
 
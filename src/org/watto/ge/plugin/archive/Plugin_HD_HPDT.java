@@ -45,6 +45,7 @@ public class Plugin_HD_HPDT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("hfd", "hgd", "hmd", "hod", "hsd", "hvd");
+    setMatchSignature("HPDT");
     setGames("Highway Pursuit");
     setPlatforms("PC");
 
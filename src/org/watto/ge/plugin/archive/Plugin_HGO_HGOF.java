@@ -44,6 +44,7 @@ public class Plugin_HGO_HGOF extends ArchivePlugin {
 
     setGames("Crash Bandicoot: The Wrath of Cortex");
     setExtensions("hgo"); // MUST BE LOWER CASE
+    setMatchSignature("HGOF");
     setPlatforms("xbox");
 
     // MUST BE LOWER CASE !!!
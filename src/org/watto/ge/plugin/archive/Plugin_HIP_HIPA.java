@@ -49,6 +49,7 @@ public class Plugin_HIP_HIPA extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("hip", "hop");
+    setMatchSignature("HIPA");
     setGames("The Incredibles",
         "Spongebob Squarepants: The Movie");
     setPlatforms("PC", "XBox");
@@ -47,6 +47,7 @@ public class Plugin_HOG extends ArchivePlugin {
     setGames("Syphon Filter: The Omega Strain",
         "Syphon Filter");
     setExtensions("hog");
+    setMatchNeedsExtension();
     setPlatforms("PS2",
         "PS1");
 
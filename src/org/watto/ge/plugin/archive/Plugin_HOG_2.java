@@ -44,6 +44,7 @@ public class Plugin_HOG_2 extends ArchivePlugin {
     setGames("Disney's Chicken Little",
         "Tak 3: The Great Juju Challenge");
     setExtensions("hog");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
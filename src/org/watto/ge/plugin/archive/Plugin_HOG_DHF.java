@@ -46,6 +46,7 @@ public class Plugin_HOG_DHF extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("hog");
+    setMatchSignature("DHF");
     setGames("Descent",
         "Descent 2");
     setPlatforms("PC");
@@ -46,6 +46,7 @@ public class Plugin_HOG_HOG2 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("hog", "d3c", "d3m", "mn3");
+    setMatchSignature("HOG2");
     setGames("Descent 3");
     setPlatforms("PC");
 
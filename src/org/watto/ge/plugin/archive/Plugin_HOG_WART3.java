@@ -46,6 +46,7 @@ public class Plugin_HOG_WART3 extends ArchivePlugin {
 
     setGames("Harry Potter And The Sorcerers Stone");
     setExtensions("hog");
+    setMatchSignature("WART3.00");
     setPlatforms("XBox");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_HPF_HMG extends ArchivePlugin {
 
     setGames("Transworld Snowboarding");
     setExtensions("hpf");
+    setMatchSignature("HMG_PACKED_FILE");
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_HPI_HAPI_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("hpi");
+    setMatchSignature("HAPI");
     setGames("Total Annihilation: Kingdoms");
     setPlatforms("PC");
 
@@ -64,6 +64,7 @@ public class Plugin_HPK_BPUL extends ArchivePlugin {
         "Tropico 4",
         "Tropico 5");
     setExtensions("hpk"); // MUST BE LOWER CASE
+    setMatchSignature("BPUL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_HQR extends ArchivePlugin {
 
     setGames("Little Big Adventure 2");
     setExtensions("vox", "hqr", "ile", "obl"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_HTC extends ArchivePlugin {
 
     setGames("To Serve And Command");
     setExtensions("htc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
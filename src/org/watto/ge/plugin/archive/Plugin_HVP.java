@@ -43,6 +43,7 @@ public class Plugin_HVP extends ArchivePlugin {
 
     setGames("Obscure 2");
     setExtensions("hvp"); // MUST BE LOWER CASE
+    setMatchSignature(262144);
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
@@ -51,6 +51,7 @@ public class Plugin_HVP_HVPACKFILE extends ArchivePlugin {
 
     setGames("Obscure", "Obscure (PS2) [Read Only]");
     setExtensions("hvp", "001");
+    setMatchSignature("HV PackFile");
     setPlatforms("PC", "PS2");
 
   }
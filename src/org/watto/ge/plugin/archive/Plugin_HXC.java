@@ -46,6 +46,7 @@ public class Plugin_HXC extends ArchivePlugin {
 
     setGames("XIII");
     setExtensions("hxc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_IBD extends ArchivePlugin {
 
     setGames("Deus Ex: Invisible War");
     setExtensions("ibd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
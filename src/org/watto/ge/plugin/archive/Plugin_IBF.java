@@ -49,6 +49,7 @@ public class Plugin_IBF extends ArchivePlugin {
 
     setGames("BioShock");
     setExtensions("ibf", "lbf");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
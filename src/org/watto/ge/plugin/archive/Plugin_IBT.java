@@ -44,6 +44,7 @@ public class Plugin_IBT extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("ibt");
+    setMatchNeedsExtension();
     setGames("Thief 3: Deadly Shadows");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_IMAGE extends ArchivePlugin {
 
     setGames("Shantae and the Pirates Curse");
     setExtensions("image"); // MUST BE LOWER CASE
+    setMatchSignature(562804706);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_IMG_2 extends ArchivePlugin {
 
     setGames("Futurama");
     setExtensions("img");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
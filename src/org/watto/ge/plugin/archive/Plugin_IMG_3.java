@@ -48,6 +48,7 @@ public class Plugin_IMG_3 extends ArchivePlugin {
 
     setGames("Splinter Cell: Pandora Tomorrow");
     setExtensions("img");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
   }
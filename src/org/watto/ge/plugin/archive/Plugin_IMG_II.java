@@ -46,6 +46,7 @@ public class Plugin_IMG_II extends ArchivePlugin {
 
     setGames("Pax Imperia Eminent Domain");
     setExtensions("img"); // MUST BE LOWER CASE
+    setMatchSignature("II");
     setPlatforms("PC");
 
     //setFileTypes("","",
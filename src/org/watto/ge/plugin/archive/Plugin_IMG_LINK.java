@@ -46,6 +46,7 @@ public class Plugin_IMG_LINK extends ArchivePlugin {
 
     setGames("Shadow Of Rome");
     setExtensions("img");
+    setMatchSignature("LINK");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_IMG_VER2 extends ArchivePlugin {
 
     setGames("GTA San Andreas");
     setExtensions("img");
+    setMatchSignature("VER2");
     setPlatforms("PC");
 
     setFileTypes("dff", "Cut Scene",
@@ -44,6 +44,7 @@ public class Plugin_IMP extends ArchivePlugin {
 
     setGames("Fiendish Freddy's Big Top o' Fun");
     setExtensions("imp"); // MUST BE LOWER CASE
+    setMatchSignature(2058813539);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
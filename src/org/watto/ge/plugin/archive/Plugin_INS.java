@@ -46,6 +46,7 @@ public class Plugin_INS extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ins");
+    setMatchNeedsExtension();
     setGames("Redneck Rampage");
     setPlatforms("PC");
 
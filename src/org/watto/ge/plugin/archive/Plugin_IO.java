@@ -46,6 +46,7 @@ public class Plugin_IO extends ArchivePlugin {
 
     setGames("Arabian Nights");
     setExtensions("io");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_IO_V0D07 extends ArchivePlugin {
 
     setGames("Braveheart");
     setExtensions("io");
+    setMatchSignature("v0D.07");
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_ITK extends ArchivePlugin {
     setGames("Adi's Comprehensive Learning System",
         "Last Dynasty");
     setExtensions("itk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
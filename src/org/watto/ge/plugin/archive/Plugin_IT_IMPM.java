@@ -48,6 +48,7 @@ public class Plugin_IT_IMPM extends ArchivePlugin {
 
     setGames("Jazz Jackrabbit 2");
     setExtensions("it");
+    setMatchSignature("IMPM");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_J2A_ALIB extends ArchivePlugin {
 
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2a");
+    setMatchSignature("ALIB");
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
@@ -49,6 +49,7 @@ public class Plugin_J2B_MUSE extends ArchivePlugin {
 
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2b");
+    setMatchSignature("MUSE");
     setPlatforms("PC");
 
   }
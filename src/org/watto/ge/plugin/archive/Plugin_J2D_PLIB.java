@@ -44,6 +44,7 @@ public class Plugin_J2D_PLIB extends ArchivePlugin {
 
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2d"); // MUST BE LOWER CASE
+    setMatchSignature("PLIB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_J2L_JAZZ extends ArchivePlugin {
 
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2l", "j2t");
+    setMatchSignature("                      Jazz Jackrabbit 2 Data File");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_JAM_FSTA extends ArchivePlugin {
 
     setGames("Codename Kids Next Door - Operation: V.I.D.E.O.G.A.M.E.");
     setExtensions("jam"); // MUST BE LOWER CASE
+    setMatchSignature("FSTA");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
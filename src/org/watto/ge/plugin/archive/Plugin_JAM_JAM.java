@@ -52,6 +52,7 @@ public class Plugin_JAM_JAM extends ArchivePlugin {
 
     setGames("NCAA Final Four");
     setExtensions("jam");
+    setMatchSignature("JAM");
     setPlatforms("PC");
 
   }
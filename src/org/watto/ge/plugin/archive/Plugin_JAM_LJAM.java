@@ -51,6 +51,7 @@ public class Plugin_JAM_LJAM extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("jam");
+    setMatchSignature("LJAM");
     setGames("Lego Racers");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_JA_ARCHINFO extends ArchivePlugin {
         "Trainz Simulator 2006",
         "Trainz Simulator 2009");
     setExtensions("ja");
+    setMatchSignature("ARCHINFO");
     setPlatforms("PC");
 
   }
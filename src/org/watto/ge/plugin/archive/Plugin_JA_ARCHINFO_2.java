@@ -45,6 +45,7 @@ public class Plugin_JA_ARCHINFO_2 extends ArchivePlugin {
     setGames("Ultimate Trainz Collection",
         "Trainz Railroad Simulator 2004");
     setExtensions("ja");
+    setMatchSignature("ARCHINFO");
     setPlatforms("PC");
 
   }
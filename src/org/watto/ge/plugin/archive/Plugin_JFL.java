@@ -48,6 +48,7 @@ public class Plugin_JFL extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("jfl");
+    setMatchNeedsExtension();
     setGames("Traffic Giant");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_JRF_MTLU extends ArchivePlugin {
 
     setGames("Panzer Commander");
     setExtensions("jrf");
+    setMatchSignature("MTLU");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_JRZ_DEFLATEARCHIVE extends ArchivePlugin {
 
     setGames("Jikandia: The Timeless Land");
     setExtensions("jrz"); // MUST BE LOWER CASE
+    setMatchSignature("__DEFLATE_ARCHIVE_S_01__");
     setPlatforms("PSP");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_KAT extends ArchivePlugin {
 
     setGames("Mortal Kombat Gold");
     setExtensions("kat");
+    setMatchNeedsExtension();
     setPlatforms("Dreamcast");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_KDT extends ArchivePlugin {
 
     setGames("Gorky 17");
     setExtensions("kdt", "dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("spr", "Texture Archive", FileType.TYPE_ARCHIVE));
@@ -47,6 +47,7 @@ public class Plugin_KDV_KRL0 extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("kdv");
+    setMatchSignature("KRL0");
     setGames("Commanche Enhanced");
     setPlatforms("PC");
 
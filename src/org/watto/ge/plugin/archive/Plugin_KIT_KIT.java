@@ -45,6 +45,7 @@ public class Plugin_KIT_KIT extends ArchivePlugin {
 
     setGames("Unravel");
     setExtensions("kit"); // MUST BE LOWER CASE
+    setMatchSignature("kit!");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
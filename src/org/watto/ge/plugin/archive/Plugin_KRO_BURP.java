@@ -44,6 +44,7 @@ public class Plugin_KRO_BURP extends ArchivePlugin {
 
     setGames("Prisoner of Ice");
     setExtensions("kro"); // MUST BE LOWER CASE
+    setMatchSignature("Burp");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
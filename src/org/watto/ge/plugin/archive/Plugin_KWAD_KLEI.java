@@ -43,6 +43,7 @@ public class Plugin_KWAD_KLEI extends ArchivePlugin {
 
     setGames("Invisible Inc.");
     setExtensions("kwad"); // MUST BE LOWER CASE
+    setMatchSignature("KLEIPKG2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_KZP extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("kzp");
+    setMatchNeedsExtension();
     setGames("Kens Labyrinth");
     setPlatforms("PC");
 
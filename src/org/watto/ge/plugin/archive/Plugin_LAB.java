@@ -49,6 +49,7 @@ public class Plugin_LAB extends ArchivePlugin {
 
     setGames("Chill Manor");
     setExtensions("lab");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_LAB_LABN extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("lab");
+    setMatchSignature("LABN");
     setGames("Star Wars Episode 1: The Phantom Menace",
         "Outlaws",
         "Escape From Monkey Island",
@@ -48,6 +48,7 @@ public class Plugin_LBM_FORM extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("lbm", "vqa", "bbm", "iff");
+    setMatchSignature("FORM");
     setGames("Allan Border Cricket",
         "Medieval Total War",
         "Command And Conquer",
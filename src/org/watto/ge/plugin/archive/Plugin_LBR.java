@@ -47,6 +47,7 @@ public class Plugin_LBR extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("lbr");
+    setMatchNeedsExtension();
     setGames("Vinyl Goddess");
     setPlatforms("PC");
 
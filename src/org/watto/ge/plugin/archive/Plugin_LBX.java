@@ -42,6 +42,7 @@ public class Plugin_LBX extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("lbx");
+    setMatchNeedsExtension();
     setGames("Master of Magic",
         "Master of Orion",
         "Master of Orion 2");
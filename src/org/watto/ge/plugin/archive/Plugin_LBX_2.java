@@ -46,6 +46,7 @@ public class Plugin_LBX_2 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("lbx");
+    setMatchNeedsExtension();
     setGames("Princess Maker 2");
     setPlatforms("PC");
 
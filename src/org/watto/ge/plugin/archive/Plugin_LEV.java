@@ -47,6 +47,7 @@ public class Plugin_LEV extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("lev", "idl");
+    setMatchNeedsExtension();
     setGames("Gex");
     setPlatforms("PC");
 
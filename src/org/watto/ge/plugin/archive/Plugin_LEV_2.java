@@ -43,6 +43,7 @@ public class Plugin_LEV_2 extends ArchivePlugin {
 
     setGames("Driver 2");
     setExtensions("lev"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
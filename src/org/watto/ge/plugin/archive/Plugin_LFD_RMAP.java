@@ -47,6 +47,7 @@ public class Plugin_LFD_RMAP extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("lfd");
+    setMatchSignature("RMAPresource");
     setGames("Tie Fighter",
         "X-Wing");
     setPlatforms("PC");
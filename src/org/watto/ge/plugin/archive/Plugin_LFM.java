@@ -45,6 +45,7 @@ public class Plugin_LFM extends ArchivePlugin {
 
     setGames("Gangland");
     setExtensions("lfm");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
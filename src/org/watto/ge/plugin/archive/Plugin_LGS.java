@@ -44,6 +44,7 @@ public class Plugin_LGS extends ArchivePlugin {
     setGames("Another War",
         "Weird War");
     setExtensions("lgs");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
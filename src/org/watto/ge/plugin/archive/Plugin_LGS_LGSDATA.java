@@ -49,6 +49,7 @@ public class Plugin_LGS_LGSDATA extends ArchivePlugin {
 
     setGames("Weird War");
     setExtensions("lgs"); // MUST BE LOWER CASE
+    setMatchSignature("LGS Data");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_LHD extends ArchivePlugin {
 
     setGames("Lead and Gold: Gangs of the Wild West");
     setExtensions("lhd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
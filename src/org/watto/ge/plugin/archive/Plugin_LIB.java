@@ -47,6 +47,7 @@ public class Plugin_LIB extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("lib");
+    setMatchNeedsExtension();
     setGames("Cultures");
     setPlatforms("PC");
 
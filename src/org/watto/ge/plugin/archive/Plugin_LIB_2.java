@@ -46,6 +46,7 @@ public class Plugin_LIB_2 extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("lib");
+    setMatchNeedsExtension();
     setGames("Entomorph");
     setPlatforms("PC");
 
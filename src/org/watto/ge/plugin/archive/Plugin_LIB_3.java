@@ -44,6 +44,7 @@ public class Plugin_LIB_3 extends ArchivePlugin {
 
     setGames("In The Raven Shadow", "ShadowCaster");
     setExtensions("lib");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("voc", "Creative Audio",
@@ -48,6 +48,7 @@ public class Plugin_LIB_4 extends ArchivePlugin {
 
     setGames("Northland");
     setExtensions("lib");
+    setMatchSignature(1);
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_LIB_6 extends ArchivePlugin {
 
     setGames("The Last Bounty Hunter");
     setExtensions("lib"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
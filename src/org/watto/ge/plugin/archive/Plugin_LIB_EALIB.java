@@ -47,6 +47,7 @@ public class Plugin_LIB_EALIB extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("lib");
+    setMatchSignature("EALIB");
     setGames("US Navy Fighters",
         "US Marine Fighters");
     setPlatforms("PC");
@@ -47,6 +47,7 @@ public class Plugin_LID extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("lid");
+    setMatchNeedsExtension();
     setGames("Skunny: Desert Raid",
         "Skunny: Lost In Space",
         "Skunny: Save Our Pizza",
@@ -53,6 +53,7 @@ public class Plugin_LIF_LIFF extends ArchivePlugin {
 
     setGames("Lego Digital Designer");
     setExtensions("lif"); // MUST BE LOWER CASE
+    setMatchSignature("LIFF");
     setPlatforms("PC");
 
     //setFileTypes("","",
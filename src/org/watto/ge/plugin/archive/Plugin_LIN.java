@@ -50,6 +50,7 @@ public class Plugin_LIN extends ArchivePlugin {
         "Tom Clancy's Splinter Cell: Chaos Theory",
         "Tom Clancy's Splinter Cell: Double Agent");
     setExtensions("lin");
+    setMatchNeedsExtension();
     setPlatforms("PC",
         "XBox");
 
@@ -48,6 +48,7 @@ public class Plugin_LINK_LINK extends ArchivePlugin {
 
     setGames("Shadow Of Rome");
     setExtensions("link");
+    setMatchSignature("LINK");
     setPlatforms("PS2");
 
     setCanScanForFileTypes(true);
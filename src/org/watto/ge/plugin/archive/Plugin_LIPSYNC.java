@@ -47,6 +47,7 @@ public class Plugin_LIPSYNC extends ArchivePlugin {
 
     setGames("Two Worlds");
     setExtensions("lipsync"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_LMP extends ArchivePlugin {
     setGames("Baldurs Gate: Dark Alliance",
         "The Bard's Tale");
     setExtensions("lmp");
+    setMatchNeedsExtension();
     setPlatforms("PC", "XBox");
 
     setFileTypes(new FileType("tex", "Texture Image", FileType.TYPE_IMAGE));
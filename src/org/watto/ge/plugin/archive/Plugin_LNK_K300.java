@@ -44,6 +44,7 @@ public class Plugin_LNK_K300 extends ArchivePlugin {
 
     setGames("Nioh");
     setExtensions("lnk"); // MUST BE LOWER CASE
+    setMatchSignature("K300");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_LOD_LOD extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("lod");
+    setMatchSignature("LOD");
     setGames("Heroes Chronicles",
         "Heroes of Might and Magic 3");
     setPlatforms("PC");
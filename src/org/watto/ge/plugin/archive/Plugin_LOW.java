@@ -43,6 +43,7 @@ public class Plugin_LOW extends ArchivePlugin {
 
     setGames("Chef's Luv Shack");
     setExtensions("low", "dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_LP_KAPA extends ArchivePlugin {
 
     setGames("Star Wars: The Force Unleashed");
     setExtensions("lp"); // MUST BE LOWER CASE
+    setMatchSignature("kaPA");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_LS_LSIS extends ArchivePlugin {
 
     setGames("Links LS");
     setExtensions("ls", "crx", "ani");
+    setMatchSignature("LSIs");
     setPlatforms("PC");
 
   }
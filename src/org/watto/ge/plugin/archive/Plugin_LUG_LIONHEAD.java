@@ -43,6 +43,7 @@ public class Plugin_LUG_LIONHEAD extends ArchivePlugin {
     setGames("Black And White 2",
         "The Movies");
     setExtensions("lug");
+    setMatchSignature("LiOnHeAd");
     setPlatforms("PC");
 
     //setFileTypes("","",
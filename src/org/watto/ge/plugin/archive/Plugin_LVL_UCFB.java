@@ -47,6 +47,7 @@ public class Plugin_LVL_UCFB extends ArchivePlugin {
 
     setGames("Star Wars Battlefront");
     setExtensions("lvl");
+    setMatchSignature("ucfb");
     setPlatforms("PC");
 
     setFileTypes("tex_", "Texture Images",
@@ -47,6 +47,7 @@ public class Plugin_LVL_UCFB_2 extends ArchivePlugin {
 
     setGames("Star Wars Battlefront");
     setExtensions("lvl");
+    setMatchSignature("ucfb");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_LZ extends ArchivePlugin {
     setGames("Custom Robo Arena",
         "Nintendo DS Archives");
     setExtensions("lz"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("NDS");
 
     // MUST BE LOWER CASE !!!
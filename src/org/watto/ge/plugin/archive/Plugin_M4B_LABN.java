@@ -47,6 +47,7 @@ public class Plugin_M4B_LABN extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("m4b");
+    setMatchSignature("LABN");
     setGames("Escape From Monkey Island");
     setPlatforms("PC");
 
@@ -51,6 +51,7 @@ public class Plugin_M4R extends ArchivePlugin {
 
     setGames("Myst 4 Revelation");
     setExtensions("m4r");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
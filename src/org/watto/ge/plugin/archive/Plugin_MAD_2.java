@@ -46,6 +46,7 @@ public class Plugin_MAD_2 extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("mad");
+    setMatchNeedsExtension();
     setGames("Actua Soccer",
         "Actua Soccer 2",
         "Actua Soccer 3");
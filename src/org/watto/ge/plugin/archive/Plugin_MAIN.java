@@ -44,6 +44,7 @@ public class Plugin_MAIN extends ArchivePlugin {
 
     setGames("Total Overdose");
     setExtensions("main"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
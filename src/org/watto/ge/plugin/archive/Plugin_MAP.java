@@ -50,6 +50,7 @@ public class Plugin_MAP extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("map");
+    setMatchNeedsExtension();
     setGames("Halo");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_MAS extends ArchivePlugin {
 
     setGames("rFactor");
     setExtensions("mas"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -49,6 +49,7 @@ public class Plugin_MAS_CUBEMAS extends ArchivePlugin {
     setGames("Nascar SimRacing",
         "F1 Challenge 99-02");
     setExtensions("mas");
+    setMatchSignature("CUBEMAS4.10");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_MBUNDLE_BPLIST00 extends ArchivePlugin {
     setGames("Rune Factory 4 Special",
         "Samurai Shodown NeoGeo Collection");
     setExtensions("mbundle"); // MUST BE LOWER CASE
+    setMatchSignature("bplist00");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
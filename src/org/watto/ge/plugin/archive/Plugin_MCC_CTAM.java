@@ -42,6 +42,7 @@ public class Plugin_MCC_CTAM extends ArchivePlugin {
 
     setGames("How To Survive");
     setExtensions("mcc"); // MUST BE LOWER CASE
+    setMatchSignature("CTAM");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
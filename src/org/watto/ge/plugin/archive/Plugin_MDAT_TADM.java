@@ -47,6 +47,7 @@ public class Plugin_MDAT_TADM extends ArchivePlugin {
 
     setGames("Rising Eagle");
     setExtensions("mdat"); // MUST BE LOWER CASE
+    setMatchSignature("TADM");
     setPlatforms("PC");
 
     //setFileTypes("","",
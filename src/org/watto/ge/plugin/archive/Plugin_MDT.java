@@ -43,6 +43,7 @@ public class Plugin_MDT extends ArchivePlugin {
 
     setGames("Amazon Trail 3rd Edition");
     setExtensions("mdt"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
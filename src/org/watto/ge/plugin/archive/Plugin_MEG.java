@@ -45,6 +45,7 @@ public class Plugin_MEG extends ArchivePlugin {
     setGames("Star Wars: Empire At War",
         "Star Wars: Empire At War: Forces of Corruption");
     setExtensions("meg");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
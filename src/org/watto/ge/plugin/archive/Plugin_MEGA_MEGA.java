@@ -47,6 +47,7 @@ public class Plugin_MEGA_MEGA extends ArchivePlugin {
 
     setGames("Enemy Territory: Quake Wars");
     setExtensions("mega"); // MUST BE LOWER CASE
+    setMatchSignature("MEGA");
     setPlatforms("PC");
 
     //setFileTypes("","",
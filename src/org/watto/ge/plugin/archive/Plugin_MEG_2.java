@@ -44,6 +44,7 @@ public class Plugin_MEG_2 extends ArchivePlugin {
 
     setGames("Grey Goo");
     setExtensions("meg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_MESHPACK extends ArchivePlugin {
 
     setGames("Darksiders");
     setExtensions("meshpack"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_MET extends ArchivePlugin {
 
     setGames("Backyard Football");
     setExtensions("met");
+    setMatchSignature(28);
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_MET_2 extends ArchivePlugin {
 
     setGames("Backyard Baseball 2005");
     setExtensions("met"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_MFD extends ArchivePlugin {
 
     setGames("187 Ride Or Die");
     setExtensions("mfd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
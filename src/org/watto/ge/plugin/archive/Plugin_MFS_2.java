@@ -47,6 +47,7 @@ public class Plugin_MFS_2 extends ArchivePlugin {
 
     setGames("Rocky Legends");
     setExtensions("mfs");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
   }
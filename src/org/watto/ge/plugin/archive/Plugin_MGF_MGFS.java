@@ -45,6 +45,7 @@ public class Plugin_MGF_MGFS extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("mgf");
+    setMatchSignature("MGFs");
     setGames("Battleship Surface Thunder");
     setPlatforms("PC");
 
@@ -51,6 +51,7 @@ public class Plugin_MHK_MHWK extends ArchivePlugin {
         "Riven",
         "The Cat In The Hat by Dr. Seuss");
     setExtensions("mhk");
+    setMatchSignature("MHWK");
     setPlatforms("PC");
 
   }
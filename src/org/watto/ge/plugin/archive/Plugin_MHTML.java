@@ -50,6 +50,7 @@ public class Plugin_MHTML extends ArchivePlugin {
 
     setGames("Microsoft Internet Explorer");
     setExtensions("mht", "mhtml");
+    setMatchSignature("From:");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_MIS extends ArchivePlugin {
 
     setGames("Thief 2: The Metal Age");
     setExtensions("mis", "gam"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_MIS_WORLD extends ArchivePlugin {
 
     setGames("Fallout Tactics");
     setExtensions("mis"); // MUST BE LOWER CASE
+    setMatchSignature("<world>");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_MIX extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("mix");
+    setMatchNeedsExtension();
     setGames("Command And Conquer");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_MIX_3 extends ArchivePlugin {
         "MotoGP 15",
         "MXGP");
     setExtensions("mix"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_MIX_MIX1 extends ArchivePlugin {
 
     setGames("Earth And Beyond");
     setExtensions("mix");
+    setMatchSignature("MIX1");
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_MJZ_MJZ0 extends ArchivePlugin {
         "Luxor Evolved",
         "Luxor HD");
     setExtensions("mjz"); // MUST BE LOWER CASE
+    setMatchSignature("MJZ0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_MJZ_MJZ0_2 extends ArchivePlugin {
 
     setGames("Luxor Mahjong");
     setExtensions("mjz"); // MUST BE LOWER CASE
+    setMatchSignature("MJZ0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
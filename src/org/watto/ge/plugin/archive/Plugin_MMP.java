@@ -43,6 +43,7 @@ public class Plugin_MMP extends ArchivePlugin {
 
     setGames("Blade of Darkness");
     setExtensions("mmp"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_MNG_ZGWH extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("mng");
+    setMatchSignature("ZGWH");
     setGames("Hostile Waters");
     setPlatforms("PC");
 
@@ -49,6 +49,7 @@ public class Plugin_MOU extends ArchivePlugin {
 
     setGames("Delaware St John - Volume 1");
     setExtensions("mou", "spk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_MPAK_MPAK extends ArchivePlugin {
     setGames("Battlestations: Midway",
         "Battlestations: Pacific");
     setExtensions("mpak");
+    setMatchSignature("MPAK");
     setPlatforms("PC");
 
     //setFileTypes("","",
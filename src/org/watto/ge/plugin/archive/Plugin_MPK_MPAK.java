@@ -46,6 +46,7 @@ public class Plugin_MPK_MPAK extends ArchivePlugin {
 
     setGames("Terminator: Dawn Of Fate");
     setExtensions("mpk");
+    setMatchSignature("MPAK");
     setPlatforms("XBox");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_MPL extends ArchivePlugin {
 
     setGames("White Tail Fever");
     setExtensions("mpl"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
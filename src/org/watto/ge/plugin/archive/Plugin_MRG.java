@@ -46,6 +46,7 @@ public class Plugin_MRG extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("mrg", "dat");
+    setMatchNeedsExtension();
     setGames("Southpark");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_MRG_2 extends ArchivePlugin {
 
     setGames("Clusterball");
     setExtensions("mrg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
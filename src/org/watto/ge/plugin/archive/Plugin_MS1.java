@@ -42,6 +42,7 @@ public class Plugin_MS1 extends ArchivePlugin {
 
     setGames("Major Stryker");
     setExtensions("ms1", "ms2", "ms3"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_MSET extends ArchivePlugin {
 
     setGames("Neverwinter Online");
     setExtensions("mset"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
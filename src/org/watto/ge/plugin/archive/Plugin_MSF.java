@@ -45,6 +45,7 @@ public class Plugin_MSF extends ArchivePlugin {
 
     setGames("Max Payne");
     setExtensions("msf"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Android");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_MSF_MSTO extends ArchivePlugin {
 
     setGames("Stardust Screen Saver Toolkit");
     setExtensions("msf");
+    setMatchSignature("msto");
     setPlatforms("PC");
 
     setFileTypes("100", "Image (BMP or JPEG)");
@@ -43,6 +43,7 @@ public class Plugin_MSH extends ArchivePlugin {
 
     setGames("Bad Mojo Redux");
     setExtensions("msh"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_MSSCMP_KNAB extends ArchivePlugin {
 
     setGames("Galactic Civilizations 3");
     setExtensions("msscmp"); // MUST BE LOWER CASE
+    setMatchSignature("KNAB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
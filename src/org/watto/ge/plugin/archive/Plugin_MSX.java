@@ -47,6 +47,7 @@ public class Plugin_MSX extends ArchivePlugin {
 
     setGames("Mortal Kombat Deceptions");
     setExtensions("msx");
+    setMatchSignature(2);
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_MTD_MTDLIB extends ArchivePlugin {
 
     setGames("Entrepreneur");
     setExtensions("mtd");
+    setMatchSignature("MTDLIB");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_MTF extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("mtf");
+    setMatchNeedsExtension();
     setGames("Darkstone");
     setPlatforms("PC");
 
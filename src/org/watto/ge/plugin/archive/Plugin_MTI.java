@@ -42,6 +42,7 @@ public class Plugin_MTI extends ArchivePlugin {
 
     setGames("MDK");
     setExtensions("mti"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_MTO extends ArchivePlugin {
 
     setGames("MDK");
     setExtensions("mto"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_MUK_MUKFILE extends ArchivePlugin {
 
     setGames("Final Liberation: Warhammer Epic 40,000");
     setExtensions("muk");
+    setMatchSignature("MUK file (C) Holistic Design 1997");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_MUK_MUKFILE_2 extends ArchivePlugin {
 
     setGames("Mall Tycoon");
     setExtensions("muk"); // MUST BE LOWER CASE
+    setMatchSignature("MUK file (C) Holistic Design 2000");
     setPlatforms("PC");
 
     //setFileTypes("","",
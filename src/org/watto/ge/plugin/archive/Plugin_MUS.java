@@ -47,6 +47,7 @@ public class Plugin_MUS extends ArchivePlugin {
 
     setGames("Tyrian 2");
     setExtensions("mus", "lvl", "shp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_MVL_DMVL extends ArchivePlugin {
 
     setGames("Descent 2");
     setExtensions("mvl");
+    setMatchSignature("DMVL");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_MW2 extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("mw2");
+    setMatchNeedsExtension();
     setGames("Mech Warrior 2: Mercinaries",
         "Interstate '76");
     setPlatforms("PC");
@@ -45,6 +45,7 @@ public class Plugin_MW4_VBD extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("mw4");
+    setMatchSignature("#VBD");
     setGames("Mech Warrior 4: Mercenaries");
     setPlatforms("PC");
 
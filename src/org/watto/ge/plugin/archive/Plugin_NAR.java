@@ -43,6 +43,7 @@ public class Plugin_NAR extends ArchivePlugin {
 
     setGames("Eternam");
     setExtensions("nar", "pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
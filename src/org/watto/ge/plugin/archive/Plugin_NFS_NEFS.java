@@ -47,6 +47,7 @@ public class Plugin_NFS_NEFS extends ArchivePlugin {
         "F1 22",
         "GRID Autosport");
     setExtensions("nfs"); // MUST BE LOWER CASE
+    setMatchSignature("NeFS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_NHP_NOVAHACKPACK extends ArchivePlugin {
 
     setGames("Luxor 3");
     setExtensions("nhp"); // MUST BE LOWER CASE
+    setMatchSignature("NovaHackPack");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_NPK_0KPN extends ArchivePlugin {
     setGames("Drakensang",
         "Project Nomad");
     setExtensions("npk"); // MUST BE LOWER CASE
+    setMatchSignature("0KPN");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
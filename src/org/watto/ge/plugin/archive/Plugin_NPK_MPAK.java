@@ -46,6 +46,7 @@ public class Plugin_NPK_MPAK extends ArchivePlugin {
 
     setGames("Dark Age of Camelot");
     setExtensions("npk", "mpk"); // MUST BE LOWER CASE
+    setMatchSignature("MPAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
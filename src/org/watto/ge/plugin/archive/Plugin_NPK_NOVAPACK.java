@@ -43,6 +43,7 @@ public class Plugin_NPK_NOVAPACK extends ArchivePlugin {
     setGames("Discovery! A Seek and Find Adventure",
         "Luxor: Quest for the Afterlife");
     setExtensions("npk"); // MUST BE LOWER CASE
+    setMatchSignature("NovaPack");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
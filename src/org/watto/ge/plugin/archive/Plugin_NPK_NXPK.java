@@ -49,6 +49,7 @@ public class Plugin_NPK_NXPK extends ArchivePlugin {
 
     setGames("Identity V");
     setExtensions("npk"); // MUST BE LOWER CASE
+    setMatchSignature("NXPK");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_NRM_HEATH extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("nrm");
+    setMatchSignature("Heath: The Unchosen Path");
     setGames("Heath: The Unchosen Path");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_NSZ_NSZ extends ArchivePlugin {
 
     setGames("Rumble Fighter");
     setExtensions("nsz");
+    setMatchSignature("NSZ!");
     setPlatforms("PC");
 
     //setFileTypes("","",
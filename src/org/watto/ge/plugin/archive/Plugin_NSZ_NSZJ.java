@@ -48,6 +48,7 @@ public class Plugin_NSZ_NSZJ extends ArchivePlugin {
 
     setGames("Rumble Fighter");
     setExtensions("nsz");
+    setMatchSignature("NSZj");
     setPlatforms("PC");
 
     //setFileTypes("","",
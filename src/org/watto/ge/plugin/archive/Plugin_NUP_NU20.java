@@ -43,6 +43,7 @@ public class Plugin_NUP_NU20 extends ArchivePlugin {
 
     setGames("LEGO Star Wars 2: The Original Trilogy");
     setExtensions("nup"); // MUST BE LOWER CASE
+    setMatchSignature("NU20");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
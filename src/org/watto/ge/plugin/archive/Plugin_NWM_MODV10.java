@@ -46,6 +46,7 @@ public class Plugin_NWM_MODV10 extends ArchivePlugin {
 
     setGames("Neverwinter Nights");
     setExtensions("nwm"); // MUST BE LOWER CASE
+    setMatchSignature("MOD V1.0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
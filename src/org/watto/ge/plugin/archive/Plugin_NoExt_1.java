@@ -49,6 +49,7 @@ public class Plugin_NoExt_1 extends ArchivePlugin {
     setGames("ESPN NFL 2K5",
         "ESPN NFL 2K8");
     setExtensions("");
+    setMatchNeedsExtension();
     setPlatforms("XBox",
         "PS2");
 
@@ -46,6 +46,7 @@ public class Plugin_NoExt_3 extends ArchivePlugin {
 
     setGames("Bloodsports.TV");
     setExtensions(""); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
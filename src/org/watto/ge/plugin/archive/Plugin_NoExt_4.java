@@ -45,6 +45,7 @@ public class Plugin_NoExt_4 extends ArchivePlugin {
 
     setGames("Little Inferno");
     setExtensions(""); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
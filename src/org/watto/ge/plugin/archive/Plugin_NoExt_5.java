@@ -47,6 +47,7 @@ public class Plugin_NoExt_5 extends ArchivePlugin {
 
     setGames("Floras Fruit Farm");
     setExtensions(""); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_NoExt_7 extends ArchivePlugin {
 
     setGames("Human Resource Machine");
     setExtensions(""); // MUST BE LOWER CASE
+    setMatchSignature(-2132541440);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
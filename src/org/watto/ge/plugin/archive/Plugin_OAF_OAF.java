@@ -45,6 +45,7 @@ public class Plugin_OAF_OAF extends ArchivePlugin {
 
     setGames("Dungeon Siege 3");
     setExtensions("oaf"); // MUST BE LOWER CASE
+    setMatchSignature("OAF!");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
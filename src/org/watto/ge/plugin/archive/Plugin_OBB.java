@@ -43,6 +43,7 @@ public class Plugin_OBB extends ArchivePlugin {
 
     setGames("Syberia 2");
     setExtensions("obb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Android");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_OBB_APPACK extends ArchivePlugin {
 
     setGames("Sorcery! Part 3");
     setExtensions("obb"); // MUST BE LOWER CASE
+    setMatchSignature("AP_Pack!");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_OBE extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("obe");
+    setMatchNeedsExtension();
     setGames("Traffic Giant");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_OBH extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("obh");
+    setMatchNeedsExtension();
     setGames("Traffic Giant");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_OBL extends ArchivePlugin {
 
     setGames("Masque Slots");
     setExtensions("obl"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_OIM_OIM3 extends ArchivePlugin {
 
     setGames("Shadow Of Rome");
     setExtensions("oim");
+    setMatchSignature("OIM3");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
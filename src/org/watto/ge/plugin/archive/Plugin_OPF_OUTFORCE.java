@@ -43,6 +43,7 @@ public class Plugin_OPF_OUTFORCE extends ArchivePlugin {
 
     setGames("The Outforce");
     setExtensions("opf"); // MUST BE LOWER CASE
+    setMatchSignature("Outforce Packed Content");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
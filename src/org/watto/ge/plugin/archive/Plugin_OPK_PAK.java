@@ -46,6 +46,7 @@ public class Plugin_OPK_PAK extends ArchivePlugin {
 
     setGames("Nikopol: Secrets Of The Immortals");
     setExtensions("obp", "opk", "osp", "ovp"); // MUST BE LOWER CASE
+    setMatchSignature("PAK ");
     setPlatforms("PC");
 
     //setFileTypes("","",
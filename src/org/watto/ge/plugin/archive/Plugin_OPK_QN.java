@@ -44,6 +44,7 @@ public class Plugin_OPK_QN extends ArchivePlugin {
 
     setGames("Outcast");
     setExtensions("opk"); // MUST BE LOWER CASE
+    setMatchSignature("qn");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_OPPC_OBPK extends ArchivePlugin {
 
     setGames("Warhammer 40,000 Space Marine");
     setExtensions("oppc"); // MUST BE LOWER CASE
+    setMatchSignature("OBPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
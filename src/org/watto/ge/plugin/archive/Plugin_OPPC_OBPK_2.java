@@ -46,6 +46,7 @@ public class Plugin_OPPC_OBPK_2 extends ArchivePlugin {
 
     setGames("Darksiders");
     setExtensions("oppc"); // MUST BE LOWER CASE
+    setMatchSignature("OBPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
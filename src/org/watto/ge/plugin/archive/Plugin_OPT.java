@@ -49,6 +49,7 @@ public class Plugin_OPT extends ArchivePlugin {
 
     setGames("D-Day");
     setExtensions("opt"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_OSA_AUFS extends ArchivePlugin {
         "Broken Sword 2: The Smoking Mirror",
         "Broken Sword 5: The Serpent's Curse");
     setExtensions("osa"); // MUST BE LOWER CASE
+    setMatchSignature("AUFS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
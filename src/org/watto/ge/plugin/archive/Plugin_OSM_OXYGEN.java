@@ -46,6 +46,7 @@ public class Plugin_OSM_OXYGEN extends ArchivePlugin {
 
     setGames("Oxygen Phone Manager");
     setExtensions("osm");
+    setMatchSignature("Oxygen Software SMS. v3.");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_OVK extends ArchivePlugin {
 
     setGames("Shihiki Shiki");
     setExtensions("ovk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Android");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_P3D extends ArchivePlugin {
 
     setGames("NHL Championship 2000");
     setExtensions("p3d"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
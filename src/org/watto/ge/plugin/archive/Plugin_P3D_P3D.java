@@ -44,6 +44,7 @@ public class Plugin_P3D_P3D extends ArchivePlugin {
 
     setGames("The Incredible Hulk: Ultimate Destruction");
     setExtensions("p3d"); // MUST BE LOWER CASE
+    setMatchSignature("P3D");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
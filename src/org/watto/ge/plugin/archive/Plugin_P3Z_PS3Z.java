@@ -46,6 +46,7 @@ public class Plugin_P3Z_PS3Z extends ArchivePlugin {
 
     setGames("Call of Duty 3");
     setExtensions("p3z"); // MUST BE LOWER CASE
+    setMatchSignature("ps3z");
     setPlatforms("PS3");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PAC extends ArchivePlugin {
 
     setGames("Imperium Galactica");
     setExtensions("pac"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
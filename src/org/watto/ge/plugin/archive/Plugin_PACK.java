@@ -49,6 +49,7 @@ public class Plugin_PACK extends ArchivePlugin {
 
     setGames("Elven Legacy");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
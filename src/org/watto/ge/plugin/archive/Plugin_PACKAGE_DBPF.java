@@ -53,6 +53,7 @@ public class Plugin_PACKAGE_DBPF extends ArchivePlugin {
 
     setGames("The Sims 2");
     setExtensions("package");
+    setMatchSignature("DBPF");
     setPlatforms("PC");
 
     //columns = new String[]{"Filename","Size (Kb)","Size (Bytes)","Extension","Type","Data Offset","Compressed","File ID","Source File","Type ID","Group ID","Instance ID 1","Instance ID 2"};
@@ -53,6 +53,7 @@ public class Plugin_PACKAGE_DBPF_2 extends ArchivePlugin {
     setGames("The Sims 3",
         "The Sims 4");
     setExtensions("package", "world");
+    setMatchSignature("DBPF");
     setPlatforms("PC");
 
     setFileTypes("ui", "User Interface",
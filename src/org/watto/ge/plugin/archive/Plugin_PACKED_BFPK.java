@@ -46,6 +46,7 @@ public class Plugin_PACKED_BFPK extends ArchivePlugin {
 
     setGames("Raiders of the Broken Planet");
     setExtensions("packed"); // MUST BE LOWER CASE
+    setMatchSignature("BFPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
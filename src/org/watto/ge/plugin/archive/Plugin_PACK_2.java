@@ -43,6 +43,7 @@ public class Plugin_PACK_2 extends ArchivePlugin {
 
     setGames("Brigador");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PACK_3 extends ArchivePlugin {
 
     setGames("Disney Speedstorm");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature(1263534080);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_PACK_NBGPACK extends ArchivePlugin {
 
     setGames("Incredible Dracula: Chasing Love");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("NBGPACK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
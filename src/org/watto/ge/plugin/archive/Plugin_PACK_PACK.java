@@ -46,6 +46,7 @@ public class Plugin_PACK_PACK extends ArchivePlugin {
 
     setGames("Medieval 2 Total War");
     setExtensions("pack");
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -42,6 +42,7 @@ public class Plugin_PACK_PFH0 extends ArchivePlugin {
 
     setGames("Shogun 2");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("PFH0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
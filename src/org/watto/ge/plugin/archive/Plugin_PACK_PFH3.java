@@ -42,6 +42,7 @@ public class Plugin_PACK_PFH3 extends ArchivePlugin {
 
     setGames("Total War: Shogun 2");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("PFH3");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
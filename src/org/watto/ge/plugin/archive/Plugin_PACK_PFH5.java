@@ -42,6 +42,7 @@ public class Plugin_PACK_PFH5 extends ArchivePlugin {
 
     setGames("A Total War Saga: Troy");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("PFH5");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
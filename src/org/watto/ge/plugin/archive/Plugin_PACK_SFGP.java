@@ -42,6 +42,7 @@ public class Plugin_PACK_SFGP extends ArchivePlugin {
 
     setGames("Weird Park");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("SFGP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
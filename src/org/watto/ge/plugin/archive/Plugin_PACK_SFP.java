@@ -50,6 +50,7 @@ public class Plugin_PACK_SFP extends ArchivePlugin {
         "Weird Park 2",
         "Weird Park 3");
     setExtensions("pack"); // MUST BE LOWER CASE
+    setMatchSignature("SFP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_PAC_3 extends ArchivePlugin {
 
     setGames("Book of Demons");
     setExtensions("pac"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_PAC_CA extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pac");
+    setMatchSignature(" CA ");
     setGames("Pacman: Adventures In Time");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_PAC_PACK extends ArchivePlugin {
 
     setGames("Lego Alpha Team");
     setExtensions("pac"); // MUST BE LOWER CASE
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
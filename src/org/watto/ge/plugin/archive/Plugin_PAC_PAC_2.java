@@ -46,6 +46,7 @@ public class Plugin_PAC_PAC_2 extends ArchivePlugin {
 
     setGames("Black Matrix");
     setExtensions("pac"); // MUST BE LOWER CASE
+    setMatchSignature("PAC ");
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
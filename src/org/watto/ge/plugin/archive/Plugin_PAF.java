@@ -46,6 +46,7 @@ public class Plugin_PAF extends ArchivePlugin {
 
     setGames("AFL 99");
     setExtensions("paf");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_PAGES extends ArchivePlugin {
 
     setGames("The Evil Within");
     setExtensions("pages"); // MUST BE LOWER CASE
+    setMatchSignature(1999870212);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PAK extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Railroad Tycoon 2");
     setPlatforms("PC");
 
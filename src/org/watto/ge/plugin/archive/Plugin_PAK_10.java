@@ -49,6 +49,7 @@ public class Plugin_PAK_10 extends ArchivePlugin {
 
     setGames("Genocide");
     setExtensions("pak", "wad");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
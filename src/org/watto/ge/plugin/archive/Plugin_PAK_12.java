@@ -48,6 +48,7 @@ public class Plugin_PAK_12 extends ArchivePlugin {
 
     setGames("Paradoxion");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_PAK_13 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Airbourne Troops");
     setPlatforms("PC");
 
@@ -49,6 +49,7 @@ public class Plugin_PAK_14 extends ArchivePlugin {
     setGames("Kyrandia",
         "Lands Of Lore");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
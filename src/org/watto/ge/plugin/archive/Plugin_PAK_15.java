@@ -46,6 +46,7 @@ public class Plugin_PAK_15 extends ArchivePlugin {
 
     setGames("Star Wars Episode 3");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_PAK_16 extends ArchivePlugin {
 
     setGames("Restricted Area");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
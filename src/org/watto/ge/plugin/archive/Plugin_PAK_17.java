@@ -48,6 +48,7 @@ public class Plugin_PAK_17 extends ArchivePlugin {
 
     setGames("Dungeon Lords");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
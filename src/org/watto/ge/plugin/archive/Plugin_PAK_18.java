@@ -49,6 +49,7 @@ public class Plugin_PAK_18 extends ArchivePlugin {
 
     setGames("Neocron", "Neocron 2");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
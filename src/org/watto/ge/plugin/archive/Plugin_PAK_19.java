@@ -47,6 +47,7 @@ public class Plugin_PAK_19 extends ArchivePlugin {
 
     setGames("Dead To Right 2");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_PAK_2 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Dune 2",
         "Eye of the Beholder");
     setPlatforms("PC");
@@ -44,6 +44,7 @@ public class Plugin_PAK_20 extends ArchivePlugin {
 
     setGames("The Movies");
     setExtensions("pak");
+    setMatchSignature(5);
     setPlatforms("PC");
 
     setTextPreviewExtensions("csv", "in", "lst", "rob"); // LOWER CASE
@@ -48,6 +48,7 @@ public class Plugin_PAK_22 extends ArchivePlugin {
 
     setGames("Delaware St John - Volume 1");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_PAK_23 extends ArchivePlugin {
 
     setGames("Dead To Rights 2");
     setExtensions("pak");
+    setMatchSignature(-1961496690);
     setPlatforms("PS2", "PC");
 
     setTextPreviewExtensions("scr", "vfx"); // LOWER CASE
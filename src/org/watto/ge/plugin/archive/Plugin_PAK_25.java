@@ -44,6 +44,7 @@ public class Plugin_PAK_25 extends ArchivePlugin {
     setGames("Tycoon City: New York",
         "Hospital Tycoon");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_PAK_26 extends ArchivePlugin {
 
     setGames("Broken Sword 3: The Sleeping Dragon");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC", "XBox");
 
     setCanScanForFileTypes(true);
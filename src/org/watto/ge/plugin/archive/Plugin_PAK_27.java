@@ -47,6 +47,7 @@ public class Plugin_PAK_27 extends ArchivePlugin {
 
     setGames("MX vs ATV Unleashed", "Cars");
     setExtensions("pak");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("dxt", "DXT Image");
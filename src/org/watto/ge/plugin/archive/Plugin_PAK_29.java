@@ -46,6 +46,7 @@ public class Plugin_PAK_29 extends ArchivePlugin {
 
     setGames("Re-Mission");
     setExtensions("pak");
+    setMatchSignature(2);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_PAK_2KAP extends ArchivePlugin {
         "The Tomb",
         "Pinball Mania Plus");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("2KAP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
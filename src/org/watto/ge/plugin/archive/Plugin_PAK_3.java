@@ -45,6 +45,7 @@ public class Plugin_PAK_3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Arx Fatalis");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_PAK_31 extends ArchivePlugin {
 
     setGames("Astonia 3");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_PAK_32 extends ArchivePlugin {
 
     setGames("Astonia 3");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_PAK_33 extends ArchivePlugin {
 
     setGames("Dracula Origin");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
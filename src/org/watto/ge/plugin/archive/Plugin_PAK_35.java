@@ -46,6 +46,7 @@ public class Plugin_PAK_35 extends ArchivePlugin {
 
     setGames("GTA4");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_PAK_36 extends ArchivePlugin {
 
     setGames("The Tuttles Madcap Misadventures");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_PAK_39 extends ArchivePlugin {
         "Ragnarok Journey",
         "Reckless Space Pirates");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature(4);
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_PAK_4 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Far Cry");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_PAK_40 extends ArchivePlugin {
 
     setGames("Who Wants To Be A Millionaire");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
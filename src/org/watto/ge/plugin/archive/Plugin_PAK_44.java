@@ -131,6 +131,7 @@ public class Plugin_PAK_44 extends ArchivePlugin {
         "Wunderwaffe",
         "ZAMBI 2 KIL");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature(4);
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
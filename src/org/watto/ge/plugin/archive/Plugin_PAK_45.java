@@ -45,6 +45,7 @@ public class Plugin_PAK_45 extends ArchivePlugin {
 
     setGames("Chompy Chomp Chomp");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PAK_46 extends ArchivePlugin {
     setGames("Owen To Have Fun!",
         "Weird Dungeon Explorer: Defender");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature(5);
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
@@ -49,6 +49,7 @@ public class Plugin_PAK_48 extends ArchivePlugin {
         "Indecision",
         "Kitty Run");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature(5);
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
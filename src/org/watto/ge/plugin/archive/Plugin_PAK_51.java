@@ -43,6 +43,7 @@ public class Plugin_PAK_51 extends ArchivePlugin {
 
     setGames("Star Wars: Episode 3: Revenge Of The Sith");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
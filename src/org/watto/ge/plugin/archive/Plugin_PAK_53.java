@@ -47,6 +47,7 @@ public class Plugin_PAK_53 extends ArchivePlugin {
 
     setGames("You Green Elephant");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
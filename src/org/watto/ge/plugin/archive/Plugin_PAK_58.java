@@ -45,6 +45,7 @@ public class Plugin_PAK_58 extends ArchivePlugin {
 
     setGames("Painkiller Resurrection");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_PAK_59 extends ArchivePlugin {
 
     setGames("Fez");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PAK_63 extends ArchivePlugin {
     setGames("100% Orange Juice",
         "Acceleration of SUGURI 2");
     setExtensions("pak", "dat"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_PAK_64 extends ArchivePlugin {
 
     setGames("Cathedral");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setEnabled(false); // not actually correct - must be an index file somewhere or something
@@ -22,6 +22,7 @@ import org.watto.Settings;
 import org.watto.component.WSPluginException;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.AESKeyFinder;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.helper.UE4Helper;
 import org.watto.ge.plugin.ArchivePlugin;
@@ -66,6 +67,7 @@ public class Plugin_PAK_65 extends ArchivePlugin {
         "System Shock (2021)",
         "Train Sim World 2");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(getFileTypes()); // They use many of the same file types
@@ -626,23 +628,12 @@ public class Plugin_PAK_65 extends ArchivePlugin {
 
         long dirLength = (int) (arcSize - dirOffset);
 
-        // Try all the keys we know about, see if we can find one that works
-        byte[][] keys = UE4Helper.getAESKeys();
-        int numKeys = keys.length;
-
-        byte[] key = null;
-
+        // Try all the keys we know about, see if we can find one that works (the key that worked last time is tried first)
         int testLength = 64;
-        for (int k = 0; k < numKeys; k++) {
-          try {
-            key = keys[k];
-            Exporter_Encryption_AES decryptor = new Exporter_Encryption_AES(key);
-
-            Resource dirResource = new Resource(path, "", dirOffset, testLength, testLength, decryptor);
-            ExporterByteBuffer exporterBuffer = new ExporterByteBuffer(dirResource);
-
-            FileManipulator testFM = new FileManipulator(exporterBuffer);
+        byte[] key = AESKeyFinder.findKey(path, dirOffset, testLength, UE4Helper.getAESKeys(), new AESKeyFinder.KeyTester() {
 
+          @Override
+          public void test(FileManipulator testFM) throws Exception {
             // 4 - Relative Directory Name Length (including null terminator) (10)
             int nameLength = testFM.readInt();
             FieldValidator.checkRange(nameLength, 0, 64);
@@ -652,17 +643,10 @@ public class Plugin_PAK_65 extends ArchivePlugin {
             testFM.readNullString();
 
             // 4 - Number of Files
-            numFiles = testFM.readInt();
-            FieldValidator.checkNumFiles(numFiles / 4);
-
-            // found one
-            break;
-          }
-          catch (Throwable t2) {
-            numFiles = 0;
-            key = null;
+            int testNumFiles = testFM.readInt();
+            FieldValidator.checkNumFiles(testNumFiles / 4);
           }
-        }
+        });
 
         //byte[] key = ByteArrayConverter.convertLittle(new Hex("D0BAAAE538F6B96FBE77F4A1EF75DDEB62AAE6A54790B37F46AE055D2E787821"));
         if (key == null) {
@@ -55,6 +55,7 @@ public class Plugin_PAK_66 extends ArchivePlugin {
 
     setGames("Little Nightmares 2");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(getFileTypes()); // They use many of the same file types
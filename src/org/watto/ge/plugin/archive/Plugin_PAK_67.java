@@ -44,6 +44,7 @@ public class Plugin_PAK_67 extends ArchivePlugin {
 
     setGames("Survivalist");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
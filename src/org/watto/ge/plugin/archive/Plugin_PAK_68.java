@@ -43,6 +43,7 @@ public class Plugin_PAK_68 extends ArchivePlugin {
 
     setGames("Alien: Isolation");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
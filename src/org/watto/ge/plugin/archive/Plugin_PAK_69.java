@@ -42,6 +42,7 @@ public class Plugin_PAK_69 extends ArchivePlugin {
 
     setGames("Crime Cities");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("V3D ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
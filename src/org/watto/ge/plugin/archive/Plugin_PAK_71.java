@@ -47,6 +47,7 @@ public class Plugin_PAK_71 extends ArchivePlugin {
     setGames("Dead to Rights 2",
         "Pirates: Legend of the Black Buccaneer");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature(-185986958);
     setPlatforms("PC", "PS2");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_PAK_72 extends ArchivePlugin {
 
     setGames("Outrun 2006: Coast 2 Coast");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
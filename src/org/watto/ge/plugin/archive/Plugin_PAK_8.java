@@ -47,6 +47,7 @@ public class Plugin_PAK_8 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Simcity 3000");
     setPlatforms("PC");
 
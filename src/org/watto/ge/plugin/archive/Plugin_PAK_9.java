@@ -48,6 +48,7 @@ public class Plugin_PAK_9 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pak");
+    setMatchNeedsExtension();
     setGames("Wari");
     setPlatforms("PC");
 
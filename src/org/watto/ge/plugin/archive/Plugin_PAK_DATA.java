@@ -48,6 +48,7 @@ public class Plugin_PAK_DATA extends ArchivePlugin {
 
     setGames("King Of Fighters: Maximum Impact");
     setExtensions("pak");
+    setMatchSignature("DATA");
     setPlatforms("XBox");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_PAK_DIVI extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pak");
+    setMatchSignature("DIVI");
     setGames("Motorhead");
     setPlatforms("PC");
 
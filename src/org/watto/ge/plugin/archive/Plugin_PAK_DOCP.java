@@ -47,6 +47,7 @@ public class Plugin_PAK_DOCP extends ArchivePlugin {
 
     setGames("Battlezone 2");
     setExtensions("pak");
+    setMatchSignature("DOCP");
     setPlatforms("PC");
 
   }
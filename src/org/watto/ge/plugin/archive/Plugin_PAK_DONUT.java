@@ -49,6 +49,7 @@ public class Plugin_PAK_DONUT extends ArchivePlugin {
 
     setGames("Rebels: Prison Escape");
     setExtensions("pak");
+    setMatchSignature("DoNuT:FSPacked:0");
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_PAK_DPAK extends ArchivePlugin {
 
     setGames("LEGO Creator Knights Kingdom");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("DPAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
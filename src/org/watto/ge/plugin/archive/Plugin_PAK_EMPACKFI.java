@@ -42,6 +42,7 @@ public class Plugin_PAK_EMPACKFI extends ArchivePlugin {
 
     setGames("Broken Sword 4: The Angel of Death");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("EmPackFi");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -86,6 +86,7 @@ public class Plugin_PAK_EYEDENTITY extends ArchivePlugin {
 
     setGames("Dragon Nest");
     setExtensions("pak", "rfs"); // MUST BE LOWER CASE
+    setMatchSignature("EyedentityGames Packing File 0.1");
     setPlatforms("PC");
 
     setFileTypes(new FileType("act", "Action", FileType.TYPE_OTHER),
@@ -50,6 +50,7 @@ public class Plugin_PAK_FEPAK extends ArchivePlugin {
 
     setGames("Lagsters");
     setExtensions("pak");
+    setMatchSignature("FEPAK");
     setPlatforms("PC");
 
   }
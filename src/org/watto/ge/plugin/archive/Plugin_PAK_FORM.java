@@ -50,6 +50,7 @@ public class Plugin_PAK_FORM extends ArchivePlugin {
 
     setGames("Project Lucie");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("FORM");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_PAK_GBPK extends ArchivePlugin {
 
     setGames("Burger Shop");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("GBPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
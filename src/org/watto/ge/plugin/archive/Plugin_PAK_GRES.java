@@ -42,6 +42,7 @@ public class Plugin_PAK_GRES extends ArchivePlugin {
 
     setGames("Ascension to the Throne");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("GRES");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PAK_HMMSYS extends ArchivePlugin {
     setGames("Rising Kingdoms",
         "Imperivm: Great Battles of Rome");
     setExtensions("pak");
+    setMatchSignature("HMMSYS PackFile");
     setPlatforms("PC");
 
     setTextPreviewExtensions("vs", "bl", "xls"); // LOWER CASE
@@ -44,6 +44,7 @@ public class Plugin_PAK_HROT extends ArchivePlugin {
 
     setGames("HROT");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("HROT");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_PAK_KAPF extends ArchivePlugin {
 
     setGames("Minority Report: Everybody Runs");
     setExtensions("pak");
+    setMatchSignature("KAPF");
     setPlatforms("XBox");
 
   }
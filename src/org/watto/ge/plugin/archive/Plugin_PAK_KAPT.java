@@ -49,6 +49,7 @@ public class Plugin_PAK_KAPT extends ArchivePlugin {
 
     setGames("MorphX");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("KAPT");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PAK_KCAP extends ArchivePlugin {
 
     setGames("Spongebob Squarepants: Lights Camera Pants!");
     setExtensions("pak");
+    setMatchSignature("kcap");
     setPlatforms("XBox");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_PAK_KPKA extends ArchivePlugin {
 
     setGames("Capcom Arcade Stadium");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("KPKA");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_PAK_MCPK extends ArchivePlugin {
 
     setGames("Cities XL");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("MCPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_PAK_MPAK extends ArchivePlugin {
 
     setGames("Viking: Battle for Asgard");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("MPAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
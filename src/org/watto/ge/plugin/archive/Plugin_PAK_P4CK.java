@@ -47,6 +47,7 @@ public class Plugin_PAK_P4CK extends ArchivePlugin {
 
     setGames("Second Sight");
     setExtensions("pak");
+    setMatchSignature("P4CK");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_PAK_P5CK extends ArchivePlugin {
 
     setGames("TimeSplitters: Future Perfect");
     setExtensions("pak");
+    setMatchSignature("P5CK");
     setPlatforms("PC", "PS2", "GameCube");
 
     // MUST BE LOWER CASE !!!
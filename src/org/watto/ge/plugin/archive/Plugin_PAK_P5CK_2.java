@@ -49,6 +49,7 @@ public class Plugin_PAK_P5CK_2 extends ArchivePlugin {
 
     setGames("TimeSplitters: Future Perfect");
     setExtensions("pak");
+    setMatchSignature("P5CK");
     setPlatforms("PS2", "GameCube");
 
     setCanScanForFileTypes(true);
@@ -44,6 +44,7 @@ public class Plugin_PAK_PACK extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("pak");
+    setMatchSignature("PACK");
     setGames("Conquest Of The New World",
         "Gunman Chronicles",
         "Half-Life",
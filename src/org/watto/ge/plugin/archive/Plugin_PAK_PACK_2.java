@@ -47,6 +47,7 @@ public class Plugin_PAK_PACK_2 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("pak");
+    setMatchSignature("PACK");
     setGames("Daikatana");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_PAK_PACK_3 extends ArchivePlugin {
 
     setGames("7 Sins");
     setExtensions("pak");
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_PAK_PACK_4 extends ArchivePlugin {
         "Alpine Ski Racing 2007",
         "Skispringen 2007");
     setExtensions("pak");
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_PAK_PACK_5 extends ArchivePlugin {
 
     setGames("Eador: Masters of the Broken World");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
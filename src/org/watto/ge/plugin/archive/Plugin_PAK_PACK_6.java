@@ -46,6 +46,7 @@ public class Plugin_PAK_PACK_6 extends ArchivePlugin {
         "Balacera Brothers",
         "Blood Paws Unleashed");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("PACK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
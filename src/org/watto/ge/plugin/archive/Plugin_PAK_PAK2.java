@@ -43,6 +43,7 @@ public class Plugin_PAK_PAK2 extends ArchivePlugin {
     setGames("Alien: Isolation",
         "Viking: Battle for Asgard");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("PAK2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
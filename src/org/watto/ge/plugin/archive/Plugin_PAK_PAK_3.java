@@ -44,6 +44,7 @@ public class Plugin_PAK_PAK_3 extends ArchivePlugin {
 
     setGames("Eschalon: Book 1");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("!PAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
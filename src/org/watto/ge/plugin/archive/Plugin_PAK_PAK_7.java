@@ -51,6 +51,7 @@ public class Plugin_PAK_PAK_7 extends ArchivePlugin {
 
     setGames("James Cameron's Avatar - The Game");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("PAK!");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
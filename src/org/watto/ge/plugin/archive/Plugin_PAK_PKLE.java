@@ -43,6 +43,7 @@ public class Plugin_PAK_PKLE extends ArchivePlugin {
 
     setGames("Ion Assault");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("PKLE");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
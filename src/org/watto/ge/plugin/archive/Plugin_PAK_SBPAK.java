@@ -50,6 +50,7 @@ public class Plugin_PAK_SBPAK extends ArchivePlugin {
         "Giana Sisters: Twisted Dreams: Rise of the Owlverlord",
         "Helldorado");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("SBPAK V 1.0");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
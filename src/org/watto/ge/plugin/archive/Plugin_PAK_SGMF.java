@@ -48,6 +48,7 @@ public class Plugin_PAK_SGMF extends ArchivePlugin {
 
     setGames("A.I.M.2: Clan Wars");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("SGMF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_PAK_SPARK extends ArchivePlugin {
 
     setGames("Call Of Duty: Finest Hour");
     setExtensions("pak");
+    setMatchSignature("Spark Pack (C)2004 Spark Unlimited, Inc. Author Jim Schuler.");
     setPlatforms("XBox");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_PAK_TATE extends ArchivePlugin {
 
     setGames("Kao the Kangaroo: Round 2");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("TATE");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_PAK_WINGSPAK extends ArchivePlugin {
 
     setGames("Soldner: Secret Wars");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("WINGSPAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_PAK_ZV4 extends ArchivePlugin {
         "LEGO Marvel Super Heroes",
         "The LEGO Movie Videogame");
     setExtensions("pak"); // MUST BE LOWER CASE
+    setMatchSignature("zV4");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
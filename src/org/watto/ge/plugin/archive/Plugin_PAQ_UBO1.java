@@ -46,6 +46,7 @@ public class Plugin_PAQ_UBO1 extends ArchivePlugin {
 
     setGames("Ultimate Baseball Online");
     setExtensions("paq"); // MUST BE LOWER CASE
+    setMatchSignature("ubo1");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_PARTIMAGES extends ArchivePlugin {
 
     setGames("Evolution GT");
     setExtensions("partimages"); // MUST BE LOWER CASE
+    setMatchSignature(22);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PAR_PARC extends ArchivePlugin {
 
     setGames("Binary Domain");
     setExtensions("par"); // MUST BE LOWER CASE
+    setMatchSignature("PARC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
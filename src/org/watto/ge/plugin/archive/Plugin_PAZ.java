@@ -44,6 +44,7 @@ public class Plugin_PAZ extends ArchivePlugin {
 
     setGames("Black Desert Online");
     setExtensions("paz"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
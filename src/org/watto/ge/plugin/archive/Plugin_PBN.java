@@ -51,6 +51,7 @@ public class Plugin_PBN extends ArchivePlugin {
 
     setGames("Mercenary Kings");
     setExtensions("pbn"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_PBO extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pbo");
+    setMatchNeedsExtension();
     setGames("ArmA: Cold War Assault",
         "Operation Flashpoint");
     setPlatforms("PC");
@@ -46,6 +46,7 @@ public class Plugin_PC extends ArchivePlugin {
 
     setGames("Evil Dead");
     setExtensions("pc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("pc_wav_arc", "Audio Archive", FileType.TYPE_ARCHIVE),
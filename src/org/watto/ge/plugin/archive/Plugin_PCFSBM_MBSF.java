@@ -41,6 +41,7 @@ public class Plugin_PCFSBM_MBSF extends ArchivePlugin {
 
     setGames("Deus Ex: Mankind Divided");
     setExtensions("pc_fsbm"); // MUST BE LOWER CASE
+    setMatchSignature("MBSF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PCK extends ArchivePlugin {
 
     setGames("Darkwatch");
     setExtensions("pck");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
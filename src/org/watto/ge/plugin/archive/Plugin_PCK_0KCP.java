@@ -50,6 +50,7 @@ public class Plugin_PCK_0KCP extends ArchivePlugin {
 
     setGames("WWII Tank Commander");
     setExtensions("pck");
+    setMatchSignature("0KCP");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_PCK_3 extends ArchivePlugin {
 
     setGames("Shihiki Shiki");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("Android");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_PCK_4 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pck");
+    setMatchNeedsExtension();
     setGames("Commandos 2: Men of Courage",
         "Commandos 3: Destination Berlin");
     setPlatforms("PC");
@@ -50,6 +50,7 @@ public class Plugin_PCK_AKPK extends ArchivePlugin {
         "Middle Earth: Shadow Of Mordor",
         "Resident Evil 2");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
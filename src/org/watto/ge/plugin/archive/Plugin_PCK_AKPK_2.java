@@ -45,6 +45,7 @@ public class Plugin_PCK_AKPK_2 extends ArchivePlugin {
         "Dirty Bomb",
         "Gwent");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_PCK_AKPK_3 extends ArchivePlugin {
 
     setGames("Warhammer 40,000 Space Marine");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_PCK_AKPK_4 extends ArchivePlugin {
         "Steep",
         "Tom Clancy's Ghost Recon Wildlands");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
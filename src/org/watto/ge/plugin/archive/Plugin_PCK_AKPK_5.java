@@ -44,6 +44,7 @@ public class Plugin_PCK_AKPK_5 extends ArchivePlugin {
     setGames(
         "Doom Eternal");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC", "Switch");
 
     // MUST BE LOWER CASE !!!
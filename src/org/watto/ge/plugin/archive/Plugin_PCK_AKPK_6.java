@@ -43,6 +43,7 @@ public class Plugin_PCK_AKPK_6 extends ArchivePlugin {
 
     setGames("Dishonored");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AKPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
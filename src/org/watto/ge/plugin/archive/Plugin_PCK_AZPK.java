@@ -42,6 +42,7 @@ public class Plugin_PCK_AZPK extends ArchivePlugin {
 
     setGames("Create");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("AZPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
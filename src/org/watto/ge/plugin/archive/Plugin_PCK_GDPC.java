@@ -46,6 +46,7 @@ public class Plugin_PCK_GDPC extends ArchivePlugin {
         "Lumencraft",
         "Martial Law");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("GDPC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
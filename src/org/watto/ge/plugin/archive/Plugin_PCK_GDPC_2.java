@@ -44,6 +44,7 @@ public class Plugin_PCK_GDPC_2 extends ArchivePlugin {
 
     setGames("Buckshot Roulette");
     setExtensions("pck"); // MUST BE LOWER CASE
+    setMatchSignature("GDPC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
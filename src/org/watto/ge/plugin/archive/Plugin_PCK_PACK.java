@@ -46,6 +46,7 @@ public class Plugin_PCK_PACK extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("pck");
+    setMatchSignature("PACK");
     setGames("Le Mans 24 Hours",
         "Test Drive Le Mans");
     setPlatforms("PC");
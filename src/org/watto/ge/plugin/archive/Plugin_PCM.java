@@ -42,6 +42,7 @@ public class Plugin_PCM extends ArchivePlugin {
 
     setGames("Legacy of Kain: Soul Reaver");
     setExtensions("pcm"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_PCPACK extends ArchivePlugin {
 
     setGames("Spider-Man 3");
     setExtensions("pcpack"); // MUST BE LOWER CASE
+    setMatchSignature(26);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PCS_CHNK extends ArchivePlugin {
     setGames("Driver 3",
         "Driver: Parallel Lines");
     setExtensions("cpr", "d3s", "dam", "gfx", "map", "mec", "mpc", "pcs", "pmu", "vgt", "vvs", "vvv", "sp");
+    setMatchSignature("CHNK");
     setPlatforms("PC");
 
   }
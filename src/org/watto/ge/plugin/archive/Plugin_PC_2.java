@@ -53,6 +53,7 @@ public class Plugin_PC_2 extends ArchivePlugin {
 
     setGames("Bad Boys 2");
     setExtensions("pc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
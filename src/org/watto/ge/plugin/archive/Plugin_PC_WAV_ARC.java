@@ -44,6 +44,7 @@ public class Plugin_PC_WAV_ARC extends ArchivePlugin {
 
     setGames("Evil Dead");
     setExtensions("pc_wav_arc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -42,6 +42,7 @@ public class Plugin_PDI_PDI1 extends ArchivePlugin {
 
     setGames("Motorhead");
     setExtensions("pdi"); // MUST BE LOWER CASE
+    setMatchSignature("PDI1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_PDT extends ArchivePlugin {
 
     setGames("Fighting Force");
     setExtensions("pdt"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("pdt_tex", "Texture Image", FileType.TYPE_IMAGE));
@@ -44,6 +44,7 @@ public class Plugin_PDT_PDI1 extends ArchivePlugin {
         "Swedish Touring Car Championship 2",
         "Test Drive Rally");
     setExtensions("pdt");
+    setMatchSignature("PDI1");
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_PEG_GEKV extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("peg");
+    setMatchSignature("GEKV");
     setGames("Red Faction 2");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_PF extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pf", "pfb", "pfc");
+    setMatchNeedsExtension();
     setGames("Leadfoot",
         "Dirt Track Racing",
         "Dirt Track Racing - Sprint Cars",
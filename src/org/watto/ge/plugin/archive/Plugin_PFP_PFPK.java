@@ -45,6 +45,7 @@ public class Plugin_PFP_PFPK extends ArchivePlugin {
         "The Tiny Bang Story",
         "Xenonauts");
     setExtensions("pfp"); // MUST BE LOWER CASE
+    setMatchSignature("PFPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
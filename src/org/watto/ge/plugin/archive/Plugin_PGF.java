@@ -46,6 +46,7 @@ public class Plugin_PGF extends ArchivePlugin {
 
     setGames("The Time Warp of Dr. Brain");
     setExtensions("pgf"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PIG extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pig");
+    setMatchNeedsExtension();
     setGames("Descent");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_PIGG extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pigg");
+    setMatchNeedsExtension();
     setGames("City of Heroes",
         "City of Villains");
     setPlatforms("PC");
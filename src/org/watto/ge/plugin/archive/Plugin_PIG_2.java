@@ -47,6 +47,7 @@ public class Plugin_PIG_2 extends ArchivePlugin {
 
     setGames("Magic The Gathering: Online");
     setExtensions("pig");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -45,6 +45,7 @@ public class Plugin_PIG_PPIG extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pig");
+    setMatchSignature("PPIG");
     setGames("Descent 2");
     setPlatforms("PC");
 
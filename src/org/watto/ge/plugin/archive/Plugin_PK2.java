@@ -47,6 +47,7 @@ public class Plugin_PK2 extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("pk2");
+    setMatchNeedsExtension();
     setGames("Tropico");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_PK2_3 extends ArchivePlugin {
 
     setGames("Railroad Tycoon 2");
     setExtensions("pk2"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
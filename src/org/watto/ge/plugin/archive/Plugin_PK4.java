@@ -46,6 +46,7 @@ public class Plugin_PK4 extends ArchivePlugin {
 
     setGames("Railroad Tycoon 3");
     setExtensions("pk4");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
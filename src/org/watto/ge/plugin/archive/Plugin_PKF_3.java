@@ -49,6 +49,7 @@ public class Plugin_PKF_3 extends ArchivePlugin {
 
     setGames("In-Fishermen Freshwater Trophies");
     setExtensions("pkf");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -51,6 +51,7 @@ public class Plugin_PKG extends ArchivePlugin {
 
     setGames("Space Rangers 2");
     setExtensions("pkg");
+    setMatchSignature(4);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_PKG_3 extends ArchivePlugin {
 
     setGames("Steam");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
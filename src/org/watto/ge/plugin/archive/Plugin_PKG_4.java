@@ -46,6 +46,7 @@ public class Plugin_PKG_4 extends ArchivePlugin {
 
     setGames("Spider-Man: The Movie");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
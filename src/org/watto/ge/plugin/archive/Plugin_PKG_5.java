@@ -44,6 +44,7 @@ public class Plugin_PKG_5 extends ArchivePlugin {
 
     setGames("Limbo");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PKG_6 extends ArchivePlugin {
 
     setGames("Bastion");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
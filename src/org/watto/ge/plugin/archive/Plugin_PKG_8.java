@@ -48,6 +48,7 @@ public class Plugin_PKG_8 extends ArchivePlugin {
 
     setGames("World of Warships");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("geometry", "Geometry Mesh", FileType.TYPE_MODEL));
@@ -44,6 +44,7 @@ public class Plugin_PKG_ARCH extends ArchivePlugin {
 
     setGames("Metal Heart: Replicants Rampage");
     setExtensions("pkg");
+    setMatchSignature("ARCH");
     setPlatforms("PC");
 
   }
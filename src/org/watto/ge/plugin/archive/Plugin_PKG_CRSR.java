@@ -50,6 +50,7 @@ public class Plugin_PKG_CRSR extends ArchivePlugin {
 
     setGames("Galleon: Island Of Mystery");
     setExtensions("pkg");
+    setMatchSignature("CRSR");
     setPlatforms("XBox");
 
   }
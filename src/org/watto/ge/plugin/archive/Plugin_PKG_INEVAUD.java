@@ -42,6 +42,7 @@ public class Plugin_PKG_INEVAUD extends ArchivePlugin {
 
     setGames("Tribes: Aerial Assault");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchSignature("inevaud");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PKG_PPKG extends ArchivePlugin {
 
     setGames("WRC 7");
     setExtensions("pkg"); // MUST BE LOWER CASE
+    setMatchSignature("PPKG");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_PKR_PKR1 extends ArchivePlugin {
 
     setGames("Gex 2: Enter The Gecko");
     setExtensions("pkr"); // MUST BE LOWER CASE
+    setMatchSignature("PKR1");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_PKR_PKR2 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("pkr");
+    setMatchSignature("PKR2");
     setGames("Tony Hawk: Pro Skater 2");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_PKR_PKR3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pkr");
+    setMatchSignature("PKR3");
     setGames("Spiderman");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_POD extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("pod");
+    setMatchNeedsExtension();
     setGames("4x4 Evolution",
         "4x4 Evolution 2",
         "Terminal Velocity",
@@ -45,6 +45,7 @@ public class Plugin_POD_POD2 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("pod");
+    setMatchSignature("POD2");
     setGames("4x4 Evolution",
         "4x4 Evolution 2",
         "Blair Witch Project",
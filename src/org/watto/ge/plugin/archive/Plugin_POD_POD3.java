@@ -45,6 +45,7 @@ public class Plugin_POD_POD3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("pod");
+    setMatchSignature("POD3");
     setGames("Bloodrayne",
         "Bloodrayne 2",
         "Aeon Flux");
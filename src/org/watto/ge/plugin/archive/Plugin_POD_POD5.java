@@ -48,6 +48,7 @@ public class Plugin_POD_POD5 extends ArchivePlugin {
         "Silent Hill: Book of Memories",
         "The Walking Dead: Survival Instinct");
     setExtensions("pod"); // MUST BE LOWER CASE
+    setMatchSignature("POD5");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -58,6 +58,7 @@ public class Plugin_POD_POD6 extends ArchivePlugin {
 
     setGames("Ghostbusters: The Video Game: Remastered");
     setExtensions("pod"); // MUST BE LOWER CASE
+    setMatchSignature("POD6");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_PPF_PPAK extends ArchivePlugin {
 
     setGames("Psychonauts");
     setExtensions("ppf"); // MUST BE LOWER CASE
+    setMatchSignature("PPAK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
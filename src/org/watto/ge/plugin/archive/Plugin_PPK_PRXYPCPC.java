@@ -44,6 +44,7 @@ public class Plugin_PPK_PRXYPCPC extends ArchivePlugin {
 
     setGames("Wargame: Red Dragon");
     setExtensions("ppk"); // MUST BE LOWER CASE
+    setMatchSignature("PRXYPCPC");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
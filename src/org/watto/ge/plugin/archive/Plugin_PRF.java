@@ -47,6 +47,7 @@ public class Plugin_PRF extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("prf");
+    setMatchNeedsExtension();
     setGames("Medieval Total War");
     setPlatforms("PC");
 
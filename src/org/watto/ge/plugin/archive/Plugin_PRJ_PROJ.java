@@ -45,6 +45,7 @@ public class Plugin_PRJ_PROJ extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("prj");
+    setMatchSignature("PROJ");
     setGames("Mech Warrior 2: Mercinaries");
     setPlatforms("PC");
 
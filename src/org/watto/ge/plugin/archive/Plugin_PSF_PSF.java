@@ -43,6 +43,7 @@ public class Plugin_PSF_PSF extends ArchivePlugin {
 
     setGames("Conflict: Desert Storm");
     setExtensions("psf"); // MUST BE LOWER CASE
+    setMatchSignature("PSF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
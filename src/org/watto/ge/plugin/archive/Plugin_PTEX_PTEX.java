@@ -43,6 +43,7 @@ public class Plugin_PTEX_PTEX extends ArchivePlugin {
 
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("ptex"); // MUST BE LOWER CASE
+    setMatchSignature("PTEX");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
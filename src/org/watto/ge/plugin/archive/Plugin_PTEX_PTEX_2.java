@@ -46,6 +46,7 @@ public class Plugin_PTEX_PTEX_2 extends ArchivePlugin {
 
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("ptex"); // MUST BE LOWER CASE
+    setMatchSignature("PTEX");
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
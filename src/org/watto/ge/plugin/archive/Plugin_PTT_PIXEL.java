@@ -48,6 +48,7 @@ public class Plugin_PTT_PIXEL extends ArchivePlugin {
 
     setGames("USAF");
     setExtensions("ptt", "dem");
+    setMatchSignature("Pixel - Strm");
     setPlatforms("PC");
 
   }
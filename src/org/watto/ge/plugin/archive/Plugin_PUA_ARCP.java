@@ -46,6 +46,7 @@ public class Plugin_PUA_ARCP extends ArchivePlugin {
 
     setGames("Against Rome");
     setExtensions("pua");
+    setMatchSignature("ARCP");
     setPlatforms("PC");
 
   }
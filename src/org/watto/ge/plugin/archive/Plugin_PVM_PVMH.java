@@ -42,6 +42,7 @@ public class Plugin_PVM_PVMH extends ArchivePlugin {
 
     setGames("Sonic Adventure DX");
     setExtensions("pvm"); // MUST BE LOWER CASE
+    setMatchSignature("PVMH");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
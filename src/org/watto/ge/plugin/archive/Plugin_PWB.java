@@ -47,6 +47,7 @@ public class Plugin_PWB extends ArchivePlugin {
 
     setGames("First To Fight");
     setExtensions("pwb");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_PWS extends ArchivePlugin {
 
     setGames("WRC 7");
     setExtensions("pws"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
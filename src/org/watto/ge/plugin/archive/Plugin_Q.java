@@ -49,6 +49,7 @@ public class Plugin_Q extends ArchivePlugin {
 
     setGames("Beyond Pearl Harbor: Pacific Warriors");
     setExtensions("q"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
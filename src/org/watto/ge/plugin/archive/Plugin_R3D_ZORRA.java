@@ -49,6 +49,7 @@ public class Plugin_R3D_ZORRA extends ArchivePlugin {
 
     setGames("Rocko's Quest");
     setExtensions("r3d");
+    setMatchSignature("Zorra");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_RAR_RAR extends ArchivePlugin {
         "Alexander",
         "Hidden And Dangerous");
     setExtensions("rar");
+    setMatchSignature("Rar!");
     setPlatforms("PC");
 
   }
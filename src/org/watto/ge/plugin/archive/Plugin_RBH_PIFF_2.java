@@ -42,6 +42,7 @@ public class Plugin_RBH_PIFF_2 extends ArchivePlugin {
 
     setGames("South Park Rally");
     setExtensions("rbh"); // MUST BE LOWER CASE
+    setMatchSignature("PIFF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
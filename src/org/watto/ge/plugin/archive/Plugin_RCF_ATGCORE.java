@@ -42,6 +42,7 @@ public class Plugin_RCF_ATGCORE extends ArchivePlugin {
 
     setGames("The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
+    setMatchSignature("ATG CORE CEMENT LIBRARY");
     setPlatforms("XBox");
 
   }
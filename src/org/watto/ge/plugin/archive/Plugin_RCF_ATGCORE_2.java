@@ -43,6 +43,7 @@ public class Plugin_RCF_ATGCORE_2 extends ArchivePlugin {
 
     setGames("The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
+    setMatchSignature("ATG CORE CEMENT LIBRARY");
     setPlatforms("GameCube");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_RCF_ATGCORE_3 extends ArchivePlugin {
 
     setGames("Prototype");
     setExtensions("rcf");
+    setMatchSignature("ATG CORE CEMENT LIBRARY");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_RCF_RADCORE extends ArchivePlugin {
     setGames("James Cameron's Dark Angel",
         "The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
+    setMatchSignature("RADCORE CEMENT LIBRARY");
     setPlatforms("XBox", "PS2");
 
     setTextPreviewExtensions("cho", "rdl"); // LOWER CASE
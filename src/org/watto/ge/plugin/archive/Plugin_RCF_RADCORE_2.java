@@ -48,6 +48,7 @@ public class Plugin_RCF_RADCORE_2 extends ArchivePlugin {
     setGames("Dark Summit",
         "Simpsons Road Rage");
     setExtensions("rcf");
+    setMatchSignature("RADCORE CEMENT LIBRARY");
     setPlatforms("PC", "GameCube");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_RCK_RKET extends ArchivePlugin {
     setGames("How To Survive",
         "How To Survive 2");
     setExtensions("rck"); // MUST BE LOWER CASE
+    setMatchSignature("RKET");
     setPlatforms("PC");
 
     //setCanScanForFileTypes(true);
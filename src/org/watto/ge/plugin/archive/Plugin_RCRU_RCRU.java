@@ -47,6 +47,7 @@ public class Plugin_RCRU_RCRU extends ArchivePlugin {
 
     setGames("River City Ransom: Underground");
     setExtensions("rcru"); // MUST BE LOWER CASE
+    setMatchSignature("RCRU");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_RDA extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("rda");
+    setMatchNeedsExtension();
     setGames("America");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_RDA_RESOURCEFILE11 extends ArchivePlugin {
 
     setGames("Castle Strike");
     setExtensions("rda"); // MUST BE LOWER CASE
+    setMatchSignature("Resource File V1.1");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
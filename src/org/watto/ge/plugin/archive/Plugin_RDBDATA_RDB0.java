@@ -47,6 +47,7 @@ public class Plugin_RDBDATA_RDB0 extends ArchivePlugin {
 
     setGames("Age of Conan");
     setExtensions("rdbdata"); // MUST BE LOWER CASE
+    setMatchSignature("RDB0");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
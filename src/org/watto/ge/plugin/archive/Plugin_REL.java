@@ -43,6 +43,7 @@ public class Plugin_REL extends ArchivePlugin {
 
     setGames("Wario World");
     setExtensions("rel"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("GameCube");
 
     // MUST BE LOWER CASE !!!
@@ -51,6 +51,7 @@ public class Plugin_RESOURCES extends ArchivePlugin {
 
     setGames("Doom 3");
     setExtensions("resources"); // MUST BE LOWER CASE
+    setMatchSignature(218104016);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_RESOURCES_2 extends ArchivePlugin {
 
     setGames("RAGE");
     setExtensions("resources"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("bimage", "Bitmap Image", FileType.TYPE_IMAGE));
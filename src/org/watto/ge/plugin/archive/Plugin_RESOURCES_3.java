@@ -48,6 +48,7 @@ public class Plugin_RESOURCES_3 extends ArchivePlugin {
 
     setGames("RAGE");
     setExtensions("resources", "streamed"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
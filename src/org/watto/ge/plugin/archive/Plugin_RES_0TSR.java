@@ -45,6 +45,7 @@ public class Plugin_RES_0TSR extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("res");
+    setMatchSignature("0TSR");
     setGames("Nascar Heat");
     setPlatforms("PC");
 
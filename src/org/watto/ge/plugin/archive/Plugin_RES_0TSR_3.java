@@ -45,6 +45,7 @@ public class Plugin_RES_0TSR_3 extends ArchivePlugin {
 
     setGames("Dirt To Daytona");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchSignature("0TSR");
     setPlatforms("PS2");
 
     setFileTypes(new FileType("tex", "TEX Image", FileType.TYPE_IMAGE),
@@ -44,6 +44,7 @@ public class Plugin_RES_0TSR_4 extends ArchivePlugin {
 
     setGames("Test Drive: Eve of Destruction");
     setExtensions("res", "car", "trk"); // MUST BE LOWER CASE
+    setMatchSignature("0TSR");
     setPlatforms("PS2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
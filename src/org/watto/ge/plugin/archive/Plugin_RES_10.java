@@ -47,6 +47,7 @@ public class Plugin_RES_10 extends ArchivePlugin {
 
     setGames("Hammer And Sickle");
     setExtensions("res");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
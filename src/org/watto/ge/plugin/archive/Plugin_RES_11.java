@@ -46,6 +46,7 @@ public class Plugin_RES_11 extends ArchivePlugin {
 
     setGames("Night Watch");
     setExtensions("res");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
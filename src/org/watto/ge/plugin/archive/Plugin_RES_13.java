@@ -42,6 +42,7 @@ public class Plugin_RES_13 extends ArchivePlugin {
 
     setGames("Teenagent");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_RES_14 extends ArchivePlugin {
 
     setGames("Restaurant Empire 2");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
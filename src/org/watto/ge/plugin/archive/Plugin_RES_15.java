@@ -47,6 +47,7 @@ public class Plugin_RES_15 extends ArchivePlugin {
 
     setGames("Alpha Prime");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_RES_16 extends ArchivePlugin {
 
     setGames("I Have No Mouth, and I Must Scream");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
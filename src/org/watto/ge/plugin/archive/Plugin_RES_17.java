@@ -43,6 +43,7 @@ public class Plugin_RES_17 extends ArchivePlugin {
 
     setGames("Mega Math Blaster");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchSignature(3);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_RES_19 extends ArchivePlugin {
 
     setGames("Konung 2");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
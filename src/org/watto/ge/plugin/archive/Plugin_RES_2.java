@@ -45,6 +45,7 @@ public class Plugin_RES_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("res");
+    setMatchSignature("&YA1");
     setGames("Allods 2: Rage Of Mages");
     setPlatforms("PC");
 
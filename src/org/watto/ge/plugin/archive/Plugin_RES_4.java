@@ -45,6 +45,7 @@ public class Plugin_RES_4 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("res");
+    setMatchNeedsExtension();
     setGames("Allods");
     setPlatforms("PC");
 
@@ -47,6 +47,7 @@ public class Plugin_RES_5 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("res");
+    setMatchNeedsExtension();
     setGames("Xatax",
         "Laser Light",
         "Fuzzy's World",
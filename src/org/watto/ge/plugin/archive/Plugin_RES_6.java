@@ -47,6 +47,7 @@ public class Plugin_RES_6 extends ArchivePlugin {
 
     setGames("Hotel Giant");
     setExtensions("res");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_RES_7 extends ArchivePlugin {
 
     setGames("Cybermercs");
     setExtensions("res");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
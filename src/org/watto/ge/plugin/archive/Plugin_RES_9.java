@@ -48,6 +48,7 @@ public class Plugin_RES_9 extends ArchivePlugin {
 
     setGames("Hellforces");
     setExtensions("res");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_RES_AEPOS extends ArchivePlugin {
 
     setGames("Eye of the Beholder 3: Assault On Myth Drannor");
     setExtensions("res"); // MUST BE LOWER CASE
+    setMatchSignature("AESOP/16 V1.00");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_RES_DDRV extends ArchivePlugin {
 
     setGames("Scooby-Doo: Mystery Of The Fun Park Phantom");
     setExtensions("res", "a", "o"); // MUST BE LOWER CASE
+    setMatchSignature("DDRV");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_RES_ILFF extends ArchivePlugin {
     setGames("Project IGI: I'm Going In",
         "Project IGI 2");
     setExtensions("res");
+    setMatchSignature("ILFF");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_RES_IPF1 extends ArchivePlugin {
 
     setGames("Shade");
     setExtensions("res");
+    setMatchSignature("IPF1");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_RES_LG extends ArchivePlugin {
     setGames("System Shock",
         "System Shock: Enhanced Edition");
     setExtensions("res");
+    setMatchSignature("LG Res File v2");
     setPlatforms("PC");
 
     setFileTypes("2", "Image",
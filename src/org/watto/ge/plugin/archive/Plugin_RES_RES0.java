@@ -46,6 +46,7 @@ public class Plugin_RES_RES0 extends ArchivePlugin {
 
     setGames("MAX");
     setExtensions("res");
+    setMatchSignature("RES0");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_RES_RESOURCE2 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("res");
+    setMatchSignature("RESOURCE2xxx");
     setGames("F-22 Lightning 2");
     setPlatforms("PC");
 
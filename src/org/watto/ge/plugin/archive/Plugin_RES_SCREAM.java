@@ -48,6 +48,7 @@ public class Plugin_RES_SCREAM extends ArchivePlugin {
 
     setGames("Scratches");
     setExtensions("res");
+    setMatchSignature("SCream resource file");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_REZ_BRGR extends ArchivePlugin {
 
     setGames("Escape Velocity Nova");
     setExtensions("rez");
+    setMatchSignature("BRGR");
     setPlatforms("PC");
 
   }
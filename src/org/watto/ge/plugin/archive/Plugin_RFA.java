@@ -45,6 +45,7 @@ public class Plugin_RFA extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("rfa");
+    setMatchNeedsExtension();
     setGames("Battlefield 1942");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_RFA_REFRACTOR2 extends ArchivePlugin {
 
     setGames("RalliSport Challenge");
     setExtensions("rfa"); // MUST BE LOWER CASE
+    setMatchSignature("Refractor2 FlatArchive 1.1  ");
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
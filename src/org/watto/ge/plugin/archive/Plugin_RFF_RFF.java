@@ -43,6 +43,7 @@ public class Plugin_RFF_RFF extends ArchivePlugin {
 
     setGames("Blood");
     setExtensions("rff"); // MUST BE LOWER CASE
+    setMatchSignature("RFF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_RFS extends ArchivePlugin {
 
     setGames("RF Online");
     setExtensions("rfs");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
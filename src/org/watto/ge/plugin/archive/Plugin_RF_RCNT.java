@@ -46,6 +46,7 @@ public class Plugin_RF_RCNT extends ArchivePlugin {
 
     setGames("Sim Golf for Windows 95");
     setExtensions("rf", "flg", "tlp");
+    setMatchSignature("RCNT");
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_RGB extends ArchivePlugin {
 
     setGames("Arsenal Extended Power");
     setExtensions("rgb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
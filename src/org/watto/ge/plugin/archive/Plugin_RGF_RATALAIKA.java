@@ -44,6 +44,7 @@ public class Plugin_RGF_RATALAIKA extends ArchivePlugin {
 
     setGames("League of Evil");
     setExtensions("rgf"); // MUST BE LOWER CASE
+    setMatchSignature("Ratalaika Games");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
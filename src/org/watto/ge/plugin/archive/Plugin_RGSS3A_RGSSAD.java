@@ -63,6 +63,7 @@ public class Plugin_RGSS3A_RGSSAD extends ArchivePlugin {
         "The Dark Stone from Mebara",
         "The Deed: Dynasty");
     setExtensions("rgss3a"); // MUST BE LOWER CASE
+    setMatchSignature("RGSSAD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
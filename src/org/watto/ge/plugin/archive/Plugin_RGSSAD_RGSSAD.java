@@ -54,6 +54,7 @@ public class Plugin_RGSSAD_RGSSAD extends ArchivePlugin {
         "Millennium 3",
         "Rakuen");
     setExtensions("rgssad"); // MUST BE LOWER CASE
+    setMatchSignature("RGSSAD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_RHF_RHVT extends ArchivePlugin {
 
     setGames("SimTown");
     setExtensions("rhf"); // MUST BE LOWER CASE
+    setMatchSignature("RHVT");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
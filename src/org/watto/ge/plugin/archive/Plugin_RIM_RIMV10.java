@@ -48,6 +48,7 @@ public class Plugin_RIM_RIMV10 extends ArchivePlugin {
 
     setGames("Jade Empire");
     setExtensions("rim");
+    setMatchSignature("RIM V1.0");
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_RKV extends ArchivePlugin {
 
     setGames("Blood Omen 2: Legacy of Kain");
     setExtensions("rkv"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_RMX extends ArchivePlugin {
 
     setGames("Crash Twinsanity");
     setExtensions("rmx", "rm2"); // MUST BE LOWER CASE
+    setMatchSignature(65537);
     setPlatforms("XBox", "PS2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
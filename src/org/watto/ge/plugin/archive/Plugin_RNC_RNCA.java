@@ -47,6 +47,7 @@ public class Plugin_RNC_RNCA extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("rnc");
+    setMatchSignature("RNCA");
     setGames("F-14 Fleet Defender");
     setPlatforms("PC");
 
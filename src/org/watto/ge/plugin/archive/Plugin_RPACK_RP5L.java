@@ -45,6 +45,7 @@ public class Plugin_RPACK_RP5L extends ArchivePlugin {
     setGames("Call of Juarez: Bound in Blood",
         "Sniper: Ghost Warrior");
     setExtensions("rpack"); // MUST BE LOWER CASE
+    setMatchSignature("RP5L");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
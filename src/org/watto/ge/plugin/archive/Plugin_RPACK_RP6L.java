@@ -52,6 +52,7 @@ public class Plugin_RPACK_RP6L extends ArchivePlugin {
         "FIM Speedway Grand Prix 15",
         "Dead Island");
     setExtensions("rpack"); // MUST BE LOWER CASE
+    setMatchSignature("RP6L");
     setPlatforms("PC");
 
     setFileTypes(new FileType("tex_data", "Texture Image", FileType.TYPE_IMAGE),
@@ -49,6 +49,7 @@ public class Plugin_RPK_RPAK extends ArchivePlugin {
 
     setGames("Cross Racing Championship 2005");
     setExtensions("rpk");
+    setMatchSignature("RPAK");
     setPlatforms("PC");
 
   }
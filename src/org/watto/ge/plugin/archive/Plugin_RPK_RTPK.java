@@ -42,6 +42,7 @@ public class Plugin_RPK_RTPK extends ArchivePlugin {
 
     setGames("Rule of Rose");
     setExtensions("rpk"); // MUST BE LOWER CASE
+    setMatchSignature("RTPK");
     setPlatforms("PS2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -42,6 +42,7 @@ public class Plugin_RR extends ArchivePlugin {
 
     setGames("Death Track: Resurrection");
     setExtensions("rr"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_RS extends ArchivePlugin {
 
     setGames("Dune 2000");
     setExtensions("rs"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
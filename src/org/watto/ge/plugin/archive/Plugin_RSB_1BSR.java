@@ -49,6 +49,7 @@ public class Plugin_RSB_1BSR extends ArchivePlugin {
 
     setGames("Zuma's Revenge");
     setExtensions("rsb"); // MUST BE LOWER CASE
+    setMatchSignature("1bsr");
     setPlatforms("iOS");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_RSB_RSB1 extends ArchivePlugin {
     setGames("Bejeweled 3",
         "Zuma's Revenge");
     setExtensions("rsb"); // MUST BE LOWER CASE
+    setMatchSignature("rsb1");
     setPlatforms("ps3", "xbox 360");
 
     // MUST BE LOWER CASE !!!
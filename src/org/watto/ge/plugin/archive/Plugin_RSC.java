@@ -48,6 +48,7 @@ public class Plugin_RSC extends ArchivePlugin {
 
     setGames("Brett Hull 95");
     setExtensions("rsc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
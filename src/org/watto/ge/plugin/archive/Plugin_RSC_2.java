@@ -48,6 +48,7 @@ public class Plugin_RSC_2 extends ArchivePlugin {
 
     setGames("Z");
     setExtensions("rsc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
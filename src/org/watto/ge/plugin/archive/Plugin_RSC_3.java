@@ -46,6 +46,7 @@ public class Plugin_RSC_3 extends ArchivePlugin {
 
     setGames("Inherit The Earth: Quest For The Orb");
     setExtensions("rsc");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
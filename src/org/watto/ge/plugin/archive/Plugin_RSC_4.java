@@ -44,6 +44,7 @@ public class Plugin_RSC_4 extends ArchivePlugin {
 
     setGames("Wario World");
     setExtensions("rsc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("GameCube");
 
     // MUST BE LOWER CASE !!!
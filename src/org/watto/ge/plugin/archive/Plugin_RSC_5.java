@@ -44,6 +44,7 @@ public class Plugin_RSC_5 extends ArchivePlugin {
     setGames("Byond Game Engine",
         "Naruto Yume Online");
     setExtensions("rsc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_RSH_RELICCHUNKY extends ArchivePlugin {
         "Company of Heroes 2",
         "Warhammer 40k: Dawn Of War");
     setExtensions("rgt", "rsh", "wtp"); // MUST BE LOWER CASE
+    setMatchSignature("Relic Chunky");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_RSR_RSRC extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("rsr", "rsrc");
+    setMatchSignature("rsrc");
     setGames("Imperialism 2");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_RUS extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("rus");
+    setMatchNeedsExtension();
     setGames("Sudden Strike",
         "Sudden Strike 2");
     setPlatforms("PC");
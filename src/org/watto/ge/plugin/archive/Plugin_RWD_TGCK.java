@@ -47,6 +47,7 @@ public class Plugin_RWD_TGCK extends ArchivePlugin {
     setGames("Kohan 2: Kings Of War",
         "Axis And Allies");
     setExtensions("rwd");
+    setMatchSignature("TGCK");
     setPlatforms("PC");
 
   }
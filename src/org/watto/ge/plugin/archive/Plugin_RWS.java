@@ -47,6 +47,7 @@ public class Plugin_RWS extends ArchivePlugin {
     setGames("Call Of Duty: Finest Hour",
         "Burnout Revenge");
     setExtensions("rws");
+    setMatchNeedsExtension();
     setPlatforms("PS2", "XBox");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_RWS_2 extends ArchivePlugin {
 
     setGames("Neighbours From Hell");
     setExtensions("rws");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
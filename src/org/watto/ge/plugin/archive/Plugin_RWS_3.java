@@ -44,6 +44,7 @@ public class Plugin_RWS_3 extends ArchivePlugin {
 
     setGames("Beat Down: Fists Of Vengeance");
     setExtensions("rws"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_S11_DSND extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("s11", "s22");
+    setMatchSignature("DSND");
     setGames("Descent 2");
     setPlatforms("PC");
 
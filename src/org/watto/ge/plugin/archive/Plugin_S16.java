@@ -43,6 +43,7 @@ public class Plugin_S16 extends ArchivePlugin {
 
     setGames("Warhammer 40K: Rites of War");
     setExtensions("s16"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
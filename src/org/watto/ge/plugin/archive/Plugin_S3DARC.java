@@ -51,6 +51,7 @@ public class Plugin_S3DARC extends ArchivePlugin {
 
     setGames("TimeShift");
     setExtensions("s3darc"); // MUST BE LOWER CASE
+    setMatchSignature(4);
     setPlatforms("PC");
 
     //setFileTypes("","",
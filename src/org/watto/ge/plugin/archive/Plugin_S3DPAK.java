@@ -47,6 +47,7 @@ public class Plugin_S3DPAK extends ArchivePlugin {
 
     setGames("TimeShift");
     setExtensions("s3dpak");
+    setMatchSignature("x");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_SAB_CSW2 extends ArchivePlugin {
 
     setGames("Just Cause");
     setExtensions("sab");
+    setMatchSignature("CSW2");
     setPlatforms("PC");
 
     //setFileTypes("","",
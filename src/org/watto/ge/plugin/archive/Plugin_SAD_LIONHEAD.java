@@ -45,6 +45,7 @@ public class Plugin_SAD_LIONHEAD extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sad");
+    setMatchSignature("LiOnHeAd");
     setGames("Black & White");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_SAD_SAUD extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("sad");
+    setMatchSignature("SAUD");
     setGames("Rebel Assult 2: The Hidden Empire");
     setPlatforms("PC");
 
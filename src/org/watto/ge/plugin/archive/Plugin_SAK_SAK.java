@@ -46,6 +46,7 @@ public class Plugin_SAK_SAK extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sak");
+    setMatchSignature("SAK ");
     setGames("Postal");
     setPlatforms("PC");
 
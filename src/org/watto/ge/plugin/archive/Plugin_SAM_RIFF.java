@@ -48,6 +48,7 @@ public class Plugin_SAM_RIFF extends ArchivePlugin {
     setEnabled(false); // DO NOT ALLOW THIS PLUGIN TO BE USED!
 
     setExtensions("sam");
+    setMatchSignature("RIFF");
     setGames("Le Mans 24 Hours",
         "Test Drive Le Mans");
     setPlatforms("PC");
@@ -47,6 +47,7 @@ public class Plugin_SAN extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("san", "nut", "pfm");
+    setMatchNeedsExtension();
     setGames("Rebel Assult 2: The Hidden Empire",
         "Ignition");
     setPlatforms("PC");
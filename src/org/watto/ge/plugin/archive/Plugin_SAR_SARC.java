@@ -42,6 +42,7 @@ public class Plugin_SAR_SARC extends ArchivePlugin {
 
     setGames("Traktor Racer XS");
     setExtensions("sar");
+    setMatchSignature("SARC");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_SB0 extends ArchivePlugin {
 
     setGames("Rainbow Six 3: Raven Shield");
     setExtensions("sb0"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_SBF_SBF0 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("sbf");
+    setMatchSignature("SBF0");
     setGames("Delta Force",
         "Delta Force: Black Hawk Down",
         "Delta Force: Black Hawk Down: Team Sabre",
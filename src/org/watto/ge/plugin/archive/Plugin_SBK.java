@@ -49,6 +49,7 @@ public class Plugin_SBK extends ArchivePlugin {
 
     setGames("Driver 2");
     setExtensions("sbk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
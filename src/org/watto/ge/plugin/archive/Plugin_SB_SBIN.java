@@ -44,6 +44,7 @@ public class Plugin_SB_SBIN extends ArchivePlugin {
 
     setGames("The Sims FreePlay");
     setExtensions("sb"); // MUST BE LOWER CASE
+    setMatchSignature("SBIN");
     setPlatforms("Android");
 
     // MUST BE LOWER CASE !!!
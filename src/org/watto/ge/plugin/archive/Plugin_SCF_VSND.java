@@ -43,6 +43,7 @@ public class Plugin_SCF_VSND extends ArchivePlugin {
 
     setGames("SimTown");
     setExtensions("scf"); // MUST BE LOWER CASE
+    setMatchSignature("VSND");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_SCH_SND extends ArchivePlugin {
 
     setGames("Conflict: Desert Storm");
     setExtensions("sch"); // MUST BE LOWER CASE
+    setMatchSignature("SND");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_SCS_SCS extends ArchivePlugin {
     setGames("American Truck Simulator",
         "Euro Truck Simulator 2");
     setExtensions("scs"); // MUST BE LOWER CASE
+    setMatchSignature("SCS#");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_SCW extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("scw");
+    setMatchNeedsExtension();
     setGames("Lord Of The Rings: The Battle For Middle Earth",
         "Lord Of The Rings: The Fellowship Of The Ring",
         "Lord Of The Rings: The Two Towers",
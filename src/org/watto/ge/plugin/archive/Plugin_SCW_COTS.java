@@ -42,6 +42,7 @@ public class Plugin_SCW_COTS extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("scw");
+    setMatchSignature("COTS");
     setGames("Lord Of The Rings: Return Of The King");
     setPlatforms("PC");
 
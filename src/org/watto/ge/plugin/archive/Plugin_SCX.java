@@ -48,6 +48,7 @@ public class Plugin_SCX extends ArchivePlugin {
 
     setGames("Lord Of The Rings: Return Of The King");
     setExtensions("scx");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     setFileTypes("padd", "File Padding",
@@ -44,6 +44,7 @@ public class Plugin_SDAT_SDAT extends ArchivePlugin {
     setGames("Nintendo DS",
         "Custom Robo Arena");
     setExtensions("sdat"); // MUST BE LOWER CASE
+    setMatchSignature("SDAT");
     setPlatforms("NDS");
 
     // MUST BE LOWER CASE !!!
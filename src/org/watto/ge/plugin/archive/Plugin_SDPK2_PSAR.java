@@ -47,6 +47,7 @@ public class Plugin_SDPK2_PSAR extends ArchivePlugin {
 
     setGames("Brink");
     setExtensions("sdpk2"); // MUST BE LOWER CASE
+    setMatchSignature("PSAR");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
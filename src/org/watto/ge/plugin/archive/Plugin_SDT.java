@@ -45,6 +45,7 @@ public class Plugin_SDT extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sdt");
+    setMatchNeedsExtension();
     setGames("Sim Theme Park",
         "Theme Park World",
         "Dungeon Keeper 2",
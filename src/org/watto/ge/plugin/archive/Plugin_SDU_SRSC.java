@@ -53,6 +53,7 @@ public class Plugin_SDU_SRSC extends ArchivePlugin {
         "The Suffering: Ties That Bind",
         "Drakan: Order Of The Flame");
     setExtensions("sdu", "tdu", "mdu");
+    setMatchSignature("SRSC");
     setPlatforms("PC");
 
     setCanConvertOnReplace(true);
@@ -43,6 +43,7 @@ public class Plugin_SDX extends ArchivePlugin {
     setGames("FUEL",
         "Ratatouille");
     setExtensions("sdx");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -49,6 +49,7 @@ public class Plugin_SD_MATI extends ArchivePlugin {
 
     setGames("Dave Mirra Freestyle BMX");
     setExtensions("_sd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_SEDT_SEDT extends ArchivePlugin {
 
     setGames("Bust A Groove");
     setExtensions("sedt"); // MUST BE LOWER CASE
+    setMatchSignature("SEDT");
     setPlatforms("PSX");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_SET extends ArchivePlugin {
 
     setGames("The Urbz: Sims in the City");
     setExtensions("set"); // MUST BE LOWER CASE
+    setMatchSignature(9);
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_SEZ extends ArchivePlugin {
     setGames("Rockman X4",
         "Mega Man X4");
     setExtensions("sez"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
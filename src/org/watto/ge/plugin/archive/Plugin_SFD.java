@@ -47,6 +47,7 @@ public class Plugin_SFD extends ArchivePlugin {
 
     setGames("Take No Prisoners");
     setExtensions("sfd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
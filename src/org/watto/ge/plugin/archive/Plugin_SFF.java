@@ -47,6 +47,7 @@ public class Plugin_SFF extends ArchivePlugin {
 
     setGames("Soldier Front");
     setExtensions("sff");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
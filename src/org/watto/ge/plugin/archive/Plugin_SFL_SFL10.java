@@ -47,6 +47,7 @@ public class Plugin_SFL_SFL10 extends ArchivePlugin {
 
     setGames("AGON");
     setExtensions("sfl");
+    setMatchSignature("SFL10");
     setPlatforms("PC");
 
   }
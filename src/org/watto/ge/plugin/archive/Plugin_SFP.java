@@ -47,6 +47,7 @@ public class Plugin_SFP extends ArchivePlugin {
 
     setGames("Sno-Cross Extreme");
     setExtensions("sfp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
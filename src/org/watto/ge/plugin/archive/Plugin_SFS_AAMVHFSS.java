@@ -51,6 +51,7 @@ public class Plugin_SFS_AAMVHFSS extends ArchivePlugin {
         "Midnight Mysteries: The Edgar Allan Poe Conspiracy",
         "Samantha Swift and the Hidden Roses of Athena");
     setExtensions("sfs"); // MUST BE LOWER CASE
+    setMatchSignature("AAMVHFSS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_SFX extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("sfx");
+    setMatchNeedsExtension();
     setGames("Close Combat 3: The Russian Front",
         "Close Combat 4");
     setPlatforms("PC");
@@ -46,6 +46,7 @@ public class Plugin_SFX_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sfx");
+    setMatchNeedsExtension();
     setGames("Micro Machines 2");
     setPlatforms("PC");
 
@@ -44,6 +44,7 @@ public class Plugin_SFX_4 extends ArchivePlugin {
     setProperties(true, true, true, false);
 
     setExtensions("sfx");
+    setMatchNeedsExtension();
     setGames("Worms");
     setPlatforms("PC");
 
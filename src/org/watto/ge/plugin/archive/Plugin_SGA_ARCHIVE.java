@@ -46,6 +46,7 @@ public class Plugin_SGA_ARCHIVE extends ArchivePlugin {
     setGames("Warhammer 40k: Dawn Of War",
         "Warhammer 40k: Dawn of War: Winter Assault");
     setExtensions("sga");
+    setMatchSignature("_ARCHIVE");
     setPlatforms("PC");
 
     setTextPreviewExtensions("colours", "rat", "screen", "styles", "turn", "ai", "camp", "nis", "scar", "teamcolour"); // LOWER CASE
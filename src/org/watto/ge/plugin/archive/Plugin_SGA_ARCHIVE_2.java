@@ -48,6 +48,7 @@ public class Plugin_SGA_ARCHIVE_2 extends ArchivePlugin {
 
     setGames("Company of Heroes 2");
     setExtensions("sga");
+    setMatchSignature("_ARCHIVE");
     setPlatforms("PC");
 
     setFileTypes(new FileType("rgt", "Relic Image", FileType.TYPE_IMAGE));
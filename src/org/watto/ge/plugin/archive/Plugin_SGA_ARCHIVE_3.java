@@ -52,6 +52,7 @@ public class Plugin_SGA_ARCHIVE_3 extends ArchivePlugin {
         "Company of Heroes: Legacy Edition",
         "Company of Heroes: Relaunch");
     setExtensions("sga");
+    setMatchSignature("_ARCHIVE");
     setPlatforms("PC");
 
     setFileTypes(new FileType("rgt", "Relic Image", FileType.TYPE_IMAGE));
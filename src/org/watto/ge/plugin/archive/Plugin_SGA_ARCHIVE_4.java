@@ -49,6 +49,7 @@ public class Plugin_SGA_ARCHIVE_4 extends ArchivePlugin {
 
     setGames("Age Of Empires 4");
     setExtensions("sga");
+    setMatchSignature("_ARCHIVE");
     setPlatforms("PC");
 
     setFileTypes(new FileType("rrtex", "Relic Image", FileType.TYPE_IMAGE));
@@ -48,6 +48,7 @@ public class Plugin_SGBPACK_SGBDAT extends ArchivePlugin {
 
     setGames("Corrupt Life");
     setExtensions("sgbpack"); // MUST BE LOWER CASE
+    setMatchSignature("SGBDAT");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
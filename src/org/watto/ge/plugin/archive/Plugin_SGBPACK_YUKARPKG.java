@@ -49,6 +49,7 @@ public class Plugin_SGBPACK_YUKARPKG extends ArchivePlugin {
         "Occult Raise",
         "Occult RERaise");
     setExtensions("sgbpack"); // MUST BE LOWER CASE
+    setMatchSignature("YUKARPKG");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
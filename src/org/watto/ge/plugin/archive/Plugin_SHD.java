@@ -42,6 +42,7 @@ public class Plugin_SHD extends ArchivePlugin {
 
     setGames("Fall of the New Age");
     setExtensions("shd"); // MUST BE LOWER CASE
+    setMatchSignature("RIFF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
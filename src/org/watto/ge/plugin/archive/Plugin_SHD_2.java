@@ -44,6 +44,7 @@ public class Plugin_SHD_2 extends ArchivePlugin {
 
     setGames("Crash Bandicoot: The Wrath of Cortex");
     setExtensions("shd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("gamecube");
 
     // MUST BE LOWER CASE !!!
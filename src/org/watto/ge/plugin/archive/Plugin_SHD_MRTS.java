@@ -43,6 +43,7 @@ public class Plugin_SHD_MRTS extends ArchivePlugin {
 
     setGames("Harry Potter and the Order of the Phoenix");
     setExtensions("shd", "ffs"); // MUST BE LOWER CASE
+    setMatchSignature("MRTS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_SHOP extends ArchivePlugin {
 
     setGames("My Disney Kitchen");
     setExtensions("shop", "boot", "stag", "trak", "move"); // MUST BE LOWER CASE
+    setMatchSignature(65536);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_SHP extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("shp");
+    setMatchNeedsExtension();
     setGames("Ultima 7");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_SHP_110 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("shp");
+    setMatchSignature("1.10");
     setGames("Panzer General",
         "Steel Panthers 2",
         "Steel Panthers 3");
@@ -48,6 +48,7 @@ public class Plugin_SHP_2 extends ArchivePlugin {
 
     setGames("Zero Population Count: No Flesh Shall Be Spared");
     setExtensions("shp");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
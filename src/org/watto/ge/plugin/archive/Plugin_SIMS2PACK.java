@@ -48,6 +48,7 @@ public class Plugin_SIMS2PACK extends ArchivePlugin {
 
     setGames("The Sims 2");
     setExtensions("sims2pack");
+    setMatchSignature("Sims2 Packager 1.0");
     setPlatforms("PC");
 
     setFileTypes("package", "The Sims 2 Package Archive");
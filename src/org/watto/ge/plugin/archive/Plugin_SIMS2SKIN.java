@@ -48,6 +48,7 @@ public class Plugin_SIMS2SKIN extends ArchivePlugin {
 
     setGames("The Sims 2");
     setExtensions("sims2skin");
+    setMatchSignature("Sims2 Packager 1.0");
     setPlatforms("PC");
 
     setFileTypes("package", "The Sims 2 Package Archive");
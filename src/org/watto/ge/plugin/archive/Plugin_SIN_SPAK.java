@@ -45,6 +45,7 @@ public class Plugin_SIN_SPAK extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sin");
+    setMatchSignature("SPAK");
     setGames("Sin");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_SKX_SKEX extends ArchivePlugin {
 
     setGames("Monsters, Inc.");
     setExtensions("skx"); // MUST BE LOWER CASE
+    setMatchSignature("SKEX");
     setPlatforms("PS2");
 
     // MUST BE LOWER CASE !!!
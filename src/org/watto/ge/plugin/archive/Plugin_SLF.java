@@ -41,6 +41,7 @@ public class Plugin_SLF extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("slf");
+    setMatchNeedsExtension();
     setGames("Jagged Alliance 2",
         "Wizardry 8");
     setPlatforms("PC");
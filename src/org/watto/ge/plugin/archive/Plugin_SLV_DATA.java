@@ -46,6 +46,7 @@ public class Plugin_SLV_DATA extends ArchivePlugin {
 
     setGames("GP500");
     setExtensions("slv"); // MUST BE LOWER CASE
+    setMatchSignature("DATA");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -51,6 +51,7 @@ public class Plugin_SL_VXBG extends ArchivePlugin {
         "Still Life",
         "Syberia 2");
     setExtensions("sl");
+    setMatchSignature("VXBG");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_SMA_SMA extends ArchivePlugin {
 
     setGames("Pacific Storm");
     setExtensions("sma"); // MUST BE LOWER CASE
+    setMatchSignature("SMA");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_SNB_SDPB extends ArchivePlugin {
 
     setGames("Medal Of Honor: Airborne");
     setExtensions("snb", "SoundRiotRawAsset"); // MUST BE LOWER CASE
+    setMatchSignature("SDPB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
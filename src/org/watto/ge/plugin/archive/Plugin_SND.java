@@ -46,6 +46,7 @@ public class Plugin_SND extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("snd", "vid");
+    setMatchNeedsExtension();
     setGames("Heroes Chronicles",
         "Heroes of Might and Magic 3");
     setPlatforms("PC");
@@ -48,6 +48,7 @@ public class Plugin_SND_2 extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("snd");
+    setMatchNeedsExtension();
     setGames("Star Trek: Birth Of The Federation");
     setPlatforms("PC");
 
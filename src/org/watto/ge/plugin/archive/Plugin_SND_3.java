@@ -47,6 +47,7 @@ public class Plugin_SND_3 extends ArchivePlugin {
 
     setGames("Mortal Kombat Trilogy");
     setExtensions("snd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_SND_4 extends ArchivePlugin {
 
     setGames("Doom Eternal");
     setExtensions("snd"); // MUST BE LOWER CASE
+    setMatchSignature(6);
     setPlatforms("Switch");
 
     // MUST BE LOWER CASE !!!
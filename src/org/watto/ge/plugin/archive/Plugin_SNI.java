@@ -42,6 +42,7 @@ public class Plugin_SNI extends ArchivePlugin {
 
     setGames("MDK");
     setExtensions("sni");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_SNS extends ArchivePlugin {
 
     setGames("Burnout Paradise");
     setExtensions("sns"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Xbox 360");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
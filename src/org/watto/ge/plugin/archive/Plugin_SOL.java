@@ -49,6 +49,7 @@ public class Plugin_SOL extends ArchivePlugin {
 
     setGames("Shivers: Harvest of Souls");
     setExtensions("sol");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_SOL_DISK extends ArchivePlugin {
 
     setGames("Space Quest 6");
     setExtensions("sol");
+    setMatchSignature("DISK");
     setPlatforms("PC");
 
   }
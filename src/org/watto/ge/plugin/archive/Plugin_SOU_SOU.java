@@ -45,6 +45,7 @@ public class Plugin_SOU_SOU extends ArchivePlugin {
 
     setGames("Indiana Jones and the Fate of Atlantis");
     setExtensions("sou"); // MUST BE LOWER CASE
+    setMatchSignature("SOU ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
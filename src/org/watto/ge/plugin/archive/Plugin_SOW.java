@@ -46,6 +46,7 @@ public class Plugin_SOW extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("sow");
+    setMatchNeedsExtension();
     setGames("Descent 2");
     setPlatforms("PC");
 
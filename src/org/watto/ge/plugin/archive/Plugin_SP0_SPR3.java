@@ -45,6 +45,7 @@ public class Plugin_SP0_SPR3 extends ArchivePlugin {
 
     setGames("Theocracy");
     setExtensions("sp0", "sp1"); // MUST BE LOWER CASE
+    setMatchSignature("SPR3");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
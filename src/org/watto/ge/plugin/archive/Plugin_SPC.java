@@ -47,6 +47,7 @@ public class Plugin_SPC extends ArchivePlugin {
 
     setGames("Ford Racing");
     setExtensions("spc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
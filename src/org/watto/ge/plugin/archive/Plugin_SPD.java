@@ -45,6 +45,7 @@ public class Plugin_SPD extends ArchivePlugin {
 
     setGames("SimPark");
     setExtensions("spd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
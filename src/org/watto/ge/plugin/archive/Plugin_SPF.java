@@ -46,6 +46,7 @@ public class Plugin_SPF extends ArchivePlugin {
 
     setGames("Overlord");
     setExtensions("spf");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
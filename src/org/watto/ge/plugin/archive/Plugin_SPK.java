@@ -47,6 +47,7 @@ public class Plugin_SPK extends ArchivePlugin {
 
     setGames("BioShock");
     setExtensions("spk");
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes("","",
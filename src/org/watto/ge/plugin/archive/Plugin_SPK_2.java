@@ -51,6 +51,7 @@ public class Plugin_SPK_2 extends ArchivePlugin {
 
     setGames("Quest For Glory 5");
     setExtensions("spk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -55,6 +55,7 @@ public class Plugin_SPK_3 extends ArchivePlugin {
 
     setGames("Wolfenstein");
     setExtensions("spk", "mpk"); // MUST BE LOWER CASE
+    setMatchSignature(300);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
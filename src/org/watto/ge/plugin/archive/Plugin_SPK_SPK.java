@@ -42,6 +42,7 @@ public class Plugin_SPK_SPK extends ArchivePlugin {
 
     setGames("SEGA Bass Fishing");
     setExtensions("spk"); // MUST BE LOWER CASE
+    setMatchSignature("SPK");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
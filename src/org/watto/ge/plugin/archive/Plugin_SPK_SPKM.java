@@ -43,6 +43,7 @@ public class Plugin_SPK_SPKM extends ArchivePlugin {
 
     setGames("Blade and Sword 2");
     setExtensions("spk"); // MUST BE LOWER CASE
+    setMatchSignature("spkm");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
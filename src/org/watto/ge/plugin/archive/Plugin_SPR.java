@@ -44,6 +44,7 @@ public class Plugin_SPR extends ArchivePlugin {
 
     setGames("Asterix: Mega Madness");
     setExtensions("spr");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
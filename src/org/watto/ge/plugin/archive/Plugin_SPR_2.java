@@ -43,6 +43,7 @@ public class Plugin_SPR_2 extends ArchivePlugin {
 
     setGames("Killer Tank");
     setExtensions("spr"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_SPR_3 extends ArchivePlugin {
 
     setGames("Screamer Rally");
     setExtensions("spr"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_SPR_PA extends ArchivePlugin {
 
     setGames("Pax Corpus");
     setExtensions("spr"); // MUST BE LOWER CASE
+    setMatchSignature(":PA:");
     setPlatforms("PC");
 
     setFileTypes(new FileType("spr_tex", "Texture Image", FileType.TYPE_IMAGE));
@@ -49,6 +49,7 @@ public class Plugin_SPR_SPR1 extends ArchivePlugin {
 
     setGames("Gorky 17");
     setExtensions("spr"); // MUST BE LOWER CASE
+    setMatchSignature("spr1");
     setPlatforms("PC");
 
     setCanConvertOnReplace(true);
@@ -58,6 +58,7 @@ public class Plugin_SRF_SRF1 extends ArchivePlugin {
         "You Don't Know Jack! Volume 2",
         "You Don't Know Jack! Volume 3");
     setExtensions("srf"); // MUST BE LOWER CASE
+    setMatchSignature("srf1");
     setPlatforms("PC");
 
     //setFileTypes("","",
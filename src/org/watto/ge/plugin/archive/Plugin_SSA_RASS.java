@@ -46,6 +46,7 @@ public class Plugin_SSA_RASS extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("ssa");
+    setMatchSignature("rass");
     setGames("Empires: Dawn Of The Modern World",
         "Empire Earth");
     setPlatforms("PC");
@@ -50,6 +50,7 @@ public class Plugin_SSA_RASS_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ssa");
+    setMatchSignature("rass");
     setGames("Rise and Fall: Civilizations at War");
     setPlatforms("PC");
 
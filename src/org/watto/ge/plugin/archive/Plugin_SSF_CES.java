@@ -45,6 +45,7 @@ public class Plugin_SSF_CES extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ssf");
+    setMatchSignature(" CES");
     setGames("Mortal Kombat Deadly Alliance");
     setPlatforms("PC");
 
@@ -49,6 +49,7 @@ public class Plugin_SSF_CES_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ssf");
+    setMatchSignature(" CES");
     setGames("Mortal Kombat Deception");
     setPlatforms("PC");
 
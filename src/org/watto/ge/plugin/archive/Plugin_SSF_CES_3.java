@@ -45,6 +45,7 @@ public class Plugin_SSF_CES_3 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ssf");
+    setMatchSignature(" CES");
     setGames("Mortal Kombat Armageddon");
     setPlatforms("XBox");
 
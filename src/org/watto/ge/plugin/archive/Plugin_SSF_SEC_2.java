@@ -46,6 +46,7 @@ public class Plugin_SSF_SEC_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("ssf");
+    setMatchSignature("SEC ");
     setGames("Mortal Kombat Deadly Alliance");
     setPlatforms("GameCube");
 
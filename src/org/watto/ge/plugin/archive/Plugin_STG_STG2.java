@@ -44,6 +44,7 @@ public class Plugin_STG_STG2 extends ArchivePlugin {
     setGames("Elven Mists",
         "Green Valley: Fun on the Farm");
     setExtensions("stg"); // MUST BE LOWER CASE
+    setMatchSignature("stg2");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
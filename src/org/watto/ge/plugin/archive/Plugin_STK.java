@@ -52,6 +52,7 @@ public class Plugin_STK extends ArchivePlugin {
         "Gobliins 2: The Prince Buffoon",
         "Goblins Quest 3");
     setExtensions("stk", "itk", "ltk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("snd", "SND Audio", FileType.TYPE_AUDIO));
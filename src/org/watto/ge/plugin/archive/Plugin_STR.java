@@ -49,6 +49,7 @@ public class Plugin_STR extends ArchivePlugin {
 
     setGames("Pax Corpus");
     setExtensions("str"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("spr_tex", "Texture Image", FileType.TYPE_IMAGE));
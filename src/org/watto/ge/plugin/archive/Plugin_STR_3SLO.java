@@ -47,6 +47,7 @@ public class Plugin_STR_3SLO extends ArchivePlugin {
 
     setGames("Dead Space");
     setExtensions("str"); // MUST BE LOWER CASE
+    setMatchSignature("3slo");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
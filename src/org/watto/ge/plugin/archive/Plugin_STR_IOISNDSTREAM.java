@@ -46,6 +46,7 @@ public class Plugin_STR_IOISNDSTREAM extends ArchivePlugin {
 
     setGames("Hitman Blood Money");
     setExtensions("str");
+    setMatchSignature("IOISNDSTREAM");
     setPlatforms("PC");
 
     //setFileTypes("","",
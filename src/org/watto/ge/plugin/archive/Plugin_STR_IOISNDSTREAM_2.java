@@ -44,6 +44,7 @@ public class Plugin_STR_IOISNDSTREAM_2 extends ArchivePlugin {
     setGames("Kane and Lynch: Dead Men",
         "Mini Ninjas");
     setExtensions("str");
+    setMatchSignature("IOISNDSTREAM");
     setPlatforms("PC");
 
     //setFileTypes("","",
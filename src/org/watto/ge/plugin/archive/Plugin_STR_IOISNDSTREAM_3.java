@@ -42,6 +42,7 @@ public class Plugin_STR_IOISNDSTREAM_3 extends ArchivePlugin {
 
     setGames("Kane and Lynch 2: Dog Days");
     setExtensions("str");
+    setMatchSignature("IOISNDSTREAM");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -49,6 +49,7 @@ public class Plugin_STUFF extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("stuff");
+    setMatchNeedsExtension();
     setGames("Eve Online");
     setPlatforms("PC");
 
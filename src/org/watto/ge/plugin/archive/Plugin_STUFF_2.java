@@ -48,6 +48,7 @@ public class Plugin_STUFF_2 extends ArchivePlugin {
 
     setGames("Black And White 2");
     setExtensions("stuff");
+    setMatchSignature(1);
     setPlatforms("PC");
 
     //setFileTypes("","",
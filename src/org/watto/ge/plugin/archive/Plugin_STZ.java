@@ -48,6 +48,7 @@ public class Plugin_STZ extends ArchivePlugin {
 
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("stz"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("Wii");
 
     // MUST BE LOWER CASE !!!
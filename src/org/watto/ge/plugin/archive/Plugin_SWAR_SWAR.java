@@ -45,6 +45,7 @@ public class Plugin_SWAR_SWAR extends ArchivePlugin {
     setGames("Nintendo DS",
         "Custom Robo Arena");
     setExtensions("swar"); // MUST BE LOWER CASE
+    setMatchSignature("SWAR");
     setPlatforms("NDS");
 
     // MUST BE LOWER CASE !!!
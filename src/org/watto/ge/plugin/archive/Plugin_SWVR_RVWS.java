@@ -49,6 +49,7 @@ public class Plugin_SWVR_RVWS extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("swvr");
+    setMatchSignature("SWVR");
     setGames("Lord Of The Rings: Return Of The King");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_SXWAD extends ArchivePlugin {
 
     setGames("Counter-Strike");
     setExtensions("sxwad"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
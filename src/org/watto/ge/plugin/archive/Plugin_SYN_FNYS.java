@@ -46,6 +46,7 @@ public class Plugin_SYN_FNYS extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("syn");
+    setMatchSignature("FNYS");
     setGames("Mercedes-Benz Truck Racing",
         "Breakneck",
         "N.I.C.E. 2",
@@ -46,6 +46,7 @@ public class Plugin_SYN_SYN extends ArchivePlugin {
 
     setGames("World Racing");
     setExtensions("syn");
+    setMatchSignature("SYN!v2.0");
     setPlatforms("PC");
 
   }
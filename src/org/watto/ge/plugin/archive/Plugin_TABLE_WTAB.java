@@ -46,6 +46,7 @@ public class Plugin_TABLE_WTAB extends ArchivePlugin {
 
     setGames("High Heat Baseball 2000");
     setExtensions("table"); // MUST BE LOWER CASE
+    setMatchSignature("WTBL");
     setPlatforms("PC");
 
     //setFileTypes("","",
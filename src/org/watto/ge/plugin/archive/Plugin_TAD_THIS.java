@@ -43,6 +43,7 @@ public class Plugin_TAD_THIS extends ArchivePlugin {
 
     setGames("Gex 2: Enter The Gecko");
     setExtensions("tad"); // MUST BE LOWER CASE
+    setMatchSignature("This is first pass of trip");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
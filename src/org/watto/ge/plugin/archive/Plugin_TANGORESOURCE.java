@@ -46,6 +46,7 @@ public class Plugin_TANGORESOURCE extends ArchivePlugin {
 
     setGames("The Evil Within");
     setExtensions("tangoresource"); // MUST BE LOWER CASE
+    setMatchSignature(-844393437);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_TAR extends ArchivePlugin {
         "Heroes Of The Pacific",
         "Atlantis");
     setExtensions("tar", "gpk");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
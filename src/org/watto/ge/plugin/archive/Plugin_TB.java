@@ -56,6 +56,7 @@ public class Plugin_TB extends ArchivePlugin {
 
     setGames("Die Hard Trilogy 2");
     setExtensions("tb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -43,6 +43,7 @@ public class Plugin_TBF_FBT extends ArchivePlugin {
 
     setGames("Tom Clancy's Ghost Recon Wildlands");
     setExtensions("tbf"); // MUST BE LOWER CASE
+    setMatchSignature("FBT");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_TC_SPRF extends ArchivePlugin {
 
     setGames("Surface Tension");
     setExtensions("tc", "vtc", "spf");
+    setMatchSignature("SPRF");
     setPlatforms("PC");
 
   }
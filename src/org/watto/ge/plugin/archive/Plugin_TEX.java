@@ -48,6 +48,7 @@ public class Plugin_TEX extends ArchivePlugin {
 
     setGames("WWE Day Of Reckoning");
     setExtensions("tex");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -42,6 +42,7 @@ public class Plugin_TEXS_SXET extends ArchivePlugin {
 
     setGames("Split Second");
     setExtensions("texs"); // MUST BE LOWER CASE
+    setMatchSignature("SXET");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_TEXTURES_SXET extends ArchivePlugin {
 
     setGames("Pure");
     setExtensions("textures"); // MUST BE LOWER CASE
+    setMatchSignature("SXET");
     setPlatforms("PC");
 
     //setFileTypes("","",
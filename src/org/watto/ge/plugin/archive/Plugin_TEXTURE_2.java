@@ -42,6 +42,7 @@ public class Plugin_TEXTURE_2 extends ArchivePlugin {
 
     setGames("Railway Empire");
     setExtensions("texture"); // MUST BE LOWER CASE
+    setMatchSignature(-1329922441);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
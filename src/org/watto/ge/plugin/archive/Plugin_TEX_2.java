@@ -48,6 +48,7 @@ public class Plugin_TEX_2 extends ArchivePlugin {
 
     setGames("Dungeon Lords");
     setExtensions("tex");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -48,6 +48,7 @@ public class Plugin_TEX_3 extends ArchivePlugin {
 
     setGames("Full Spectrum Warrior: Ten Hammers");
     setExtensions("tex");
+    setMatchSignature(2);
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_TEX_3TEX extends ArchivePlugin {
 
     setGames("High Heat Baseball 2000");
     setExtensions("tex"); // MUST BE LOWER CASE
+    setMatchSignature("3TEX");
     setPlatforms("PC");
 
     //setFileTypes("","",
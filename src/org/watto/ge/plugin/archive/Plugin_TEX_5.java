@@ -49,6 +49,7 @@ public class Plugin_TEX_5 extends ArchivePlugin {
 
     setGames("Dino Crisis 2");
     setExtensions("tex"); // MUST BE LOWER CASE
+    setMatchSignature(1);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
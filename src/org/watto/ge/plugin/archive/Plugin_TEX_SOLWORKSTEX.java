@@ -61,6 +61,7 @@ public class Plugin_TEX_SOLWORKSTEX extends ArchivePlugin {
 
     setGames("NHL FaceOff 2001");
     setExtensions("tex"); // DAT files as well, but the header should be enough to detect these files
+    setMatchSignature("SolWorks Tex");
     setPlatforms("PS2");
 
     setFileTypes(new FileType("tif", "SolWorks TIF Image", FileType.TYPE_IMAGE));
@@ -47,6 +47,7 @@ public class Plugin_TFC extends ArchivePlugin {
 
     setGames("Styx: Master of Shadows");
     setExtensions("tfc"); // MUST BE LOWER CASE
+    setMatchSignature(-1641380927);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
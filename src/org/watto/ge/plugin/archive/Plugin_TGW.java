@@ -45,6 +45,7 @@ public class Plugin_TGW extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("tgw");
+    setMatchNeedsExtension();
     setGames("Kohan");
     setPlatforms("PC");
 
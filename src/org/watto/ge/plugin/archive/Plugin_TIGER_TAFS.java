@@ -45,6 +45,7 @@ public class Plugin_TIGER_TAFS extends ArchivePlugin {
     setGames("Lara Croft and the Temple of Osiris",
         "Rise of the Tomb Raider");
     setExtensions("tiger"); // MUST BE LOWER CASE
+    setMatchSignature("TAFS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_TIM extends ArchivePlugin {
 
     setGames("Digimon Rumble Arena");
     setExtensions("tim"); // MUST BE LOWER CASE
+    setMatchSignature(16);
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
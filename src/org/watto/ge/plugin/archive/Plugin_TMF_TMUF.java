@@ -55,6 +55,7 @@ public class Plugin_TMF_TMUF extends ArchivePlugin {
 
     setGames("Test Drive Off-Road");
     setExtensions("tmf");
+    setMatchSignature("TMUF");
     setPlatforms("PC");
 
     setFileTypes("spr", "Sprite Image");
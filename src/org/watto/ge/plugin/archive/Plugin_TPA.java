@@ -43,6 +43,7 @@ public class Plugin_TPA extends ArchivePlugin {
 
     setGames("Jurassic Park: Trespasser");
     setExtensions("tpa"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_TPK extends ArchivePlugin {
 
     setGames("Sol Trigger");
     setExtensions("tpk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_TPK_ZZZ0 extends ArchivePlugin {
 
     setGames("Sol Trigger");
     setExtensions("tpk"); // MUST BE LOWER CASE
+    setMatchSignature("ZZZ0");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
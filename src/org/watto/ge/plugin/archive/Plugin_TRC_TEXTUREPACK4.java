@@ -47,6 +47,7 @@ public class Plugin_TRC_TEXTUREPACK4 extends ArchivePlugin {
 
     setGames("X Motor Racing");
     setExtensions("trc", "pnt", "shd"); // MUST BE LOWER CASE
+    setMatchSignature("TexturePack");
     setPlatforms("PC");
 
     //setFileTypes("","",
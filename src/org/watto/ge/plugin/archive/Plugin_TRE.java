@@ -48,6 +48,7 @@ public class Plugin_TRE extends ArchivePlugin {
 
     setGames("Wing Commander Prophecy");
     setExtensions("tre");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
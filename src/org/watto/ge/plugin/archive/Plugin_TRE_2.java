@@ -48,6 +48,7 @@ public class Plugin_TRE_2 extends ArchivePlugin {
 
     setGames("The Red Star");
     setExtensions("tre");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
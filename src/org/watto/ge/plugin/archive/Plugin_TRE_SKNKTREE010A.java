@@ -46,6 +46,7 @@ public class Plugin_TRE_SKNKTREE010A extends ArchivePlugin {
 
     setGames("Longbow 2");
     setExtensions("tre");
+    setMatchSignature("SKNKTREE010A");
     setPlatforms("PC");
 
   }
@@ -49,6 +49,7 @@ public class Plugin_TRE_XTRE extends ArchivePlugin {
 
     setGames("Wing Commander 4: The Price Of Freedom");
     setExtensions("tre");
+    setMatchSignature("XTRE");
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_TRE_XTRE_2 extends ArchivePlugin {
 
     setGames("Wing Commander 3");
     setExtensions("tre"); // MUST BE LOWER CASE
+    setMatchSignature("XTRE");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -57,6 +57,7 @@ public class Plugin_TRL extends ArchivePlugin {
 
     setGames("Learn To Speak French");
     setExtensions("trl", "lts");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_TSL_MAGIC extends ArchivePlugin {
 
     setGames("Total Soccer 2000");
     setExtensions("tsl"); // MUST BE LOWER CASE
+    setMatchSignature("magic  ");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_TTARCH extends ArchivePlugin {
 
     setGames("Bone: Out From Boneville");
     setExtensions("ttarch");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_TTARCH_2 extends ArchivePlugin {
 
     setGames("Back to the Future: The Game: Episode 1");
     setExtensions("ttarch"); // MUST BE LOWER CASE
+    setMatchSignature(8);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
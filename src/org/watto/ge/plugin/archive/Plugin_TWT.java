@@ -48,6 +48,7 @@ public class Plugin_TWT extends ArchivePlugin {
 
     setGames("Carmageddon 2: Carpocalypse Now");
     setExtensions("twt");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
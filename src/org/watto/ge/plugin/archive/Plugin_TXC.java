@@ -45,6 +45,7 @@ public class Plugin_TXC extends ArchivePlugin {
 
     setGames("Urban Chaos");
     setExtensions("txc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
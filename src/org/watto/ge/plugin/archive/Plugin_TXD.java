@@ -44,6 +44,7 @@ public class Plugin_TXD extends ArchivePlugin {
 
     setGames("Sonic Heroes");
     setExtensions("txd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes("tex", "Texture Image");
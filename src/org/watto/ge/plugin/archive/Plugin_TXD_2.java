@@ -48,6 +48,7 @@ public class Plugin_TXD_2 extends ArchivePlugin {
 
     setGames("Kill Switch");
     setExtensions("txd"); // MUST BE LOWER CASE
+    setMatchSignature(22);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_TXTR extends ArchivePlugin {
 
     setGames("Long And Hard Summer");
     setExtensions("txtr"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import org.watto.ErrorLogger;
 import org.watto.Settings;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.AESKeyFinder;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.helper.UE4Helper;
 import org.watto.ge.plugin.ArchivePlugin;
@@ -233,29 +234,11 @@ public class Plugin_UCAS extends ArchivePlugin {
         // either it is 512, or was set above. Either way, it's probably encrypted, so lets try to decrypt it
         // Try all the keys we know about, see if we can find one that works (don't know that this works yet, tbh)
 
-        byte[][] keys = UE4Helper.getAESKeys();
-        int numKeys = keys.length;
-
-        byte[] key = null;
-
         int testLength = 64;
-        for (int k = 0; k < numKeys; k++) {
-          try {
-            key = keys[k];
-
-            /*
-            if (k == numKeys - 1) {
-              System.out.println("HERE");
-            }
-            */
-
-            Exporter_Encryption_AES decryptor = new Exporter_Encryption_AES(key);
-
-            Resource dirResource = new Resource(sourcePath, "", filenameDirOffset, testLength, testLength, decryptor);
-            ExporterByteBuffer exporterBuffer = new ExporterByteBuffer(dirResource);
-
-            FileManipulator testFM = new FileManipulator(exporterBuffer);
+        byte[] key = AESKeyFinder.findKey(sourcePath, filenameDirOffset, testLength, UE4Helper.getAESKeys(), new AESKeyFinder.KeyTester() {
 
+          @Override
+          public void test(FileManipulator testFM) throws Exception {
             // 4 - Relative Directory Name Length (including null terminator) (10)
             int nameLength = testFM.readInt();
             FieldValidator.checkRange(nameLength, 0, 64);
@@ -267,14 +250,8 @@ public class Plugin_UCAS extends ArchivePlugin {
             // 4 - Number of Files
             int innerNumFiles = testFM.readInt();
             FieldValidator.checkNumFiles((innerNumFiles / 4) + 1);
-
-            // found one
-            break;
           }
-          catch (Throwable t2) {
-            key = null;
-          }
-        }
+        });
 
         if (key == null) {
           // ignore for now (just proceed without filenames)
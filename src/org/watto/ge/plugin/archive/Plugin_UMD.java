@@ -48,6 +48,7 @@ public class Plugin_UMD extends ArchivePlugin {
 
     setGames("Open Season");
     setExtensions("umd");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_UMD_2 extends ArchivePlugin {
 
     setGames("Tom Clancy's Rainbow Six 3: Black Arrow");
     setExtensions("umd"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
     // MUST BE LOWER CASE !!!
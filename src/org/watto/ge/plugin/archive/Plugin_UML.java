@@ -47,6 +47,7 @@ public class Plugin_UML extends ArchivePlugin {
 
     setGames("Surf's Up");
     setExtensions("uml");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_UOP_MYP extends ArchivePlugin {
 
     setGames("Ultima Online");
     setExtensions("uop"); // MUST BE LOWER CASE
+    setMatchSignature("MYP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
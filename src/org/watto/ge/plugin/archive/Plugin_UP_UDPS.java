@@ -43,6 +43,7 @@ public class Plugin_UP_UDPS extends ArchivePlugin {
 
     setGames("Airfix Dogfighter");
     setExtensions("up"); // MUST BE LOWER CASE
+    setMatchSignature("UDSP");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
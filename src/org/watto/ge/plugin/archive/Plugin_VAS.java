@@ -48,6 +48,7 @@ public class Plugin_VAS extends ArchivePlugin {
         "Teenage Mutant Ninja Turtles 2: Battle Nexus",
         "Teenage Mutant Ninja Turtles 3: Mutant Nightmare");
     setExtensions("vas");
+    setMatchSignature(2048);
     setPlatforms("PC");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_VCC_VOCFILES extends ArchivePlugin {
 
     setGames("Rational Systems", "Star Trek: Judgement Rights");
     setExtensions("vcc"); // MUST BE LOWER CASE
+    setMatchSignature("VOCFILES");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_VCE_VCE0 extends ArchivePlugin {
 
     setGames("Homeworld Classic");
     setExtensions("vce");
+    setMatchSignature("VCE0");
     setPlatforms("PC");
 
     //setCanScanForFileTypes(true);
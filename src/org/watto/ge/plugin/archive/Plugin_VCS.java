@@ -46,6 +46,7 @@ public class Plugin_VCS extends ArchivePlugin {
 
     setGames("Dear Esther");
     setExtensions("vcs"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
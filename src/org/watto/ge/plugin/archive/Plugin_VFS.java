@@ -56,6 +56,7 @@ public class Plugin_VFS extends ArchivePlugin {
 
     setGames("UFO Aftershock");
     setExtensions("vfs");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
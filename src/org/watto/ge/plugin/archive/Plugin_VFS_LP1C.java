@@ -49,6 +49,7 @@ public class Plugin_VFS_LP1C extends ArchivePlugin {
 
     setGames("Pathologic");
     setExtensions("vfs");
+    setMatchSignature("LP1C");
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_VFS_LP3C extends ArchivePlugin {
 
     setGames("Cargo: The Quest for Gravity");
     setExtensions("vfs"); // MUST BE LOWER CASE
+    setMatchSignature("LP3C");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
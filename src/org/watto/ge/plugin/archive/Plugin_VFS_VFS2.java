@@ -46,6 +46,7 @@ public class Plugin_VFS_VFS2 extends ArchivePlugin {
 
     setGames("Digimon Rumble Arena");
     setExtensions("vfs"); // MUST BE LOWER CASE
+    setMatchSignature("VFS2");
     setPlatforms("PS1");
 
     // MUST BE LOWER CASE !!!
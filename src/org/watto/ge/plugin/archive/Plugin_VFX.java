@@ -42,6 +42,7 @@ public class Plugin_VFX extends ArchivePlugin {
 
     setGames("Gex 2: Enter The Gecko");
     setExtensions("vfx"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
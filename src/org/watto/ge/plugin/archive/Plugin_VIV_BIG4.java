@@ -51,6 +51,7 @@ public class Plugin_VIV_BIG4 extends ArchivePlugin {
         "Medal Of Honor: European Assault");
     setPlatforms("PC", "XBox");
     setExtensions("viv", "big");
+    setMatchSignature("BIG4");
     setEnabled(false); // DISABLED, BECAUSE WANT TO USE THE BIG_BIGF ONE INSTEAD, WHICH IS THE SAME BUT MORE UPDATED
 
   }
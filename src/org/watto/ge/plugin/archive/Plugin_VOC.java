@@ -42,6 +42,7 @@ public class Plugin_VOC extends ArchivePlugin {
 
     setGames("The Incredible Machine 3");
     setExtensions("voc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
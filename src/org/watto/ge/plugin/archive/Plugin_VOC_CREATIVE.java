@@ -49,6 +49,7 @@ public class Plugin_VOC_CREATIVE extends ArchivePlugin {
 
     setGames("Creative Voice");
     setExtensions("voc"); // MUST BE LOWER CASE
+    setMatchSignature("Creative Voice File");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -41,6 +41,7 @@ public class Plugin_VOL_PVOL extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("vol");
+    setMatchSignature("PVOL");
     setGames("Star Siege",
         "Tribes");
     setPlatforms("PC");
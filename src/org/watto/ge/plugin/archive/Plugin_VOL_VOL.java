@@ -47,6 +47,7 @@ public class Plugin_VOL_VOL extends ArchivePlugin {
 
     setGames("Red Baron 3D");
     setExtensions("vol", "ted"); // MUST BE LOWER CASE
+    setMatchSignature("VOL ");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_VOL_VOLN extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("vol");
+    setMatchSignature("VOLN");
     setGames("Earthsiege",
         "Earthsiege 2",
         "Starsiege: Tribes");
@@ -42,6 +42,7 @@ public class Plugin_VOL_VOL_2 extends ArchivePlugin {
 
     setGames("Starsiege", "Starsiege: Tribes");
     setExtensions("vol"); // MUST BE LOWER CASE
+    setMatchSignature(" VOL");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
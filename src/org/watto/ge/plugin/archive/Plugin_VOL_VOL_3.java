@@ -44,6 +44,7 @@ public class Plugin_VOL_VOL_3 extends ArchivePlugin {
 
     setGames("Pro Pilot 99");
     setExtensions("vol"); // MUST BE LOWER CASE
+    setMatchSignature("VOL ");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
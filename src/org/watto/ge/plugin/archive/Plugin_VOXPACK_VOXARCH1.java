@@ -42,6 +42,7 @@ public class Plugin_VOXPACK_VOXARCH1 extends ArchivePlugin {
 
     setGames("Sniper Fury");
     setExtensions("voxpack"); // MUST BE LOWER CASE
+    setMatchSignature("Voxarch1");
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
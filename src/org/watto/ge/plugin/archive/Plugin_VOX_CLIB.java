@@ -46,6 +46,7 @@ public class Plugin_VOX_CLIB extends ArchivePlugin {
 
     setGames("Maniac Mansion Deluxe");
     setExtensions("vox"); // MUST BE LOWER CASE
+    setMatchSignature("CLIB");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -54,6 +54,7 @@ public class Plugin_VOX_CLIB_2 extends ArchivePlugin {
         "Reality Falls",
         "Symploke");
     setExtensions("vox"); // MUST BE LOWER CASE
+    setMatchSignature("CLIB");
     setPlatforms("PC");
 
     //setFileTypes("","",
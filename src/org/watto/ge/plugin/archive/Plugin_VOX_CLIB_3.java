@@ -43,6 +43,7 @@ public class Plugin_VOX_CLIB_3 extends ArchivePlugin {
 
     setGames("Heroine's Quest: The Herald of Ragnarok");
     setExtensions("vox", "ags"); // MUST BE LOWER CASE
+    setMatchSignature("CLIB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -52,6 +52,7 @@ public class Plugin_VP6_MVHD extends ArchivePlugin {
         "Need For Speed: Most Wanted");
 
     setExtensions("vp6");
+    setMatchSignature("MVhd");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_VPK_MAGE extends ArchivePlugin {
 
     setGames("MageSlayer");
     setExtensions("vpk");
+    setMatchSignature("Mage");
     setPlatforms("PC");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_VPPPC_3 extends ArchivePlugin {
 
     setGames("Saints Row IV");
     setExtensions("vpp_pc", "str2_pc"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -41,6 +41,7 @@ public class Plugin_VP_VPVP extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("vp");
+    setMatchSignature("VPVP");
     setGames("Descent Freespace: The Great War",
         "Freespace 2");
     setPlatforms("PC");
@@ -43,6 +43,7 @@ public class Plugin_VRAM_PIFF extends ArchivePlugin {
 
     setGames("South Park Rally");
     setExtensions("vram"); // MUST BE LOWER CASE
+    setMatchSignature("PIFF");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_VRM extends ArchivePlugin {
     setGames("Legacy of Kain: Soul Reaver 2",
         "Legacy of Kain: Defiance");
     setExtensions("vrm"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
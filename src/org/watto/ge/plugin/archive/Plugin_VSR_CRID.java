@@ -48,6 +48,7 @@ public class Plugin_VSR_CRID extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("vsr");
+    setMatchSignature("CRID");
     setGames("Lemmings Paintball");
     setPlatforms("PC");
 
@@ -43,6 +43,7 @@ public class Plugin_VSX_VSXZ extends ArchivePlugin {
 
     setGames("Luna Sky");
     setExtensions("vsx"); // MUST BE LOWER CASE
+    setMatchSignature("VSXz");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
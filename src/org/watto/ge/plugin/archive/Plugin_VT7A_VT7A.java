@@ -46,6 +46,7 @@ public class Plugin_VT7A_VT7A extends ArchivePlugin {
 
     setGames("Broken Sword 5: The Serpent's Curse");
     setExtensions("vt7a"); // MUST BE LOWER CASE
+    setMatchSignature("VT7A");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_WAD extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("wad");
+    setMatchNeedsExtension();
     setGames("Thunderhawk",
         "Firestorm: Thunderhawk 2");
     setPlatforms("PC");
@@ -48,6 +48,7 @@ public class Plugin_WAD_11 extends ArchivePlugin {
 
     setGames("Blade 2");
     setExtensions("wad");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
     //setFileTypes("","",
@@ -42,6 +42,7 @@ public class Plugin_WAD_14 extends ArchivePlugin {
 
     setGames("Hotline Miami");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_WAD_17 extends ArchivePlugin {
 
     setGames("Conquest of the New World");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_WAD_2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("wad");
+    setMatchNeedsExtension();
     setGames("Tomb Raider 3");
     setPlatforms("PC");
 
@@ -48,6 +48,7 @@ public class Plugin_WAD_3 extends ArchivePlugin {
 
     setGames("Wipeout Pure");
     setExtensions("wad");
+    setMatchSignature(1);
     setPlatforms("PC");
 
   }
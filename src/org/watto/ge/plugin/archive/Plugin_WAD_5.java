@@ -45,6 +45,7 @@ public class Plugin_WAD_5 extends ArchivePlugin {
 
     setGames("Fighting Force");
     setExtensions("wad");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setFileTypes(new FileType("pdt", "Image Archive", FileType.TYPE_ARCHIVE),
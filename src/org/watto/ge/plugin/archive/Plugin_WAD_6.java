@@ -48,6 +48,7 @@ public class Plugin_WAD_6 extends ArchivePlugin {
 
     setGames("SWAT: Global Strike Team");
     setExtensions("wad");
+    setMatchNeedsExtension();
     setPlatforms("XBox");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_WAD_7 extends ArchivePlugin {
 
     setGames("The Mark Of Kri");
     setExtensions("wad");
+    setMatchNeedsExtension();
     setPlatforms("PS2");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_WAD_9 extends ArchivePlugin {
 
     setGames("World Championship Poker 2");
     setExtensions("wad");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_WAD_AFHI extends ArchivePlugin {
 
     setGames("Starsky And Hutch");
     setExtensions("wad");
+    setMatchSignature("AFHI");
     setPlatforms("PC");
 
   }
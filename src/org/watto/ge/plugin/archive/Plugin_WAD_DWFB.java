@@ -43,6 +43,7 @@ public class Plugin_WAD_DWFB extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("wad");
+    setMatchSignature("DWFB");
     setGames("Theme Park World",
         "Sim Theme Park",
         "Dungeon Keeper 2");
@@ -47,6 +47,7 @@ public class Plugin_WAD_FFCS extends ArchivePlugin {
 
     setGames("Mercenaries 2");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("FFCS");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
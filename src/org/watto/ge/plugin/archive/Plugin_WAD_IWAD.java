@@ -41,6 +41,7 @@ public class Plugin_WAD_IWAD extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("wad", "rts");
+    setMatchSignature("IWAD");
     setGames("Conquest Of The New World",
         "Doom",
         "Doom 2",
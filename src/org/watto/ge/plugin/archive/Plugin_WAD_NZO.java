@@ -48,6 +48,7 @@ public class Plugin_WAD_NZO extends ArchivePlugin {
     setGames("Santa's Workshop",
         "Super BoxMan Ultra");
     setExtensions("wad");
+    setMatchSignature("NZO!");
     setPlatforms("PC");
 
   }
@@ -52,6 +52,7 @@ public class Plugin_WAD_PAMPAK extends ArchivePlugin {
 
     setGames("Pro Beach Soccer");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("PAM_PAK");
     setPlatforms("PC");
 
     setFileTypes(new FileType("rws", "RWS Audio", FileType.TYPE_AUDIO));
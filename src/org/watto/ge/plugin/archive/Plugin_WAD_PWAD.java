@@ -44,6 +44,7 @@ public class Plugin_WAD_PWAD extends ArchivePlugin {
     setGames("SharpShooter3D",
         "Urban Brawl: Action Doom 2");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("PWAD");
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
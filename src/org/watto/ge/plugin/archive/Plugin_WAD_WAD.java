@@ -50,6 +50,7 @@ public class Plugin_WAD_WAD extends ArchivePlugin {
 
     setGames("WWE WMXXI");
     setExtensions("wad");
+    setMatchSignature("WAD");
     setPlatforms("PC");
 
   }
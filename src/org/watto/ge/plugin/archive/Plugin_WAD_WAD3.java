@@ -46,6 +46,7 @@ public class Plugin_WAD_WAD3 extends ArchivePlugin {
     setProperties(true, true, true, true);
 
     setExtensions("wad");
+    setMatchSignature("WAD3");
     setGames("Quake",
         "Quake 2",
         "Half-Life",
@@ -46,6 +46,7 @@ public class Plugin_WAD_WADH extends ArchivePlugin {
 
     setGames("London Taxi Rushour");
     setExtensions("wad");
+    setMatchSignature("WADH");
     setPlatforms("PC");
 
   }
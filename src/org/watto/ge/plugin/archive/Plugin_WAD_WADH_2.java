@@ -46,6 +46,7 @@ public class Plugin_WAD_WADH_2 extends ArchivePlugin {
 
     setGames("Earache Extreme Metal Racing");
     setExtensions("wad");
+    setMatchSignature("WADH");
     setPlatforms("PC");
 
   }
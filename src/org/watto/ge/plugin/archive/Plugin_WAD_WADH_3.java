@@ -49,6 +49,7 @@ public class Plugin_WAD_WADH_3 extends ArchivePlugin {
 
     setGames("NHL 2K3");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("WADH");
     setPlatforms("PS2");
 
     setFileTypes(new FileType("cmn", "CMN Archive", FileType.TYPE_ARCHIVE),
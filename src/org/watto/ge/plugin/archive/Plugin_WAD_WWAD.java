@@ -42,6 +42,7 @@ public class Plugin_WAD_WWAD extends ArchivePlugin {
 
     setGames("Lego Rock Raiders");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("WWAD");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -43,6 +43,7 @@ public class Plugin_WAD_WWAD_2 extends ArchivePlugin {
     setGames("Batman: Arkham Origins",
         "Batman: Arkham City");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("WWAD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_WAD_WWAD_3 extends ArchivePlugin {
 
     setGames("Batman: Arkham Knight");
     setExtensions("wad"); // MUST BE LOWER CASE
+    setMatchSignature("WWAD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
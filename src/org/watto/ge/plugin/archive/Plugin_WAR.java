@@ -43,6 +43,7 @@ public class Plugin_WAR extends ArchivePlugin {
     setProperties(true, false, true, false);
 
     setExtensions("war", "sud");
+    setMatchNeedsExtension();
     setGames("Warcraft",
         "Warcraft 2");
     setPlatforms("PC");
@@ -48,6 +48,7 @@ public class Plugin_WAR_WARC extends ArchivePlugin {
 
     setGames("NOX");
     setExtensions("war");
+    setMatchSignature("WARC");
     setPlatforms("PC");
 
   }
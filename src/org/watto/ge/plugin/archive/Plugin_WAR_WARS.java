@@ -46,6 +46,7 @@ public class Plugin_WAR_WARS extends ArchivePlugin {
 
     setGames("Babylon 5: I've Found Her");
     setExtensions("war");
+    setMatchSignature("WARS");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -49,6 +49,7 @@ public class Plugin_WB extends ArchivePlugin {
 
     setGames("Die Hard Trilogy 2");
     setExtensions("wb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
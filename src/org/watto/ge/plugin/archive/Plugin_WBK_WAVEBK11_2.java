@@ -42,6 +42,7 @@ public class Plugin_WBK_WAVEBK11_2 extends ArchivePlugin {
 
     setGames("Ultimate Spiderman");
     setExtensions("wbk"); // MUST BE LOWER CASE
+    setMatchSignature("WAVEBK11");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -54,6 +54,7 @@ public class Plugin_WD extends ArchivePlugin {
         "Once Upon a Knight",
         "World War 3: Black Gold");
     setExtensions("wd");
+    setMatchSignature("x");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_WD2_HHWD extends ArchivePlugin {
 
     setGames("American Idol");
     setExtensions("wd2");
+    setMatchSignature("HHWD");
     setPlatforms("PC");
 
   }
@@ -46,6 +46,7 @@ public class Plugin_WDF_PFDW extends ArchivePlugin {
 
     setGames("Conquer Online 2.0");
     setExtensions("wdf");
+    setMatchSignature("PFDW");
     setPlatforms("PC");
 
   }
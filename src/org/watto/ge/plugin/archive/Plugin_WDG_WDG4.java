@@ -48,6 +48,7 @@ public class Plugin_WDG_WDG4 extends ArchivePlugin {
 
     setGames("Warzone 2100");
     setExtensions("wdg");
+    setMatchSignature("WDG4");
     setPlatforms("PC");
 
   }
@@ -48,6 +48,7 @@ public class Plugin_WD_WD extends ArchivePlugin {
 
     setGames("Two Worlds 2");
     setExtensions("wd"); // MUST BE LOWER CASE
+    setMatchSignature("WD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -48,6 +48,7 @@ public class Plugin_WGA extends ArchivePlugin {
     setGames("Pilot Down: Behind Enemy Lines",
         "Prisoner Of War");
     setExtensions("wga");
+    setMatchNeedsExtension();
     setPlatforms("PC", "PS2");
 
   }
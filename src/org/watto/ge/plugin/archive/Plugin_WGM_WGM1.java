@@ -47,6 +47,7 @@ public class Plugin_WGM_WGM1 extends ArchivePlugin {
     setGames("Chalk",
         "Legend Of Princess");
     setExtensions("wgm");
+    setMatchSignature("WGM1");
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -141,6 +141,7 @@ public class Plugin_WIN_FORM extends ArchivePlugin {
         "Your Car Shooter",
         "Z55Z");
     setExtensions("win"); // MUST BE LOWER CASE
+    setMatchSignature("FORM");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
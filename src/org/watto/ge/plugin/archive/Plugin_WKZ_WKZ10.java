@@ -44,6 +44,7 @@ public class Plugin_WKZ_WKZ10 extends ArchivePlugin {
 
     setGames("Hammerting");
     setExtensions("wkz"); // MUST BE LOWER CASE
+    setMatchSignature("WKZ10");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -50,6 +50,7 @@ public class Plugin_WLD_WRLD extends ArchivePlugin {
 
     setGames("The Sting!");
     setExtensions("wld"); // MUST BE LOWER CASE
+    setMatchSignature("WRLD");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_WPA extends ArchivePlugin {
 
     setGames("Dracula: The Path of the Dragon");
     setExtensions("wpa"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -45,6 +45,7 @@ public class Plugin_WXD_WXD1 extends ArchivePlugin {
 
     setGames("Homeworld Classic");
     setExtensions("wxd");
+    setMatchSignature("WXD1");
     setPlatforms("PC");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_XBR extends ArchivePlugin {
 
     setGames("Cars");
     setExtensions("xbr"); // MUST BE LOWER CASE
+    setMatchSignature(2);
     setPlatforms("XBox");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_XBR_XOBX extends ArchivePlugin {
 
     setGames("Azurik: Rise Of Perathia");
     setExtensions("xbr");
+    setMatchSignature("xobx");
     setPlatforms("XBox");
 
   }
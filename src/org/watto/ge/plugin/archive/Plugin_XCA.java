@@ -44,6 +44,7 @@ public class Plugin_XCA extends ArchivePlugin {
 
     setGames("The Chronicles of Riddick: Escape From Butcher Bay");
     setExtensions("xca"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_XCR_XCR extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("xcr");
+    setMatchSignature("xcr File 1.00");
     setGames("Warlords Battlecry",
         "Warlords Battlecry 2");
     setPlatforms("PC");
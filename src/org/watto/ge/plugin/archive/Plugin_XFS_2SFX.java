@@ -54,6 +54,7 @@ public class Plugin_XFS_2SFX extends ArchivePlugin {
 
     setGames("Apocalyptica");
     setExtensions("xfs");
+    setMatchSignature("2SFX");
     setPlatforms("PC");
 
   }
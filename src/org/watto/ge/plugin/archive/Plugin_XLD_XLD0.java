@@ -49,6 +49,7 @@ public class Plugin_XLD_XLD0 extends ArchivePlugin {
 
     setGames("Albion");
     setExtensions("xld");
+    setMatchSignature("XLD0");
     setPlatforms("PC");
 
   }
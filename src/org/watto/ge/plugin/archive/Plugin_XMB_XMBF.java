@@ -46,6 +46,7 @@ public class Plugin_XMB_XMBF extends ArchivePlugin {
 
     setGames("Test Drive Unlimited");
     setExtensions("xmb"); // MUST BE LOWER CASE
+    setMatchSignature("XMBF");
     setPlatforms("PC");
 
     //setFileTypes("","",
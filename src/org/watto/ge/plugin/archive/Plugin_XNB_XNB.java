@@ -57,6 +57,7 @@ public class Plugin_XNB_XNB extends ArchivePlugin {
         "Reus",
         "The Bridge");
     setExtensions("xnb"); // MUST BE LOWER CASE
+    setMatchSignature("XNB");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_XPAC extends ArchivePlugin {
 
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("xpac"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     setCanScanForFileTypes(true);
@@ -44,6 +44,7 @@ public class Plugin_XPK extends ArchivePlugin {
 
     setGames("Santa Claus: In Trouble");
     setExtensions("xpk"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
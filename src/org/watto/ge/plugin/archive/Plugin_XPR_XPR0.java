@@ -46,6 +46,7 @@ public class Plugin_XPR_XPR0 extends ArchivePlugin {
 
     setGames("Far Cry");
     setExtensions("xpr");
+    setMatchSignature("XPR0");
     setPlatforms("XBox");
 
     //setFileTypes("","",
@@ -44,6 +44,7 @@ public class Plugin_XPR_XPR1 extends ArchivePlugin {
     setGames("Generic XBox Archive",
         "Unreal Tournament 2");
     setExtensions("xpr");
+    setMatchSignature("XPR1");
     setPlatforms("XBox");
 
   }
@@ -44,6 +44,7 @@ public class Plugin_XPR_XPR2 extends ArchivePlugin {
 
     setGames("Ninja Gaiden 2");
     setExtensions("xpr"); // MUST BE LOWER CASE
+    setMatchSignature("XPR2");
     setPlatforms("XBox 360");
 
     // MUST BE LOWER CASE !!!
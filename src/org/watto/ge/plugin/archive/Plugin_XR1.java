@@ -47,6 +47,7 @@ public class Plugin_XR1 extends ArchivePlugin {
     setCanImplicitReplace(true);
 
     setExtensions("xr1");
+    setMatchNeedsExtension();
     setGames("Xargon");
     setPlatforms("PC");
 
@@ -42,6 +42,7 @@ public class Plugin_XWB extends ArchivePlugin {
 
     setGames("Bastion");
     setExtensions("xwb"); // MUST BE LOWER CASE
+    setMatchSignature(5);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
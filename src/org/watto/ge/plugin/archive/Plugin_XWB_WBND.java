@@ -50,6 +50,7 @@ public class Plugin_XWB_WBND extends ArchivePlugin {
         "Unreal Championship 2: The Liandri Conflict",
         "Powerdrome");
     setExtensions("xwb");
+    setMatchSignature("WBND");
     setPlatforms("PC", "XBox");
 
   }
@@ -50,6 +50,7 @@ public class Plugin_XWB_WBND_2 extends ArchivePlugin {
     setGames("Ghost Recon 2",
         "The Urbz: Sims in the City");
     setExtensions("xwb");
+    setMatchSignature("WBND");
     setPlatforms("XBox");
 
     // Read in WAV audio files and convert them
@@ -46,6 +46,7 @@ public class Plugin_XWB_WBND_3 extends ArchivePlugin {
         "Towerfall Ascension",
         "Two Worlds");
     setExtensions("xwb");
+    setMatchSignature("WBND");
     setPlatforms("XBox");
 
   }
@@ -43,6 +43,7 @@ public class Plugin_XWB_WBND_4 extends ArchivePlugin {
 
     setGames("The Bard's Tale");
     setExtensions("xwb");
+    setMatchSignature("WBND");
     setPlatforms("PC");
 
   }
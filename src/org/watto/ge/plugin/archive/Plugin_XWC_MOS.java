@@ -44,6 +44,7 @@ public class Plugin_XWC_MOS extends ArchivePlugin {
 
     setGames("The Chronicles of Riddick: Escape From Butcher Bay");
     setExtensions("xwc", "xtc");
+    setMatchSignature("MOS DATAFILE2.0");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -46,6 +46,7 @@ public class Plugin_X_XP10 extends ArchivePlugin {
 
     setGames("Panzer Elite Action");
     setExtensions("x");
+    setMatchSignature("xp10");
     setPlatforms("PC");
 
     //setFileTypes("","",
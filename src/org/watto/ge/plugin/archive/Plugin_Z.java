@@ -51,6 +51,7 @@ public class Plugin_Z extends ArchivePlugin {
         "Steel Panthers 2",
         "Steel Panthers 3");
     setExtensions("z");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
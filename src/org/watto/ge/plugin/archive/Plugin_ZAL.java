@@ -46,6 +46,7 @@ public class Plugin_ZAL extends ArchivePlugin {
 
     setGames("Space Invaders");
     setExtensions("zal"); // MUST BE LOWER CASE
+    setMatchSignature(713117980);
     setPlatforms("PSX");
 
     setFileTypes(new FileType("tim", "PlayStation TIM Image", FileType.TYPE_IMAGE));
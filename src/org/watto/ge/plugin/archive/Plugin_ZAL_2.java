@@ -49,6 +49,7 @@ public class Plugin_ZAL_2 extends ArchivePlugin {
 
     setGames("Dave Mirra Freestyle BMX");
     setExtensions("zal"); // MUST BE LOWER CASE
+    setMatchSignature(713117980);
     setPlatforms("PC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -42,6 +42,7 @@ public class Plugin_ZAL_ZDIR extends ArchivePlugin {
 
     setGames("X-Men: The Official Game");
     setExtensions("zal"); // MUST BE LOWER CASE
+    setMatchSignature("ZDIR");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -49,6 +49,7 @@ public class Plugin_ZAP extends ArchivePlugin {
 
     setGames("Gorky Zero: Aurora Watching");
     setExtensions("zap");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
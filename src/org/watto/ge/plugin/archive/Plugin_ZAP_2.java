@@ -50,6 +50,7 @@ public class Plugin_ZAP_2 extends ArchivePlugin {
 
     setGames("Infernal");
     setExtensions("zap");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     //setFileTypes("","",
@@ -46,6 +46,7 @@ public class Plugin_ZBD_2 extends ArchivePlugin {
 
     setGames("Crimson Skies");
     setExtensions("zbd"); // MUST BE LOWER CASE
+    setMatchSignature(43455010);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -42,6 +42,7 @@ public class Plugin_ZBD_RIFF extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("zbd", "sfx");
+    setMatchSignature("RIFF");
     setGames("Recoil",
         "Tomb Raider 3");
     setPlatforms("PC");
@@ -44,6 +44,7 @@ public class Plugin_ZCA_ZCA extends ArchivePlugin {
 
     setGames("Weather Lord: Following the Princess");
     setExtensions("zca"); // MUST BE LOWER CASE
+    setMatchSignature("ZCA");
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -47,6 +47,7 @@ public class Plugin_ZFS_ZFS3 extends ArchivePlugin {
     setProperties(true, false, true, true);
 
     setExtensions("zfs");
+    setMatchSignature("ZFS3");
     setGames("Call To Power 2");
     setPlatforms("PC");
 
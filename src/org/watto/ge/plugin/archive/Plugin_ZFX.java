@@ -47,6 +47,7 @@ public class Plugin_ZFX extends ArchivePlugin {
 
     setGames("Close Combat 3: The Russian Front");
     setExtensions("zfx");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
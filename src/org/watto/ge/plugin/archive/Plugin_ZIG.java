@@ -46,6 +46,7 @@ public class Plugin_ZIG extends ArchivePlugin {
 
     setGames("Race Driver 3");
     setExtensions("zig"); // MUST BE LOWER CASE
+    setMatchSignature(1584358631);
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -292,6 +292,7 @@ public class Plugin_ZIP_PK extends ArchivePlugin {
         "Zoo Tycoon 2: Endangered Species",
         "Zoo Tycoon");
     setExtensions("zip", "pk3", "pk4", "zipfs", "crf", "ztd");
+    setMatchSignature("PK");
     setPlatforms("PC", "Android");
 
   }
@@ -759,8 +760,10 @@ public class Plugin_ZIP_PK extends ArchivePlugin {
         }
       }
 
-      // If we found a password, set it here for the exporter
-      Exporter_ZIP_ZipCrypto.setPassword(password);
+      // If we found a password, set it here for the exporters
+      for (int r = 0; r < i; r++) {
+        ((Exporter_ZIP_ZipCrypto) resources[r].getExporter()).setPassword(password);
+      }
 
       zipArchive.close();
 
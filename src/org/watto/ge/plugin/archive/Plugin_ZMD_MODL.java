@@ -49,6 +49,7 @@ public class Plugin_ZMD_MODL extends ArchivePlugin {
 
     setGames("Dave Mirra Freestyle BMX");
     setExtensions("zmd");
+    setMatchSignature("MODL");
     setPlatforms("PC");
 
   }
@@ -45,6 +45,7 @@ public class Plugin_ZPR extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("zpr");
+    setMatchNeedsExtension();
     setGames("Stratosphere");
     setPlatforms("PC");
 
@@ -45,6 +45,7 @@ public class Plugin_ZRB_SMK2 extends ArchivePlugin {
     setProperties(true, false, false, false);
 
     setExtensions("zrb");
+    setMatchSignature("SMK2");
     setGames("Total Annihilation");
     setPlatforms("PC");
 
@@ -46,6 +46,7 @@ public class Plugin_ZRS extends ArchivePlugin {
 
     setGames("Spec Ops 2");
     setExtensions("zrs");
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
   }
@@ -47,6 +47,7 @@ public class Plugin_ZSD_ZSNDWIN extends ArchivePlugin {
     setGames("Dave Mirra Freestyle BMX",
         "Space Invaders");
     setExtensions("zsd");
+    setMatchSignature("ZSNDWIN ");
     setPlatforms("PC", "PSX");
 
   }
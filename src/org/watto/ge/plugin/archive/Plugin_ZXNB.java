@@ -50,6 +50,7 @@ public class Plugin_ZXNB extends ArchivePlugin {
 
     setGames("Mercenary Kings");
     setExtensions("zxnb"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -44,6 +44,7 @@ public class Plugin_Z_2 extends ArchivePlugin {
 
     setGames("Amazing Adventures: The Caribbean Secret");
     setExtensions("z"); // MUST BE LOWER CASE
+    setMatchNeedsExtension();
     setPlatforms("PC");
 
     // MUST BE LOWER CASE !!!
@@ -101,6 +101,34 @@ public class BlockExporterWrapper extends ExporterPlugin {
     exporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Copies the wrapped exporter as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    BlockExporterWrapper copy = (BlockExporterWrapper) super.copy();
+    if (exporter != null) {
+      copy.exporter = exporter.copy();
+    }
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if the wrapped exporter is
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return exporter != null && exporter.isThreadSafe();
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
@@ -146,8 +174,11 @@ public class BlockExporterWrapper extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -175,6 +206,43 @@ public class BlockExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads as much as possible from the current block in a single call, only moving to the next
+  block when the current one has been fully read
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      int readCount = 0;
+      while (readCount < length) {
+        int blockLength = exporter.read(destination, offset + readCount, length - readCount);
+        if (blockLength > 0) {
+          readCount += blockLength;
+          continue;
+        }
+
+        // the current block is finished, so available() will open the next block (if there is one)
+        if (!available()) {
+          break;
+        }
+
+        // available() has been called, so we must read() the next byte before going back to block reads
+        destination[offset + readCount] = (byte) exporter.read();
+        readCount++;
+      }
+
+      if (readCount == 0 && length > 0) {
+        return -1;
+      }
+      return readCount;
+    }
+    catch (Throwable t) {
+      return -1;
+    }
+  }
+
   public void setBlockLengths(long[] blockLengths) {
     this.blockLengths = blockLengths;
   }
@@ -362,6 +362,16 @@ public class BlockQuickBMSExporterWrapper extends Exporter_Default {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompression is done by an external program, so it can't run at the same time as another one
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
   /**
   **********************************************************************************************
   From ExporterPlugin, to do an actual extraction to a file. Special case for this plugin only!
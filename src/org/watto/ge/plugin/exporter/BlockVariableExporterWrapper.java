@@ -15,6 +15,7 @@
 package org.watto.ge.plugin.exporter;
 
 import java.io.File;
+import java.util.IdentityHashMap;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
@@ -111,6 +112,60 @@ public class BlockVariableExporterWrapper extends ExporterPlugin {
     currentExporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Copies all the block exporters as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    BlockVariableExporterWrapper copy = (BlockVariableExporterWrapper) super.copy();
+    if (exporters != null) {
+      // each distinct exporter is only copied once, as the same exporter is usually used for many blocks
+      IdentityHashMap<ExporterPlugin, ExporterPlugin> copiedExporters = new IdentityHashMap<ExporterPlugin, ExporterPlugin>();
+
+      int numExporters = exporters.length;
+      copy.exporters = new ExporterPlugin[numExporters];
+      for (int i = 0; i < numExporters; i++) {
+        ExporterPlugin exporter = exporters[i];
+        if (exporter == null) {
+          continue;
+        }
+        ExporterPlugin copiedExporter = copiedExporters.get(exporter);
+        if (copiedExporter == null) {
+          copiedExporter = exporter.copy();
+          copiedExporters.put(exporter, copiedExporter);
+        }
+        copy.exporters[i] = copiedExporter;
+      }
+    }
+    copy.currentExporter = null;
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if all the block exporters are
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    if (exporters == null) {
+      return false;
+    }
+    int numExporters = exporters.length;
+    for (int i = 0; i < numExporters; i++) {
+      if (exporters[i] != null && !exporters[i].isThreadSafe()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
@@ -161,8 +216,11 @@ public class BlockVariableExporterWrapper extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -190,6 +248,43 @@ public class BlockVariableExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads as much as possible from the current block in a single call, only moving to the next
+  block when the current one has been fully read
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      int readCount = 0;
+      while (readCount < length) {
+        int blockLength = currentExporter.read(destination, offset + readCount, length - readCount);
+        if (blockLength > 0) {
+          readCount += blockLength;
+          continue;
+        }
+
+        // the current block is finished, so available() will open the next block (if there is one)
+        if (!available()) {
+          break;
+        }
+
+        // available() has been called, so we must read() the next byte before going back to block reads
+        destination[offset + readCount] = (byte) currentExporter.read();
+        readCount++;
+      }
+
+      if (readCount == 0 && length > 0) {
+        return -1;
+      }
+      return readCount;
+    }
+    catch (Throwable t) {
+      return -1;
+    }
+  }
+
   public void setBlockLengths(long[] blockLengths) {
     this.blockLengths = blockLengths;
   }
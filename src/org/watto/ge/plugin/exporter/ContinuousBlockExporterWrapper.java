@@ -83,6 +83,34 @@ public class ContinuousBlockExporterWrapper extends ExporterPlugin {
     exporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Copies the wrapped exporter as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    ContinuousBlockExporterWrapper copy = (ContinuousBlockExporterWrapper) super.copy();
+    if (exporter != null) {
+      copy.exporter = exporter.copy();
+    }
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if the wrapped exporter is
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return exporter != null && exporter.isThreadSafe();
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
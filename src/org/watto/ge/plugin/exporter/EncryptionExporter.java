@@ -0,0 +1,434 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin.exporter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.watto.ErrorLogger;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.io.FileManipulator;
+
+/**
+**********************************************************************************************
+The common parts of the exporters that decrypt a file without changing its length (AES, Blowfish,
+ICE, RC4, etc). The encrypted data is read from the source in large blocks, and each block is
+decrypted in a single go into a buffer that is reused for the whole file.
+
+Exporters that use a Java Cipher only need to give the transformation and algorithm names. The
+Ciphers are kept by each thread and reused, rather than creating a new one for every file.
+Exporters that do their own decryption override startDecrypting() and decrypt() instead.
+**********************************************************************************************
+**/
+public abstract class EncryptionExporter extends ExporterPlugin {
+
+  /** the amount of encrypted data that is read and decrypted at a time. Must be a multiple of the cipher block sizes. **/
+  static final int DECRYPT_BLOCK_SIZE = 65536;
+
+  /** the maximum number of unused Ciphers of each type that are kept by each thread **/
+  static final int MAX_IDLE_CIPHERS = 4;
+
+  /** the unused Ciphers kept by each thread, for each transformation **/
+  static ThreadLocal<HashMap<String, ArrayList<Cipher>>> idleCiphers = new ThreadLocal<HashMap<String, ArrayList<Cipher>>>() {
+
+    @Override
+    protected HashMap<String, ArrayList<Cipher>> initialValue() {
+      return new HashMap<String, ArrayList<Cipher>>();
+    }
+  };
+
+  /**
+  **********************************************************************************************
+  Gets a Cipher for the <i>transformation</i>, reusing one that this thread has finished with if
+  there is one. The Cipher must be given back with releaseCipher() when it's no longer needed.
+  **********************************************************************************************
+  **/
+  static Cipher borrowCipher(String transformation) throws Exception {
+    ArrayList<Cipher> ciphers = idleCiphers.get().get(transformation);
+    if (ciphers != null && ciphers.size() > 0) {
+      return ciphers.remove(ciphers.size() - 1);
+    }
+    return Cipher.getInstance(transformation);
+  }
+
+  /**
+  **********************************************************************************************
+  Gives back a Cipher from borrowCipher(), so it can be used by this thread again
+  **********************************************************************************************
+  **/
+  static void releaseCipher(String transformation, Cipher cipher) {
+    HashMap<String, ArrayList<Cipher>> threadCiphers = idleCiphers.get();
+    ArrayList<Cipher> ciphers = threadCiphers.get(transformation);
+    if (ciphers == null) {
+      ciphers = new ArrayList<Cipher>(MAX_IDLE_CIPHERS);
+      threadCiphers.put(transformation, ciphers);
+    }
+    if (ciphers.size() < MAX_IDLE_CIPHERS) {
+      ciphers.add(cipher);
+    }
+  }
+
+  FileManipulator readSource;
+
+  /** the number of decrypted bytes still to be returned **/
+  long readLength = 0;
+
+  /** the number of encrypted bytes still to be read from the <i>readSource</i> **/
+  long sourceRemaining = 0;
+
+  /** the Cipher being used for the current file, if the exporter uses a Java Cipher **/
+  Cipher cipher = null;
+
+  /** the encrypted data that was read from the source. Reused for each block. **/
+  byte[] encryptedBuffer = null;
+
+  /** the decrypted data. Reused for each block. **/
+  byte[] buffer = null;
+
+  int bufferLength = 0;
+
+  int bufferPos = 0;
+
+  byte[] key = new byte[0];
+
+  /**
+  **********************************************************************************************
+  Gets the name of the algorithm for the key (eg "AES"), if the exporter uses a Java Cipher
+  **********************************************************************************************
+  **/
+  public String getAlgorithm() {
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of bytes that the cipher decrypts at a time. If the file ends part-way through
+  a block, the bytes in that last part-block aren't encrypted, and are returned as they are.
+  **********************************************************************************************
+  **/
+  public int getBlockSize() {
+    return 1;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the Java Cipher transformation (eg "AES/ECB/NoPadding"), if the exporter uses a Java Cipher
+  **********************************************************************************************
+  **/
+  public String getTransformation() {
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public byte[] getKey() {
+    return key;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public void setKey(byte[] key) {
+    this.key = key;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean available() {
+    try {
+      if (readLength > 0) {
+        if (bufferPos >= bufferLength) {
+          // need to decrypt the next block of data
+          fillBuffer();
+        }
+        return bufferPos < bufferLength;
+      }
+      return false;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      readLength = 0;
+      return false;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public void close() {
+    stopDecrypting();
+
+    try {
+      readSource.close();
+      readSource = null;
+    }
+    catch (Throwable t) {
+      readSource = null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  The copy needs its own buffers and Cipher, as they're changed while reading
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    EncryptionExporter copy = (EncryptionExporter) super.copy();
+    copy.readSource = null;
+    copy.cipher = null;
+    copy.encryptedBuffer = null;
+    copy.buffer = null;
+    copy.bufferLength = 0;
+    copy.bufferPos = 0;
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Decrypts <i>length</i> bytes of the <i>encrypted</i> data into the <i>decrypted</i> array
+  @param lastBlock true if this is the last of the encrypted data for the file
+  @return the number of decrypted bytes
+  **********************************************************************************************
+  **/
+  public int decrypt(byte[] encrypted, int length, byte[] decrypted, boolean lastBlock) throws Exception {
+    int blockSize = getBlockSize();
+
+    int wholeLength = length;
+    if (lastBlock && blockSize > 1) {
+      wholeLength -= length % blockSize;
+    }
+
+    int decryptedLength = 0;
+    if (wholeLength > 0) {
+      decryptedLength = cipher.update(encrypted, 0, wholeLength, decrypted, 0);
+    }
+
+    if (wholeLength < length) {
+      // the file ends part-way through a block, so copy the last few bytes as they are
+      System.arraycopy(encrypted, wholeLength, decrypted, decryptedLength, length - wholeLength);
+      decryptedLength += length - wholeLength;
+    }
+
+    return decryptedLength;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the next block of encrypted data from the source, and decrypts it into the <i>buffer</i>
+  **********************************************************************************************
+  **/
+  void fillBuffer() throws Exception {
+    bufferPos = 0;
+    bufferLength = 0;
+
+    if (sourceRemaining <= 0) {
+      readLength = 0; // nothing more could be decrypted
+      return;
+    }
+
+    int blockLength = DECRYPT_BLOCK_SIZE;
+    if (blockLength > sourceRemaining) {
+      blockLength = (int) sourceRemaining;
+    }
+
+    if (encryptedBuffer == null || buffer == null) {
+      int bufferSize = (int) Math.min(DECRYPT_BLOCK_SIZE, sourceRemaining);
+      encryptedBuffer = new byte[bufferSize];
+      buffer = new byte[bufferSize];
+    }
+    else if (encryptedBuffer.length < blockLength) {
+      encryptedBuffer = new byte[blockLength];
+      buffer = new byte[blockLength];
+    }
+
+    readSource.readBytes(encryptedBuffer, 0, blockLength);
+    sourceRemaining -= blockLength;
+
+    bufferLength = decrypt(encryptedBuffer, blockLength, buffer, sourceRemaining <= 0);
+  }
+
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public void open(Resource source) {
+    try {
+      readSource = new FileManipulator(source.getSource(), false);
+      readSource.seek(source.getOffset());
+
+      startReading(source.getLength());
+    }
+    catch (Throwable t) {
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  So we can easily call this from within a Viewer plugin
+  **********************************************************************************************
+  **/
+  public void open(FileManipulator fmIn, int compLengthIn, int decompLengthIn) {
+    try {
+      readSource = fmIn;
+
+      startReading(decompLengthIn);
+    }
+    catch (Throwable t) {
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  NOT DONE
+  **********************************************************************************************
+  **/
+  @Override
+  public void pack(Resource source, FileManipulator destination) {
+
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public int read() {
+    try {
+      readLength--;
+
+      byte currentByte = buffer[bufferPos];
+      bufferPos++;
+
+      return currentByte;
+    }
+    catch (Throwable t) {
+      return 0;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Copies whole chunks of the decrypted buffer, rather than a single byte at a time
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      int readCount = 0;
+      while (readCount < length && available()) { // available() decrypts the next block, if needed
+        int copyLength = bufferLength - bufferPos;
+        if (copyLength > length - readCount) {
+          copyLength = length - readCount;
+        }
+        if (copyLength > readLength) {
+          copyLength = (int) readLength;
+        }
+
+        System.arraycopy(buffer, bufferPos, destination, offset + readCount, copyLength);
+        bufferPos += copyLength;
+        readLength -= copyLength;
+        readCount += copyLength;
+      }
+
+      if (readCount == 0 && length > 0) {
+        return -1;
+      }
+      return readCount;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      readLength = 0;
+      return -1;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets ready to decrypt a file (such as by setting up the Cipher with the key)
+  **********************************************************************************************
+  **/
+  public void startDecrypting() throws Exception {
+    String transformation = getTransformation();
+    if (transformation == null) {
+      return;
+    }
+
+    cipher = borrowCipher(transformation);
+    cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, getAlgorithm()));
+  }
+
+  /**
+  **********************************************************************************************
+  Gets ready to read <i>length</i> bytes of decrypted data from the <i>readSource</i>
+  **********************************************************************************************
+  **/
+  void startReading(long length) throws Exception {
+    readLength = length;
+
+    // only read the data for this file - a part-block at the end is handled by decrypt()
+    sourceRemaining = length;
+
+    bufferLength = 0;
+    bufferPos = 0;
+
+    stopDecrypting(); // in case the last file wasn't closed
+    startDecrypting();
+  }
+
+  /**
+  **********************************************************************************************
+  Finishes decrypting a file, giving back the Cipher so it can be reused
+  **********************************************************************************************
+  **/
+  public void stopDecrypting() {
+    if (cipher != null) {
+      releaseCipher(getTransformation(), cipher);
+      cipher = null;
+    }
+  }
+
+}
@@ -27,19 +27,11 @@ public class Exporter_AES_ZLib extends ExporterPlugin {
 
   static Exporter_AES_ZLib instance = new Exporter_AES_ZLib();
 
-  Cipher cipher = null;
-
-  byte[] buffer = new byte[0];
-
-  int bufferLength = 0;
-
-  int bufferPos = 0;
-
   byte[] key = new byte[0];
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -121,6 +113,36 @@ public class Exporter_AES_ZLib extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decrypts the whole blocks of the <i>data</i> in place, using a Cipher that is reused by this
+  thread. Any bytes after the last whole block are left as they are.
+  **********************************************************************************************
+  **/
+  byte[] decrypt(byte[] data) throws Exception {
+    Cipher cipher = EncryptionExporter.borrowCipher("AES/ECB/NoPadding");
+    try {
+      cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"));
+
+      int decryptLength = data.length - (data.length % 16);
+      cipher.update(data, 0, decryptLength, data, 0);
+    }
+    finally {
+      EncryptionExporter.releaseCipher("AES/ECB/NoPadding", cipher);
+    }
+    return data;
+  }
+
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -131,15 +153,11 @@ public class Exporter_AES_ZLib extends ExporterPlugin {
     try {
       int compLength = (int) source.getLength();
 
-      cipher = Cipher.getInstance("AES/ECB/NoPadding");
-      SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
-      cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
       FileManipulator fm = new FileManipulator(source.getSource(), false);
       fm.seek(source.getOffset());
 
       // Read in the full compressed+encrypted file
-      byte[] decryptedBuffer = cipher.update(fm.readBytes(compLength + 30)); // +30 to make sure we go slightly beyond the compressed length, so the Inflater works correctly. 
+      byte[] decryptedBuffer = decrypt(fm.readBytes(compLength + 30)); // +30 to make sure we go slightly beyond the compressed length, so the Inflater works correctly. 
 
       // Now wrap that into the readSource that'll get decompressed by ZLib
       fm.close();
@@ -160,12 +178,8 @@ public class Exporter_AES_ZLib extends ExporterPlugin {
   public void open(FileManipulator fmIn, int compLengthIn, int decompLengthIn) {
     try {
 
-      cipher = Cipher.getInstance("AES/ECB/NoPadding");
-      SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
-      cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
       // Read in the full compressed+encrypted file
-      byte[] decryptedBuffer = cipher.update(fmIn.readBytes(compLengthIn + 30)); // +30 to make sure we go slightly beyond the compressed length, so the Inflater works correctly.
+      byte[] decryptedBuffer = decrypt(fmIn.readBytes(compLengthIn + 30)); // +30 to make sure we go slightly beyond the compressed length, so the Inflater works correctly.
 
       // Now wrap that into the readSource that'll get decompressed by ZLib
       FileManipulator fm = new FileManipulator(new ByteBuffer(decryptedBuffer));
@@ -207,4 +221,37 @@ public class Exporter_AES_ZLib extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Inflates a whole block of data in a single call
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      int readCount = readSource.read(destination, offset, length);
+      if (readCount > 0) {
+        readLength -= readCount;
+      }
+      else {
+        readLength = 0;
+      }
+
+      return readCount;
+    }
+    catch (Throwable t) {
+      t.printStackTrace();
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -27,11 +27,11 @@ public class Exporter_BZIP2 extends ExporterPlugin {
 
   static Exporter_BZIP2 instance = new Exporter_BZIP2();
 
-  static BZip2CompressorInputStream readSource;
+  BZip2CompressorInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -95,6 +95,16 @@ public class Exporter_BZIP2 extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -22,8 +22,8 @@ public class Exporter_Custom_ADF extends ExporterPlugin {
 
   static Exporter_Custom_ADF instance = new Exporter_Custom_ADF();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
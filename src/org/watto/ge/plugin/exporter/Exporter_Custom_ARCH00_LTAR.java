@@ -26,8 +26,8 @@ public class Exporter_Custom_ARCH00_LTAR extends ExporterPlugin {
 
   static Exporter_Custom_ARCH00_LTAR instance = new Exporter_Custom_ARCH00_LTAR();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
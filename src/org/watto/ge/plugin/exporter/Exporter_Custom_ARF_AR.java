@@ -24,9 +24,9 @@ public class Exporter_Custom_ARF_AR extends ExporterPlugin {
 
   static Exporter_Custom_ARF_AR instance = new Exporter_Custom_ARF_AR();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
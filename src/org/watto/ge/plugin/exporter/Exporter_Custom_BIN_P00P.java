@@ -40,9 +40,9 @@ public class Exporter_Custom_BIN_P00P extends ExporterPlugin {
 
   static Exporter_Custom_BIN_P00P instance = new Exporter_Custom_BIN_P00P();
 
-  static InputStream readSource;
-  static long readLength = 0;
-  static int currentByte = 0;
+  InputStream readSource;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
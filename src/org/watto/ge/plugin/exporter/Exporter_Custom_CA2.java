@@ -26,8 +26,8 @@ public class Exporter_Custom_CA2 extends ExporterPlugin {
 
   static Exporter_Custom_CA2 instance = new Exporter_Custom_CA2();
 
-  static InflaterInputStream readSource;
-  static long readLength = 0;
+  InflaterInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
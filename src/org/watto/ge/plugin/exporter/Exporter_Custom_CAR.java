@@ -23,10 +23,10 @@ public class Exporter_Custom_CAR extends ExporterPlugin {
 
   static Exporter_Custom_CAR instance = new Exporter_Custom_CAR();
 
-  static FileManipulator packerSource;
-  static long readLength = 0;
-  static int headerLength = 0;
-  static int[] header = null;
+  FileManipulator packerSource;
+  long readLength = 0;
+  int headerLength = 0;
+  int[] header = null;
 
   /**
   **********************************************************************************************
@@ -31,8 +31,8 @@ public class Exporter_Custom_COBI extends ExporterPlugin {
 
   static Exporter_Custom_COBI instance = new Exporter_Custom_COBI();
 
-  static InflaterInputStream readSource;
-  static long readLength = 0;
+  InflaterInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_DAM_RZ extends ExporterPlugin {
 
   static Exporter_Custom_DAM_RZ instance = new Exporter_Custom_DAM_RZ();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
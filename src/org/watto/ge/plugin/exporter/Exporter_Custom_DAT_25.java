@@ -24,14 +24,14 @@ public class Exporter_Custom_DAT_25 extends ExporterPlugin {
 
   static Exporter_Custom_DAT_25 instance = new Exporter_Custom_DAT_25();
 
-  static FileManipulator readSource;
-  static long readLength;
+  FileManipulator readSource;
+  long readLength;
 
-  static long[] offsets;
-  static long[] lengths;
+  long[] offsets;
+  long[] lengths;
 
-  static int partNum = 0;
-  static InflaterInputStream partStream;
+  int partNum = 0;
+  InflaterInputStream partStream;
 
   /**
   **********************************************************************************************
@@ -25,8 +25,8 @@ public class Exporter_Custom_DAT_DRPK extends ExporterPlugin {
 
   static Exporter_Custom_DAT_DRPK instance = new Exporter_Custom_DAT_DRPK();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
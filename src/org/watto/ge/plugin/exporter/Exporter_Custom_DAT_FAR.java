@@ -24,11 +24,11 @@ public class Exporter_Custom_DAT_FAR extends ExporterPlugin {
 
   static Exporter_Custom_DAT_FAR instance = new Exporter_Custom_DAT_FAR();
 
-  static FileManipulator readSource;
-  static byte[] readBuffer = new byte[200000];
-  static int readBufferPos = 0;
-  static long readLength = 0;
-  static int readBufferLevel = 0;
+  FileManipulator readSource;
+  byte[] readBuffer = new byte[200000];
+  int readBufferPos = 0;
+  long readLength = 0;
+  int readBufferLevel = 0;
 
   static int decompressionType = 0;
   static boolean askFormat = true;
@@ -30,9 +30,9 @@ public class Exporter_Custom_DEGOB extends ExporterPlugin {
 
   static Exporter_Custom_DEGOB instance = new Exporter_Custom_DEGOB();
 
-  static FileManipulator readSource;
-  static long compLength = 0;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long compLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
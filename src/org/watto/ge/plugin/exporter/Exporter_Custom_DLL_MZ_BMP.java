@@ -23,8 +23,8 @@ public class Exporter_Custom_DLL_MZ_BMP extends ExporterPlugin {
 
   static Exporter_Custom_DLL_MZ_BMP instance = new Exporter_Custom_DLL_MZ_BMP();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -25,21 +25,21 @@ public class Exporter_Custom_DS2RES extends ExporterPlugin {
 
   static Exporter_Custom_DS2RES instance = new Exporter_Custom_DS2RES();
 
-  static FileManipulator fm;
+  FileManipulator fm;
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long[] readLengths;
+  long[] readLengths;
 
-  static long[] decompSpacers;
+  long[] decompSpacers;
 
-  static long[] readOffsets;
+  long[] readOffsets;
 
-  static int readChunk = 0;
+  int readChunk = 0;
 
-  static byte[] betweenChunkBuffer = new byte[0];
+  byte[] betweenChunkBuffer = new byte[0];
 
-  static int betweenChunkBufferPos = 16;
+  int betweenChunkBufferPos = 16;
 
   /**
   **********************************************************************************************
@@ -23,9 +23,9 @@ public class Exporter_Custom_DWD_DIAMONDWARE extends ExporterPlugin {
 
   static Exporter_Custom_DWD_DIAMONDWARE instance = new Exporter_Custom_DWD_DIAMONDWARE();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
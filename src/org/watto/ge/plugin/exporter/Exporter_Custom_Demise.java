@@ -27,9 +27,9 @@ public class Exporter_Custom_Demise extends ExporterPlugin {
 
   static Exporter_Custom_Demise instance = new Exporter_Custom_Demise();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
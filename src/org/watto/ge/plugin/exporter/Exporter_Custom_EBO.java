@@ -30,9 +30,9 @@ public class Exporter_Custom_EBO extends ExporterPlugin {
 
   static Exporter_Custom_EBO instance = new Exporter_Custom_EBO();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
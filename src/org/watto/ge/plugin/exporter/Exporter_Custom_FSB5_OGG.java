@@ -355,28 +355,12 @@ public class Exporter_Custom_FSB5_OGG extends ExporterPlugin {
 
   /**
   **********************************************************************************************
-  
+  Gets the setup table with the CRC <i>unsignedCRC</i>, loading it from the OGG_Headers_Path if it
+  hasn't been loaded before. Synchronized, as the loaded tables are shared by all the exporters.
+  @return the setup table, or null if there isn't a file for it
   **********************************************************************************************
   **/
-  public void buildOggHeader() {
-
-    /*
-    FileManipulator dumpIn = new FileManipulator(new File("C:\\_WATTOz\\____Development_Stuff\\FSB5_Converted_Files\\main_menu_button_click-0000.ogg"), false);
-    FileManipulator dumpOut = new FileManipulator(new File("C:\\_WATTOz\\Google Drive\\Development\\Java\\Game Extractor\\external_bins\\setupTable_1560547591.ogg"), true);
-    dumpIn.seek(159);
-    dumpOut.writeBytes(dumpIn.readBytes(3189));
-    dumpOut.close();
-    dumpIn.close();
-    
-    */
-
-    // Straight up, we need to read in the setup table (from a file) so that we know how big it is, and therefore...
-    // 1. Know how many header segments there are
-    // 2. Know the complete size of the Ogg Header, so can set the array sizes appropriately
-
-    // See if we've loaded this setup header before
-    long unsignedCRC = IntConverter.unsign(setupCRC);
-
+  static synchronized byte[] getSetupTable(long unsignedCRC) {
     byte[] setupTableBytes = null;
     for (int i = 0; i < numSetupHeaders; i++) {
       if (setupHeaders[i] == unsignedCRC) {
@@ -393,7 +377,7 @@ public class Exporter_Custom_FSB5_OGG extends ExporterPlugin {
       }
       catch (Throwable t) {
         ErrorLogger.log("[Exporter_Custom_FSB5_OGG] Missing OGG Header for CRC " + unsignedCRC);
-        return;
+        return null;
         //headerFM = new FileManipulator(new File("C:\\_WATTOz\\Google Drive\\Development\\Java\\Game Extractor\\external_bins\\setupTable_2104318331.ogg"), false);
       }
       int setupTableLength = (int) headerFM.getLength();
@@ -405,6 +389,37 @@ public class Exporter_Custom_FSB5_OGG extends ExporterPlugin {
       setupHeaderBytes[numSetupHeaders] = setupTableBytes;
       numSetupHeaders++;
     }
+    return setupTableBytes;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public void buildOggHeader() {
+
+    /*
+    FileManipulator dumpIn = new FileManipulator(new File("C:\\_WATTOz\\____Development_Stuff\\FSB5_Converted_Files\\main_menu_button_click-0000.ogg"), false);
+    FileManipulator dumpOut = new FileManipulator(new File("C:\\_WATTOz\\Google Drive\\Development\\Java\\Game Extractor\\external_bins\\setupTable_1560547591.ogg"), true);
+    dumpIn.seek(159);
+    dumpOut.writeBytes(dumpIn.readBytes(3189));
+    dumpOut.close();
+    dumpIn.close();
+    
+    */
+
+    // Straight up, we need to read in the setup table (from a file) so that we know how big it is, and therefore...
+    // 1. Know how many header segments there are
+    // 2. Know the complete size of the Ogg Header, so can set the array sizes appropriately
+
+    // See if we've loaded this setup header before
+    long unsignedCRC = IntConverter.unsign(setupCRC);
+
+    byte[] setupTableBytes = getSetupTable(unsignedCRC);
+    if (setupTableBytes == null) {
+      return;
+    }
 
     int setupTableLength = 0;
     if (setupTableBytes == null) {
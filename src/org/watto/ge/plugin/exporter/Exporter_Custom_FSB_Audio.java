@@ -25,9 +25,9 @@ public class Exporter_Custom_FSB_Audio extends ExporterPlugin {
 
   static Exporter_Custom_FSB_Audio instance = new Exporter_Custom_FSB_Audio();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
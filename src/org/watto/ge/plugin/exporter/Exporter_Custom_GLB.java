@@ -28,9 +28,9 @@ public class Exporter_Custom_GLB extends ExporterPlugin {
 
   static Exporter_Custom_GLB instance = new Exporter_Custom_GLB();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_GSC_GSCFMT extends ExporterPlugin {
 
   static Exporter_Custom_GSC_GSCFMT instance = new Exporter_Custom_GSC_GSCFMT();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
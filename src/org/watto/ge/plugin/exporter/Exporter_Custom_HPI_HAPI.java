@@ -31,9 +31,9 @@ public class Exporter_Custom_HPI_HAPI extends ExporterPlugin {
 
   static Exporter_Custom_HPI_HAPI instance = new Exporter_Custom_HPI_HAPI();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   byte[] decompData = new byte[0];
 
@@ -41,7 +41,7 @@ public class Exporter_Custom_HPI_HAPI extends ExporterPlugin {
 
   int decompLength = 0;
 
-  static int key = 0;
+  int key = 0;
 
   /**
   **********************************************************************************************
@@ -27,9 +27,9 @@ public class Exporter_Custom_HQR_VOX extends ExporterPlugin {
 
   static Exporter_Custom_HQR_VOX instance = new Exporter_Custom_HQR_VOX();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_Custom_JA_ARCHINFO_CFIL extends ExporterPlugin {
 
   static Exporter_Custom_JA_ARCHINFO_CFIL instance = new Exporter_Custom_JA_ARCHINFO_CFIL();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_JDLZ extends ExporterPlugin {
 
   static Exporter_Custom_JDLZ instance = new Exporter_Custom_JDLZ();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -23,10 +23,10 @@ public class Exporter_Custom_JFL extends ExporterPlugin {
 
   static Exporter_Custom_JFL instance = new Exporter_Custom_JFL();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
-  static byte[] readBuffer;
-  static int readBufferPos = 0;
+  FileManipulator readSource;
+  long readLength = 0;
+  byte[] readBuffer;
+  int readBufferPos = 0;
 
   /**
   **********************************************************************************************
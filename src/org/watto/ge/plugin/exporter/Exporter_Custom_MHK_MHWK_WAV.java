@@ -24,9 +24,9 @@ public class Exporter_Custom_MHK_MHWK_WAV extends ExporterPlugin {
 
   static Exporter_Custom_MHK_MHWK_WAV instance = new Exporter_Custom_MHK_MHWK_WAV();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,11 +22,11 @@ public class Exporter_Custom_MHTML_Base64 extends ExporterPlugin {
 
   static Exporter_Custom_MHTML_Base64 instance = new Exporter_Custom_MHTML_Base64();
 
-  static int[] decodeBuffer = new int[3];
-  static int decodeBufferPos = 3; // 3 so it fills the buffer on the first read()
+  int[] decodeBuffer = new int[3];
+  int decodeBufferPos = 3; // 3 so it fills the buffer on the first read()
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   // the conversion table
   static int[] charToValue = null;
@@ -25,8 +25,8 @@ public class Exporter_Custom_MHTML_QuotedPrintable extends ExporterPlugin {
 
   static Exporter_Custom_MHTML_QuotedPrintable instance = new Exporter_Custom_MHTML_QuotedPrintable();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
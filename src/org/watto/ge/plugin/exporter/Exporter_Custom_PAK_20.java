@@ -27,9 +27,9 @@ public class Exporter_Custom_PAK_20 extends ExporterPlugin {
 
   static Exporter_Custom_PAK_20 instance = new Exporter_Custom_PAK_20();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
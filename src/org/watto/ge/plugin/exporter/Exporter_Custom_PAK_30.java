@@ -22,8 +22,8 @@ public class Exporter_Custom_PAK_30 extends ExporterPlugin {
 
   static Exporter_Custom_PAK_30 instance = new Exporter_Custom_PAK_30();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -27,9 +27,9 @@ public class Exporter_Custom_PAK_70 extends ExporterPlugin {
 
   static Exporter_Custom_PAK_70 instance = new Exporter_Custom_PAK_70();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_Custom_PKG_3 extends ExporterPlugin {
 
   static Exporter_Custom_PKG_3 instance = new Exporter_Custom_PKG_3();
 
-  static InflaterInputStream readSource = null;
-  static long readLength = 0;
+  InflaterInputStream readSource = null;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,9 +24,9 @@ public class Exporter_Custom_RGSSAD_RGSSAD extends ExporterPlugin {
 
   static Exporter_Custom_RGSSAD_RGSSAD instance = new Exporter_Custom_RGSSAD_RGSSAD();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -28,9 +28,9 @@ public class Exporter_Custom_SGBPACK_SGBDAT_Default extends ExporterPlugin {
 
   static Exporter_Custom_SGBPACK_SGBDAT_Default instance = new Exporter_Custom_SGBPACK_SGBDAT_Default();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -33,9 +33,9 @@ public class Exporter_Custom_SGBPACK_SGBDAT_Deflate extends ExporterPlugin {
 
   static Exporter_Custom_SGBPACK_SGBDAT_Deflate instance = new Exporter_Custom_SGBPACK_SGBDAT_Deflate();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -28,9 +28,9 @@ public class Exporter_Custom_UE3_RFMODSound_576 extends ExporterPlugin {
 
   static Exporter_Custom_UE3_RFMODSound_576 instance = new Exporter_Custom_UE3_RFMODSound_576();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
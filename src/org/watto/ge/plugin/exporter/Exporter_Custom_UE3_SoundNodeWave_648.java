@@ -26,8 +26,8 @@ public class Exporter_Custom_UE3_SoundNodeWave_648 extends ExporterPlugin {
 
   static Exporter_Custom_UE3_SoundNodeWave_648 instance = new Exporter_Custom_UE3_SoundNodeWave_648();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -27,9 +27,9 @@ public class Exporter_Custom_UE3_SoundNodeWave_Generic extends ExporterPlugin {
 
   static Exporter_Custom_UE3_SoundNodeWave_Generic instance = new Exporter_Custom_UE3_SoundNodeWave_Generic();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -27,9 +27,9 @@ public class Exporter_Custom_UE3_SoundRiotRawAsset_Generic extends ExporterPlugi
 
   static Exporter_Custom_UE3_SoundRiotRawAsset_Generic instance = new Exporter_Custom_UE3_SoundRiotRawAsset_Generic();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,9 +24,9 @@ public class Exporter_Custom_UE4_SoundWave_Generic extends ExporterPlugin {
 
   static Exporter_Custom_UE4_SoundWave_Generic instance = new Exporter_Custom_UE4_SoundWave_Generic();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
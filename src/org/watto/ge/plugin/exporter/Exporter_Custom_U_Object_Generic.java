@@ -25,9 +25,9 @@ public class Exporter_Custom_U_Object_Generic extends ExporterPlugin {
 
   static Exporter_Custom_U_Object_Generic instance = new Exporter_Custom_U_Object_Generic();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
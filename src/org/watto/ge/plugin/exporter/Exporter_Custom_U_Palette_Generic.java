@@ -25,8 +25,8 @@ public class Exporter_Custom_U_Palette_Generic extends ExporterPlugin {
 
   static Exporter_Custom_U_Palette_Generic instance = new Exporter_Custom_U_Palette_Generic();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_U_Sound_141 extends ExporterPlugin {
 
   static Exporter_Custom_U_Sound_141 instance = new Exporter_Custom_U_Sound_141();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -26,9 +26,9 @@ public class Exporter_Custom_U_Sound_Generic extends ExporterPlugin {
 
   static Exporter_Custom_U_Sound_Generic instance = new Exporter_Custom_U_Sound_Generic();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -25,8 +25,8 @@ public class Exporter_Custom_U_Texture_141 extends ExporterPlugin {
 
   static Exporter_Custom_U_Texture_141 instance = new Exporter_Custom_U_Texture_141();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
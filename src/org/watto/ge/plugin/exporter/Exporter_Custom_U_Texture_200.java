@@ -26,9 +26,9 @@ public class Exporter_Custom_U_Texture_200 extends ExporterPlugin {
 
   static Exporter_Custom_U_Texture_200 instance = new Exporter_Custom_U_Texture_200();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -27,8 +27,8 @@ public class Exporter_Custom_U_Texture_Generic extends ExporterPlugin {
 
   static Exporter_Custom_U_Texture_Generic instance = new Exporter_Custom_U_Texture_Generic();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -23,8 +23,8 @@ public class Exporter_Custom_U_WAV_119 extends ExporterPlugin {
 
   static Exporter_Custom_U_WAV_119 instance = new Exporter_Custom_U_WAV_119();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_U_WAV_127 extends ExporterPlugin {
 
   static Exporter_Custom_U_WAV_127 instance = new Exporter_Custom_U_WAV_127();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
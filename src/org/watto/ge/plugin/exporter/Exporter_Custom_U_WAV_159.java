@@ -22,8 +22,8 @@ public class Exporter_Custom_U_WAV_159 extends ExporterPlugin {
 
   static Exporter_Custom_U_WAV_159 instance = new Exporter_Custom_U_WAV_159();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -23,8 +23,8 @@ public class Exporter_Custom_U_WAV_172 extends ExporterPlugin {
 
   static Exporter_Custom_U_WAV_172 instance = new Exporter_Custom_U_WAV_172();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
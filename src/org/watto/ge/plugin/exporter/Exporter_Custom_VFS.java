@@ -26,8 +26,8 @@ public class Exporter_Custom_VFS extends ExporterPlugin {
 
   static Exporter_Custom_VFS instance = new Exporter_Custom_VFS();
 
-  static FileManipulator fm;
-  static InflaterInputStream readSource;
+  FileManipulator fm;
+  InflaterInputStream readSource;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_VIS_VIS3_PNG extends ExporterPlugin {
 
   static Exporter_Custom_VIS_VIS3_PNG instance = new Exporter_Custom_VIS_VIS3_PNG();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
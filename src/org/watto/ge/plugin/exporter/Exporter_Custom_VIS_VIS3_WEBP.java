@@ -23,9 +23,9 @@ public class Exporter_Custom_VIS_VIS3_WEBP extends ExporterPlugin {
 
   static Exporter_Custom_VIS_VIS3_WEBP instance = new Exporter_Custom_VIS_VIS3_WEBP();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,16 +24,16 @@ public class Exporter_Custom_VPK extends ExporterPlugin {
 
   static Exporter_Custom_VPK instance = new Exporter_Custom_VPK();
 
-  static FileManipulator readSource = null;
+  FileManipulator readSource = null;
 
-  static long preloadReadLength = 0;
-  static long mainReadLength = 0;
+  long preloadReadLength = 0;
+  long mainReadLength = 0;
 
-  static long preloadReadOffset = 0;
-  static long mainReadOffset = 0;
+  long preloadReadOffset = 0;
+  long mainReadOffset = 0;
 
-  static File preloadSource = null;
-  static File mainSource = null;
+  File preloadSource = null;
+  File mainSource = null;
 
   /**
   **********************************************************************************************
@@ -22,8 +22,8 @@ public class Exporter_Custom_WAD_12 extends ExporterPlugin {
 
   static Exporter_Custom_WAD_12 instance = new Exporter_Custom_WAD_12();
 
-  static FileManipulator packerSource;
-  static long readLength = 0;
+  FileManipulator packerSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_Custom_WAV_RawAudio_Chunks extends ExporterPlugin {
 
   static Exporter_Custom_WAV_RawAudio_Chunks instance = new Exporter_Custom_WAV_RawAudio_Chunks();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -26,7 +26,7 @@ public class Exporter_Custom_WAV_RawAudio_Compressed extends ExporterPlugin {
 
   ExporterPlugin compressionExporter = Exporter_Default.getInstance();
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
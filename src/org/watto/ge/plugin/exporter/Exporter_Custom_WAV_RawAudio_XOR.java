@@ -24,9 +24,9 @@ public class Exporter_Custom_WAV_RawAudio_XOR extends ExporterPlugin {
 
   static Exporter_Custom_WAV_RawAudio_XOR instance = new Exporter_Custom_WAV_RawAudio_XOR();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_Custom_ZSM_ZSNDXBOX extends ExporterPlugin {
 
   static Exporter_Custom_ZSM_ZSNDXBOX instance = new Exporter_Custom_ZSM_ZSNDXBOX();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -22,9 +22,9 @@ public class Exporter_Default extends ExporterPlugin {
 
   static Exporter_Default instance = new Exporter_Default();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -70,6 +70,16 @@ public class Exporter_Default extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -124,8 +134,11 @@ public class Exporter_Default extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -154,4 +167,31 @@ public class Exporter_Default extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Copies the raw bytes straight from the source file
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      readSource.readBytes(destination, offset, length);
+      readLength -= length;
+
+      return length;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
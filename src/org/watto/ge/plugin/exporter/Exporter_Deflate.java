@@ -30,9 +30,9 @@ public class Exporter_Deflate extends ExporterPlugin {
 
   static Exporter_Deflate instance = new Exporter_Deflate();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -89,6 +89,16 @@ public class Exporter_Deflate extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   So we can easily call this from within a Viewer plugin
@@ -133,8 +143,11 @@ public class Exporter_Deflate extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        outputStream.write(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        outputStream.write(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -172,4 +185,37 @@ public class Exporter_Deflate extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Inflates a whole block of data in a single call
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      int readCount = readSource.read(destination, offset, length);
+      if (readCount > 0) {
+        readLength -= readCount;
+      }
+      else {
+        readLength = 0;
+      }
+
+      return readCount;
+    }
+    catch (Throwable t) {
+      t.printStackTrace();
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ public class Exporter_Deflate_CompressedSizeOnly extends ExporterPlugin {
 
   static Exporter_Deflate_CompressedSizeOnly instance = new Exporter_Deflate_CompressedSizeOnly();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
   /**
   **********************************************************************************************
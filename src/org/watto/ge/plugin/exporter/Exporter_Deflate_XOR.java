@@ -31,9 +31,9 @@ public class Exporter_Deflate_XOR extends ExporterPlugin {
 
   static Exporter_Deflate_XOR instance = new Exporter_Deflate_XOR();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -33,9 +33,9 @@ public class Exporter_Deflate_XOR_RepeatingKey extends ExporterPlugin {
 
   static Exporter_Deflate_XOR_RepeatingKey instance = new Exporter_Deflate_XOR_RepeatingKey();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -14,32 +14,10 @@
 
 package org.watto.ge.plugin.exporter;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
-
-import org.watto.ErrorLogger;
-import org.watto.datatype.Resource;
-import org.watto.ge.plugin.ExporterPlugin;
-import org.watto.io.FileManipulator;
-
-public class Exporter_Encryption_Blowfish extends ExporterPlugin {
+public class Exporter_Encryption_Blowfish extends EncryptionExporter {
 
   static Exporter_Encryption_Blowfish instance = new Exporter_Encryption_Blowfish();
 
-  static FileManipulator readSource;
-
-  static long readLength = 0;
-
-  Cipher cipher = null;
-
-  byte[] buffer = new byte[0];
-
-  int bufferLength = 0;
-
-  int bufferPos = 0;
-
-  byte[] key = new byte[0];
-
   /**
   **********************************************************************************************
   Decrypts using the Blowfish algorithm
@@ -61,24 +39,6 @@ public class Exporter_Encryption_Blowfish extends ExporterPlugin {
   /**
   **********************************************************************************************
   
-  **********************************************************************************************
-  **/
-  public byte[] getKey() {
-    return key;
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void setKey(byte[] key) {
-    this.key = key;
-  }
-
-  /**
-  **********************************************************************************************
-  
   **********************************************************************************************
   **/
   public Exporter_Encryption_Blowfish(byte[] key) {
@@ -92,47 +52,8 @@ public class Exporter_Encryption_Blowfish extends ExporterPlugin {
   **********************************************************************************************
   **/
   @Override
-  public boolean available() {
-    try {
-      if (readLength > 0) {
-        if (bufferPos >= bufferLength) {
-          // need to decrypt the next block of data
-
-          bufferLength = 2048;
-          if (bufferLength > readLength) {
-            bufferLength = (int) readLength;
-          }
-
-          //buffer = cipher.doFinal(readSource.readBytes(bufferLength));
-          buffer = cipher.update(readSource.readBytes(bufferLength));
-          bufferLength = buffer.length;
-
-          bufferPos = 0;
-        }
-        return true;
-      }
-      return false;
-    }
-    catch (Throwable t) {
-      ErrorLogger.log(t);
-      return false;
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  @Override
-  public void close() {
-    try {
-      readSource.close();
-      readSource = null;
-    }
-    catch (Throwable t) {
-      readSource = null;
-    }
+  public String getAlgorithm() {
+    return "Blowfish";
   }
 
   /**
@@ -141,67 +62,8 @@ public class Exporter_Encryption_Blowfish extends ExporterPlugin {
   **********************************************************************************************
   **/
   @Override
-  public void open(Resource source) {
-    try {
-      readLength = source.getLength();
-
-      buffer = new byte[0];
-      bufferLength = 0;
-      bufferPos = 0;
-
-      //MessageDigest sha = MessageDigest.getInstance("SHA-1");
-      //byte[] digestedKey = sha.digest(key);
-      //digestedKey = Arrays.copyOf(digestedKey, 16);
-
-      //cipher = Cipher.getInstance("AES/ECB/PKCS5PADDING");
-      cipher = Cipher.getInstance("Blowfish");
-      SecretKeySpec keySpec = new SecretKeySpec(key, "Blowfish");
-      cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
-      readSource = new FileManipulator(source.getSource(), false);
-      readSource.seek(source.getOffset());
-
-    }
-    catch (Throwable t) {
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  So we can easily call this from within a Viewer plugin
-  **********************************************************************************************
-  **/
-  public void open(FileManipulator fmIn, int compLengthIn, int decompLengthIn) {
-    try {
-      readSource = fmIn;
-
-      buffer = new byte[0];
-      bufferLength = 0;
-      bufferPos = 0;
-
-      //MessageDigest sha = MessageDigest.getInstance("SHA-1");
-      //byte[] digestedKey = sha.digest(key);
-      //digestedKey = Arrays.copyOf(digestedKey, 16);
-
-      //cipher = Cipher.getInstance("AES/ECB/PKCS5PADDING");
-      cipher = Cipher.getInstance("Blowfish");
-      SecretKeySpec keySpec = new SecretKeySpec(key, "Blowfish");
-      cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
-      readLength = decompLengthIn;
-    }
-    catch (Throwable t) {
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  NOT DONE
-  **********************************************************************************************
-  **/
-  @Override
-  public void pack(Resource source, FileManipulator destination) {
-
+  public int getBlockSize() {
+    return 8;
   }
 
   /**
@@ -210,18 +72,8 @@ public class Exporter_Encryption_Blowfish extends ExporterPlugin {
   **********************************************************************************************
   **/
   @Override
-  public int read() {
-    try {
-      readLength--;
-
-      byte currentByte = buffer[bufferPos];
-      bufferPos++;
-
-      return currentByte;
-    }
-    catch (Throwable t) {
-      return 0;
-    }
+  public String getTransformation() {
+    return "Blowfish/ECB/NoPadding";
   }
 
 }
\ No newline at end of file
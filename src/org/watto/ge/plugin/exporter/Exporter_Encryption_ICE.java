@@ -14,27 +14,10 @@
 
 package org.watto.ge.plugin.exporter;
 
-import org.watto.ErrorLogger;
-import org.watto.datatype.Resource;
-import org.watto.ge.plugin.ExporterPlugin;
-import org.watto.io.FileManipulator;
-
-public class Exporter_Encryption_ICE extends ExporterPlugin {
+public class Exporter_Encryption_ICE extends EncryptionExporter {
 
   static Exporter_Encryption_ICE instance = new Exporter_Encryption_ICE();
 
-  static FileManipulator readSource;
-
-  static long readLength = 0;
-
-  byte[] buffer = new byte[0];
-
-  int bufferLength = 0;
-
-  int bufferPos = 0;
-
-  byte[] key = new byte[0];
-
   /**
   **********************************************************************************************
   Decrypts using the ICE algorithm
@@ -59,15 +42,7 @@ public class Exporter_Encryption_ICE extends ExporterPlugin {
   
   **********************************************************************************************
   **/
-  public byte[] getKey() {
-    return key;
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
+  @Override
   public void setKey(byte[] key) {
     this.key = key;
 
@@ -90,122 +65,21 @@ public class Exporter_Encryption_ICE extends ExporterPlugin {
 
   /**
   **********************************************************************************************
-  
+  Decrypts each 8-byte block of the <i>encrypted</i> data. Any bytes left over at the end of the
+  file aren't encrypted, so they're copied as they are.
   **********************************************************************************************
   **/
   @Override
-  public boolean available() {
-    try {
-      if (readLength > 0) {
-        if (bufferPos >= bufferLength) {
-          // need to decrypt the next block of data
-
-          bufferLength = 8;
-          if (bufferLength > readLength) {
-            bufferLength = (int) readLength;
-          }
-
-          byte[] encryptedData = readSource.readBytes(bufferLength);
-          buffer = new byte[bufferLength];
-          decrypt(encryptedData, buffer);
-
-          bufferPos = 0;
-        }
-        return true;
-      }
-      return false;
+  public int decrypt(byte[] encrypted, int length, byte[] decrypted, boolean lastBlock) {
+    int blockEnd = length - (length % 8);
+    for (int i = 0; i < blockEnd; i += 8) {
+      decrypt(encrypted, i, decrypted, i);
     }
-    catch (Throwable t) {
-      ErrorLogger.log(t);
-      return false;
-    }
-  }
 
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  @Override
-  public void close() {
-    try {
-      readSource.close();
-      readSource = null;
-    }
-    catch (Throwable t) {
-      readSource = null;
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  @Override
-  public void open(Resource source) {
-    try {
-      readLength = source.getLength();
-
-      buffer = new byte[0];
-      bufferLength = 0;
-      bufferPos = 0;
-
-      readSource = new FileManipulator(source.getSource(), false);
-      readSource.seek(source.getOffset());
-
-    }
-    catch (Throwable t) {
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  So we can easily call this from within a Viewer plugin
-  **********************************************************************************************
-  **/
-  public void open(FileManipulator fmIn, int compLengthIn, int decompLengthIn) {
-    try {
-      readSource = fmIn;
-
-      buffer = new byte[0];
-      bufferLength = 0;
-      bufferPos = 0;
-
-      readLength = decompLengthIn;
-    }
-    catch (Throwable t) {
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  NOT DONE
-  **********************************************************************************************
-  **/
-  @Override
-  public void pack(Resource source, FileManipulator destination) {
-
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  @Override
-  public int read() {
-    try {
-      readLength--;
-
-      byte currentByte = buffer[bufferPos];
-      bufferPos++;
-
-      return currentByte;
-    }
-    catch (Throwable t) {
-      return 0;
+    if (blockEnd < length) {
+      System.arraycopy(encrypted, blockEnd, decrypted, blockEnd, length - blockEnd);
     }
+    return length;
   }
 
   /**  **/
@@ -349,9 +223,11 @@ public class Exporter_Encryption_ICE extends ExporterPlugin {
   **********************************************************************************************
   **/
   public void createIceKey(int level) {
-    if (!spBoxInitialised) {
-      spBoxInit();
-      spBoxInitialised = true;
+    synchronized (Exporter_Encryption_ICE.class) {
+      if (!spBoxInitialised) {
+        spBoxInit();
+        spBoxInitialised = true;
+      }
     }
 
     if (level < 1) {
@@ -499,12 +375,21 @@ public class Exporter_Encryption_ICE extends ExporterPlugin {
   **********************************************************************************************
   **/
   public void decrypt(byte ciphertext[], byte plaintext[]) {
+    decrypt(ciphertext, 0, plaintext, 0);
+  }
+
+  /**
+  **********************************************************************************************
+   Decrypt a block of 8 bytes of data, starting at the offsets in each array.
+  **********************************************************************************************
+  **/
+  public void decrypt(byte ciphertext[], int cipherOffset, byte plaintext[], int plainOffset) {
     int i;
     int l = 0, r = 0;
 
     for (i = 0; i < 4; i++) {
-      l |= (ciphertext[i] & 0xff) << (24 - i * 8);
-      r |= (ciphertext[i + 4] & 0xff) << (24 - i * 8);
+      l |= (ciphertext[cipherOffset + i] & 0xff) << (24 - i * 8);
+      r |= (ciphertext[cipherOffset + i + 4] & 0xff) << (24 - i * 8);
     }
 
     for (i = rounds - 1; i > 0; i -= 2) {
@@ -513,8 +398,8 @@ public class Exporter_Encryption_ICE extends ExporterPlugin {
     }
 
     for (i = 0; i < 4; i++) {
-      plaintext[3 - i] = (byte) (r & 0xff);
-      plaintext[7 - i] = (byte) (l & 0xff);
+      plaintext[plainOffset + 3 - i] = (byte) (r & 0xff);
+      plaintext[plainOffset + 7 - i] = (byte) (l & 0xff);
 
       r >>>= 8;
       l >>>= 8;
@@ -23,9 +23,9 @@ public class Exporter_Explode extends ExporterPlugin {
 
   static Exporter_Explode instance = new Exporter_Explode();
 
-  static int decompLength = 0;
+  int decompLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
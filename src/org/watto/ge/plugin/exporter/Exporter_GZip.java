@@ -28,7 +28,7 @@ public class Exporter_GZip extends ExporterPlugin {
 
   static Exporter_GZip instance = new Exporter_GZip();
 
-  static GZIPInputStream readSource;
+  GZIPInputStream readSource;
 
   /**
   **********************************************************************************************
@@ -83,6 +83,16 @@ public class Exporter_GZip extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
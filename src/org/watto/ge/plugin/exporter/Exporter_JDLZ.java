@@ -22,8 +22,8 @@ public class Exporter_JDLZ extends ExporterPlugin {
 
   static Exporter_JDLZ instance = new Exporter_JDLZ();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -43,7 +43,7 @@ public class Exporter_JDLZ extends ExporterPlugin {
 
   byte nBitCount2 = 0;
   int bufferSize = 150000;
-  byte[] buffer = new byte[bufferSize];
+  byte[] buffer = null;
   int bufferFillPos = 0;
 
   int readPos = 0;
@@ -299,6 +299,7 @@ public class Exporter_JDLZ extends ExporterPlugin {
 
       numRead = 16;
 
+      buffer = new byte[bufferSize];
       bufferFillPos = 0;
       readPos = 0;
 
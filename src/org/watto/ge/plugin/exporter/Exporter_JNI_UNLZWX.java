@@ -135,4 +135,14 @@ public class Exporter_JNI_UNLZWX extends Exporter_Default {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompression is done by an external program, so it can't run at the same time as another one
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
 }
\ No newline at end of file
@@ -26,9 +26,9 @@ public class Exporter_LH6 extends ExporterPlugin {
 
   static Exporter_LH6 instance = new Exporter_LH6();
 
-  static LhaDecoderInputStream readSource;
+  LhaDecoderInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
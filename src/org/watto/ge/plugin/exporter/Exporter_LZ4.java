@@ -28,11 +28,14 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
   static Exporter_LZ4 instance = new Exporter_LZ4();
 
-  static BlockLZ4CompressorInputStream readSource;
+  BlockLZ4CompressorInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
+
+  /** true if available() has read the currentByte, but it hasn't been returned by read() yet **/
+  boolean currentByteAvailable = false;
 
   /**
   **********************************************************************************************
@@ -67,6 +70,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
         currentByte = readSource.read();
         readLength--;
         if (currentByte >= 0) {
+          currentByteAvailable = true;
           return true;
         }
       }
@@ -96,6 +100,16 @@ public class Exporter_LZ4 extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   So we can easily call this from within a Viewer plugin
@@ -107,6 +121,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
       readSource = new BlockLZ4CompressorInputStream(new ManipulatorInputStream(fm));
       readLength = decompLengthIn;
+      currentByteAvailable = false;
     }
     catch (Throwable t) {
     }
@@ -125,6 +140,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
       readSource = new BlockLZ4CompressorInputStream(new ManipulatorInputStream(fm));
       readLength = source.getDecompressedLength();
+      currentByteAvailable = false;
     }
     catch (Throwable t) {
       ErrorLogger.log(t);
@@ -145,8 +161,11 @@ public class Exporter_LZ4 extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        outputStream.write(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        outputStream.write(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -175,6 +194,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
   public int read() {
     try {
       // NOTE: The actual reading of the byte is done in available()
+      currentByteAvailable = false;
       return currentByte;
     }
     catch (Throwable t) {
@@ -184,4 +204,49 @@ public class Exporter_LZ4 extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompresses a whole block of data in a single call
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      int readCount = 0;
+
+      // if available() has already read a byte, return that one first
+      if (currentByteAvailable && length > 0) {
+        destination[offset] = (byte) currentByte;
+        currentByteAvailable = false;
+        readCount++;
+      }
+
+      if (readLength > 0 && readCount < length) {
+        int remainingLength = length - readCount;
+        if (readLength < remainingLength) {
+          remainingLength = (int) readLength;
+        }
+
+        int blockLength = readSource.read(destination, offset + readCount, remainingLength);
+        if (blockLength > 0) {
+          readLength -= blockLength;
+          readCount += blockLength;
+        }
+        else {
+          readLength = 0;
+        }
+      }
+
+      if (readCount == 0) {
+        return -1;
+      }
+      return readCount;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -24,9 +24,9 @@ public class Exporter_LZ4X extends ExporterPlugin {
 
   static Exporter_LZ4X instance = new Exporter_LZ4X();
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
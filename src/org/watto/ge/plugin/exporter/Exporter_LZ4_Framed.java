@@ -28,11 +28,11 @@ public class Exporter_LZ4_Framed extends ExporterPlugin {
 
   static Exporter_LZ4_Framed instance = new Exporter_LZ4_Framed();
 
-  static FramedLZ4CompressorInputStream readSource;
+  FramedLZ4CompressorInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
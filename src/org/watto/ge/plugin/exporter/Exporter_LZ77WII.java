@@ -31,15 +31,15 @@ public class Exporter_LZ77WII extends ExporterPlugin {
 
   static Exporter_LZ77WII instance = new Exporter_LZ77WII();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static int[] readBuffer = new int[0];
+  int[] readBuffer = new int[0];
 
-  static int readBufferPos = 0;
+  int readBufferPos = 0;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int readBufferLevel = 0;
+  int readBufferLevel = 0;
 
   /**
   **********************************************************************************************
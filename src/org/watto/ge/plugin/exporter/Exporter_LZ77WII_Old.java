@@ -40,15 +40,15 @@ public class Exporter_LZ77WII_Old extends ExporterPlugin {
 
   static Exporter_LZ77WII_Old instance = new Exporter_LZ77WII_Old();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static byte[] readBuffer = new byte[0];
+  byte[] readBuffer = new byte[0];
 
-  static int readBufferPos = 0;
+  int readBufferPos = 0;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int readBufferLevel = 0;
+  int readBufferLevel = 0;
 
   int WII_NONE_TAG = 0x00;
 
@@ -24,18 +24,18 @@ public class Exporter_LZF extends ExporterPlugin {
 
   static Exporter_LZF instance = new Exporter_LZF();
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /** position in decompressed buffer **/
-  static int chunkPos = 0;
+  int chunkPos = 0;
 
   /** decompressed buffer length **/
-  static int chunkLength = 0;
+  int chunkLength = 0;
 
   /** decompressed buffer **/
-  static byte[] chunkData = null;
+  byte[] chunkData = null;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -28,9 +28,9 @@ public class Exporter_LZMA extends ExporterPlugin {
 
   static Exporter_LZMA instance = new Exporter_LZMA();
 
-  static LZMACompressorInputStream readSource;
-  static long readLength = 0;
-  static int currentByte = 0;
+  LZMACompressorInputStream readSource;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
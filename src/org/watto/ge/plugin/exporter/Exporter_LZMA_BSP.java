@@ -33,11 +33,11 @@ public class Exporter_LZMA_BSP extends ExporterPlugin {
 
   static Exporter_LZMA_BSP instance = new Exporter_LZMA_BSP();
 
-  static LZMAInputStream readSource;
+  LZMAInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
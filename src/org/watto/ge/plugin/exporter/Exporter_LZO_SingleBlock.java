@@ -29,13 +29,13 @@ public class Exporter_LZO_SingleBlock extends ExporterPlugin {
 
   static Exporter_LZO_SingleBlock instance = new Exporter_LZO_SingleBlock();
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static long compLength = 0;
+  long compLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
-  static Lzo1xDecompressor bc = null;
+  Lzo1xDecompressor bc = null;
 
   static final byte magic[] = { 0x00, (byte) 0xe9, 0x4c, 0x5a, 0x4f, (byte) 0xff, 0x1a };
 
@@ -27,11 +27,11 @@ public class Exporter_LZSS extends ExporterPlugin {
 
   static Exporter_LZSS instance = new Exporter_LZSS();
 
-  static LZSSInputStream readSource;
+  LZSSInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
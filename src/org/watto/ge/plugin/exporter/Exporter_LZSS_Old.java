@@ -27,8 +27,8 @@ public class Exporter_LZSS_Old extends ExporterPlugin {
 
   static Exporter_LZSS_Old instance = new Exporter_LZSS_Old();
 
-  static LZSSInputStream readSource;
-  static byte[] singleBuffer = new byte[1];
+  LZSSInputStream readSource;
+  byte[] singleBuffer = new byte[1];
 
   /**
   **********************************************************************************************
@@ -25,15 +25,15 @@ public class Exporter_LZWX extends ExporterPlugin {
 
   static Exporter_LZWX instance = new Exporter_LZWX();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static byte[] decompBuffer = new byte[0];
+  byte[] decompBuffer = new byte[0];
 
-  static int decompBufferPos = 0;
+  int decompBufferPos = 0;
 
-  static long decompBufferLength = 0;
+  long decompBufferLength = 0;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -31,8 +31,8 @@ public class Exporter_LZX extends ExporterPlugin {
 
   static Exporter_LZX instance = new Exporter_LZX();
 
-  static long readLength = 0;
-  static int currentByte = 0;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
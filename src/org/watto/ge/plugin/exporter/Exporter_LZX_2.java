@@ -25,9 +25,9 @@ public class Exporter_LZX_2 extends ExporterPlugin {
 
   static Exporter_LZX_2 instance = new Exporter_LZX_2();
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
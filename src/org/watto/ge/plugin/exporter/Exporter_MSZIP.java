@@ -32,8 +32,8 @@ public class Exporter_MSZIP extends ExporterPlugin {
 
   static Exporter_MSZIP instance = new Exporter_MSZIP();
 
-  static MSZIPInputStream readSource;
-  static long readLength = 0;
+  MSZIPInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
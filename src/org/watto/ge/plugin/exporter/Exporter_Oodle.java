@@ -33,11 +33,11 @@ public class Exporter_Oodle extends ExporterPlugin {
 
   static Exporter_Oodle instance = new Exporter_Oodle();
 
-  static byte[] decompBuffer = null;
+  byte[] decompBuffer = null;
 
-  static int decompPos = 0;
+  int decompPos = 0;
 
-  static int decompLength = 0;
+  int decompLength = 0;
 
   /**
   **********************************************************************************************
@@ -23,7 +23,7 @@ public class Exporter_PRS_8ING extends ExporterPlugin {
 
   static Exporter_PRS_8ING instance = new Exporter_PRS_8ING();
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -227,4 +227,14 @@ public class Exporter_QuickBMSWrapper extends Exporter_Default {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompression is done by an external program, so it can't run at the same time as another one
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
 }
\ No newline at end of file
@@ -27,10 +27,10 @@ public class Exporter_RAR_RAR extends ExporterPlugin {
 
   static Exporter_RAR_RAR instance = new Exporter_RAR_RAR();
 
-  static byte[] readSource;
+  byte[] readSource;
 
-  static long readLength = 0;
-  static int readPos = 0;
+  long readLength = 0;
+  int readPos = 0;
 
   /**
   **********************************************************************************************
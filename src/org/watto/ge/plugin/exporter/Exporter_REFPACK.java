@@ -26,19 +26,19 @@ public class Exporter_REFPACK extends ExporterPlugin {
 
   static Exporter_REFPACK instance = new Exporter_REFPACK();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static byte[] readBuffer = new byte[0];
+  byte[] readBuffer = new byte[0];
 
-  static int readBufferPos = 0;
+  int readBufferPos = 0;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int readBufferLevel = 0;
+  int readBufferLevel = 0;
 
-  static boolean readDecompHeader = false;
+  boolean readDecompHeader = false;
 
-  static boolean skipHeaders = false;
+  boolean skipHeaders = false;
 
   /**
   **********************************************************************************************
@@ -50,20 +50,20 @@ public class Exporter_REFPACK extends ExporterPlugin {
     return instance;
   }
 
-  public static boolean isReadDecompHeader() {
+  public boolean isReadDecompHeader() {
     return readDecompHeader;
   }
 
-  public static boolean isSkipHeaders() {
+  public boolean isSkipHeaders() {
     return skipHeaders;
   }
 
-  public static void setReadDecompHeader(boolean readDecompHeader) {
-    Exporter_REFPACK.readDecompHeader = readDecompHeader;
+  public void setReadDecompHeader(boolean readDecompHeader) {
+    this.readDecompHeader = readDecompHeader;
   }
 
-  public static void setSkipHeaders(boolean skipHeaders) {
-    Exporter_REFPACK.skipHeaders = skipHeaders;
+  public void setSkipHeaders(boolean skipHeaders) {
+    this.skipHeaders = skipHeaders;
   }
 
   /**
@@ -28,9 +28,9 @@ public class Exporter_ROT_RepeatingKey extends ExporterPlugin {
 
   static Exporter_ROT_RepeatingKey instance = new Exporter_ROT_RepeatingKey();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
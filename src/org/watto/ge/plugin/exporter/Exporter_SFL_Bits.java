@@ -24,8 +24,8 @@ public class Exporter_SFL_Bits extends ExporterPlugin {
 
   static Exporter_SFL_Bits instance = new Exporter_SFL_Bits();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_SFL_Block extends ExporterPlugin {
 
   static Exporter_SFL_Block instance = new Exporter_SFL_Block();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -24,8 +24,8 @@ public class Exporter_SFL_Nulls extends ExporterPlugin {
 
   static Exporter_SFL_Nulls instance = new Exporter_SFL_Nulls();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
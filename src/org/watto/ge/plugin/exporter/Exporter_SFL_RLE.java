@@ -24,8 +24,8 @@ public class Exporter_SFL_RLE extends ExporterPlugin {
 
   static Exporter_SFL_RLE instance = new Exporter_SFL_RLE();
 
-  static FileManipulator readSource;
-  static long readLength = 0;
+  FileManipulator readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
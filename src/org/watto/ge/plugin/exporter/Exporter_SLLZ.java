@@ -23,8 +23,8 @@ public class Exporter_SLLZ extends ExporterPlugin {
 
   static Exporter_SLLZ instance = new Exporter_SLLZ();
 
-  static long readLength = 0;
-  static int currentByte = 0;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -39,7 +39,7 @@ public class Exporter_SLLZ extends ExporterPlugin {
   int previousBufferLength = 0;
 
   //int[] buffer = new int[4096];
-  int[] buffer = new int[8192];
+  int[] buffer = null;
   int bufferLength = 0;
 
   int bufferPos = 0;
@@ -203,6 +203,7 @@ public class Exporter_SLLZ extends ExporterPlugin {
       previousBuffer = null;
       previousBufferLength = 0;
 
+      buffer = new int[8192];
       bufferLength = 0;
       bufferPos = 0;
 
@@ -231,6 +232,7 @@ public class Exporter_SLLZ extends ExporterPlugin {
       previousBuffer = null;
       previousBufferLength = 0;
 
+      buffer = new int[8192];
       bufferLength = 0;
       bufferPos = 0;
 
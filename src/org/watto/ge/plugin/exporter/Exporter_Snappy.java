@@ -27,9 +27,9 @@ public class Exporter_Snappy extends ExporterPlugin {
 
   static Exporter_Snappy instance = new Exporter_Snappy();
 
-  static SnappyCompressorInputStream readSource;
-  static long readLength = 0;
-  static int currentByte = 0;
+  SnappyCompressorInputStream readSource;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -23,10 +23,10 @@ public class Exporter_SplitChunkDefault extends ExporterPlugin {
 
   static Exporter_SplitChunkDefault instance = new Exporter_SplitChunkDefault();
 
-  static FileManipulator readSource;
-  static long[] readLengths;
-  static long[] readOffsets;
-  static int readChunk = 0;
+  FileManipulator readSource;
+  long[] readLengths;
+  long[] readOffsets;
+  int readChunk = 0;
 
   /**
   **********************************************************************************************
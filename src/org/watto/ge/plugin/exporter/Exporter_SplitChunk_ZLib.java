@@ -25,12 +25,12 @@ public class Exporter_SplitChunk_ZLib extends ExporterPlugin {
 
   static Exporter_SplitChunk_ZLib instance = new Exporter_SplitChunk_ZLib();
 
-  static FileManipulator fm;
-  static InflaterInputStream readSource;
+  FileManipulator fm;
+  InflaterInputStream readSource;
 
-  static long[] readLengths;
-  static long[] readOffsets;
-  static int readChunk = 0;
+  long[] readLengths;
+  long[] readOffsets;
+  int readChunk = 0;
 
   /**
   **********************************************************************************************
@@ -27,9 +27,9 @@ public class Exporter_XOR extends ExporterPlugin {
 
   static Exporter_XOR instance = new Exporter_XOR();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -88,6 +88,16 @@ public class Exporter_XOR extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -124,8 +134,14 @@ public class Exporter_XOR extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read() ^ xorValue);
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        for (int i = 0; i < blockLength; i++) {
+          block[i] ^= xorValue;
+        }
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -154,4 +170,35 @@ public class Exporter_XOR extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads a block of raw bytes from the source file, then XORs them all
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      readSource.readBytes(destination, offset, length);
+      readLength -= length;
+
+      for (int i = offset; i < offset + length; i++) {
+        destination[i] ^= xorValue;
+      }
+
+      return length;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -27,9 +27,9 @@ public class Exporter_XOR_RepeatingKey extends ExporterPlugin {
 
   static Exporter_XOR_RepeatingKey instance = new Exporter_XOR_RepeatingKey();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -123,6 +123,16 @@ public class Exporter_XOR_RepeatingKey extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -187,11 +197,17 @@ public class Exporter_XOR_RepeatingKey extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read() ^ xorKey[currentKeyPos++]);
-        if (currentKeyPos >= keyLength) {
-          currentKeyPos = 0;
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        for (int i = 0; i < blockLength; i++) {
+          block[i] ^= xorKey[currentKeyPos++];
+          if (currentKeyPos >= keyLength) {
+            currentKeyPos = 0;
+          }
         }
+        destination.writeBytes(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -224,4 +240,38 @@ public class Exporter_XOR_RepeatingKey extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads a block of raw bytes from the source file, then XORs them all with the key
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      readSource.readBytes(destination, offset, length);
+      readLength -= length;
+
+      for (int i = offset; i < offset + length; i++) {
+        destination[i] ^= xorKey[currentKeyPos++];
+        if (currentKeyPos >= keyLength) {
+          currentKeyPos = 0;
+        }
+      }
+
+      return length;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -24,11 +24,11 @@ public class Exporter_Z extends ExporterPlugin {
 
   static Exporter_Z instance = new Exporter_Z();
 
-  static ZCompressorInputStream readSource;
+  ZCompressorInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
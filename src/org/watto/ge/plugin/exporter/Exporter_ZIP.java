@@ -18,6 +18,7 @@ import java.io.BufferedInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ZipFileCache;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
 
@@ -25,8 +26,11 @@ public class Exporter_ZIP extends ExporterPlugin {
 
   static Exporter_ZIP instance = new Exporter_ZIP();
 
-  static BufferedInputStream readSource;
-  static long readLength = 0;
+  BufferedInputStream readSource;
+
+  /** the cached archive that the <i>readSource</i> is reading from, released when this is closed **/
+  ZipFile zipArchive = null;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -78,6 +82,36 @@ public class Exporter_ZIP extends ExporterPlugin {
     catch (Throwable t) {
       readSource = null;
     }
+
+    if (zipArchive != null) {
+      ZipFileCache.releaseZipFile(zipArchive);
+      zipArchive = null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  The copy needs its own stream, and doesn't hold the archive open until it's opened itself
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    Exporter_ZIP copy = (Exporter_ZIP) super.copy();
+    copy.readSource = null;
+    copy.zipArchive = null;
+    copy.readLength = 0;
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, and the cached ZipFile can be read by many
+  threads at once, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
   }
 
   /**
@@ -88,7 +122,13 @@ public class Exporter_ZIP extends ExporterPlugin {
   @Override
   public void open(Resource source) {
     try {
-      ZipFile zipArchive = new ZipFile(source.getSource());
+      if (zipArchive != null) {
+        // the last file wasn't closed
+        close();
+      }
+
+      // the ZipFile is kept open, so the central directory is only read once for the whole archive
+      zipArchive = ZipFileCache.openZipFile(source.getSource());
       ZipEntry zippedFile = zipArchive.getEntry(source.getOriginalName());
 
       readSource = new BufferedInputStream(zipArchive.getInputStream(zippedFile));
@@ -123,4 +163,36 @@ public class Exporter_ZIP extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Inflates a whole block of data in a single call
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      int readCount = readSource.read(destination, offset, length);
+      if (readCount > 0) {
+        readLength -= readCount;
+      }
+      else {
+        readLength = 0;
+      }
+
+      return readCount;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -25,8 +25,8 @@ public class Exporter_ZIP_Single extends ExporterPlugin {
 
   static Exporter_ZIP_Single instance = new Exporter_ZIP_Single();
 
-  static BufferedInputStream readSource;
-  static long readLength = 0;
+  BufferedInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -14,6 +14,8 @@
 
 package org.watto.ge.plugin.exporter;
 
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
 import java.io.InputStream;
 
 import org.watto.ErrorLogger;
@@ -22,15 +24,16 @@ import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
 
 import net.lingala.zip4j.ZipFile;
+import net.lingala.zip4j.io.inputstream.ZipInputStream;
 import net.lingala.zip4j.model.FileHeader;
 
 public class Exporter_ZIP_ZipCrypto extends ExporterPlugin {
 
   static Exporter_ZIP_ZipCrypto instance = new Exporter_ZIP_ZipCrypto();
 
-  static InputStream readSource;
-  static long readLength = 0;
-  static int currentByte = 0;
+  InputStream readSource;
+  long readLength = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -51,9 +54,9 @@ public class Exporter_ZIP_ZipCrypto extends ExporterPlugin {
   }
 
   FileHeader fileHeader = null;
-  static String password;
+  String password;
 
-  public static void setPassword(String newPassword) {
+  public void setPassword(String newPassword) {
     password = newPassword;
   }
 
@@ -125,15 +128,53 @@ public class Exporter_ZIP_ZipCrypto extends ExporterPlugin {
   **/
   @Override
   public void open(Resource source) {
+    // closed here if the file can't be opened, otherwise they're closed by close()
+    FileInputStream fileStream = null;
+    ZipInputStream zipStream = null;
+    ZipFile zipFile = null;
     try {
 
-      ZipFile zipFile = new ZipFile(source.getSource(), password.toCharArray());
-      readSource = zipFile.getInputStream(fileHeader);
+      if (fileHeader.getDiskNumberStart() == 0) {
+        // go straight to the local header of the file, rather than reading the central directory every time
+        long localHeaderOffset = fileHeader.getOffsetLocalHeader();
+        if (fileHeader.getZip64ExtendedInfo() != null) {
+          localHeaderOffset = fileHeader.getZip64ExtendedInfo().getOffsetLocalHeader();
+        }
+
+        fileStream = new FileInputStream(source.getSource());
+        fileStream.getChannel().position(localHeaderOffset);
+
+        zipStream = new ZipInputStream(new BufferedInputStream(fileStream), password.toCharArray());
+        if (zipStream.getNextEntry(fileHeader, false) == null) {
+          throw new Exception("Could not find the local file header for " + fileHeader.getFileName());
+        }
+        readSource = zipStream;
+      }
+      else {
+        // split archives need the central directory to find the right part
+        zipFile = new ZipFile(source.getSource(), password.toCharArray());
+        readSource = zipFile.getInputStream(fileHeader);
+      }
 
       readLength = source.getDecompressedLength();
     }
     catch (Throwable t) {
       ErrorLogger.log(t);
+
+      try {
+        if (zipStream != null) {
+          zipStream.close(); // also closes the fileStream
+        }
+        else if (fileStream != null) {
+          fileStream.close();
+        }
+        if (zipFile != null) {
+          zipFile.close();
+        }
+      }
+      catch (Throwable t2) {
+      }
+      readSource = null;
     }
   }
 
@@ -163,6 +204,39 @@ public class Exporter_ZIP_ZipCrypto extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decrypts and inflates a whole block of data in a single call. Don't mix this with available()
+  and read(), as available() reads the next byte itself.
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      int readCount = readSource.read(destination, offset, length);
+      if (readCount > 0) {
+        readLength -= readCount;
+      }
+      else {
+        readLength = 0;
+      }
+
+      return readCount;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
   /**
   **********************************************************************************************
   
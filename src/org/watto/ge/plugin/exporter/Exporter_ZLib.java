@@ -28,8 +28,8 @@ public class Exporter_ZLib extends ExporterPlugin {
 
   static Exporter_ZLib instance = new Exporter_ZLib();
 
-  static InflaterInputStream readSource;
-  static long readLength = 0;
+  InflaterInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -86,6 +86,16 @@ public class Exporter_ZLib extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
@@ -165,8 +175,11 @@ public class Exporter_ZLib extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        outputStream.write(exporter.read());
+      byte[] block = new byte[BLOCK_SIZE];
+      int blockLength = exporter.read(block, 0, BLOCK_SIZE);
+      while (blockLength > 0) {
+        outputStream.write(block, 0, blockLength);
+        blockLength = exporter.read(block, 0, BLOCK_SIZE);
       }
 
       exporter.close();
@@ -204,4 +217,37 @@ public class Exporter_ZLib extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Inflates a whole block of data in a single call
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (readLength < length) {
+        length = (int) readLength;
+      }
+
+      int readCount = readSource.read(destination, offset, length);
+      if (readCount > 0) {
+        readLength -= readCount;
+      }
+      else {
+        readLength = 0;
+      }
+
+      return readCount;
+    }
+    catch (Throwable t) {
+      t.printStackTrace();
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -27,8 +27,8 @@ public class Exporter_ZLibX extends ExporterPlugin {
 
   static Exporter_ZLibX instance = new Exporter_ZLibX();
 
-  static ZLibXInputStream readSource = null;
-  static long readLength = 0;
+  ZLibXInputStream readSource = null;
+  long readLength = 0;
 
   public void setContinueUntilDecompLength(boolean continueUntilDecompLength) {
     if (readSource != null) {
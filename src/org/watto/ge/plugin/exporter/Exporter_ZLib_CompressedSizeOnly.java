@@ -28,9 +28,9 @@ public class Exporter_ZLib_CompressedSizeOnly extends ExporterPlugin {
 
   static Exporter_ZLib_CompressedSizeOnly instance = new Exporter_ZLib_CompressedSizeOnly();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -92,6 +92,16 @@ public class Exporter_ZLib_CompressedSizeOnly extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   So we can easily call this from within a Viewer plugin
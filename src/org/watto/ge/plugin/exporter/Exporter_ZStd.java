@@ -14,31 +14,40 @@
 
 package org.watto.ge.plugin.exporter;
 
+import org.watto.Settings;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
-import io.airlift.compress.zstd.ZstdDecompressor;
+import org.watto.io.stream.ManipulatorInputStream;
+import io.airlift.compress.zstd.ZstdDictionary;
+import io.airlift.compress.zstd.ZstdInputStream;
 
 public class Exporter_ZStd extends ExporterPlugin {
 
   static Exporter_ZStd instance = new Exporter_ZStd();
 
-  byte[] decompBuffer = null;
+  /** the dictionary that the data was compressed with, or null if there isn't one **/
+  ZstdDictionary dictionary = null;
 
-  int decompPos = 0;
+  FileManipulator fm = null;
 
-  int decompLength = 0;
+  ZstdInputStream readSource = null;
 
-  byte[] compBuffer = null;
+  long decompPos = 0;
 
-  int compPos = 0;
+  long decompLength = 0;
 
-  int compLength = 0;
+  /** the next byte, if it has been read by available() but not yet returned by read() **/
+  int currentByte = -1;
 
   /**
   **********************************************************************************************
   ZStd / ZStandard
   Ref: https://github.com/airlift/aircompressor
+  
+  The data is decompressed one block at a time as it is read, so only the ZStd window is kept in
+  memory rather than the whole file. Files with a window larger than the <i>ZStdMaxWindowSize</i>
+  setting (in MB) aren't decompressed, so a bad file can't use up all the memory.
   **********************************************************************************************
   **/
   public static Exporter_ZStd getInstance() {
@@ -54,6 +63,16 @@ public class Exporter_ZStd extends ExporterPlugin {
     setName("ZStd / ZStandard Compression");
   }
 
+  /**
+  **********************************************************************************************
+  For archives that were compressed using a ZStd dictionary
+  **********************************************************************************************
+  **/
+  public Exporter_ZStd(byte[] dictionaryData) {
+    this();
+    setDictionary(dictionaryData);
+  }
+
   /**
   **********************************************************************************************
   
@@ -61,10 +80,24 @@ public class Exporter_ZStd extends ExporterPlugin {
   **/
   @Override
   public boolean available() {
-    if (decompPos < decompLength) {
+    try {
+      if (decompPos >= decompLength) {
+        return false;
+      }
+
+      if (currentByte < 0) {
+        currentByte = readSource.read();
+        if (currentByte < 0) {
+          decompLength = decompPos; // the data is shorter than expected
+          return false;
+        }
+      }
+
       return true;
     }
-    else {
+    catch (Throwable t) {
+      logError(t);
+      decompLength = decompPos;
       return false;
     }
   }
@@ -76,9 +109,32 @@ public class Exporter_ZStd extends ExporterPlugin {
   **/
   @Override
   public void close() {
-    decompBuffer = null;
+    try {
+      if (readSource != null) {
+        readSource.close(); // also closes the fm
+      }
+      else if (fm != null) {
+        fm.close();
+      }
+    }
+    catch (Throwable t) {
+    }
+
+    readSource = null;
+    fm = null;
     decompPos = 0;
     decompLength = 0;
+    currentByte = -1;
+  }
+
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
   }
 
   /**
@@ -91,7 +147,30 @@ public class Exporter_ZStd extends ExporterPlugin {
     return "This exporter decompresses ZStd / ZStandard files when exporting\n\n" + super.getDescription();
   }
 
-  FileManipulator fm;
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public ZstdDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the largest ZStd window that is allowed, from the <i>ZStdMaxWindowSize</i> setting (in MB)
+  **********************************************************************************************
+  **/
+  public static int getMaxWindowSize() {
+    int maxWindowSize = Settings.getInt("ZStdMaxWindowSize");
+    if (maxWindowSize <= 0) {
+      return ZstdInputStream.DEFAULT_MAX_WINDOW_SIZE;
+    }
+    if (maxWindowSize > 1024) {
+      maxWindowSize = 1024; // the window needs to fit in a byte array
+    }
+    return maxWindowSize * 1024 * 1024;
+  }
 
   /**
   **********************************************************************************************
@@ -101,28 +180,17 @@ public class Exporter_ZStd extends ExporterPlugin {
   @Override
   public void open(Resource source) {
     try {
-      FileManipulator fm = new FileManipulator(source.getSource(), false);
+      fm = new FileManipulator(source.getSource(), false);
       fm.seek(source.getOffset());
 
-      decompPos = 0;
-      decompLength = (int) source.getDecompressedLength();
-      decompBuffer = new byte[(int) decompLength];
-
-      compPos = 0;
-      compLength = (int) source.getLength();
-      compBuffer = fm.readBytes(compLength);
+      readSource = new ZstdInputStream(new ManipulatorInputStream(fm), source.getLength(), dictionary, getMaxWindowSize());
 
-      ZstdDecompressor decompressor = new ZstdDecompressor();
-      decompressor.decompress(compBuffer, 0, compLength, decompBuffer, 0, decompLength);
-
-      compBuffer = null; // discard the comp buffer now that we've finished the decompression
-
-      // return the decompBuffer to the beginning, ready to read from
       decompPos = 0;
-
-      fm.close();
+      decompLength = source.getDecompressedLength();
+      currentByte = -1;
     }
     catch (Throwable t) {
+      logError(t);
     }
   }
 
@@ -143,13 +211,79 @@ public class Exporter_ZStd extends ExporterPlugin {
   @Override
   public int read() {
     try {
-      byte currentByte = decompBuffer[decompPos];
+      if (currentByte < 0 && !available()) {
+        return 0;
+      }
+
+      int readByte = currentByte;
+      currentByte = -1;
       decompPos++;
-      return currentByte;
+
+      return (byte) readByte;
     }
     catch (Throwable t) {
       return 0;
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompresses a block of data straight in to the <i>destination</i>
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      long remainingLength = decompLength - decompPos;
+      if (remainingLength <= 0 || length <= 0) {
+        return -1;
+      }
+
+      if (remainingLength < length) {
+        length = (int) remainingLength;
+      }
+
+      int readLength = 0;
+      if (currentByte >= 0) {
+        // a byte has already been read by available()
+        destination[offset] = (byte) currentByte;
+        currentByte = -1;
+        readLength = 1;
+      }
+
+      if (readLength < length) {
+        int blockLength = readSource.read(destination, offset + readLength, length - readLength);
+        if (blockLength > 0) {
+          readLength += blockLength;
+        }
+        else if (readLength == 0) {
+          decompLength = decompPos; // the data is shorter than expected
+          return -1;
+        }
+      }
+
+      decompPos += readLength;
+      return readLength;
+    }
+    catch (Throwable t) {
+      logError(t);
+      decompLength = decompPos;
+      return -1;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the dictionary that the data was compressed with
+  **********************************************************************************************
+  **/
+  public void setDictionary(byte[] dictionaryData) {
+    if (dictionaryData == null) {
+      dictionary = null;
+    }
+    else {
+      dictionary = new ZstdDictionary(dictionaryData);
+    }
+  }
+
 }
\ No newline at end of file
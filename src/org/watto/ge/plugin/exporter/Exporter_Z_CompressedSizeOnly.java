@@ -24,9 +24,9 @@ public class Exporter_Z_CompressedSizeOnly extends ExporterPlugin {
 
   static Exporter_Z_CompressedSizeOnly instance = new Exporter_Z_CompressedSizeOnly();
 
-  static ZCompressorInputStream readSource;
+  ZCompressorInputStream readSource;
 
-  static int currentByte = 0;
+  int currentByte = 0;
 
   /**
   **********************************************************************************************
@@ -22,9 +22,9 @@ public class HeaderSkipExporter extends ExporterPlugin {
 
   static HeaderSkipExporter instance = new HeaderSkipExporter();
 
-  static FileManipulator readSource;
+  FileManipulator readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   int skipLength = 0;
 
@@ -82,6 +82,16 @@ public class HeaderSkipExporter extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  All the stream state is held in this instance, so copies can be read at the same time
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   /**
   **********************************************************************************************
   
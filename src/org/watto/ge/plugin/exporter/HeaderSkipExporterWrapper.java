@@ -76,6 +76,34 @@ public class HeaderSkipExporterWrapper extends ExporterPlugin {
     exporter = null;
   }
 
+  /**
+  **********************************************************************************************
+  Copies the wrapped exporter as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    HeaderSkipExporterWrapper copy = (HeaderSkipExporterWrapper) super.copy();
+    if (exporter != null) {
+      copy.exporter = exporter.copy();
+    }
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if the wrapped exporter is
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return exporter != null && exporter.isThreadSafe();
+  }
+
   /**
   **********************************************************************************************
   
@@ -101,6 +101,34 @@ public class MultiFileBlockExporterWrapper extends ExporterPlugin {
     exporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Copies the wrapped exporter as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    MultiFileBlockExporterWrapper copy = (MultiFileBlockExporterWrapper) super.copy();
+    if (exporter != null) {
+      copy.exporter = exporter.copy();
+    }
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if the wrapped exporter is
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    return exporter != null && exporter.isThreadSafe();
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
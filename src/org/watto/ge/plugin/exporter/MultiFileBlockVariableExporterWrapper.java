@@ -15,6 +15,7 @@
 package org.watto.ge.plugin.exporter;
 
 import java.io.File;
+import java.util.IdentityHashMap;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.resource.Resource_WAV_RawAudio;
@@ -104,6 +105,60 @@ public class MultiFileBlockVariableExporterWrapper extends ExporterPlugin {
     currentExporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Copies all the block exporters as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    MultiFileBlockVariableExporterWrapper copy = (MultiFileBlockVariableExporterWrapper) super.copy();
+    if (exporters != null) {
+      // each distinct exporter is only copied once, as the same exporter is usually used for many blocks
+      IdentityHashMap<ExporterPlugin, ExporterPlugin> copiedExporters = new IdentityHashMap<ExporterPlugin, ExporterPlugin>();
+
+      int numExporters = exporters.length;
+      copy.exporters = new ExporterPlugin[numExporters];
+      for (int i = 0; i < numExporters; i++) {
+        ExporterPlugin exporter = exporters[i];
+        if (exporter == null) {
+          continue;
+        }
+        ExporterPlugin copiedExporter = copiedExporters.get(exporter);
+        if (copiedExporter == null) {
+          copiedExporter = exporter.copy();
+          copiedExporters.put(exporter, copiedExporter);
+        }
+        copy.exporters[i] = copiedExporter;
+      }
+    }
+    copy.currentExporter = null;
+    return copy;
+  }
+
+  /**
+  **********************************************************************************************
+  Thread-safe if all the block exporters are
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isThreadSafe() {
+    if (exporters == null) {
+      return false;
+    }
+    int numExporters = exporters.length;
+    for (int i = 0; i < numExporters; i++) {
+      if (exporters[i] != null && !exporters[i].isThreadSafe()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
@@ -123,6 +123,24 @@ public class SubsetExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Copies the wrapped exporter as well, so the copy has its own decompression state
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin copy() {
+    if (!isThreadSafe()) {
+      return this; // see ExporterPlugin.copy()
+    }
+
+    SubsetExporterWrapper copy = (SubsetExporterWrapper) super.copy();
+    if (exporter != null) {
+      copy.exporter = exporter.copy();
+    }
+    return copy;
+  }
+
   /**
    **********************************************************************************************
    Decompresses the block to a temporary file, then returns it.
@@ -28,6 +28,7 @@ public class Scanner_BIK_BIKI extends ScannerPlugin {
   **/
   public Scanner_BIK_BIKI() {
     super("bik", "Bink Video");
+    setScanSignatures("BIKi", "BIKf");
   }
 
   @Override
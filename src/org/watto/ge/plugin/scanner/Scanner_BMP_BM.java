@@ -28,6 +28,7 @@ public class Scanner_BMP_BM extends ScannerPlugin {
   **/
   public Scanner_BMP_BM() {
     super("bmp", "Bitmap Image");
+    setScanSignatures("BM");
   }
 
   @Override
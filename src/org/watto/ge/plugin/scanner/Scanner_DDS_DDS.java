@@ -28,6 +28,7 @@ public class Scanner_DDS_DDS extends ScannerPlugin {
   **/
   public Scanner_DDS_DDS() {
     super("dds", "DirectX DDS Image");
+    setScanSignatures("DDS |\0\0\0");
   }
 
   @Override
@@ -29,6 +29,7 @@ public class Scanner_GIF_GIF extends ScannerPlugin {
   **/
   public Scanner_GIF_GIF() {
     super("gif", "GIF Image");
+    setScanSignatures("GIF8");
   }
 
   @Override
@@ -27,6 +27,7 @@ public class Scanner_HTML_HTML extends ScannerPlugin {
   **/
   public Scanner_HTML_HTML() {
     super("html", "HTML Webpage");
+    setScanSignatures("<HTML", "<html");
   }
 
   @Override
@@ -27,6 +27,7 @@ public class Scanner_JPEG_JFIF extends ScannerPlugin {
   **/
   public Scanner_JPEG_JFIF() {
     super("jpg", "JPEG Image");
+    setScanSignatures("JFIF\0\1");
   }
 
   @Override
@@ -30,6 +30,7 @@ public class Scanner_MIDI_MTHD extends ScannerPlugin {
   **/
   public Scanner_MIDI_MTHD() {
     super("mid", "Midi Audio");
+    setScanSignatures("MThd\0\0\0\6");
   }
 
   @Override
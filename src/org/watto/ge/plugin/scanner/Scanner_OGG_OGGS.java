@@ -31,6 +31,7 @@ public class Scanner_OGG_OGGS extends ScannerPlugin {
   **/
   public Scanner_OGG_OGGS() {
     super("ogg", "Ogg Vorbis Audio");
+    setScanSignatures("OggS\0");
   }
 
   @Override
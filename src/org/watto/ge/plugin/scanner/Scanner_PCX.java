@@ -28,6 +28,7 @@ public class Scanner_PCX extends ScannerPlugin {
   **/
   public Scanner_PCX() {
     super("pcx", "PCX Image");
+    setScanSignatures("\n\0\1", "\n\2\1", "\n\3\1", "\n\5\1");
   }
 
   @Override
@@ -29,6 +29,7 @@ public class Scanner_PNG_PNG extends ScannerPlugin {
   **/
   public Scanner_PNG_PNG() {
     super("png", "PNG Image");
+    setScanSignatures("\u0089PNG\r\n\u001a\n\0\0\0\rIHDR");
   }
 
   @Override
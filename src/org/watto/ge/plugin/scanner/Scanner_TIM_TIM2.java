@@ -28,6 +28,7 @@ public class Scanner_TIM_TIM2 extends ScannerPlugin {
   **/
   public Scanner_TIM_TIM2() {
     super("tim", "Playstation TIM2 Image");
+    setScanSignatures("TIM2");
   }
 
   @Override
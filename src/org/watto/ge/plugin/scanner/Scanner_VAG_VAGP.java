@@ -27,6 +27,7 @@ public class Scanner_VAG_VAGP extends ScannerPlugin {
   **/
   public Scanner_VAG_VAGP() {
     super("vag", "Playstation VAG Audio");
+    setScanSignatures("VAGp");
   }
 
   @Override
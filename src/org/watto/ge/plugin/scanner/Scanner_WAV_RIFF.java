@@ -34,6 +34,7 @@ public class Scanner_WAV_RIFF extends ScannerPlugin {
   **/
   public Scanner_WAV_RIFF() {
     super("wav", "RIFF Format");
+    setScanSignatures("RIFF");
   }
 
   /**
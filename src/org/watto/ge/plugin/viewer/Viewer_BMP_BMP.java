@@ -54,6 +54,7 @@ public class Viewer_BMP_BMP extends ViewerPlugin {
   public Viewer_BMP_BMP() {
     super("BMP_BMP", "Bitmap (BMP) Image");
     setExtensions("bmp");
+    setMatchSignature("BM");
     setStandardFileFormat(true);
   }
 
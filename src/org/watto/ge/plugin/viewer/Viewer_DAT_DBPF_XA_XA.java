@@ -46,6 +46,7 @@ public class Viewer_DAT_DBPF_XA_XA extends ViewerPlugin {
   public Viewer_DAT_DBPF_XA_XA() {
     super("DAT_DBPF_XA_XA", "Electronic Arts XA Audio");
     setExtensions("xa");
+    setMatchSignature("XA");
   }
 
   /**
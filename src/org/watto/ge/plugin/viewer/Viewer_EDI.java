@@ -37,6 +37,7 @@ public class Viewer_EDI extends ViewerPlugin {
   public Viewer_EDI() {
     super("EDI", "Project Eden EDI Image");
     setExtensions("edi");
+    setMatchNeedsExtension();
 
     setGames("Project Eden");
     setPlatforms("PC");
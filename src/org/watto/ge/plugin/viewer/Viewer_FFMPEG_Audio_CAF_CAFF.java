@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_CAF_CAFF extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_CAF_CAFF() {
     super("FFMPEG_Audio_CAF_CAFF", "Apple Core Audio File (CAF) Audio");
     setExtensions("caf");
+    setMatchSignature("caff");
     setStandardFileFormat(true);
   }
 
@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_EA_SCHl extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_EA_SCHl() {
     super("FFMPEG_Audio_EA_SCHl", "FFMPEG-supported Electronic Arts SCHl Audio");
     setExtensions("asf");
+    setMatchSignature("SCHl");
     setStandardFileFormat(true);
   }
 
@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_FEV1 extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_FEV1() {
     super("FFMPEG_Audio_FEV1", "FFMPEG-supported FEV1 Audio");
     setExtensions("fev");
+    setMatchSignature("FEV1");
     setStandardFileFormat(true);
   }
 
@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_FLAC_FLAC extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_FLAC_FLAC() {
     super("FFMPEG_Audio_FLAC_FLAC", "FFMPEG-supported FLAC Audio");
     setExtensions("flac");
+    setMatchSignature("fLaC");
     setStandardFileFormat(true);
   }
 
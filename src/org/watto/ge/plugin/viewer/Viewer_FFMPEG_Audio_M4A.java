@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_M4A extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_M4A() {
     super("FFMPEG_Audio_M4A", "FFMPEG-supported M4A Audio");
     setExtensions("m4a");
+    setMatchNeedsExtension();
     setStandardFileFormat(true);
   }
 
@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_VOC_CREATIVEVOICEFILE extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_VOC_CREATIVEVOICEFILE() {
     super("FFMPEG_Audio_VOC_CREATIVEVOICEFILE", "FFMPEG-supported VOC Creative Voice Audio");
     setExtensions("voc");
+    setMatchSignature("Creative Voice File");
     setStandardFileFormat(true);
   }
 
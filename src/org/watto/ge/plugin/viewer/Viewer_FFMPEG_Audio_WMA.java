@@ -46,6 +46,7 @@ public class Viewer_FFMPEG_Audio_WMA extends ViewerPlugin {
   public Viewer_FFMPEG_Audio_WMA() {
     super("FFMPEG_Audio_WMA", "FFMPEG-supported WMA Audio");
     setExtensions("wma");
+    setMatchNeedsExtension();
     setStandardFileFormat(true);
   }
 
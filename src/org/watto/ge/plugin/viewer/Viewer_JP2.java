@@ -41,6 +41,7 @@ public class Viewer_JP2 extends ViewerPlugin {
   public Viewer_JP2() {
     super("JP2", "JPEG 2000 (JP2) Image");
     setExtensions("jp2");
+    setMatchNeedsExtension();
   }
 
   /**
@@ -37,6 +37,7 @@ public class Viewer_JavaImagingUtilities extends ViewerPlugin {
   public Viewer_JavaImagingUtilities() {
     super("JavaImagingUtilities", "Java Imaging Utilities Images");
     setExtensions("pbm", "pgm", "ppm", "ras", "pcd", "tif", "tiff", "bmp", "iff", "lbm", "psd", "dib");
+    setMatchSignature("BM");
 
     try {
       Class.forName("net.sourceforge.jiu.codecs.ImageLoader");
@@ -38,6 +38,7 @@ public class Viewer_JavaMediaFramework_Video extends ViewerPlugin {
   public Viewer_JavaMediaFramework_Video() {
     super("JavaMediaFramework_Video", "Java Media Framework Video");
     setExtensions("avi", "mpeg", "mpg", "qt", "mov");
+    setMatchSignature("RIFF");
 
     try {
       Class.forName("javax.media.Player");
@@ -40,6 +40,7 @@ public class Viewer_MAP extends ViewerPlugin {
   public Viewer_MAP() {
     super("MAP", "Baram MAP Image");
     setExtensions("map");
+    setMatchNeedsExtension();
 
     setGames("Baram");
     setPlatforms("PC");
@@ -38,6 +38,7 @@ public class Viewer_MIDI_MTHD extends ViewerPlugin {
   public Viewer_MIDI_MTHD() {
     super("MIDI_MTHD", "Midi Audio");
     setExtensions("mid", "midi", "kar");
+    setMatchSignature("MThd");
     setStandardFileFormat(true);
   }
 
@@ -49,6 +49,7 @@ public class Viewer_OBJ extends ViewerPlugin {
   public Viewer_OBJ() {
     super("OBJ", "OBJ Model");
     setExtensions("obj");
+    setMatchNeedsExtension();
 
     setGames("OBJ Model");
     setPlatforms("PC");
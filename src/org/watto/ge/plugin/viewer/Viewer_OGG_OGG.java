@@ -36,6 +36,7 @@ public class Viewer_OGG_OGG extends ViewerPlugin {
   public Viewer_OGG_OGG() {
     super("OGG_OGG", "Ogg Vorbis Audio");
     setExtensions("ogg");
+    setMatchSignature("OggS");
 
     try {
       Class.forName("com.jcraft.jogg.Packet");
@@ -41,6 +41,7 @@ public class Viewer_PTX_CrashTime2 extends ViewerPlugin {
   public Viewer_PTX_CrashTime2() {
     super("PTX_CrashTime2", "Crash Time 2 PTX Image");
     setExtensions("ptx");
+    setMatchNeedsExtension();
 
     setGames("Crash Time 2");
     setPlatforms("PC");
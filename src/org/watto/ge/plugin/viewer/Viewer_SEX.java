@@ -43,6 +43,7 @@ public class Viewer_SEX extends ViewerPlugin {
   public Viewer_SEX() {
     super("SEX", "SEX Model");
     setExtensions("sex");
+    setMatchNeedsExtension();
 
     setGames("Urban Chaos");
     setPlatforms("PC");
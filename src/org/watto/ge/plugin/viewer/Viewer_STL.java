@@ -46,6 +46,7 @@ public class Viewer_STL extends ViewerPlugin {
   public Viewer_STL() {
     super("STL", "STL (Binary) Model");
     setExtensions("stl");
+    setMatchNeedsExtension();
 
     setGames("STL (Binary) Model");
     setPlatforms("PC");
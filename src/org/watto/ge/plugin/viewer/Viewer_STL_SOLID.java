@@ -47,6 +47,7 @@ public class Viewer_STL_SOLID extends ViewerPlugin {
   public Viewer_STL_SOLID() {
     super("STL_SOLID", "STL (ASCII) Model");
     setExtensions("stl", "stla");
+    setMatchSignature("solid");
 
     setGames("STL (ASCII) Model");
     setPlatforms("PC");
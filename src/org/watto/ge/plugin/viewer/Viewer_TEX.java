@@ -39,6 +39,7 @@ public class Viewer_TEX extends ViewerPlugin {
   public Viewer_TEX() {
     super("TEX", "PBA Bowling 2 TEX Image");
     setExtensions("tex");
+    setMatchNeedsExtension();
 
     setGames("PBA Bowling 2");
     setPlatforms("PC");
@@ -43,6 +43,7 @@ public class Viewer_TGA extends ViewerPlugin {
   public Viewer_TGA() {
     super("TGA", "TGA Image");
     setExtensions("tga");
+    setMatchNeedsExtension();
     setStandardFileFormat(true);
   }
 
@@ -39,6 +39,7 @@ public class Viewer_TM2_TIM2 extends ViewerPlugin {
   public Viewer_TM2_TIM2() {
     super("TM2_TIM2", "Playstation TIM2 Images");
     setExtensions("tm2");
+    setMatchSignature("TIM2");
 
     setGames("Playstation 2 (PS2)",
         "Playstation Portable (PSP)",
@@ -43,6 +43,7 @@ public class Viewer_WAV_RIFF extends ViewerPlugin {
   public Viewer_WAV_RIFF() {
     super("WAV_RIFF", "Wave Audio");
     setExtensions("wav");
+    setMatchSignature("RIFF");
     setStandardFileFormat(true);
   }
 
@@ -75,6 +75,7 @@ public class Viewer_WAV_RIFF_MSADPCM extends ViewerPlugin {
   public Viewer_WAV_RIFF_MSADPCM() {
     super("WAV_RIFF_MSADPCM", "MSADPCM Wave Audio");
     setExtensions("wav");
+    setMatchSignature("RIFF");
     setEnabled(false); // DISABLED - doesn't work!!!
   }
 
@@ -45,6 +45,7 @@ public class Viewer_WBMP extends ViewerPlugin {
   public Viewer_WBMP() {
     super("WBMP", "Wireless Bitmap (WBMP) Image");
     setExtensions("wbmp");
+    setMatchNeedsExtension();
     setStandardFileFormat(true);
   }
 
@@ -35,8 +35,10 @@ public class ScriptGlobals {
 
   /** The resources **/
   static Resource[] resources;
-  /** The properties, each with a key (name) and value **/
-  static Hashtable<String, Object> variables;
+  /** The variables, each with a key (name). These are kept when the values are cleared, as the compiled ScriptNodes refer to them **/
+  static Hashtable<String, ScriptVariable> variables = new Hashtable<String, ScriptVariable>();
+  /** The number of files, as a MexCom3 variable **/
+  static ScriptVariable logEntries = getVariableSlot("logEntries");
   /** The number of files in <i>resources</i> **/
   static int filenum;
   /** An array of files opened for read access **/
@@ -59,7 +61,7 @@ public class ScriptGlobals {
   public static void addResource(Resource resource) {
     resources[filenum] = resource;
     filenum++;
-    set("logEntries", new Long(filenum)); // MexCom3 Parameter
+    logEntries.setLong(filenum); // MexCom3 Parameter
   }
 
   /**
@@ -79,7 +81,7 @@ public class ScriptGlobals {
     }
 
     resources = new Resource[Archive.getMaxFiles()];
-    variables = new Hashtable<String, Object>();
+    clearValues();
     filenum = 0;
     fm = new FileManipulator[1];
     file = null;
@@ -88,6 +90,19 @@ public class ScriptGlobals {
     exporter = Exporter_Default.getInstance();
   }
 
+  /**
+  **********************************************************************************************
+  Removes the values of all the variables. The variables themselves are kept, so that compiled
+  scripts can be run again.
+  **********************************************************************************************
+  **/
+  static void clearValues() {
+    Enumeration<ScriptVariable> slots = variables.elements();
+    while (slots.hasMoreElements()) {
+      slots.nextElement().clear();
+    }
+  }
+
   /**
   **********************************************************************************************
   Closes the open file pointers
@@ -123,7 +138,11 @@ public class ScriptGlobals {
         return new Long(-1);
       }
     }
-    return variables.get(key);
+    ScriptVariable slot = variables.get(key);
+    if (slot == null) {
+      return null;
+    }
+    return slot.get();
   }
 
   /**
@@ -174,25 +193,11 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static long getLong(String key) {
-    try {
-      //return ((Long)variables.get(key)).longValue();
-      Object object = variables.get(key);
-      if (object instanceof Long) {
-        return ((Long) object).longValue();
-      }
-      else if (object instanceof String) {
-        return Long.parseLong((String) object);
-      }
-      else if (object instanceof Integer) {
-        return ((Integer) object).intValue();
-      }
-      else {
-        return -1;
-      }
-    }
-    catch (Throwable t) {
+    ScriptVariable slot = variables.get(key);
+    if (slot == null) {
       return -1;
     }
+    return slot.getLong();
   }
 
   /**
@@ -213,12 +218,28 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static String getString(String key) {
-    try {
-      return (String) variables.get(key);
+    ScriptVariable slot = variables.get(key);
+    if (slot == null) {
+      return null;
     }
-    catch (Throwable t) {
-      return "";
+    return slot.getString();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the variable with the name <i>key</i>, creating it if it doesn't exist yet. Used when
+  compiling a script, so the name only needs to be looked up once.
+  @param key the variable name
+  @return the variable
+  **********************************************************************************************
+  **/
+  public static ScriptVariable getVariableSlot(String key) {
+    ScriptVariable slot = variables.get(key);
+    if (slot == null) {
+      slot = new ScriptVariable(key);
+      variables.put(key, slot);
     }
+    return slot;
   }
 
   /**
@@ -291,11 +312,13 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static void printVariableList() {
-    Enumeration<String> keys = variables.keys();
+    Enumeration<ScriptVariable> slots = variables.elements();
     System.out.println("== VARIABLE LIST DUMP ==");
-    while (keys.hasMoreElements()) {
-      Object element = keys.nextElement();
-      System.out.println(element + ":\t" + variables.get(element));
+    while (slots.hasMoreElements()) {
+      ScriptVariable slot = slots.nextElement();
+      if (slot.isSet()) {
+        System.out.println(slot);
+      }
     }
     System.out.println("== END ==");
   }
@@ -320,7 +343,7 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static void set(String key, long value) {
-    set(key, new Long(value));
+    getVariableSlot(key).setLong(value);
   }
 
   /**
@@ -331,7 +354,7 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static void set(String key, Object value) {
-    variables.put(key, value);
+    getVariableSlot(key).set(value);
   }
 
   /**
@@ -373,7 +396,7 @@ public class ScriptGlobals {
   **********************************************************************************************
   **/
   public static void setLong(String key, long value) {
-    set(key, new Long(value));
+    getVariableSlot(key).setLong(value);
   }
 
   /**
@@ -21,7 +21,8 @@ import org.watto.io.FileManipulator;
 /**
  **********************************************************************************************
  * Class for parsing MexCom3 scripts (MultiEX Commander *.BMS scripts), converting them into a
- * ScriptNode tree for handling by GameExtractor
+ * ScriptNode tree for handling by GameExtractor. The tree is compiled once it's built, so each
+ * command refers to its ScriptVariables directly (see ScriptNode.compile())
  **********************************************************************************************
  **/
 public class ScriptManager_MexCom3 extends ScriptManager {
@@ -249,6 +250,9 @@ public class ScriptManager_MexCom3 extends ScriptManager {
       ScriptNode tree = new ScriptNode();
       buildCommandBranch(tree);
 
+      // resolve the variables and parameters once, rather than every time a command is run
+      tree.compile();
+
       //tree.printTree();
 
       fm.close();
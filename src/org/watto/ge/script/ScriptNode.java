@@ -28,6 +28,10 @@ set up the functions of a particular ScriptNode correctly, you can also introduc
 that repeat over the children multiple times, and you can easily set up a singleton object for
 sharing information between each node in the tree.
 <br><br>
+Before the tree is run, compile() is called on the first ScriptNode, which lets each ScriptNode
+resolve its variable names to ScriptVariables, and decode its parameters, so that this work
+doesn't need to be repeated every time the ScriptNode is run.
+<br><br>
 The ScriptNode has an XMLNode as its superclass, so it contains all the same processing and
 functionality as a regular XMLNode, such as attributes. You can also quickly and easily
 adjust the XMLReader and XMLWriter classes to construct a ScriptNode tree from an XML file.
@@ -98,6 +102,97 @@ public class ScriptNode extends XMLNode {
     super(tag);
   }
 
+  /**
+   **********************************************************************************************
+   * Prepares this ScriptNode and all its children to be run, by resolving their variables and
+   * parameters. ScriptNodes that use variables should override compileNode().
+   **********************************************************************************************
+   **/
+  public void compile() {
+    try {
+      compileNode();
+    }
+    catch (Throwable t) {
+      // the error is reported again when the command is run
+      ErrorLogger.log("SCRIPT", t);
+    }
+
+    int numChildren = getChildCount();
+    for (int i = 0; i < numChildren; i++) {
+      ((ScriptNode) getChild(i)).compile();
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Prepares this ScriptNode to be run, by resolving its variables and parameters. Doesn't
+   * compile the children.
+   **********************************************************************************************
+   **/
+  public void compileNode() {
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the variable with the name <i>variable</i>, for use when compiling
+   * @param variable the name of the variable
+   * @return the variable
+   **********************************************************************************************
+   **/
+  public ScriptVariable getVariable(String variable) {
+    return ScriptGlobals.getVariableSlot(variable);
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets a <i>long</i> value from a compiled <i>variable</i>. If the variable isn't a number,
+   * the name of the variable is used as the number instead.
+   * @param variable the variable to retrieve
+   * @return the long
+   **********************************************************************************************
+   **/
+  public long getLong(ScriptVariable variable) {
+    long value = variable.getLong();
+    if (value == -1) {
+      if (variable.isNumber()) {
+        return variable.getNumberValue();
+      }
+      ErrorLogger.log("SCRIPT", new NumberFormatException("For input string: \"" + variable.getName() + "\""));
+      errorCount++;
+    }
+    return value;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets an <i>Object</i> value from a compiled <i>variable</i>
+   * @param variable the variable to retrieve
+   * @return the Object, or the name of the variable if it hasn't been set
+   **********************************************************************************************
+   **/
+  public Object getObject(ScriptVariable variable) {
+    Object value = variable.get();
+    if (value == null) {
+      return variable.getName();
+    }
+    return value;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets a <i>String</i> value from a compiled <i>variable</i>
+   * @param variable the variable to retrieve
+   * @return the String, or the name of the variable if it isn't a String
+   **********************************************************************************************
+   **/
+  public String getString(ScriptVariable variable) {
+    String value = variable.getString();
+    if (value == null || value.equals("")) {
+      return variable.getName();
+    }
+    return value;
+  }
+
   /**
    **********************************************************************************************
    * Gets a <i>long</i> value from the singleton <i>var</i>
@@ -45,6 +45,28 @@ public class ScriptNode_MexCom3_CLog extends ScriptNode {
 
   String v_name = "";
 
+  /** the variables, resolved when compiling **/
+  ScriptVariable nameSlot;
+
+  ScriptVariable offsetSlot;
+
+  ScriptVariable lengthSlot;
+
+  ScriptVariable decompLengthSlot;
+
+  ScriptVariable offsetOffsetSlot;
+
+  ScriptVariable lengthOffsetSlot;
+
+  ScriptVariable decompLengthOffsetSlot;
+
+  /** whether the offset and lengths have been reversed (by ReverseLong), resolved when compiling **/
+  ScriptVariable offsetReversed;
+
+  ScriptVariable lengthReversed;
+
+  ScriptVariable decompLengthReversed;
+
   /**
    **********************************************************************************************
    Checks the syntax of this command for any errors.
@@ -71,6 +93,25 @@ public class ScriptNode_MexCom3_CLog extends ScriptNode {
     this.v_decompLengthOffset = decompLengthOffset;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    nameSlot = getVariable(v_name);
+    offsetSlot = getVariable(v_offset);
+    lengthSlot = getVariable(v_length);
+    decompLengthSlot = getVariable(v_decompLength);
+    offsetOffsetSlot = getVariable(v_offsetOffset);
+    lengthOffsetSlot = getVariable(v_lengthOffset);
+    decompLengthOffsetSlot = getVariable(v_decompLengthOffset);
+    offsetReversed = getVariable("REVERSE_" + v_offset);
+    lengthReversed = getVariable("REVERSE_" + v_length);
+    decompLengthReversed = getVariable("REVERSE_" + v_decompLength);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -87,34 +128,34 @@ public class ScriptNode_MexCom3_CLog extends ScriptNode {
       File file = var.getFile();
       ExporterPlugin exporter = var.getExporter();
 
-      String name = getString(v_name);
+      String name = getString(nameSlot);
       if (name.equals("0") || name.equals("\"\"") || name.equals(v_name)) {
         name = Resource.generateFilename(var.getFileNum());
       }
 
-      long offset = getLong(v_offset);
-      long length = getLong(v_length);
-      long offsetOffset = getLong(v_offsetOffset);
-      long lengthOffset = getLong(v_lengthOffset);
-      long decompLength = getLong(v_decompLength);
-      long decompLengthOffset = getLong(v_decompLengthOffset);
+      long offset = getLong(offsetSlot);
+      long length = getLong(lengthSlot);
+      long offsetOffset = getLong(offsetOffsetSlot);
+      long lengthOffset = getLong(lengthOffsetSlot);
+      long decompLength = getLong(decompLengthSlot);
+      long decompLengthOffset = getLong(decompLengthOffsetSlot);
 
       // getting the endian order for this field value
-      Object offsetEndianObject = ScriptGlobals.getVariable("REVERSE_" + v_offset);
+      Object offsetEndianObject = offsetReversed.get();
       boolean offsetEndian = true;
       if (offsetEndianObject != null && ((Boolean) offsetEndianObject).booleanValue()) {
         offsetEndian = false; // has been reversed, therefore is BigEndian, and needs to be set to false
       }
 
       // getting the endian order for this field value
-      Object lengthEndianObject = ScriptGlobals.getVariable("REVERSE_" + v_length);
+      Object lengthEndianObject = lengthReversed.get();
       boolean lengthEndian = true;
       if (lengthEndianObject != null && ((Boolean) lengthEndianObject).booleanValue()) {
         lengthEndian = false; // has been reversed, therefore is BigEndian, and needs to be set to false
       }
 
       // getting the endian order for this field value
-      Object decompEndianObject = ScriptGlobals.getVariable("REVERSE_" + v_decompLength);
+      Object decompEndianObject = decompLengthReversed.get();
       boolean decompEndian = true;
       if (decompEndianObject != null && ((Boolean) decompEndianObject).booleanValue()) {
         decompEndian = false; // has been reversed, therefore is BigEndian, and needs to be set to false
@@ -172,13 +213,13 @@ public class ScriptNode_MexCom3_CLog extends ScriptNode {
         int lengthLength = 4;
         int decompLengthLength = 4;
 
-        if (getObject(v_offset) instanceof Integer) {
+        if (getObject(offsetSlot) instanceof Integer) {
           offsetLength = 2;
         }
-        if (getObject(v_length) instanceof Integer) {
+        if (getObject(lengthSlot) instanceof Integer) {
           lengthLength = 2;
         }
-        if (getObject(v_decompLength) instanceof Integer) {
+        if (getObject(decompLengthSlot) instanceof Integer) {
           decompLengthLength = 2;
         }
 
@@ -30,6 +30,14 @@ public class ScriptNode_MexCom3_Do extends ScriptNode {
 
   String check;
 
+  /** the function, resolved when compiling **/
+  int functionCode = -1;
+
+  /** the variables, resolved when compiling **/
+  ScriptVariable variableSlot;
+
+  ScriptVariable checkSlot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -39,6 +47,19 @@ public class ScriptNode_MexCom3_Do extends ScriptNode {
     super("Do");
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables and function of this command. The Do command is compiled after the
+   * While command has been read, so the parameters are known by now.
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    variableSlot = getVariable(variable);
+    checkSlot = getVariable(check);
+    functionCode = ScriptNode_MexCom3_If.getFunctionCode(function);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -61,46 +82,49 @@ public class ScriptNode_MexCom3_Do extends ScriptNode {
 
         success = false;
 
-        Object checkVal = var.get(check);
-        if (checkVal == null) {
-          try {
-            checkVal = new Long((String) checkVal);
-          }
-          catch (Throwable t) {
+        boolean isLong = checkSlot.isLong();
+        long checkLong = 0;
+        Object checkVal = null;
+        if (isLong) {
+          checkLong = checkSlot.getLongValue();
+        }
+        else {
+          checkVal = checkSlot.get();
+          if (checkVal == null) {
             checkVal = check;
           }
-        }
 
-        if (checkVal instanceof String) {
-          // maybe it is actually a hardcoded number
-          try {
-            checkVal = new Long(Long.parseLong(check));
-          }
-          catch (Throwable t) {
-            checkVal = check;
+          if (checkVal instanceof String) {
+            // maybe it is actually a hardcoded number
+            if (checkSlot.isNumber()) {
+              isLong = true;
+              checkLong = checkSlot.getNumberValue();
+            }
+            else {
+              checkVal = check;
+            }
           }
         }
 
-        if (checkVal instanceof Long) {
-          long checkLong = ((Long) checkVal).longValue();
-          long varLong = var.getLong(variable);
+        if (isLong) {
+          long varLong = variableSlot.getLong();
 
-          if (function.equals("=")) {
+          if (functionCode == ScriptNode_MexCom3_If.FUNCTION_EQUAL) {
             success = (varLong == checkLong);
           }
-          else if (function.equals("<")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_LESS) {
             success = (varLong < checkLong);
           }
-          else if (function.equals(">")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_GREATER) {
             success = (varLong > checkLong);
           }
-          else if (function.equals("<=")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_LESS_EQUAL) {
             success = (varLong <= checkLong);
           }
-          else if (function.equals(">=")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_GREATER_EQUAL) {
             success = (varLong >= checkLong);
           }
-          else if (function.equals("<>")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_NOT_EQUAL) {
             success = (varLong != checkLong);
           }
           else {
@@ -110,12 +134,12 @@ public class ScriptNode_MexCom3_Do extends ScriptNode {
         }
         else if (checkVal instanceof String) {
           String checkString = (String) checkVal;
-          String varString = var.getString(variable);
+          String varString = variableSlot.getString();
 
-          if (function.equals("=")) {
+          if (functionCode == ScriptNode_MexCom3_If.FUNCTION_EQUAL) {
             success = (varString.equals(checkString));
           }
-          else if (function.equals("<>")) {
+          else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_NOT_EQUAL) {
             success = !(varString.equals(checkString));
           }
           else {
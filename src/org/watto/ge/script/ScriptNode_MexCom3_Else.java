@@ -30,6 +30,14 @@ public class ScriptNode_MexCom3_Else extends ScriptNode {
 
   String check;
 
+  /** the function, resolved when compiling **/
+  int functionCode = -1;
+
+  /** the variables, resolved when compiling **/
+  ScriptVariable variableSlot;
+
+  ScriptVariable checkSlot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -42,6 +50,18 @@ public class ScriptNode_MexCom3_Else extends ScriptNode {
     this.check = check;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables and function of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    variableSlot = getVariable(variable);
+    checkSlot = getVariable(check);
+    functionCode = ScriptNode_MexCom3_If.getFunctionCode(function);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command. Same as IF command but the success=XXX lines have opposite conditions.
@@ -57,36 +77,35 @@ public class ScriptNode_MexCom3_Else extends ScriptNode {
 
       boolean success = false;
 
-      Object checkVal = var.get(check);
-      if (checkVal == null) {
-        try {
-          checkVal = new Long((String) checkVal);
-        }
-        catch (Throwable t) {
+      boolean isLong = checkSlot.isLong();
+      Object checkVal = null;
+      if (!isLong) {
+        checkVal = checkSlot.get();
+        if (checkVal == null) {
           checkVal = check;
         }
       }
 
-      if (checkVal instanceof Long) {
-        long checkLong = ((Long) checkVal).longValue();
-        long varLong = var.getLong(variable);
+      if (isLong) {
+        long checkLong = checkSlot.getLongValue();
+        long varLong = variableSlot.getLong();
 
-        if (function.equals("=")) {
+        if (functionCode == ScriptNode_MexCom3_If.FUNCTION_EQUAL) {
           success = (varLong != checkLong);
         }
-        else if (function.equals("<")) {
+        else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_LESS) {
           success = (varLong >= checkLong);
         }
-        else if (function.equals(">")) {
+        else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_GREATER) {
           success = (varLong <= checkLong);
         }
-        else if (function.equals("<=")) {
+        else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_LESS_EQUAL) {
           success = (varLong > checkLong);
         }
-        else if (function.equals(">=")) {
+        else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_GREATER_EQUAL) {
           success = (varLong < checkLong);
         }
-        else if (function.equals("<>")) {
+        else if (functionCode == ScriptNode_MexCom3_If.FUNCTION_NOT_EQUAL) {
           success = (varLong == checkLong);
         }
         else {
@@ -98,7 +117,7 @@ public class ScriptNode_MexCom3_Else extends ScriptNode {
         String checkString = (String) checkVal;
         String varString = var.getString(variable);
 
-        if (function.equals("=")) {
+        if (functionCode == ScriptNode_MexCom3_If.FUNCTION_EQUAL) {
           success = (!varString.equals(checkString));
         }
         else {
@@ -33,6 +33,9 @@ public class ScriptNode_MexCom3_FindLoc extends ScriptNode {
 
   int fileNum;
 
+  /** the variable, resolved when compiling **/
+  ScriptVariable slot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -46,6 +49,16 @@ public class ScriptNode_MexCom3_FindLoc extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -68,7 +81,7 @@ public class ScriptNode_MexCom3_FindLoc extends ScriptNode {
         throw new ScriptException("The search type " + type + " is not valid.");
       }
 
-      var.set(variable, new Long(value));
+      slot.setLong(value);
 
     }
     catch (Throwable t) {
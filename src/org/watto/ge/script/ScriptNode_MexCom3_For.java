@@ -30,6 +30,13 @@ public class ScriptNode_MexCom3_For extends ScriptNode {
 
   String endVal;
 
+  /** the variables, resolved when compiling **/
+  ScriptVariable slot;
+
+  ScriptVariable startSlot;
+
+  ScriptVariable endSlot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -42,6 +49,18 @@ public class ScriptNode_MexCom3_For extends ScriptNode {
     this.endVal = endVal;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+    startSlot = getVariable(startVal);
+    endSlot = getVariable(endVal);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -55,8 +74,8 @@ public class ScriptNode_MexCom3_For extends ScriptNode {
         return;
       }
 
-      int start = (int) getLong(startVal);
-      int end = (int) getLong(endVal);
+      int start = (int) getLong(startSlot);
+      int end = (int) getLong(endSlot);
 
       if (start > end) {
         throw new ScriptException("The start value " + start + " is larger than the end value " + end + ".");
@@ -66,7 +85,7 @@ public class ScriptNode_MexCom3_For extends ScriptNode {
         if (!checkErrors()) {
           return;
         }
-        var.set(variable, new Long(i));
+        slot.setLong(i);
         runChildren();
       }
 
@@ -32,6 +32,22 @@ public class ScriptNode_MexCom3_Get extends ScriptNode {
 
   int fileNum;
 
+  static final int TYPE_LONG = 0;
+
+  static final int TYPE_INT = 1;
+
+  static final int TYPE_BYTE = 2;
+
+  static final int TYPE_STRING = 3;
+
+  static final int TYPE_THREEBYTE = 4;
+
+  /** the data type, resolved when compiling **/
+  int typeCode = -1;
+
+  /** the variable, resolved when compiling **/
+  ScriptVariable slot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -44,6 +60,32 @@ public class ScriptNode_MexCom3_Get extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variable and data type of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+
+    if (type.equals("Long")) {
+      typeCode = TYPE_LONG;
+    }
+    else if (type.equals("Int")) {
+      typeCode = TYPE_INT;
+    }
+    else if (type.equals("Byte")) {
+      typeCode = TYPE_BYTE;
+    }
+    else if (type.equals("String")) {
+      typeCode = TYPE_STRING;
+    }
+    else if (type.equals("ThreeByte")) {
+      typeCode = TYPE_THREEBYTE;
+    }
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -57,34 +99,34 @@ public class ScriptNode_MexCom3_Get extends ScriptNode {
         return;
       }
 
-      if (type.equals("Long")) {
+      if (typeCode == TYPE_LONG) {
         long value = var.fm[fileNum].readInt();
         if (value < 0) {
           value = (4294967296L + (int) value);
         }
-        var.set(variable, new Long(value));
+        slot.setLong(value);
 
         //System.out.println("Long: " + variable + " = " + value);
       }
-      else if (type.equals("Int")) {
+      else if (typeCode == TYPE_INT) {
         int value = var.fm[fileNum].readShort();
         if (value < 0) {
           value = (65536 + (short) value);
         }
-        var.set(variable, new Integer(value));
+        slot.setInteger(value);
       }
-      else if (type.equals("Byte")) {
+      else if (typeCode == TYPE_BYTE) {
         int value = ByteConverter.unsign(var.fm[fileNum].readByte());
-        var.set(variable, new Integer(value));
+        slot.setInteger(value);
       }
-      else if (type.equals("String")) {
+      else if (typeCode == TYPE_STRING) {
         String value = var.fm[fileNum].readNullString();
-        var.set(variable, value);
+        slot.set(value);
       }
-      else if (type.equals("ThreeByte")) {
+      else if (typeCode == TYPE_THREEBYTE) {
         byte[] bytes = new byte[] { var.fm[fileNum].readByte(), var.fm[fileNum].readByte(), var.fm[fileNum].readByte(), 0 };
         int value = IntConverter.convertLittle(bytes);
-        var.set(variable, new Integer(value));
+        slot.setInteger(value);
       }
       else if (type.equals("ASize")) {
         //value = new Integer(var.fm[fileNum].readByteU());
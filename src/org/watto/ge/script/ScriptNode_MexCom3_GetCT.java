@@ -33,6 +33,9 @@ public class ScriptNode_MexCom3_GetCT extends ScriptNode {
 
   int fileNum;
 
+  /** the variable, resolved when compiling **/
+  ScriptVariable slot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -46,6 +49,16 @@ public class ScriptNode_MexCom3_GetCT extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -73,7 +86,7 @@ public class ScriptNode_MexCom3_GetCT extends ScriptNode {
         throw new ScriptException("The data type " + type + " is not valid.");
       }
 
-      var.set(variable, value);
+      slot.set(value);
     }
     catch (Throwable t) {
       ErrorLogger.log("SCRIPT", t);
@@ -29,6 +29,11 @@ public class ScriptNode_MexCom3_GetDString extends ScriptNode {
 
   int fileNum;
 
+  /** the variables, resolved when compiling **/
+  ScriptVariable slot;
+
+  ScriptVariable lengthSlot;
+
   /**
   **********************************************************************************************
   Constructor
@@ -41,6 +46,17 @@ public class ScriptNode_MexCom3_GetDString extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+  **********************************************************************************************
+  Resolves the variables of this command
+  **********************************************************************************************
+  **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+    lengthSlot = getVariable(length);
+  }
+
   /**
   **********************************************************************************************
   Runs the command
@@ -54,9 +70,9 @@ public class ScriptNode_MexCom3_GetDString extends ScriptNode {
         return;
       }
 
-      int stringLength = (int) getLong(length);
+      int stringLength = (int) getLong(lengthSlot);
       String value = var.fm[fileNum].readNullString(stringLength);
-      var.set(variable, value);
+      slot.set(value);
 
     }
     catch (Throwable t) {
@@ -28,6 +28,9 @@ public class ScriptNode_MexCom3_GoTo extends ScriptNode {
 
   int fileNum;
 
+  /** the variable, resolved when compiling **/
+  ScriptVariable slot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -39,6 +42,16 @@ public class ScriptNode_MexCom3_GoTo extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -57,7 +70,7 @@ public class ScriptNode_MexCom3_GoTo extends ScriptNode {
         value = var.fm[fileNum].getLength();
       }
       else {
-        value = getLong(variable);
+        value = getLong(slot);
       }
 
       var.fm[fileNum].seek(value);
@@ -24,12 +24,64 @@ import org.watto.ErrorLogger;
  **/
 public class ScriptNode_MexCom3_If extends ScriptNode {
 
+  static final int FUNCTION_EQUAL = 0;
+
+  static final int FUNCTION_LESS = 1;
+
+  static final int FUNCTION_GREATER = 2;
+
+  static final int FUNCTION_LESS_EQUAL = 3;
+
+  static final int FUNCTION_GREATER_EQUAL = 4;
+
+  static final int FUNCTION_NOT_EQUAL = 5;
+
+  /**
+   **********************************************************************************************
+   * Gets the code for a comparison <i>function</i>, so the function doesn't need to be compared
+   * as a String every time the command is run. Also used by the Else and Do commands.
+   * @return the function code, or -1 if the function isn't valid
+   **********************************************************************************************
+   **/
+  static int getFunctionCode(String function) {
+    if (function == null) {
+      return -1;
+    }
+    else if (function.equals("=")) {
+      return FUNCTION_EQUAL;
+    }
+    else if (function.equals("<")) {
+      return FUNCTION_LESS;
+    }
+    else if (function.equals(">")) {
+      return FUNCTION_GREATER;
+    }
+    else if (function.equals("<=")) {
+      return FUNCTION_LESS_EQUAL;
+    }
+    else if (function.equals(">=")) {
+      return FUNCTION_GREATER_EQUAL;
+    }
+    else if (function.equals("<>")) {
+      return FUNCTION_NOT_EQUAL;
+    }
+    return -1;
+  }
+
   String variable;
 
   String function;
 
   String check;
 
+  /** the function, resolved when compiling **/
+  int functionCode = -1;
+
+  /** the variables, resolved when compiling **/
+  ScriptVariable variableSlot;
+
+  ScriptVariable checkSlot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -53,6 +105,18 @@ public class ScriptNode_MexCom3_If extends ScriptNode {
     return new String[] { variable, function, check };
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables and function of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    variableSlot = getVariable(variable);
+    checkSlot = getVariable(check);
+    functionCode = getFunctionCode(function);
+  }
+
   /**
    **********************************************************************************************
    * Runs the commandd
@@ -68,36 +132,35 @@ public class ScriptNode_MexCom3_If extends ScriptNode {
 
       boolean success = false;
 
-      Object checkVal = var.get(check);
-      if (checkVal == null) {
-        try {
-          checkVal = new Long((String) checkVal);
-        }
-        catch (Throwable t) {
+      boolean isLong = checkSlot.isLong();
+      Object checkVal = null;
+      if (!isLong) {
+        checkVal = checkSlot.get();
+        if (checkVal == null) {
           checkVal = check;
         }
       }
 
-      if (checkVal instanceof Long) {
-        long checkLong = ((Long) checkVal).longValue();
-        long varLong = var.getLong(variable);
+      if (isLong) {
+        long checkLong = checkSlot.getLongValue();
+        long varLong = variableSlot.getLong();
 
-        if (function.equals("=")) {
+        if (functionCode == FUNCTION_EQUAL) {
           success = (varLong == checkLong);
         }
-        else if (function.equals("<")) {
+        else if (functionCode == FUNCTION_LESS) {
           success = (varLong < checkLong);
         }
-        else if (function.equals(">")) {
+        else if (functionCode == FUNCTION_GREATER) {
           success = (varLong > checkLong);
         }
-        else if (function.equals("<=")) {
+        else if (functionCode == FUNCTION_LESS_EQUAL) {
           success = (varLong <= checkLong);
         }
-        else if (function.equals(">=")) {
+        else if (functionCode == FUNCTION_GREATER_EQUAL) {
           success = (varLong >= checkLong);
         }
-        else if (function.equals("<>")) {
+        else if (functionCode == FUNCTION_NOT_EQUAL) {
           success = (varLong != checkLong);
         }
         else {
@@ -109,7 +172,7 @@ public class ScriptNode_MexCom3_If extends ScriptNode {
         String checkString = (String) checkVal;
         String varString = var.getString(variable);
 
-        if (function.equals("=")) {
+        if (functionCode == FUNCTION_EQUAL) {
           success = (varString.equals(checkString));
         }
         else {
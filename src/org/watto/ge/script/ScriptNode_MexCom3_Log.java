@@ -40,6 +40,22 @@ public class ScriptNode_MexCom3_Log extends ScriptNode {
 
   String v_name = "";
 
+  /** the variables, resolved when compiling **/
+  ScriptVariable nameSlot;
+
+  ScriptVariable offsetSlot;
+
+  ScriptVariable lengthSlot;
+
+  ScriptVariable offsetOffsetSlot;
+
+  ScriptVariable lengthOffsetSlot;
+
+  /** whether the offset and length have been reversed (by ReverseLong), resolved when compiling **/
+  ScriptVariable offsetReversed;
+
+  ScriptVariable lengthReversed;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -54,6 +70,22 @@ public class ScriptNode_MexCom3_Log extends ScriptNode {
     this.v_lengthOffset = lengthOffset;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    nameSlot = getVariable(v_name);
+    offsetSlot = getVariable(v_offset);
+    lengthSlot = getVariable(v_length);
+    offsetOffsetSlot = getVariable(v_offsetOffset);
+    lengthOffsetSlot = getVariable(v_lengthOffset);
+    offsetReversed = getVariable("REVERSE_" + v_offset);
+    lengthReversed = getVariable("REVERSE_" + v_length);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -69,25 +101,25 @@ public class ScriptNode_MexCom3_Log extends ScriptNode {
 
       File file = var.getFile();
 
-      String name = getString(v_name);
+      String name = getString(nameSlot);
       if (name.equals("0") || name.equals("\"\"") || name.equals(v_name)) {
         name = Resource.generateFilename(var.getFileNum());
       }
 
-      long offset = getLong(v_offset);
-      long length = getLong(v_length);
-      long offsetOffset = getLong(v_offsetOffset);
-      long lengthOffset = getLong(v_lengthOffset);
+      long offset = getLong(offsetSlot);
+      long length = getLong(lengthSlot);
+      long offsetOffset = getLong(offsetOffsetSlot);
+      long lengthOffset = getLong(lengthOffsetSlot);
 
       // getting the endian order for this field value
-      Object offsetEndianObject = ScriptGlobals.getVariable("REVERSE_" + v_offset);
+      Object offsetEndianObject = offsetReversed.get();
       boolean offsetEndian = true;
       if (offsetEndianObject != null && ((Boolean) offsetEndianObject).booleanValue()) {
         offsetEndian = false; // has been reversed, therefore is BigEndian, and needs to be set to false
       }
 
       // getting the endian order for this field value
-      Object lengthEndianObject = ScriptGlobals.getVariable("REVERSE_" + v_length);
+      Object lengthEndianObject = lengthReversed.get();
       boolean lengthEndian = true;
       if (lengthEndianObject != null && ((Boolean) lengthEndianObject).booleanValue()) {
         lengthEndian = false; // has been reversed, therefore is BigEndian, and needs to be set to false
@@ -130,10 +162,10 @@ public class ScriptNode_MexCom3_Log extends ScriptNode {
         int offsetLength = 4;
         int lengthLength = 4;
 
-        if (getObject(v_offset) instanceof Integer) {
+        if (getObject(offsetSlot) instanceof Integer) {
           offsetLength = 2;
         }
-        if (getObject(v_length) instanceof Integer) {
+        if (getObject(lengthSlot) instanceof Integer) {
           lengthLength = 2;
         }
 
@@ -31,6 +31,24 @@ public class ScriptNode_MexCom3_Math extends ScriptNode {
 
   boolean isVariable = false;
 
+  static final int FUNCTION_SET = 0;
+
+  static final int FUNCTION_ADD = 1;
+
+  static final int FUNCTION_SUBTRACT = 2;
+
+  static final int FUNCTION_MULTIPLY = 3;
+
+  static final int FUNCTION_DIVIDE = 4;
+
+  /** the function, resolved when compiling **/
+  int functionCode = -1;
+
+  /** the variables, resolved when compiling **/
+  ScriptVariable first;
+
+  ScriptVariable second;
+
   /**
   **********************************************************************************************
   Constructor
@@ -43,6 +61,33 @@ public class ScriptNode_MexCom3_Math extends ScriptNode {
     this.secondVariable = secondVariable;
   }
 
+  /**
+  **********************************************************************************************
+  Resolves the variables and function of this command
+  **********************************************************************************************
+  **/
+  @Override
+  public void compileNode() {
+    first = getVariable(firstVariable);
+    second = getVariable(secondVariable);
+
+    if (function.equals("=")) {
+      functionCode = FUNCTION_SET;
+    }
+    else if (function.equals("+=")) {
+      functionCode = FUNCTION_ADD;
+    }
+    else if (function.equals("-=")) {
+      functionCode = FUNCTION_SUBTRACT;
+    }
+    else if (function.equals("*=")) {
+      functionCode = FUNCTION_MULTIPLY;
+    }
+    else if (function.equals("/=")) {
+      functionCode = FUNCTION_DIVIDE;
+    }
+  }
+
   /**
   **********************************************************************************************
   Runs the command
@@ -58,23 +103,23 @@ public class ScriptNode_MexCom3_Math extends ScriptNode {
 
       long value = 0;
 
-      if (function.equals("=")) {
-        value = getLong(secondVariable);
+      if (functionCode == FUNCTION_SET) {
+        value = getLong(second);
       }
-      else if (function.equals("+=")) {
-        value = getLong(firstVariable) + getLong(secondVariable);
+      else if (functionCode == FUNCTION_ADD) {
+        value = getLong(first) + getLong(second);
       }
-      else if (function.equals("-=")) {
-        value = getLong(firstVariable) - getLong(secondVariable);
+      else if (functionCode == FUNCTION_SUBTRACT) {
+        value = getLong(first) - getLong(second);
       }
-      else if (function.equals("*=")) {
-        value = getLong(firstVariable) * getLong(secondVariable);
+      else if (functionCode == FUNCTION_MULTIPLY) {
+        value = getLong(first) * getLong(second);
       }
-      else if (function.equals("/=")) {
-        value = getLong(firstVariable) / getLong(secondVariable);
+      else if (functionCode == FUNCTION_DIVIDE) {
+        value = getLong(first) / getLong(second);
       }
 
-      var.set(firstVariable, value);
+      first.setLong(value);
 
     }
     catch (Throwable t) {
@@ -26,6 +26,11 @@ public class ScriptNode_MexCom3_ReverseLong extends ScriptNode {
 
   String variable;
 
+  /** the variable, and whether it has been reversed, resolved when compiling **/
+  ScriptVariable slot;
+
+  ScriptVariable reversed;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -36,6 +41,17 @@ public class ScriptNode_MexCom3_ReverseLong extends ScriptNode {
     this.variable = variable;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+    reversed = getVariable("REVERSE_" + variable);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -49,13 +65,13 @@ public class ScriptNode_MexCom3_ReverseLong extends ScriptNode {
         return;
       }
 
-      int oldValue = (int) getLong(variable);
+      int oldValue = (int) getLong(slot);
       long value = LongConverter.changeFormat(oldValue);
       if (value < 0) {
         value = (4294967296L + (int) value);
       }
-      var.set(variable, new Long(value));
-      var.set("REVERSE_" + variable, new Boolean(true));
+      slot.setLong(value);
+      reversed.set(new Boolean(true));
 
     }
     catch (Throwable t) {
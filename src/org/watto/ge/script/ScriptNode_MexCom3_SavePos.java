@@ -27,6 +27,9 @@ public class ScriptNode_MexCom3_SavePos extends ScriptNode {
 
   int fileNum;
 
+  /** the variable, resolved when compiling **/
+  ScriptVariable slot;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -38,6 +41,16 @@ public class ScriptNode_MexCom3_SavePos extends ScriptNode {
     this.fileNum = Integer.parseInt(fileNum);
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -51,7 +64,7 @@ public class ScriptNode_MexCom3_SavePos extends ScriptNode {
         return;
       }
 
-      var.set(variable, new Long(var.fm[fileNum].getOffset()));
+      slot.setLong(var.fm[fileNum].getOffset());
 
     }
     catch (Throwable t) {
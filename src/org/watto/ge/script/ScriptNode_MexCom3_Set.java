@@ -29,6 +29,14 @@ public class ScriptNode_MexCom3_Set extends ScriptNode {
 
   String value;
 
+  /** the variables, resolved when compiling **/
+  ScriptVariable slot;
+
+  ScriptVariable valueSlot;
+
+  /** the value to use if it isn't a variable - for Strings, this is the value without quotes **/
+  Object literal;
+
   /**
   **********************************************************************************************
   Constructor
@@ -41,6 +49,28 @@ public class ScriptNode_MexCom3_Set extends ScriptNode {
     this.value = value;
   }
 
+  /**
+  **********************************************************************************************
+  Resolves the variables of this command, and removes the quotes from a String value
+  **********************************************************************************************
+  **/
+  @Override
+  public void compileNode() {
+    slot = getVariable(variable);
+    valueSlot = getVariable(value);
+
+    String literalString = value;
+    if (type.equals("String") && literalString.length() > 0) {
+      if (literalString.charAt(0) == '\"') {
+        literalString = literalString.substring(1);
+      }
+      if (literalString.length() > 0 && literalString.charAt(literalString.length() - 1) == '\"') {
+        literalString = literalString.substring(0, literalString.length() - 1);
+      }
+    }
+    literal = literalString;
+  }
+
   /**
   **********************************************************************************************
   Runs the command
@@ -54,20 +84,12 @@ public class ScriptNode_MexCom3_Set extends ScriptNode {
         return;
       }
 
-      Object object = getObject(value);
-      if (object == value && type.equals("String")) {
-        if (value.length() > 0) {
-          if (value.charAt(0) == '\"') {
-            value = value.substring(1);
-          }
-          if (value.charAt(value.length() - 1) == '\"') {
-            value = value.substring(0, value.length() - 1);
-          }
-          object = value;
-        }
+      Object object = valueSlot.get();
+      if (object == null) {
+        object = literal;
       }
 
-      var.set(variable, object);
+      slot.set(object);
 
     }
     catch (Throwable t) {
@@ -32,6 +32,18 @@ public class ScriptNode_MexCom3_String extends ScriptNode {
 
   boolean isVariable = false;
 
+  static final int FUNCTION_APPEND = 0;
+
+  static final int FUNCTION_REMOVE = 1;
+
+  /** the function, resolved when compiling **/
+  int functionCode = -1;
+
+  /** the variables, resolved when compiling **/
+  ScriptVariable first;
+
+  ScriptVariable second;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -44,6 +56,24 @@ public class ScriptNode_MexCom3_String extends ScriptNode {
     this.secondVariable = secondVariable;
   }
 
+  /**
+   **********************************************************************************************
+   * Resolves the variables and function of this command
+   **********************************************************************************************
+   **/
+  @Override
+  public void compileNode() {
+    first = getVariable(firstVariable);
+    second = getVariable(secondVariable);
+
+    if (function.equals("+=")) {
+      functionCode = FUNCTION_APPEND;
+    }
+    else if (function.equals("-=")) {
+      functionCode = FUNCTION_REMOVE;
+    }
+  }
+
   /**
    **********************************************************************************************
    * Runs the command
@@ -57,12 +87,12 @@ public class ScriptNode_MexCom3_String extends ScriptNode {
         return;
       }
 
-      String firstString = var.getString(firstVariable);
-      String secondString = var.getString(secondVariable);
+      String firstString = first.getString();
+      String secondString = second.getString();
 
       if (secondString.equals("")) {
         // maybe we're trying to add a number to the string, so check for this
-        long secondLong = var.getLong(secondVariable);
+        long secondLong = second.getLong();
         if (secondLong != -1) {
           secondString = "" + secondLong;
         }
@@ -70,17 +100,17 @@ public class ScriptNode_MexCom3_String extends ScriptNode {
 
       String value = firstString;
 
-      if (function.equals("+=")) {
+      if (functionCode == FUNCTION_APPEND) {
         value = firstString + secondString;
       }
-      else if (function.equals("-=")) {
+      else if (functionCode == FUNCTION_REMOVE) {
         value = firstString.replaceAll(secondString, "");
       }
       else {
         throw new ScriptException("The function " + function + " is not valid.");
       }
 
-      var.set(firstVariable, value);
+      first.set(value);
 
     }
     catch (Throwable t) {
@@ -0,0 +1,269 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+
+package org.watto.ge.script;
+
+/**
+**********************************************************************************************
+A variable used by a script. When a script is compiled (see ScriptNode.compile()), each variable
+name is resolved to its ScriptVariable once, so running the script doesn't need to look up the
+name for every command. Numbers are stored as primitives, so they don't need to be converted
+to and from objects.
+<br><br>
+The ScriptVariables are kept in ScriptGlobals, and are reused each time a script is run - only
+their values are cleared.
+**********************************************************************************************
+**/
+public class ScriptVariable {
+
+  /** the variable hasn't been set **/
+  static final int TYPE_UNSET = 0;
+
+  /** the value is a <i>long</i>, stored in <i>longValue</i> **/
+  static final int TYPE_LONG = 1;
+
+  /** the value is an <i>int</i>, stored in <i>longValue</i> **/
+  static final int TYPE_INTEGER = 2;
+
+  /** the value is some other Object, stored in <i>objectValue</i> **/
+  static final int TYPE_OBJECT = 3;
+
+  /** the name of the variable **/
+  String name;
+
+  /** the type of value currently stored **/
+  int type = TYPE_UNSET;
+
+  /** the value, for TYPE_LONG and TYPE_INTEGER **/
+  long longValue = 0;
+
+  /** the value, for TYPE_OBJECT **/
+  Object objectValue = null;
+
+  /** true if the name is a number, so it can be used as a value directly in the script **/
+  boolean isNumber = false;
+
+  /** the value of the name, if <i>isNumber</i> is true **/
+  long numberValue = -1;
+
+  /** true for the BytesRead variable, which is the current offset in the archive rather than a stored value **/
+  boolean isBytesRead = false;
+
+  /**
+  **********************************************************************************************
+  A variable with the <i>name</i>
+  **********************************************************************************************
+  **/
+  public ScriptVariable(String name) {
+    this.name = name;
+
+    try {
+      numberValue = Long.parseLong(name);
+      isNumber = true;
+    }
+    catch (Throwable t) {
+    }
+
+    isBytesRead = name.equals("BytesRead");
+  }
+
+  /**
+  **********************************************************************************************
+  Removes the value of this variable
+  **********************************************************************************************
+  **/
+  public void clear() {
+    type = TYPE_UNSET;
+    longValue = 0;
+    objectValue = null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of this variable as an Object (the same as ScriptGlobals.get())
+  @return the value, or null if it hasn't been set
+  **********************************************************************************************
+  **/
+  public Object get() {
+    if (isBytesRead) {
+      try {
+        return Long.valueOf(ScriptGlobals.fm[0].getOffset());
+      }
+      catch (Throwable t) {
+        return Long.valueOf(-1);
+      }
+    }
+
+    if (type == TYPE_LONG) {
+      return Long.valueOf(longValue);
+    }
+    else if (type == TYPE_INTEGER) {
+      return Integer.valueOf((int) longValue);
+    }
+    else if (type == TYPE_OBJECT) {
+      return objectValue;
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of this variable as a <i>long</i> (the same as ScriptGlobals.getLong())
+  @return the value, or -1 if it isn't a number
+  **********************************************************************************************
+  **/
+  public long getLong() {
+    if (type == TYPE_LONG || type == TYPE_INTEGER) {
+      return longValue;
+    }
+    else if (type == TYPE_OBJECT && objectValue instanceof String) {
+      try {
+        return Long.parseLong((String) objectValue);
+      }
+      catch (Throwable t) {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of this variable, if it's a <i>long</i> (see isLong())
+  **********************************************************************************************
+  **/
+  public long getLongValue() {
+    if (isBytesRead) {
+      try {
+        return ScriptGlobals.fm[0].getOffset();
+      }
+      catch (Throwable t) {
+        return -1;
+      }
+    }
+    return longValue;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of the name of this variable, if it's a number (see isNumber())
+  **********************************************************************************************
+  **/
+  public long getNumberValue() {
+    return numberValue;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of this variable as a <i>String</i> (the same as ScriptGlobals.getString())
+  @return the value, null if it hasn't been set, or an empty String if it isn't a String
+  **********************************************************************************************
+  **/
+  public String getString() {
+    if (type == TYPE_UNSET) {
+      return null;
+    }
+    else if (type == TYPE_OBJECT && objectValue instanceof String) {
+      return (String) objectValue;
+    }
+    return "";
+  }
+
+  /**
+  **********************************************************************************************
+  Is the value of this variable a <i>long</i>? (ie would get() return a Long)
+  **********************************************************************************************
+  **/
+  public boolean isLong() {
+    return isBytesRead || type == TYPE_LONG;
+  }
+
+  /**
+  **********************************************************************************************
+  Is the name of this variable a number?
+  **********************************************************************************************
+  **/
+  public boolean isNumber() {
+    return isNumber;
+  }
+
+  /**
+  **********************************************************************************************
+  Has a value been set for this variable?
+  **********************************************************************************************
+  **/
+  public boolean isSet() {
+    return type != TYPE_UNSET;
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the value of this variable. Long and Integer values are stored as primitives.
+  **********************************************************************************************
+  **/
+  public void set(Object value) {
+    if (value == null) {
+      throw new NullPointerException("The variable " + name + " can't be set to null.");
+    }
+
+    if (value instanceof Long) {
+      setLong(((Long) value).longValue());
+    }
+    else if (value instanceof Integer) {
+      setInteger(((Integer) value).intValue());
+    }
+    else {
+      type = TYPE_OBJECT;
+      objectValue = value;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the value of this variable to an <i>int</i>
+  **********************************************************************************************
+  **/
+  public void setInteger(int value) {
+    type = TYPE_INTEGER;
+    longValue = value;
+    objectValue = null;
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the value of this variable to a <i>long</i>
+  **********************************************************************************************
+  **/
+  public void setLong(long value) {
+    type = TYPE_LONG;
+    longValue = value;
+    objectValue = null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the name and value of this variable, for printing
+  **********************************************************************************************
+  **/
+  @Override
+  public String toString() {
+    return name + ":\t" + get();
+  }
+
+}
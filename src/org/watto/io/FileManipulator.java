@@ -19,8 +19,10 @@
 package org.watto.io;
 
 import java.io.File;
+import org.watto.ErrorLogger;
 import org.watto.io.buffer.FileBuffer;
 import org.watto.io.buffer.ManipulatorBuffer;
+import org.watto.io.buffer.MappedFileBuffer;
 import org.watto.io.converter.BooleanArrayConverter;
 import org.watto.io.converter.ByteArrayConverter;
 import org.watto.io.converter.ByteConverter;
@@ -50,7 +52,12 @@ public class FileManipulator implements Manipulator {
   @param writable whether the file should be writable or not
   ***********************************************************************************************/
   public FileManipulator(File file, boolean writable) {
-    buffer = new FileBuffer(file, writable);
+    if (writable) {
+      buffer = new FileBuffer(file, writable);
+    }
+    else {
+      buffer = openReadBuffer(file);
+    }
   }
 
   /***********************************************************************************************
@@ -171,7 +178,25 @@ public class FileManipulator implements Manipulator {
    * *********************************************************************************************
    */
   public void open(File file) {
-    buffer = new FileBuffer(file, false);
+    buffer = openReadBuffer(file);
+  }
+
+  /***********************************************************************************************
+  Opens a read-only buffer to the <code>file</code>. Large files are mapped in to memory (see
+  <code>MappedFileBuffer</code>), otherwise a normal <code>FileBuffer</code> is used.
+  @param file the file to open
+  @return the buffer
+  ***********************************************************************************************/
+  static ManipulatorBuffer openReadBuffer(File file) {
+    if (MappedFileBuffer.canMap(file)) {
+      try {
+        return new MappedFileBuffer(file);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+    }
+    return new FileBuffer(file, false);
   }
 
   /***********************************************************************************************
@@ -213,6 +238,18 @@ public class FileManipulator implements Manipulator {
     return bytes;
   }
 
+  /***********************************************************************************************
+  Reads <code>length</code> bytes from the data source into the <code>destination</code> array,
+  starting at the <code>offset</code> in the array
+  @param destination the array to read the data in to
+  @param offset the offset in the <code>destination</code> to start writing to
+  @param length the number of bytes to read
+  @return the number of bytes that were read
+  ***********************************************************************************************/
+  public int readBytes(byte[] destination, int offset, int length) {
+    return buffer.read(destination, offset, length);
+  }
+
   /***********************************************************************************************
   Reads a <code>char</code> from the data source
   @return the char
@@ -459,6 +496,17 @@ public class FileManipulator implements Manipulator {
     buffer.write(values);
   }
 
+  /***********************************************************************************************
+  Writes <code>length</code> bytes from the <code>offset</code> in the <code>values</code> array
+  to the data source
+  @param values the bytes to write
+  @param offset the offset in the <code>values</code> to start reading from
+  @param length the number of bytes to write
+  ***********************************************************************************************/
+  public void writeBytes(byte[] values, int offset, int length) {
+    buffer.write(values, offset, length);
+  }
+
   /***********************************************************************************************
   Writes a <code>char</code> to the data source
   @param value the char to write
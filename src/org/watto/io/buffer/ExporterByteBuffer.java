@@ -14,6 +14,7 @@
 
 package org.watto.io.buffer;
 
+import java.util.Arrays;
 import org.watto.ErrorLogger;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
@@ -23,6 +24,11 @@ import org.watto.io.converter.ByteConverter;
 /***********************************************************************************************
 Reading and Buffering data that comes from an <i>ExporterPlugin</i> data source. Used for thumbnail
 previews, among other things.
+
+Seeking forwards reads whole blocks from the exporter rather than 1 byte at a time. The first
+time the buffer seeks backwards past the data it holds, the exporter is re-opened and the data is
+kept in an <i>ExporterDataCache</i> from then on, so later backwards seeks don't need to
+decompress everything again. Buffers that only read forwards never use a cache.
 ***********************************************************************************************/
 public class ExporterByteBuffer implements ManipulatorBuffer {
 
@@ -42,6 +48,15 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   /** The read position in the buffer **/
   int bufferLevel = 0;
 
+  /** The data that has been read from the exporter so far, once the buffer has seeked backwards **/
+  ExporterDataCache cache = null;
+
+  /** The position of the exporter in the data **/
+  long exporterPointer = 0;
+
+  /** Used for reading data from the exporter that is skipped over **/
+  byte[] skipBuffer = null;
+
   /***********************************************************************************************
   Constructor for extended classes
   ***********************************************************************************************/
@@ -55,7 +70,7 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   public ExporterByteBuffer(Resource resource) {
     this.resource = resource;
 
-    this.exporter = resource.getExporter();
+    this.exporter = resource.getExporter().copy(); // a private copy, so other buffers and exports can use the same exporter at the same time
 
     if (exporter instanceof Exporter_Custom_RGSSAD_RGSSAD) {
       if (resource.getExtension().equals("png")) {
@@ -65,6 +80,7 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
     }
 
     exporter.open(resource);
+    exporterPointer = 0;
 
     fill();
 
@@ -87,18 +103,9 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
         System.arraycopy(buffer, bufferLevel, buffer, 0, remainingBufferSize);
 
         //fill the rest of the buffer with fresh data from the file
-        while (remainingBufferSize < bufferSize) {
-          boolean available = exporter.available(); // important - some exporters only load the bytes from the file when calling this (eg ZLib_CompressedSizeOnly)
-          if (!available) { // TODO 3.03 ADDED THIS IF-ELSE BIT - CHECK THUMBNAILS STILL WORK WELL!
-            buffer[remainingBufferSize] = 0; // just nullify the rest of the buffer
-            remainingBufferSize++;
-          }
-          else {
-            buffer[remainingBufferSize] = (byte) exporter.read();
-            remainingBufferSize++;
-          }
-          filePointer++;
-        }
+        int readLength = readData(filePointer, buffer, remainingBufferSize, bufferSize - remainingBufferSize);
+        Arrays.fill(buffer, remainingBufferSize + readLength, bufferSize, (byte) 0); // just nullify the rest of the buffer
+        filePointer += (bufferSize - remainingBufferSize);
 
         // reset the bufferLevel
         bufferLevel = 0;
@@ -124,6 +131,10 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   @Override
   public void close() {
     exporter.close();
+
+    if (cache != null) {
+      cache.close();
+    }
   }
 
   /***********************************************************************************************
@@ -133,17 +144,87 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   public void fill() {
     flush();
 
-    for (int i = 0; i < bufferSize; i++) {
-      boolean available = exporter.available(); // important - some exporters only load the bytes from the file when calling this (eg ZLib_CompressedSizeOnly)
-      if (!available) { // TODO 3.03 ADDED THIS IF-ELSE BIT - CHECK THUMBNAILS STILL WORK WELL!
-        buffer[i] = 0; // just nullify the rest of the buffer
+    readData(filePointer, buffer, 0, bufferSize); // the rest of the buffer is already nullified by the flush()
+    filePointer += bufferSize;
+
+  }
+
+  /***********************************************************************************************
+  Reads up to <code>length</code> bytes of data, starting at the <code>position</code> in the
+  data, into the <code>offset</code> in the <code>destination</code>. Data that has already been
+  read is copied from the cache, and the rest is read from the exporter.
+  @param position the position in the data to start reading from
+  @param destination the array to read the data in to
+  @param offset the offset in the <code>destination</code> to read the data in to
+  @param length the number of bytes to read
+  @return the number of bytes that were actually read
+  ***********************************************************************************************/
+  int readData(long position, byte[] destination, int offset, int length) {
+    if (position < 0) {
+      return 0;
+    }
+
+    int readLength = 0;
+    if (cache != null) {
+      readLength = cache.read(position, destination, offset, length);
+      if (readLength >= length) {
+        return readLength;
       }
-      else {
-        buffer[i] = (byte) exporter.read();
+      position += readLength;
+    }
+
+    if (position < exporterPointer) {
+      // the exporter has already gone past this point (and it isn't in the cache), so start again at the beginning
+      if (cache == null) {
+        // seeking backwards, so keep the data from now on in case it happens again
+        cache = new ExporterDataCache();
+      }
+      exporter.closeAndReopen(resource);
+      exporterPointer = 0;
+    }
+
+    // read up to the position
+    if (exporterPointer < position) {
+      if (skipBuffer == null) {
+        skipBuffer = new byte[ExporterDataCache.CHUNK_SIZE];
+      }
+      while (exporterPointer < position) {
+        int skipLength = (int) Math.min(skipBuffer.length, position - exporterPointer);
+        if (readFromExporter(skipBuffer, 0, skipLength) < skipLength) {
+          return readLength; // reached the end of the data
+        }
       }
-      filePointer++;
     }
 
+    readLength += readFromExporter(destination, offset + readLength, length - readLength);
+    return readLength;
+  }
+
+  /***********************************************************************************************
+  Reads up to <code>length</code> bytes from the exporter into the <code>offset</code> in the
+  <code>destination</code>, in as few calls to the exporter as possible, and adds them to the
+  cache
+  @param destination the array to read the data in to
+  @param offset the offset in the <code>destination</code> to read the data in to
+  @param length the number of bytes to read
+  @return the number of bytes that were actually read
+  ***********************************************************************************************/
+  int readFromExporter(byte[] destination, int offset, int length) {
+    int readLength = 0;
+    while (readLength < length) {
+      int blockLength = exporter.read(destination, offset + readLength, length - readLength);
+      if (blockLength <= 0) {
+        break;
+      }
+      readLength += blockLength;
+    }
+
+    if (cache != null && cache.getLength() == exporterPointer) {
+      cache.append(destination, offset, readLength);
+    }
+    exporterPointer += readLength;
+
+    return readLength;
   }
 
   /***********************************************************************************************
@@ -151,7 +232,12 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   ***********************************************************************************************/
   @Override
   public void flush() {
-    buffer = new byte[bufferSize];
+    if (buffer.length != bufferSize) {
+      buffer = new byte[bufferSize];
+    }
+    else {
+      Arrays.fill(buffer, (byte) 0);
+    }
     bufferLevel = 0;
   }
 
@@ -393,97 +479,28 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   }
 
   /***********************************************************************************************
-  Seeks to the <code>offset</code> in the file. The whole buffer is flushed and re-read from the
-  new <code>offset</code>, so is inefficient for small jumps.
+  Seeks to the <code>offset</code> in the file. If the <code>offset</code> is in the buffer, it
+  moves the buffer pointer, otherwise the buffer is re-filled from the <code>offset</code>. Once
+  the buffer has seeked backwards, data that has already been read comes from the cache, so only
+  seeking past the data that has been read so far needs to read from the exporter.
   @param offset the offset to seek to in the file
   @see relativeSeek(long)
   ***********************************************************************************************/
   @Override
   public void seek(long offset) {
-    // ONLY "0" OR FORWARD-SEEKING IS AVAILABLE (NO BACKWARDS SEEKING OTHER THAN TO "0")
     if (offset == getPointer()) {
       // already at the right offset, so we don't need to do anything
       return;
     }
-    else if (offset == filePointer) {
-      // just go back to the start of the buffer
-      bufferLevel = 0;
-    }
-    else if (offset == 0) {
-      // 3.16 put this here, as closing/opening isn't always that quick, so if we can shortcut it here by moving the buffer back a little, that's much better
-      int difference = (int) (getPointer() - offset);
-      if (difference <= bufferLevel) {
-        bufferLevel -= difference;
-      }
-      else {
-        // take the exporter right back to the beginning of the file
-        //exporter.close();
-        //exporter.open(resource);
-        exporter.closeAndReopen(resource); // 3.14 implemented this so exporters that decompress the full file might retain it between reloads.
-        fill(); // does a flush() as part of this.
-      }
-    }
-    else if (offset > getPointer()) {
-      // seeking to a later spot in the file, so just skip over some bytes
-      int skipAmount = (int) (offset - getPointer());
-
-      if (bufferLevel + skipAmount < bufferSize) {
-        // the buffer already contains the data for this point - only a small skip
-        bufferLevel += skipAmount;
-      }
-      else {
-        // the buffer isn't big enough for the skip, so need to find the right place in the file, and read in more data
-
-        // we have already read in some buffer - we don't need to read that again
-        skipAmount -= (bufferSize - bufferLevel);
-
-        // now we're at the end of the buffer, so read some actual data from the file, until we reach the offset
-        for (int i = 0; i < skipAmount; i++) {
-          boolean available = exporter.available();
-          if (!available) {
-          }
-          else {
-            exporter.read();
-          }
-          filePointer++;
-        }
-
-        // now we're at the right place, so fill the buffer
-        fill();
-      }
 
+    long bufferStart = filePointer - bufferSize;
+    if (offset >= bufferStart && offset < filePointer) {
+      // the buffer already contains the data for this point
+      bufferLevel = (int) (offset - bufferStart);
     }
     else {
-      // seeking to an earlier spot in the file
-
-      // see if we can just move the buffer back a little...
-      int difference = (int) (getPointer() - offset);
-      if (difference <= bufferLevel) {
-        bufferLevel -= difference;
-      }
-      else {
-        // nope, can't move back in the buffer, so re-open (start again at 0) then skip some bytes
-        exporter.close();
-        exporter.open(resource);
-
-        filePointer = 0;
-        bufferLevel = 0;
-
-        // read to the right place
-        for (int i = 0; i < offset; i++) {
-          boolean available = exporter.available();
-          if (!available) {
-          }
-          else {
-            exporter.read();
-          }
-          filePointer++;
-        }
-
-        // fill the buffer
-        fill();
-
-      }
+      filePointer = offset;
+      fill(); // does a flush() as part of this.
     }
 
   }
@@ -0,0 +1,235 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io.buffer;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+
+/***********************************************************************************************
+Keeps the data that has been read from an <i>ExporterPlugin</i>, so that ExporterByteBuffer can
+seek backwards without re-opening the exporter and decompressing everything up to that point
+again. A cache is only created once an ExporterByteBuffer seeks backwards. The data is stored in
+chunks in memory, up to the <i>ExporterCacheMemorySize</i> setting (in MB), and then in a
+temporary file, up to the <i>ExporterCacheFileSize</i> setting (in MB). Once both are full, no
+more data is added to the cache.
+***********************************************************************************************/
+public class ExporterDataCache {
+
+  /** The size of each chunk of data stored in memory **/
+  static final int CHUNK_SIZE = 65536;
+
+  /** The chunks stored in memory. All of them are full, except for the last one **/
+  ArrayList<byte[]> chunks = new ArrayList<byte[]>();
+
+  /** The maximum number of bytes to store in memory **/
+  long memoryLimit = 0;
+
+  /** The maximum number of bytes to store in the temporary file **/
+  long fileLimit = 0;
+
+  /** The number of bytes stored in memory **/
+  long memoryLength = 0;
+
+  /** The number of bytes stored in the temporary file **/
+  long fileLength = 0;
+
+  /** The temporary file, once the memory is full **/
+  File tempFile = null;
+
+  /** The interface for reading and writing the temporary file **/
+  RandomAccessFile tempRAF = null;
+
+  /** Whether the cache can't store any more data **/
+  boolean full = false;
+
+  /***********************************************************************************************
+  Creates an empty cache, with the sizes from the settings
+  ***********************************************************************************************/
+  public ExporterDataCache() {
+    this(Settings.getLong("ExporterCacheMemorySize") * 1048576, Settings.getLong("ExporterCacheFileSize") * 1048576);
+  }
+
+  /***********************************************************************************************
+  Creates an empty cache
+  @param memoryLimit the maximum number of bytes to store in memory
+  @param fileLimit the maximum number of bytes to store in a temporary file
+  ***********************************************************************************************/
+  public ExporterDataCache(long memoryLimit, long fileLimit) {
+    // only whole chunks are stored in memory
+    this.memoryLimit = Math.max(0, memoryLimit - (memoryLimit % CHUNK_SIZE));
+    this.fileLimit = Math.max(0, fileLimit);
+    full = (this.memoryLimit + this.fileLimit <= 0);
+  }
+
+  /***********************************************************************************************
+  Adds <code>length</code> bytes from the <code>offset</code> in the <code>source</code> to the
+  end of the cache. If the cache becomes full, only some of the bytes are added.
+  @param source the data to add
+  @param offset the offset in the <code>source</code> to start adding from
+  @param length the number of bytes to add
+  @return the number of bytes that were added
+  ***********************************************************************************************/
+  public int append(byte[] source, int offset, int length) {
+    if (full || length <= 0) {
+      return 0;
+    }
+
+    int appendedLength = 0;
+
+    // fill up the memory first...
+    while (appendedLength < length && memoryLength < memoryLimit) {
+      int chunkPos = (int) (memoryLength % CHUNK_SIZE);
+      if (chunkPos == 0) {
+        chunks.add(new byte[CHUNK_SIZE]);
+      }
+      byte[] chunk = chunks.get(chunks.size() - 1);
+
+      int copyLength = Math.min(length - appendedLength, CHUNK_SIZE - chunkPos);
+      System.arraycopy(source, offset + appendedLength, chunk, chunkPos, copyLength);
+
+      appendedLength += copyLength;
+      memoryLength += copyLength;
+    }
+
+    // ...then the temporary file
+    if (appendedLength < length && fileLength < fileLimit) {
+      try {
+        if (tempRAF == null) {
+          openTempFile();
+        }
+
+        int writeLength = (int) Math.min(length - appendedLength, fileLimit - fileLength);
+        tempRAF.seek(fileLength);
+        tempRAF.write(source, offset + appendedLength, writeLength);
+
+        appendedLength += writeLength;
+        fileLength += writeLength;
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+        fileLimit = fileLength; // don't try to use the file again
+      }
+    }
+
+    if (appendedLength < length) {
+      full = true;
+    }
+
+    return appendedLength;
+  }
+
+  /***********************************************************************************************
+  Discards all the data, and deletes the temporary file
+  ***********************************************************************************************/
+  public void close() {
+    chunks.clear();
+    memoryLength = 0;
+    fileLength = 0;
+    full = true;
+
+    try {
+      if (tempRAF != null) {
+        tempRAF.close();
+        tempRAF = null;
+      }
+      if (tempFile != null) {
+        tempFile.delete();
+        tempFile = null;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+  Gets the number of bytes stored in the cache. These are the bytes from 0 to this length.
+  @return the number of bytes in the cache
+  ***********************************************************************************************/
+  public long getLength() {
+    return memoryLength + fileLength;
+  }
+
+  /***********************************************************************************************
+  Whether the cache can't store any more data
+  @return true if the cache is full
+  ***********************************************************************************************/
+  public boolean isFull() {
+    return full;
+  }
+
+  /***********************************************************************************************
+  Creates the temporary file in the <i>TempDirectory</i>
+  ***********************************************************************************************/
+  void openTempFile() throws Exception {
+    File directory = new File(new File(Settings.get("TempDirectory")).getAbsolutePath());
+    if (!directory.exists()) {
+      directory.mkdirs();
+    }
+
+    tempFile = File.createTempFile("ge_exporter_cache_", ".tmp", directory);
+    tempFile.deleteOnExit(); // in case the buffer isn't closed
+    tempRAF = new RandomAccessFile(tempFile, "rw");
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes from the <code>position</code> in the cache into the
+  <code>offset</code> in the <code>destination</code>. Only copies the bytes that are in the
+  cache.
+  @param position the position of the data in the cache
+  @param destination the array to copy the data in to
+  @param offset the offset in the <code>destination</code> to copy to
+  @param length the number of bytes to copy
+  @return the number of bytes that were copied
+  ***********************************************************************************************/
+  public int read(long position, byte[] destination, int offset, int length) {
+    if (position < 0) {
+      return 0;
+    }
+
+    int readLength = (int) Math.max(0, Math.min(length, getLength() - position));
+    int copiedLength = 0;
+
+    // copy from memory...
+    while (copiedLength < readLength && position < memoryLength) {
+      int chunkNumber = (int) (position / CHUNK_SIZE);
+      int chunkPos = (int) (position % CHUNK_SIZE);
+
+      int copyLength = (int) Math.min(readLength - copiedLength, Math.min(CHUNK_SIZE - chunkPos, memoryLength - position));
+      System.arraycopy(chunks.get(chunkNumber), chunkPos, destination, offset + copiedLength, copyLength);
+
+      copiedLength += copyLength;
+      position += copyLength;
+    }
+
+    // ...then the temporary file
+    if (copiedLength < readLength) {
+      try {
+        tempRAF.seek(position - memoryLength);
+        tempRAF.readFully(destination, offset + copiedLength, readLength - copiedLength);
+        copiedLength = readLength;
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+    }
+
+    return copiedLength;
+  }
+
+}
@@ -21,6 +21,7 @@ package org.watto.io.buffer;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.Arrays;
 import org.watto.ErrorLogger;
 import org.watto.io.DirectoryBuilder;
 import org.watto.io.FilenameChecker;
@@ -53,6 +54,12 @@ public class FileBuffer implements ManipulatorBuffer {
   /** The file being manipulated **/
   File file;
 
+  /***********************************************************************************************
+   * Used by subclasses that open the <code>file</code> themselves
+   ***********************************************************************************************/
+  FileBuffer() {
+  }
+
   /***********************************************************************************************
    * Opens the <code>file</code>
    * @param file the <code>File</code> to open
@@ -167,8 +174,19 @@ public class FileBuffer implements ManipulatorBuffer {
   public void fill() {
     try {
 
-      flush();
-      raf.read(buffer);
+      if (buffer.length != bufferSize) {
+        buffer = new byte[bufferSize];
+      }
+      bufferLevel = 0;
+
+      // clear anything past the end of the file, as the array is re-used between fills
+      int readLength = raf.read(buffer);
+      if (readLength < 0) {
+        readLength = 0;
+      }
+      if (readLength < bufferSize) {
+        Arrays.fill(buffer, readLength, bufferSize, (byte) 0);
+      }
 
     }
     catch (Throwable t) {
@@ -181,7 +199,12 @@ public class FileBuffer implements ManipulatorBuffer {
    ***********************************************************************************************/
   @Override
   public void flush() {
-    buffer = new byte[bufferSize];
+    if (buffer.length != bufferSize) {
+      buffer = new byte[bufferSize];
+    }
+    else {
+      Arrays.fill(buffer, (byte) 0);
+    }
     bufferLevel = 0;
   }
 
@@ -0,0 +1,635 @@
+////////////////////////////////////////////////////////////////////////////////////////////////
+//                                                                                            //
+//                                       WATTO STUDIOS                                        //
+//                             Java Code, Programs, and Software                              //
+//                                    http://www.watto.org                                    //
+//                                                                                            //
+//                           Copyright (C) 2004-2010  WATTO Studios                           //
+//                                                                                            //
+// This program is free software; you can redistribute it and/or modify it under the terms of //
+// the GNU General Public License published by the Free Software Foundation; either version 2 //
+// of the License, or (at your option) any later versions. This program is distributed in the //
+// hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties //
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License //
+// at http://www.gnu.org for more details. For updates and information about this program, go //
+// to the WATTO Studios website at http://www.watto.org or email watto@watto.org . Thanks! :) //
+//                                                                                            //
+////////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.watto.io.buffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+
+/***********************************************************************************************
+ * A read-only <code>FileBuffer</code> that maps the file in to memory, rather than copying it in
+ * to a <code>byte[]</code>. Reads come straight from the operating system's file cache, and
+ * seeking (forwards or backwards) doesn't read anything from disk until the data is used. <br>
+ * <br>
+ * The file is mapped in windows of <code>WINDOW_SIZE</code> bytes (so smaller files are mapped all
+ * at once), and the window is moved when a read goes outside it. The windows are kept small, so
+ * that lots of open buffers (such as one for each exporter, on several threads) don't use up the
+ * address space of the JVM. As with a <code>FileBuffer</code>, reading past the end of the file
+ * gives zeros. <br>
+ * <br>
+ * The mapping is released when the buffer is closed, so the file can be overwritten or deleted
+ * straight away. A window is only released once nothing is reading from it - if the buffer is
+ * closed (or the window is moved) during a read on another thread, the window is released when
+ * that read finishes, and later reads throw an error rather than reading released memory. If the
+ * mapping can't be released on this Java version, <code>canMap()</code> returns false and files
+ * are read with a normal <code>FileBuffer</code> instead. <br>
+ * <br>
+ * Mapping is turned off by default (see the <i>UseMappedFileBuffer</i> setting).
+ ***********************************************************************************************/
+public class MappedFileBuffer extends FileBuffer {
+
+  /** The largest window of the file that can be mapped at once **/
+  public static final int WINDOW_SIZE = 67108864; // 64MB
+
+  /** When the window is moved, it starts this far before the offset being read, so short backwards seeks stay in the window **/
+  static final int WINDOW_LEAD = 4194304; // 4MB
+
+  /** Windows start on a multiple of this many bytes **/
+  static final int WINDOW_ALIGNMENT = 65536;
+
+  /** Files smaller than this are read with a normal FileBuffer, as mapping them costs more than it saves **/
+  public static final int MINIMUM_LENGTH = 65536;
+
+  /** Releases a mapping (Java 9 and later) **/
+  static Method invokeCleanerMethod = null;
+
+  /** The object that <code>invokeCleanerMethod</code> is called on **/
+  static Object unsafe = null;
+
+  /** Whether <code>findUnmapper()</code> has been run yet **/
+  static boolean checkedUnmapper = false;
+
+  /** Whether mappings can be released when the buffer is closed **/
+  static boolean canUnmap = false;
+
+  /***********************************************************************************************
+   * Should the <code>file</code> be read with a <code>MappedFileBuffer</code>? Only if the
+   * <i>UseMappedFileBuffer</i> setting is enabled, the file is large enough to be worth mapping,
+   * and the mapping can be released when the buffer is closed.
+   * @param file the <code>File</code> to read
+   * @return true if the <code>file</code> should be mapped
+   ***********************************************************************************************/
+  public static boolean canMap(File file) {
+    try {
+      if (file == null || file.length() < MINIMUM_LENGTH) {
+        return false;
+      }
+      if (!Settings.getBoolean("UseMappedFileBuffer")) {
+        return false;
+      }
+      return findUnmapper();
+    }
+    catch (Throwable t) {
+      return false;
+    }
+  }
+
+  /***********************************************************************************************
+   * Finds a way of releasing a mapping. Java doesn't provide one, so this looks for the
+   * <code>Unsafe.invokeCleaner()</code> method (Java 9 and later) or the <code>cleaner()</code>
+   * of the mapped buffer (Java 8).
+   * @return true if mappings can be released
+   ***********************************************************************************************/
+  static synchronized boolean findUnmapper() {
+    if (checkedUnmapper) {
+      return canUnmap;
+    }
+    checkedUnmapper = true;
+
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", java.nio.ByteBuffer.class);
+      Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+      unsafeField.setAccessible(true);
+      unsafe = unsafeField.get(null);
+      canUnmap = true;
+      return canUnmap;
+    }
+    catch (Throwable t) {
+      invokeCleanerMethod = null;
+      unsafe = null;
+    }
+
+    try {
+      Class.forName("sun.misc.Cleaner").getMethod("clean");
+      canUnmap = true;
+    }
+    catch (Throwable t) {
+      canUnmap = false;
+    }
+    return canUnmap;
+  }
+
+  /***********************************************************************************************
+   * Releases the <code>mapping</code>. It must not be read after this.
+   * @param mapping the mapping to release
+   ***********************************************************************************************/
+  static void unmap(MappedByteBuffer mapping) {
+    try {
+      if (invokeCleanerMethod != null) {
+        invokeCleanerMethod.invoke(unsafe, mapping);
+      }
+      else {
+        Method cleanerMethod = mapping.getClass().getMethod("cleaner");
+        cleanerMethod.setAccessible(true);
+        Object cleaner = cleanerMethod.invoke(mapping);
+        if (cleaner != null) {
+          cleaner.getClass().getMethod("clean").invoke(cleaner);
+        }
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /** The channel that the file is mapped from **/
+  FileChannel channel;
+
+  /** The mapped window of the file **/
+  MappedByteBuffer window = null;
+
+  /** The offset in the file where the window starts **/
+  long windowStart = 0;
+
+  /** The length of the window **/
+  int windowLength = 0;
+
+  /** The length of the file, when it was opened **/
+  long fileLength = 0;
+
+  /** The current position in the file **/
+  long pointer = 0;
+
+  /** The number of reads that are using a window right now **/
+  int activeReads = 0;
+
+  /** The windows that have been replaced (or closed) while a read was using them, waiting to be released **/
+  ArrayList<MappedByteBuffer> releasedWindows = new ArrayList<MappedByteBuffer>();
+
+  /***********************************************************************************************
+   * Opens the <code>file</code> for reading, and maps the first window of it
+   * @param file the <code>File</code> to open
+   * @throws IOException if the file can't be opened or mapped
+   ***********************************************************************************************/
+  public MappedFileBuffer(File file) throws IOException {
+    super();
+
+    this.file = file;
+    this.writable = false;
+
+    if (!findUnmapper()) {
+      throw new IOException("Mapped files can't be released on this version of Java");
+    }
+
+    raf = new RandomAccessFile(file, "r");
+    try {
+      channel = raf.getChannel();
+      fileLength = channel.size();
+      mapWindow(0);
+    }
+    catch (IOException e) {
+      raf.close();
+      throw e;
+    }
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as all the data in the window can be read without filling a buffer
+   * @param length the length of data to be read from the buffer
+   ***********************************************************************************************/
+  @Override
+  public void checkFill(int length) {
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as this buffer can't be written to
+   * @param length the length of data to be written to the buffer
+   ***********************************************************************************************/
+  @Override
+  public void checkWrite(int length) {
+  }
+
+  /***********************************************************************************************
+   * Releases the mapping, and closes the file
+   ***********************************************************************************************/
+  @Override
+  public synchronized void close() {
+    try {
+
+      if (window != null) {
+        MappedByteBuffer oldWindow = window;
+        window = null;
+        windowLength = 0;
+        releaseWindow(oldWindow);
+      }
+
+      raf.close();
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+   * Makes sure the window covers the current position in the file
+   ***********************************************************************************************/
+  @Override
+  public synchronized void fill() {
+    try {
+
+      if (!isInWindow(pointer)) {
+        mapWindow(pointer);
+      }
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as there is no buffered data to discard
+   ***********************************************************************************************/
+  @Override
+  public void flush() {
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as this buffer can't be written to
+   ***********************************************************************************************/
+  @Override
+  public void forceWrite() {
+  }
+
+  /***********************************************************************************************
+   * Copies <code>length</code> bytes of data from the current position in the file, and returns
+   * it. This does not move any file pointers.
+   * @param length the length of data to copy
+   * @return the data from the file
+   ***********************************************************************************************/
+  @Override
+  public byte[] getBuffer(int length) {
+    try {
+
+      byte[] bytes = new byte[length];
+      long oldPointer = pointer;
+      read(bytes, 0, length);
+      pointer = oldPointer;
+      return bytes;
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /***********************************************************************************************
+   * Gets the position of the pointer in the window
+   * @return the pointer position in the window
+   ***********************************************************************************************/
+  @Override
+  public int getBufferLevel() {
+    return (int) (pointer - windowStart);
+  }
+
+  /***********************************************************************************************
+   * Gets the size of the window
+   * @return the size of the window
+   ***********************************************************************************************/
+  @Override
+  public int getBufferSize() {
+    return windowLength;
+  }
+
+  /***********************************************************************************************
+   * Gets the current position in this file. Data will be read from this point.
+   * @return the current position in the file
+   ***********************************************************************************************/
+  @Override
+  public long getPointer() {
+    return pointer;
+  }
+
+  /***********************************************************************************************
+   * Gets the value at <code>position</code> in the current window. This does not move any
+   * pointers.
+   * @param position the position in the window
+   * @return the value at the <code>position</code> in the window
+   * @throws java.io.IOException
+   ***********************************************************************************************/
+  @Override
+  public int getValueAtBufferPos(int position) throws IOException {
+    MappedByteBuffer readWindow = null;
+    try {
+      readWindow = startRead(-1);
+      return readWindow.get(position);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      throw new IOException("No value at buffer position " + position);
+    }
+    finally {
+      if (readWindow != null) {
+        finishRead();
+      }
+    }
+  }
+
+  /***********************************************************************************************
+   * Is the <code>offset</code> in the file covered by the current window?
+   * @param offset the offset in the file
+   * @return true if the <code>offset</code> is in the window
+   ***********************************************************************************************/
+  boolean isInWindow(long offset) {
+    return window != null && offset >= windowStart && offset < windowStart + windowLength;
+  }
+
+  /***********************************************************************************************
+   * Is this buffer open for reading?
+   * @return true if the buffer is open, false otherwise
+   ***********************************************************************************************/
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  /***********************************************************************************************
+   * Gets the length of the file
+   * @return the length of the file
+   ***********************************************************************************************/
+  @Override
+  public long length() {
+    return fileLength;
+  }
+
+  /***********************************************************************************************
+   * Maps the window of the file that contains the <code>offset</code>, releasing the old window
+   * @param offset the offset in the file
+   * @throws IOException if the window can't be mapped
+   ***********************************************************************************************/
+  synchronized void mapWindow(long offset) throws IOException {
+    if (!channel.isOpen()) {
+      throw new IOException("The file " + file.getName() + " has been closed");
+    }
+
+    long newStart = 0;
+    if (fileLength > WINDOW_SIZE) {
+      newStart = Math.max(0, offset - WINDOW_LEAD);
+      newStart -= newStart % WINDOW_ALIGNMENT;
+      if (newStart > fileLength) {
+        newStart = fileLength;
+      }
+    }
+    int newLength = (int) Math.min(WINDOW_SIZE, fileLength - newStart);
+
+    MappedByteBuffer oldWindow = window;
+    window = channel.map(FileChannel.MapMode.READ_ONLY, newStart, newLength);
+    windowStart = newStart;
+    windowLength = newLength;
+
+    if (oldWindow != null) {
+      releaseWindow(oldWindow);
+    }
+  }
+
+  /***********************************************************************************************
+   * Releases the <code>oldWindow</code> once nothing is reading from it. If a read is using it
+   * right now, it's released when the last read finishes (see <code>finishRead()</code>).
+   * @param oldWindow the window that is no longer needed
+   ***********************************************************************************************/
+  synchronized void releaseWindow(MappedByteBuffer oldWindow) {
+    releasedWindows.add(oldWindow);
+    if (activeReads <= 0) {
+      unmapReleasedWindows();
+    }
+  }
+
+  /***********************************************************************************************
+   * Gets the window that covers the <code>offset</code>, mapping it if needed, and marks it as
+   * being read so it isn't released until <code>finishRead()</code> is called
+   * @param offset the offset in the file, or -1 to use the current window
+   * @return the window
+   * @throws IOException if the buffer has been closed
+   ***********************************************************************************************/
+  synchronized MappedByteBuffer startRead(long offset) throws IOException {
+    if (offset >= 0 && !isInWindow(offset)) {
+      mapWindow(offset);
+    }
+    if (window == null) {
+      throw new IOException("The file " + file.getName() + " has been closed");
+    }
+    activeReads++;
+    return window;
+  }
+
+  /***********************************************************************************************
+   * Marks a read from <code>startRead()</code> as finished, releasing any old windows if this was
+   * the last read
+   ***********************************************************************************************/
+  synchronized void finishRead() {
+    activeReads--;
+    if (activeReads <= 0) {
+      activeReads = 0;
+      unmapReleasedWindows();
+    }
+  }
+
+  /***********************************************************************************************
+   * Releases all the windows that were waiting for reads to finish
+   ***********************************************************************************************/
+  synchronized void unmapReleasedWindows() {
+    int numWindows = releasedWindows.size();
+    for (int i = 0; i < numWindows; i++) {
+      unmap(releasedWindows.get(i));
+    }
+    releasedWindows.clear();
+  }
+
+  /***********************************************************************************************
+   * Reads a single byte from the file, but doesn't increment any file pointers
+   * @return the byte at the current point in the file
+   ***********************************************************************************************/
+  @Override
+  public int peek() {
+    try {
+
+      if (pointer >= fileLength) {
+        return 0;
+      }
+
+      MappedByteBuffer readWindow = startRead(pointer);
+      try {
+        return readWindow.get((int) (pointer - windowStart)) & 255;
+      }
+      finally {
+        finishRead();
+      }
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+   * Reads a single byte from the file
+   * @return the byte
+   ***********************************************************************************************/
+  @Override
+  public int read() {
+    try {
+
+      if (pointer >= fileLength) {
+        pointer++;
+        return 0;
+      }
+
+      int readData;
+      MappedByteBuffer readWindow = startRead(pointer);
+      try {
+        readData = readWindow.get((int) (pointer - windowStart));
+      }
+      finally {
+        finishRead();
+      }
+      pointer++;
+
+      return readData;
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+   * Reads <code>length</code> bytes of data from the file into the <code>offset</code>
+   * position in the <code>destination</code> array
+   * @param destination the array that data is read in to
+   * @param offset the offset in the <code>destination</code> array where the data is read in to
+   * @param length the number of bytes to read into the array
+   ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+
+      int lengthToRead = length;
+
+      while (length > 0) {
+        if (pointer >= fileLength) {
+          // past the end of the file
+          Arrays.fill(destination, offset, offset + length, (byte) 0);
+          pointer += length;
+          break;
+        }
+
+        MappedByteBuffer readWindow = startRead(pointer);
+        int sizeToRead;
+        try {
+          int windowPos = (int) (pointer - windowStart);
+          sizeToRead = Math.min(length, windowLength - windowPos);
+
+          readWindow.position(windowPos);
+          readWindow.get(destination, offset, sizeToRead);
+        }
+        finally {
+          finishRead();
+        }
+
+        pointer += sizeToRead;
+        offset += sizeToRead;
+        length -= sizeToRead;
+      }
+
+      return lengthToRead;
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+   * Seeks to the <code>offset</code> in the file. Nothing is read until the data is used, so this
+   * is the same as <code>seek(offset)</code>.
+   * @param offset the offset to seek to in the file
+   ***********************************************************************************************/
+  @Override
+  public void relativeSeek(long offset) {
+    seek(offset);
+  }
+
+  /***********************************************************************************************
+   * Seeks to the <code>offset</code> in the file. The window is only moved when the data is read.
+   * @param offset the offset to seek to in the file
+   ***********************************************************************************************/
+  @Override
+  public void seek(long offset) {
+    pointer = offset;
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as the window size is fixed
+   * @param length the new length of the buffer
+   ***********************************************************************************************/
+  @Override
+  public void setBufferSize(int length) {
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as this buffer can't be written to
+   * @param length the new length of the file
+   ***********************************************************************************************/
+  @Override
+  public void setLength(long length) {
+  }
+
+  /***********************************************************************************************
+   * Skips over <code>length</code> bytes in the file
+   * @param length the number of bytes to skip
+   * @return the number of skipped bytes
+   ***********************************************************************************************/
+  @Override
+  public int skip(int length) {
+    pointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as this buffer can't be written to
+   * @param source the data to write to the buffer
+   * @param offset the offset in the <code>source</code> to start reading from
+   * @param length the length of data to write
+   ***********************************************************************************************/
+  @Override
+  public void write(byte[] source, int offset, int length) {
+  }
+
+  /***********************************************************************************************
+   * Does nothing, as this buffer can't be written to
+   * @param source the byte to write
+   ***********************************************************************************************/
+  @Override
+  public void write(int source) {
+  }
+}
@@ -0,0 +1,479 @@
+////////////////////////////////////////////////////////////////////////////////////////////////
+//                                                                                            //
+//                                       WATTO STUDIOS                                        //
+//                             Java Code, Programs, and Software                              //
+//                                    http://www.watto.org                                    //
+//                                                                                            //
+//                           Copyright (C) 2004-2010  WATTO Studios                           //
+//                                                                                            //
+// This program is free software; you can redistribute it and/or modify it under the terms of //
+// the GNU General Public License published by the Free Software Foundation; either version 2 //
+// of the License, or (at your option) any later versions. This program is distributed in the //
+// hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties //
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License //
+// at http://www.gnu.org for more details. For updates and information about this program, go //
+// to the WATTO Studios website at http://www.watto.org or email watto@watto.org . Thanks! :) //
+//                                                                                            //
+////////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.watto.io.buffer;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import org.watto.ErrorLogger;
+import org.watto.io.converter.ByteConverter;
+
+/***********************************************************************************************
+A read-only buffer for a file, where the start and the end of the file are loaded in to memory
+once, and then shared by many copies of the buffer. Each copy has its own file pointer, so many
+threads can read the same file at the same time, each using their own copy. Reads that aren't
+in the loaded start or end of the file are passed through to a <code>FileBuffer</code> that is
+only opened if it's needed, and belongs to that copy alone.
+<br><br>
+Reading past the end of the file gives <code>0</code> bytes, the same as a <code>FileBuffer</code>.
+***********************************************************************************************/
+public class SharedHeadTailBuffer implements ManipulatorBuffer {
+
+  /** The file being read **/
+  File file;
+
+  /** The length of the file **/
+  long length = 0;
+
+  /** The data at the start of the file (shared between all copies) **/
+  byte[] head = new byte[0];
+
+  /** The data at the end of the file (shared between all copies) **/
+  byte[] tail = new byte[0];
+
+  /** The offset in the file where the <code>tail</code> starts **/
+  long tailOffset = 0;
+
+  /** The current position in the file **/
+  long pointer = 0;
+
+  /** The buffer used for reading data that isn't in the <code>head</code> or <code>tail</code> **/
+  FileBuffer fileBuffer = null;
+
+  /***********************************************************************************************
+  Loads the first <code>headLength</code> bytes and the last <code>tailLength</code> bytes of the
+  <code>file</code>. If the file is small, the whole file is loaded.
+  @param file the file to read
+  @param headLength the number of bytes to load from the start of the file
+  @param tailLength the number of bytes to load from the end of the file
+  ***********************************************************************************************/
+  public SharedHeadTailBuffer(File file, int headLength, int tailLength) {
+    this.file = file;
+
+    try {
+      RandomAccessFile raf = new RandomAccessFile(file, "r");
+      length = raf.length();
+
+      if (length <= headLength + tailLength) {
+        // small file - load the whole thing in to the head
+        head = new byte[(int) length];
+        raf.readFully(head);
+
+        tail = new byte[0];
+        tailOffset = length;
+      }
+      else {
+        head = new byte[headLength];
+        raf.readFully(head);
+
+        tail = new byte[tailLength];
+        tailOffset = length - tailLength;
+        raf.seek(tailOffset);
+        raf.readFully(tail);
+      }
+
+      raf.close();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+
+      // nothing is loaded, so everything will be read from the file instead
+      head = new byte[0];
+      tail = new byte[0];
+      tailOffset = length;
+    }
+  }
+
+  /***********************************************************************************************
+  Creates a new copy of the <code>source</code> buffer, which shares the same loaded data, but has
+  its own file pointer
+  @param source the buffer to copy
+  ***********************************************************************************************/
+  public SharedHeadTailBuffer(SharedHeadTailBuffer source) {
+    this.file = source.file;
+    this.length = source.length;
+    this.head = source.head;
+    this.tail = source.tail;
+    this.tailOffset = source.tailOffset;
+  }
+
+  /***********************************************************************************************
+  Can all the bytes from <code>offset</code> to <code>offset+readLength</code> be read from the
+  loaded data, without needing to read from the file?
+  @param offset the offset in the file
+  @param readLength the number of bytes to read
+  @return true if the data is loaded (or past the end of the file), false if not
+  ***********************************************************************************************/
+  boolean isLoaded(long offset, int readLength) {
+    if (offset < 0) {
+      return false;
+    }
+    if (offset + readLength <= head.length || offset >= tailOffset) {
+      return true;
+    }
+    if (head.length >= tailOffset) {
+      // the whole file is loaded
+      return true;
+    }
+    return false;
+  }
+
+  /***********************************************************************************************
+  Gets the byte at the <code>offset</code>, which must be loaded
+  @param offset the offset in the file
+  @return the byte
+  ***********************************************************************************************/
+  byte getLoadedByte(long offset) {
+    if (offset >= length) {
+      return 0;
+    }
+    if (offset < head.length) {
+      return head[(int) offset];
+    }
+    return tail[(int) (offset - tailOffset)];
+  }
+
+  /***********************************************************************************************
+  Gets the <code>FileBuffer</code> for this copy, opening it if needed, and moves it to the
+  current file pointer
+  @return the <code>FileBuffer</code>
+  ***********************************************************************************************/
+  FileBuffer getFileBuffer() {
+    if (fileBuffer == null) {
+      fileBuffer = new FileBuffer(file, false);
+    }
+    fileBuffer.seek(pointer);
+    return fileBuffer;
+  }
+
+  /***********************************************************************************************
+  Gets the data loaded from the start of the file. This is shared, so must not be changed.
+  @return the data at the start of the file
+  ***********************************************************************************************/
+  public byte[] getHead() {
+    return head;
+  }
+
+  /***********************************************************************************************
+  Gets the file that is being read
+  @return the file
+  ***********************************************************************************************/
+  public File getFile() {
+    return file;
+  }
+
+  /***********************************************************************************************
+  Checks to see whether <code>length</code> bytes can be read from the buffer. If not, the buffer
+  is moved forward and re-filled to allow <code>length</code> bytes to be read.
+  @param length the length of data to be read from the buffer
+  ***********************************************************************************************/
+  @Override
+  public void checkFill(int length) {
+    // N/A - reads are checked when they happen
+  }
+
+  /***********************************************************************************************
+  Checks to see whether <code>length</code> bytes can be written to the buffer. If not, the buffer
+  is written to disk and cleared out, to allow <code>length</code> bytes to be written.
+  @param length the length of data to be written to the buffer
+  ***********************************************************************************************/
+  @Override
+  public void checkWrite(int length) {
+    // N/A - read only
+  }
+
+  /***********************************************************************************************
+  Closes this copy of the buffer. The loaded data is left for the other copies to use.
+  ***********************************************************************************************/
+  @Override
+  public void close() {
+    if (fileBuffer != null) {
+      fileBuffer.close();
+      fileBuffer = null;
+    }
+  }
+
+  /***********************************************************************************************
+  Flushes out the buffer and refills it by reading from the file
+  ***********************************************************************************************/
+  @Override
+  public void fill() {
+    // N/A - the loaded data never changes
+  }
+
+  /***********************************************************************************************
+  Empties the buffer, discarding all data in it.
+  ***********************************************************************************************/
+  @Override
+  public void flush() {
+    // N/A - the loaded data never changes
+  }
+
+  /***********************************************************************************************
+  Writes all the buffered data to disk, and flushes the buffer.
+  ***********************************************************************************************/
+  @Override
+  public void forceWrite() {
+    // N/A - read only
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes of data from the current position, and returns it. This does
+  not move any file pointers.
+  @param length the length of data to copy
+  @return the data from the buffer
+  ***********************************************************************************************/
+  @Override
+  public byte[] getBuffer(int length) {
+    try {
+      if (isLoaded(pointer, length)) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+          bytes[i] = getLoadedByte(pointer + i);
+        }
+        return bytes;
+      }
+      return getFileBuffer().getBuffer(length);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /***********************************************************************************************
+  Gets the position of the pointer in the buffer
+  @return the pointer position in the buffer
+  ***********************************************************************************************/
+  @Override
+  public int getBufferLevel() {
+    return 0;
+  }
+
+  /***********************************************************************************************
+  Gets the size of the buffer
+  @return the size of the buffer
+  ***********************************************************************************************/
+  @Override
+  public int getBufferSize() {
+    return head.length;
+  }
+
+  /***********************************************************************************************
+  Gets the current position in this file. Data will be read or written from this point.
+  @return the current position in the file
+  ***********************************************************************************************/
+  @Override
+  public long getPointer() {
+    return pointer;
+  }
+
+  /***********************************************************************************************
+  Is this buffer open for reading or writing?
+  @return true if the buffer is open, false otherwise
+  ***********************************************************************************************/
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  /***********************************************************************************************
+  Gets the length of the file
+  @return the length of the file
+  ***********************************************************************************************/
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /***********************************************************************************************
+
+  ***********************************************************************************************/
+  @Override
+  public int peek() {
+    try {
+      if (isLoaded(pointer, 1)) {
+        return ByteConverter.unsign(getLoadedByte(pointer));
+      }
+      return getFileBuffer().peek();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+  Reads a single byte from the buffer
+  @return the byte
+  ***********************************************************************************************/
+  @Override
+  public int read() {
+    try {
+      if (isLoaded(pointer, 1)) {
+        int readData = getLoadedByte(pointer);
+        pointer++;
+        return readData;
+      }
+
+      FileBuffer buffer = getFileBuffer();
+      int readData = buffer.read();
+      pointer = buffer.getPointer();
+      return readData;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+  Reads a number of bytes from the buffer into the <code>destination</code> array
+  @param destination the array that data is read in to
+  @return the number of bytes that were read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination) {
+    return read(destination, 0, destination.length);
+  }
+
+  /***********************************************************************************************
+  Reads <code>length</code> bytes of data from the buffer into the <code>offset</code> position
+  in the <code>destination</code> array
+  @param destination the array that data is read in to
+  @param offset the offset in the <code>destination</code> array where the data is read in to
+  @param length the number of bytes to read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    try {
+      if (isLoaded(pointer, length)) {
+        long endOffset = pointer + length;
+        if (endOffset <= head.length) {
+          System.arraycopy(head, (int) pointer, destination, offset, length);
+        }
+        else {
+          for (int i = 0; i < length; i++) {
+            destination[offset + i] = getLoadedByte(pointer + i);
+          }
+        }
+        pointer = endOffset;
+        return length;
+      }
+
+      FileBuffer buffer = getFileBuffer();
+      int readLength = buffer.read(destination, offset, length);
+      pointer = buffer.getPointer();
+      return readLength;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return -1;
+    }
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file
+  @param offset the offset to seek to in the file
+  @see seek(long)
+  ***********************************************************************************************/
+  @Override
+  public void relativeSeek(long offset) {
+    seek(offset);
+  }
+
+  /***********************************************************************************************
+  Gets the number of bytes left to read in the file. In other words, the length between the
+  current pointer and the end of the file
+  @return the number of bytes remaining
+  ***********************************************************************************************/
+  @Override
+  public long remainingLength() {
+    return length - pointer;
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file. This only moves the pointer - no data is read
+  until it's needed.
+  @param offset the offset to seek to in the file
+  @see relativeSeek(long)
+  ***********************************************************************************************/
+  @Override
+  public void seek(long offset) {
+    pointer = offset;
+  }
+
+  /***********************************************************************************************
+  Sets the size of the buffer.
+  @param length the new length of the buffer
+  ***********************************************************************************************/
+  @Override
+  public void setBufferSize(int length) {
+    // N/A - the loaded data never changes
+  }
+
+  /***********************************************************************************************
+  Sets the length of the file.
+  @param length the new length of the file
+  ***********************************************************************************************/
+  @Override
+  public void setLength(long length) {
+    // N/A - read only
+  }
+
+  /***********************************************************************************************
+  Skips over <code>length</code> bytes in the buffer
+  @param length the number of bytes to skip
+  @return the number of skipped bytes
+  ***********************************************************************************************/
+  @Override
+  public int skip(int length) {
+    pointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+  Writes an array of data into the buffer
+  @param source the data to write to the buffer
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source) {
+    // N/A - read only
+  }
+
+  /***********************************************************************************************
+  Writes <code>length</code> bytes of data from the <code>offset</code> in the <code>source</code>
+  array into the buffer
+  @param source the data to write to the buffer
+  @param offset the offset in the <code>source</code> to start reading from
+  @param length the length of data to write
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source, int offset, int length) {
+    // N/A - read only
+  }
+
+  /***********************************************************************************************
+  Writes a single byte of data to the buffer
+  @param source the byte to write
+  ***********************************************************************************************/
+  @Override
+  public void write(int source) {
+    // N/A - read only
+  }
+}
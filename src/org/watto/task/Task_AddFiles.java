@@ -76,8 +76,8 @@ public class Task_AddFiles extends AbstractTask {
     originalNumFiles = Archive.getNumFiles();
     Archive.addFiles(files);
 
-    // gets the new resources
-    resources = Archive.getResources(originalNumFiles, files.length);
+    // gets the new resources (directories are replaced by the files in them, so there can be more resources than files)
+    resources = Archive.getResources(originalNumFiles, Archive.getNumFiles() - originalNumFiles);
 
     ((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()).reload();
 
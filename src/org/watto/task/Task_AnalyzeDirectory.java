@@ -16,7 +16,14 @@ package org.watto.task;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import org.watto.ChangeMonitor;
+import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
@@ -30,6 +37,7 @@ import org.watto.datatype.Archive;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
+import org.watto.ge.helper.AnalysisCheckpoint;
 import org.watto.ge.helper.AnalysisPluginGroup;
 import org.watto.ge.helper.AnalysisViewerGroup;
 import org.watto.ge.helper.FileTypeDetector;
@@ -433,6 +441,91 @@ public class Task_AnalyzeDirectory extends AbstractTask {
 
   boolean foundMultipleViewers = false;
 
+  /** the minimum time between saving checkpoints, in milliseconds **/
+  static final long CHECKPOINT_INTERVAL = 10000;
+
+  /** the maximum number of files that can be waiting for plugin detection, for each detection thread **/
+  static final int QUEUED_FILES_PER_THREAD = 8;
+
+  /**
+  **********************************************************************************************
+  A file (or the end of a directory) found by the directory walk, in the order they need to be
+  written to the report. For files, the Archive plugins are found by the detection threads while
+  the item is waiting in the queue, or by the analysis thread if the detection isn't run in
+  parallel.
+  **********************************************************************************************
+  **/
+  class AnalysisItem {
+
+    /** the file to analyze, or the directory that has been finished **/
+    File file;
+
+    /** true if this marks the end of the files in a directory **/
+    boolean endOfDirectory = false;
+
+    /** true if this marks the end of the whole walk **/
+    boolean endOfWalk = false;
+
+    /** the number of this file in the whole walk **/
+    long fileNumber = 0;
+
+    /** the number of this file in its directory, and the number of files in the directory **/
+    int directoryFileNumber = 0;
+
+    int directoryNumFiles = 0;
+
+    /** the Archive plugins that can open this file, sorted by rating (null if the file is skipped) **/
+    FutureTask<RatedPlugin[]> plugins = null;
+  }
+
+  /** the number of files (in walk order) that were written to the report before this run was resumed **/
+  long numFilesToSkip = 0;
+
+  /** the items found by the directory walk, waiting to be analyzed **/
+  ArrayBlockingQueue<AnalysisItem> walkQueue = null;
+
+  /** the threads that find the Archive plugins for each file, or null if they're found by the analysis thread **/
+  ExecutorService detectionExecutor = null;
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to find the Archive plugins with, from the
+  <i>NumberOfAnalysisThreads</i> setting. If the setting is 0 (or missing), uses 1 thread per
+  processor. Only used if the <i>ParallelPluginRating</i> setting is on.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfAnalysisThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the options of this analysis, so a checkpoint is only resumed if the options are the same
+  **********************************************************************************************
+  **/
+  String getCheckpointOptions() {
+    return "format=" + outputFormat + ";viewers=" + checkViewerPlugins + ";extract=" + extractAllFiles + ";scan=" + scanInArchives + ";subdirectories=" + processSubDirectories;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the files and sub-directories in a <i>directory</i>, sorted by name so the order is the
+  same every time (which is needed to resume from a checkpoint)
+  **********************************************************************************************
+  **/
+  File[] listSortedFiles(File directory) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return new File[0];
+    }
+    Arrays.sort(files);
+    return files;
+  }
+
   /**
   **********************************************************************************************
   
@@ -482,13 +575,29 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     DirectoryBuilder.buildDirectory(directory, false);
     FileManipulator fm = new FileManipulator(directory, true);
 
-    writeReportHeader(fm);
+    // If a previous analysis of this directory was interrupted, carry on from where it stopped
+    AnalysisCheckpoint checkpoint = new AnalysisCheckpoint(new File(directory.getAbsolutePath() + ".checkpoint"), path, getCheckpointOptions());
+    if (Settings.getBoolean("AnalyzeDirectoryResume") && checkpoint.load() && checkpoint.getReportLength() <= fm.getLength()) {
+      numFilesToSkip = checkpoint.getNumFilesDone();
+      foundMultipleArchives = checkpoint.isFoundMultipleArchives();
+      foundMultipleViewers = checkpoint.isFoundMultipleViewers();
+
+      // remove anything written after the checkpoint
+      fm.setLength(checkpoint.getReportLength());
+      fm.seek(checkpoint.getReportLength());
+    }
+    else {
+      numFilesToSkip = 0;
+      fm.setLength(0);
+
+      writeReportHeader(fm);
+    }
 
     // analyse the directory (and sub-directories)
     boolean playAudio = Settings.getBoolean("PlayAudioOnLoad");
     Settings.set("PlayAudioOnLoad", false);
 
-    processDirectory(fm, path);
+    processDirectory(fm, path, checkpoint);
 
     Settings.set("PlayAudioOnLoad", playAudio);
 
@@ -498,6 +607,9 @@ public class Task_AnalyzeDirectory extends AbstractTask {
 
     fm.close();
 
+    // The analysis finished, so there's nothing to resume
+    checkpoint.delete();
+
     TaskProgressManager.stopTask();
 
     WSPopup.showMessage("AnalyzeDirectory_DirectoryAnalyzed", true);
@@ -509,6 +621,35 @@ public class Task_AnalyzeDirectory extends AbstractTask {
    **********************************************************************************************
    **/
   public void processDirectory(FileManipulator fm, File directory) {
+    processDirectory(fm, directory, null);
+  }
+
+  /**
+   **********************************************************************************************
+   Analyzes all the files in the <i>directory</i> (and its sub-directories, if chosen), as a
+   pipeline: one thread walks the directories, several threads find the Archive plugins for each
+   file, and this thread reads each archive, analyzes its contents, and writes it to the report,
+   in the same order as the walk. Reading and analyzing are kept on this thread because the
+   plugins rely on the global current Archive and CurrentArchive setting. <br>
+   <br>
+   The detection threads rate the files with the same plugin instances that this thread reads
+   with, and the plugins aren't checked for shared state, so they're only used if the
+   <i>ParallelPluginRating</i> setting is on (it's off by default). Otherwise this thread finds
+   the plugins for each file itself, just before reading it.
+   @param checkpoint the checkpoint to save the progress to, or null
+   **********************************************************************************************
+   **/
+  public void processDirectory(FileManipulator fm, File directory, AnalysisCheckpoint checkpoint) {
+
+    int numThreads = 1;
+    if (Settings.getBoolean("ParallelPluginRating")) {
+      numThreads = getNumThreads();
+      detectionExecutor = Executors.newFixedThreadPool(numThreads);
+    }
+    else {
+      detectionExecutor = null;
+    }
+    walkQueue = new ArrayBlockingQueue<AnalysisItem>(numThreads * QUEUED_FILES_PER_THREAD);
 
     // Prepare the viewer groups, in case we look for viewers as well as archives
     int maxViewers = WSPluginManager.getGroup("Viewer").getPluginCount();
@@ -517,172 +658,321 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     // A special group to record all the other files that don't have a Viewer for them
     AnalysisViewerGroup unknownGroup = new AnalysisViewerGroup(null);
 
-    // Get all the files in this directory
-    File[] sourceFiles = directory.listFiles();
-    int numSourceFiles = sourceFiles.length;
+    WSStatusBar statusBar = (WSStatusBar) ComponentRepository.get("StatusBar");
 
-    // process the files, then process the sub-directories 
-    File[] directories = new File[numSourceFiles];
-    int numDirectories = 0;
+    // start walking the directories
+    final File walkDirectory = directory;
+    Thread walkThread = new Thread(new Runnable() {
 
-    File[] files = new File[numSourceFiles];
-    int numFiles = 0;
+      @Override
+      public void run() {
+        try {
+          walkDirectory(walkDirectory, new long[] { 0 });
+        }
+        catch (InterruptedException e) {
+          return; // the analysis was stopped
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
 
-    for (int i = 0; i < numSourceFiles; i++) {
-      // find all the directories first
-      File file = sourceFiles[i];
-      if (file.isDirectory()) {
-        directories[numDirectories] = file;
-        numDirectories++;
-      }
-      else {
-        files[numFiles] = file;
-        numFiles++;
+        // always finish the walk, so the analysis doesn't wait forever
+        try {
+          AnalysisItem endItem = new AnalysisItem();
+          endItem.endOfWalk = true;
+          walkQueue.put(endItem);
+        }
+        catch (InterruptedException e) {
+          // the analysis was stopped
+        }
       }
-    }
+    }, "AnalyzeDirectoryWalker");
+    walkThread.setDaemon(true);
+    walkThread.start();
 
-    WSStatusBar statusBar = (WSStatusBar) ComponentRepository.get("StatusBar");
+    long lastCheckpointTime = System.currentTimeMillis();
+    boolean directoryHasViewers = false;
 
-    // Now process the files only
-    TaskProgressManager.setMaximum(numFiles);
-    for (int f = 0; f < numFiles; f++) {
-      TaskProgressManager.setValue(f);
+    try {
+      while (true) {
+        AnalysisItem item = walkQueue.take();
+        if (item.endOfWalk) {
+          break;
+        }
 
-      boolean foundPlugin = false;
-      Archive.makeNewArchive();
+        if (item.endOfDirectory) {
+          // Now that we've written out the archives, we can write out the Viewers that were found
+          if (checkViewerPlugins) {
+            writeDirectoryViewers(fm, item.file, groups, unknownGroup);
+
+            groups = new AnalysisViewerGroup[maxViewers];
+            unknownGroup = new AnalysisViewerGroup(null);
+            directoryHasViewers = false;
+          }
+          continue;
+        }
 
-      File archiveFile = files[f];
-      Settings.set("CurrentArchive", archiveFile.getAbsolutePath());
+        TaskProgressManager.setMaximum(item.directoryNumFiles);
+        TaskProgressManager.setValue(item.directoryFileNumber);
 
-      // Set statusbar message
-      if (statusBar != null) {
-        statusBar.setText("Analyzing file " + (f + 1) + " of " + numFiles + ": " + archiveFile.getName());
+        if (item.plugins == null) {
+          continue; // already in the report, from before the analysis was resumed
+        }
+
+        File archiveFile = item.file;
+
+        // Set statusbar message
+        if (statusBar != null) {
+          statusBar.setText("Analyzing file " + (item.directoryFileNumber + 1) + " of " + item.directoryNumFiles + ": " + archiveFile.getName());
+        }
+
+        if (detectionExecutor == null) {
+          item.plugins.run(); // find the plugins on this thread
+        }
+
+        RatedPlugin[] plugins = null;
+        try {
+          plugins = item.plugins.get();
+        }
+        catch (ExecutionException e) {
+          ErrorLogger.log(e);
+        }
+
+        if (processFile(fm, archiveFile, plugins, groups, unknownGroup)) {
+          directoryHasViewers = true;
+        }
+
+        // Save a checkpoint, but only if there aren't any viewers waiting to be written for this directory
+        if (checkpoint != null && !directoryHasViewers && System.currentTimeMillis() - lastCheckpointTime >= CHECKPOINT_INTERVAL) {
+          fm.forceWrite();
+          checkpoint.save(item.fileNumber + 1, fm.getOffset(), foundMultipleArchives, foundMultipleViewers);
+          lastCheckpointTime = System.currentTimeMillis();
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    finally {
+      walkThread.interrupt();
+      if (detectionExecutor != null) {
+        detectionExecutor.shutdownNow();
       }
+    }
 
-      // See whether an Archive or a Viewer plugin can open the file
-      RatedPlugin[] plugins = PluginFinder.findPlugins(archiveFile, ArchivePlugin.class);
+  }
 
-      if (plugins != null && plugins.length > 0) {
-        Arrays.sort(plugins);
+  /**
+   **********************************************************************************************
+   Reads a single file from the directory as an archive (or as a viewer file, if chosen) and
+   writes it to the report.
+   @param plugins the Archive plugins that can open the file, sorted by rating
+   @return true if the file was added to one of the viewer <i>groups</i> for the directory
+   **********************************************************************************************
+   **/
+  boolean processFile(FileManipulator fm, File archiveFile, RatedPlugin[] plugins, AnalysisViewerGroup[] groups, AnalysisViewerGroup unknownGroup) {
+    boolean addedToGroup = false;
 
-        for (int i = 0; i < plugins.length; i++) {
-          //System.out.println(plugins[i].getRating());
+    boolean foundPlugin = false;
+    Archive.makeNewArchive();
 
-          // Open the archive
-          ArchivePlugin archivePlugin = (ArchivePlugin) plugins[i].getPlugin();
-          Resource[] resources = archivePlugin.read(archiveFile);
+    Settings.set("CurrentArchive", archiveFile.getAbsolutePath());
 
-          if (resources == null || resources.length <= 0) {
-            continue;
-          }
+    // See whether an Archive or a Viewer plugin can open the file (the Archive plugins were already found by the detection threads)
+    if (plugins != null && plugins.length > 0) {
 
-          // Successfully opened the archive
-          foundPlugin = true;
-          i = plugins.length;
+      for (int i = 0; i < plugins.length; i++) {
+        //System.out.println(plugins[i].getRating());
 
-          Archive.setResources(resources);
-          Archive.setReadPlugin(archivePlugin);
-          Archive.setBasePath(archiveFile);
+        // Open the archive
+        ArchivePlugin archivePlugin = (ArchivePlugin) plugins[i].getPlugin();
+        Resource[] resources = archivePlugin.read(archiveFile);
 
-          // Export all the files to disk (setting), including image conversions if chosen
-          if (extractAllFiles) {
-            // extract each archive to a separate folder in the extract directory
-            File specificExtractDirectory = new File(extractDirectory.getAbsolutePath() + File.separatorChar + archiveFile.getName());
-            Task_ExportFiles task = new Task_ExportFiles(specificExtractDirectory, resources);
+        if (resources == null || resources.length <= 0) {
+          continue;
+        }
 
-            if (converterPlugins != null) {
-              task.setConverterPlugins(converterPlugins);
-            }
+        // Successfully opened the archive
+        foundPlugin = true;
+        i = plugins.length;
 
-            task.setShowPopups(false);
-            TaskProgressManager.setTaskRunning(false); // otherwise the Export doesn't run
-            task.redo();
+        Archive.setResources(resources);
+        Archive.setReadPlugin(archivePlugin);
+        Archive.setBasePath(archiveFile);
+
+        // Export all the files to disk (setting), including image conversions if chosen
+        if (extractAllFiles) {
+          // extract each archive to a separate folder in the extract directory
+          File specificExtractDirectory = new File(extractDirectory.getAbsolutePath() + File.separatorChar + archiveFile.getName());
+          Task_ExportFiles task = new Task_ExportFiles(specificExtractDirectory, resources);
+
+          if (converterPlugins != null) {
+            task.setConverterPlugins(converterPlugins);
           }
 
-          // Write the archive Header details
-          writeArchiveHeader(fm, archiveFile, archivePlugin, resources);
+          task.setShowPopups(false);
+          TaskProgressManager.setTaskRunning(false); // otherwise the Export doesn't run
+          task.redo();
+        }
 
-          // Process each file in the archive, look for a viewer plugin for them
-          analyzeArchiveContents(fm, archiveFile, archivePlugin, resources);
+        // Write the archive Header details
+        writeArchiveHeader(fm, archiveFile, archivePlugin, resources);
 
-          // Write the archive Footer details
-          writeArchiveFooter(fm, archiveFile, archivePlugin, resources);
+        // Process each file in the archive, look for a viewer plugin for them
+        analyzeArchiveContents(fm, archiveFile, archivePlugin, resources);
 
-        }
+        // Write the archive Footer details
+        writeArchiveFooter(fm, archiveFile, archivePlugin, resources);
 
       }
 
-      if (!foundPlugin) {
-        if (checkViewerPlugins) {
-          // No archive plugins found, or none opened the file successfully.
-          // So, try to open with the viewers
+    }
 
-          plugins = PluginFinder.findPlugins(archiveFile, ViewerPlugin.class);
+    if (!foundPlugin) {
+      if (checkViewerPlugins) {
+        // No archive plugins found, or none opened the file successfully.
+        // So, try to open with the viewers
 
-          if (plugins != null && plugins.length > 0) {
-            Arrays.sort(plugins);
+        plugins = PluginFinder.findPlugins(archiveFile, ViewerPlugin.class);
 
-            // try to open the preview using each plugin and previewFile(File,Plugin)
-            for (int p = 0; p < plugins.length; p++) {
-              ViewerPlugin viewerPlugin = (ViewerPlugin) plugins[p].getPlugin();
+        if (plugins != null && plugins.length > 0) {
+          Arrays.sort(plugins);
 
-              PreviewPanel panel = viewerPlugin.read(archiveFile);
-              if (panel == null) {
-                continue;
-              }
+          // try to open the preview using each plugin and previewFile(File,Plugin)
+          for (int p = 0; p < plugins.length; p++) {
+            ViewerPlugin viewerPlugin = (ViewerPlugin) plugins[p].getPlugin();
 
-              // Successfully opened the file using a viewer
-              foundPlugin = true;
+            PreviewPanel panel = viewerPlugin.read(archiveFile);
+            if (panel == null) {
+              continue;
+            }
 
-              // Add it to the plugin list
-              addToGroup(new Resource(archiveFile), viewerPlugin, groups, unknownGroup);
+            // Successfully opened the file using a viewer
+            foundPlugin = true;
 
-              break;
-            }
-          }
+            // Add it to the plugin list
+            addToGroup(new Resource(archiveFile), viewerPlugin, groups, unknownGroup);
+            addedToGroup = true;
 
+            break;
+          }
         }
+
       }
     }
 
-    // Now that we've written out the archives, we can write out the Viewers that were found
-    if (checkViewerPlugins) {
-      boolean foundTheEnd = false;
-      for (int g = 0; g < maxViewers; g++) {
-        if (foundTheEnd) {
-          break;
-        }
+    return addedToGroup;
+  }
 
-        AnalysisViewerGroup group = groups[g];
+  /**
+   **********************************************************************************************
+   Walks through the <i>directory</i> (and sub-directories, if chosen), adding each file to the
+   <i>walkQueue</i> and starting the plugin detection for it. This is run in its own thread.
+   @param fileNumber the number of files found so far (a single value, updated by this method)
+   **********************************************************************************************
+   **/
+  void walkDirectory(File directory, long[] fileNumber) throws InterruptedException {
+    File[] sourceFiles = listSortedFiles(directory);
+    int numSourceFiles = sourceFiles.length;
 
-        if (group == null) {
-          foundTheEnd = true;
-          // process the Unknown Group at the very end
-          group = unknownGroup;
-        }
+    // process the files, then process the sub-directories
+    File[] directories = new File[numSourceFiles];
+    int numDirectories = 0;
 
-        ViewerPlugin viewerPlugin = group.getPlugin();
-        Resource[] resources = group.getResources();
+    File[] files = new File[numSourceFiles];
+    int numFiles = 0;
 
-        // Write the viewer Header details
-        writeViewerHeader(fm, directory, null, viewerPlugin, resources);
+    for (int i = 0; i < numSourceFiles; i++) {
+      // find all the directories first
+      File file = sourceFiles[i];
+      if (file.isDirectory()) {
+        directories[numDirectories] = file;
+        numDirectories++;
+      }
+      else {
+        files[numFiles] = file;
+        numFiles++;
+      }
+    }
+
+    for (int f = 0; f < numFiles; f++) {
+      final File file = files[f];
 
-        // Write out the resources for this viewer
-        writeResources(fm, directory, null, viewerPlugin, resources);
+      AnalysisItem item = new AnalysisItem();
+      item.file = file;
+      item.fileNumber = fileNumber[0];
+      item.directoryFileNumber = f;
+      item.directoryNumFiles = numFiles;
 
-        // Write the viewer Footer details
-        writeViewerFooter(fm, directory, null, viewerPlugin, resources);
+      if (item.fileNumber >= numFilesToSkip) {
+        // find the Archive plugins in the detection threads (if there are any), while this item waits in the queue
+        item.plugins = new FutureTask<RatedPlugin[]>(new Callable<RatedPlugin[]>() {
+
+          @Override
+          public RatedPlugin[] call() {
+            RatedPlugin[] plugins = PluginFinder.findPlugins(file, ArchivePlugin.class);
+            if (plugins != null && plugins.length > 0) {
+              Arrays.sort(plugins);
+            }
+            return plugins;
+          }
+        });
+        if (detectionExecutor != null) {
+          detectionExecutor.execute(item.plugins);
+        }
       }
+
+      walkQueue.put(item);
+      fileNumber[0]++;
     }
 
-    // Now process the sub-directories 
+    AnalysisItem endItem = new AnalysisItem();
+    endItem.file = directory;
+    endItem.endOfDirectory = true;
+    walkQueue.put(endItem);
+
+    // Now process the sub-directories
     if (processSubDirectories) {
       for (int i = 0; i < numDirectories; i++) {
-        File subDirectory = directories[i];
-        processDirectory(fm, subDirectory);
+        walkDirectory(directories[i], fileNumber);
       }
     }
+  }
 
+  /**
+   **********************************************************************************************
+   Writes out the files in the <i>directory</i> that were opened by each viewer plugin
+   **********************************************************************************************
+   **/
+  void writeDirectoryViewers(FileManipulator fm, File directory, AnalysisViewerGroup[] groups, AnalysisViewerGroup unknownGroup) {
+    int maxViewers = groups.length;
+
+    boolean foundTheEnd = false;
+    for (int g = 0; g < maxViewers; g++) {
+      if (foundTheEnd) {
+        break;
+      }
+
+      AnalysisViewerGroup group = groups[g];
+
+      if (group == null) {
+        foundTheEnd = true;
+        // process the Unknown Group at the very end
+        group = unknownGroup;
+      }
+
+      ViewerPlugin viewerPlugin = group.getPlugin();
+      Resource[] resources = group.getResources();
+
+      // Write the viewer Header details
+      writeViewerHeader(fm, directory, null, viewerPlugin, resources);
+
+      // Write out the resources for this viewer
+      writeResources(fm, directory, null, viewerPlugin, resources);
+
+      // Write the viewer Footer details
+      writeViewerFooter(fm, directory, null, viewerPlugin, resources);
+    }
   }
 
   /**
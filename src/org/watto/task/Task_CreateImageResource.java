@@ -21,6 +21,7 @@ import org.watto.SingletonManager;
 import org.watto.datatype.BlankImageResource;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ThumbnailCache;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
@@ -75,6 +76,13 @@ public class Task_CreateImageResource extends AbstractTask {
     resource.extract(fm);
     */
 
+    // If this thumbnail was generated the last time the archive was opened, use that instead
+    ImageResource cachedImageResource = ThumbnailCache.get(resource);
+    if (cachedImageResource != null) {
+      resource.setImageResource(cachedImageResource);
+      return;
+    }
+
     SingletonManager.set("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
 
     // Create a buffer that reads from the exporter
@@ -117,6 +125,8 @@ public class Task_CreateImageResource extends AbstractTask {
         // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
         resource.setImageResource(imageResource);
 
+        ThumbnailCache.put(resource, imageResource);
+
         fm.close();
 
         return;
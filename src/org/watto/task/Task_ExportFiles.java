@@ -27,6 +27,7 @@ import org.watto.component.WSDirectoryListHolder;
 import org.watto.component.WSPopup;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ParallelResourceExtractor;
 import org.watto.ge.helper.ShellFolderFile;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.PluginFinder;
@@ -62,6 +63,9 @@ public class Task_ExportFiles extends AbstractTask {
   // so we can stop "file being exported" progress popup from appearing when doing a preview
   boolean showProgressPopups = true;
 
+  /** the number of threads to extract with (-1 = use the NumberOfExportThreads setting) **/
+  int numThreads = -1;
+
   /** the status of the extraction (some/all/none) **/
   int status = 0;
 
@@ -189,6 +193,10 @@ public class Task_ExportFiles extends AbstractTask {
       exportForPreview = TemporarySettings.getBoolean("ExportForPreview");
     }
 
+    // All the normal ones are extracted using several threads at once. The destination filenames are
+    // worked out here, in order, so that duplicate filenames get the same numbers every time.
+    ParallelResourceExtractor extractor = new ParallelResourceExtractor(directory, numThreads);
+
     for (int i = 0; i < numResources; i++) {
       Resource resource = resources[i];
       ExporterPlugin exporter = resource.getExporter();
@@ -200,8 +208,7 @@ public class Task_ExportFiles extends AbstractTask {
       else {
         // extract it normally
         Resource resourceToExtract = resources[i];
-        resourceToExtract.extract(directory);
-        TaskProgressManager.setValue(i, 1); // update the value of the second progress bar
+        extractor.addResource(resourceToExtract);
 
         if (resourceToExtract instanceof Resource_PAK_38 && !exportForPreview) { // !exportForPreview, because preview exports are loaded into buffer, not to file
           // For Unreal Engine 4 files, also unpack the releated resources (the uexp, ubulk, ... files)
@@ -211,7 +218,7 @@ public class Task_ExportFiles extends AbstractTask {
           if (relatedResources != null) {
             int numRelatedResources = relatedResources.length;
             for (int r = 0; r < numRelatedResources; r++) {
-              relatedResources[r].extract(directory);
+              extractor.addResource(relatedResources[r]);
             }
           }
 
@@ -239,6 +246,9 @@ public class Task_ExportFiles extends AbstractTask {
 
       }
     }
+    // Now run the normal extract
+    extractor.extract();
+
     // Now run the bulk extract
     if (numBulkResources > 0) {
       if (numBulkResources != numResources) {
@@ -432,6 +442,15 @@ public class Task_ExportFiles extends AbstractTask {
     this.converterPlugins = converterPlugins;
   }
 
+  /**
+  **********************************************************************************************
+  Sets the number of threads to extract with. 0 or less uses the NumberOfExportThreads setting
+  **********************************************************************************************
+  **/
+  public void setNumThreads(int numThreads) {
+    this.numThreads = numThreads;
+  }
+
   /**
   **********************************************************************************************
   
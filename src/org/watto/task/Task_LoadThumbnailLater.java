@@ -25,6 +25,7 @@ import org.watto.SingletonManager;
 import org.watto.component.WSTable;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ThumbnailCache;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
@@ -38,7 +39,8 @@ When given a Resource, will extract the file to a BufferArrayManipulator using a
 then use a ViewerPlugin to generate the ImageResource (if it's an image file). This task should
 be added to the end of the Swing Event Dispatch Thread via SwingUtilities.invokeLater() so that
 *after* the whole table is drawn, it will start loading the thumbnails that were requested and
-will update the table thumbnails accordingly.
+will update the table thumbnails accordingly. Alternatively, the task can be given to the
+ThumbnailLoadManager, which generates the thumbnail in a background thread instead.
 **********************************************************************************************
 **/
 public class Task_LoadThumbnailLater extends AbstractTask {
@@ -60,6 +62,9 @@ public class Task_LoadThumbnailLater extends AbstractTask {
   /** The column that this table cell belongs to **/
   int tableCellColumn = -1;
 
+  /** true if this task is run in a background thread (see ThumbnailLoadManager) rather than the Event Dispatch Thread **/
+  boolean runInBackground = false;
+
   /**
   **********************************************************************************************
   
@@ -75,136 +80,226 @@ public class Task_LoadThumbnailLater extends AbstractTask {
 
   /**
   **********************************************************************************************
-  
+  Gets the Resource that this thumbnail is for
   **********************************************************************************************
   **/
-  @Override
-  public void redo() {
+  public Resource getResource() {
+    return resource;
+  }
 
-    if (resource.getLength() <= 0) {
-      return; // can't view an empty file
-    }
+  /**
+  **********************************************************************************************
+  Gets the table row that this thumbnail is displayed in
+  **********************************************************************************************
+  **/
+  public int getTableCellRow() {
+    return tableCellRow;
+  }
 
-    SingletonManager.set("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
+  /**
+  **********************************************************************************************
+  Gets the table that this thumbnail is displayed in
+  **********************************************************************************************
+  **/
+  public WSTable getTableToUpdate() {
+    return tableToUpdate;
+  }
 
-    //if (resource.getName().equals("Unnamed File 000960")) {
-    //  System.out.println("TASK_LOADTHUMBNAILLATER_BREAKPOINT");
-    //}
+  /**
+  **********************************************************************************************
+  Extracts the Resource and generates the thumbnail for it, but doesn't set it on the Resource or
+  paint it. If <i>runInBackground</i> is set, this can be run outside of the Swing Event Dispatch
+  Thread.
+  @return the thumbnail, or null if no thumbnail could be generated
+  **********************************************************************************************
+  **/
+  public ImageResource loadThumbnail() {
 
-    FileManipulator fm = null;
-    // See if the Resource has been exported already - if it has, read from that file instead of the original archive.
-    File exportedPath = resource.getExportedPath();
-    if (exportedPath != null && exportedPath.exists()) {
-      // already exported - read from disk
-      fm = new FileManipulator(exportedPath, false);
-      //System.out.println("Loading Thumbnail for " + resource.getName() + " (already exported)");
+    if (resource.getLength() <= 0) {
+      return null; // can't view an empty file
+    }
+
+    // so it can be detected by ViewerPlugins for Thumbnail Generation
+    if (runInBackground) {
+      SingletonManager.setForThread("CurrentResource", resource); // so we don't change the resource being previewed in the Event Dispatch Thread
     }
     else {
-      // Need to read the file from the archive
-      //System.out.println("Loading Thumbnail for " + resource.getName() + " (NEEDS EXPORTING)");
+      SingletonManager.set("CurrentResource", resource);
+    }
 
-      if (resource.getExporter() instanceof Exporter_Custom_FSB5_ProcessWithinArchive) {
-        return; // SPECIAL CASE: this exporter is a bit intensive, and it doesn't generate thumbnails, so skip it early.
+    try {
+      // If this thumbnail was generated the last time the archive was opened, use that instead
+      ImageResource cachedImageResource = ThumbnailCache.get(resource);
+      if (cachedImageResource != null) {
+        return cachedImageResource;
       }
 
-      // Create a buffer that reads from the exporter
-      /*
-      long length = resource.getLength();
-      long decompLength = resource.getDecompressedLength();
-      
-      int maxSize = 65536;
-      if (length > maxSize) {
-        resource.setLength(maxSize);
-      }
-      if (decompLength > maxSize) {
-        resource.setDecompressedLength(maxSize);
+      //if (resource.getName().equals("Unnamed File 000960")) {
+      //  System.out.println("TASK_LOADTHUMBNAILLATER_BREAKPOINT");
+      //}
+
+      FileManipulator fm = null;
+      // See if the Resource has been exported already - if it has, read from that file instead of the original archive.
+      File exportedPath = resource.getExportedPath();
+      if (exportedPath != null && exportedPath.exists()) {
+        // already exported - read from disk
+        fm = new FileManipulator(exportedPath, false);
+        //System.out.println("Loading Thumbnail for " + resource.getName() + " (already exported)");
       }
+      else {
+        // Need to read the file from the archive
+        //System.out.println("Loading Thumbnail for " + resource.getName() + " (NEEDS EXPORTING)");
+
+        if (resource.getExporter() instanceof Exporter_Custom_FSB5_ProcessWithinArchive) {
+          return null; // SPECIAL CASE: this exporter is a bit intensive, and it doesn't generate thumbnails, so skip it early.
+        }
+
+        // Create a buffer that reads from the exporter
+        /*
+        long length = resource.getLength();
+        long decompLength = resource.getDecompressedLength();
       
-      ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
+        int maxSize = 65536;
+        if (length > maxSize) {
+          resource.setLength(maxSize);
+        }
+        if (decompLength > maxSize) {
+          resource.setDecompressedLength(maxSize);
+        }
       
-      resource.setLength(length);
-      resource.setDecompressedLength(decompLength);
-      */
-      ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-
-      fm = new FileManipulator(byteBuffer);
-      // Need to set a fake file, so that the ViewerPlugins can get the extension when running getMatchRating()
-      fm.setFakeFile(new File(resource.getName()));
-    }
-
-    //if (resource.getName().equalsIgnoreCase("CHARS\\CREATURES\\DUPLO_CHOMPERLEGO\\DUPLO_CHOMPERLEGO_UK.TXT")) {
-    // System.out.println("LoadThumbnailLater: Starting load for " + resource.getName());
-    //}
+        ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
+      
+        resource.setLength(length);
+        resource.setDecompressedLength(decompLength);
+        */
+        ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
+
+        fm = new FileManipulator(byteBuffer);
+        // Need to set a fake file, so that the ViewerPlugins can get the extension when running getMatchRating()
+        fm.setFakeFile(new File(resource.getName()));
+      }
 
-    // now find a previewer for the file
-    // preview the first selected file
+      //if (resource.getName().equalsIgnoreCase("CHARS\\CREATURES\\DUPLO_CHOMPERLEGO\\DUPLO_CHOMPERLEGO_UK.TXT")) {
+      // System.out.println("LoadThumbnailLater: Starting load for " + resource.getName());
+      //}
 
-    //System.out.println("Finding Plugins");
-    RatedPlugin[] plugins = PluginFinder.findPlugins(fm, ViewerPlugin.class); // NOTE: This closes the fm pointer!!!
-    //System.out.println("    Done");
-    if (plugins == null || plugins.length == 0) {
-      // no viewer plugins found that will accept this file
-      // leave the BlankResource here
-      return;
-    }
+      // now find a previewer for the file
+      // preview the first selected file
 
-    Arrays.sort(plugins);
+      //System.out.println("Finding Plugins");
+      RatedPlugin[] plugins = PluginFinder.findPlugins(fm, ViewerPlugin.class); // NOTE: This closes the fm pointer!!!
+      //System.out.println("    Done");
+      if (plugins == null || plugins.length == 0) {
+        // no viewer plugins found that will accept this file
+        // leave the BlankResource here
+        return null;
+      }
 
-    // re-open the file - it was closed at the end of findPlugins();
-    if (exportedPath != null) {
-      // already exported - read from disk
-      fm = new FileManipulator(exportedPath, false);
-    }
-    else {
-      // Need to read the file from the archive
-      ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-      fm.open(byteBuffer);
-    }
+      Arrays.sort(plugins);
 
-    //System.out.println("Trying Plugins");
+      // re-open the file - it was closed at the end of findPlugins();
+      if (exportedPath != null) {
+        // already exported - read from disk
+        fm = new FileManipulator(exportedPath, false);
+      }
+      else {
+        // Need to read the file from the archive
+        ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
+        fm.open(byteBuffer);
+      }
 
-    // try to open the preview using each plugin and previewFile(File,Plugin)
-    for (int i = 0; i < plugins.length; i++) {
+      //System.out.println("Trying Plugins");
 
-      fm.seek(0); // go back to the start of the file
-      ImageResource imageResource = ((ViewerPlugin) plugins[i].getPlugin()).readThumbnail(fm);
+      // try to open the preview using each plugin and previewFile(File,Plugin)
+      for (int i = 0; i < plugins.length; i++) {
 
-      if (imageResource != null) {
-        // If the image is animated, remove the animations to clean up those memory areas.
-        // We don't really want to consider animated thumbnail images, do we!?
-        imageResource.setNextFrame(null);
+        fm.seek(0); // go back to the start of the file
+        ImageResource imageResource = ((ViewerPlugin) plugins[i].getPlugin()).readThumbnail(fm);
 
-        // if we don't want to retain the original image data after thumbnail generate, trigger a thumbnail generation now so
-        // that we can clean up the memory instantly rather than after the whole archive is loaded.
-        //if (Settings.getBoolean("RemoveImageAfterThumbnailGeneration")) {
-        imageResource.shrinkToThumbnail();
-        //}
+        if (imageResource != null) {
+          // If the image is animated, remove the animations to clean up those memory areas.
+          // We don't really want to consider animated thumbnail images, do we!?
+          imageResource.setNextFrame(null);
 
-        // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
-        resource.setImageResource(imageResource);
+          // if we don't want to retain the original image data after thumbnail generate, trigger a thumbnail generation now so
+          // that we can clean up the memory instantly rather than after the whole archive is loaded.
+          //if (Settings.getBoolean("RemoveImageAfterThumbnailGeneration")) {
+          imageResource.shrinkToThumbnail();
+          //}
 
-        fm.close();
+          // a plugin opened the file successfully
+          fm.close();
 
-        // Now that we have the thumbnail, change the value in the table
-        if (tableModelToUpdate != null) {
-          // paint the cell immediately (as part of this call in the Swing Event Dispatch Thread)
-          Rectangle cellRect = tableToUpdate.getCellRect(tableCellRow, tableCellColumn, false);
-          tableToUpdate.paintImmediately(cellRect);
+          ThumbnailCache.put(resource, imageResource);
 
-          // This is an alternative to the above, but triggers the repaint after *all* the thumbnails are loaded
-          //tableModelToUpdate.fireTableCellUpdated(tableCellRow, tableCellColumn);
+          return imageResource;
         }
 
-        return;
       }
 
+      fm.close();
+
+      // no plugins were able to open this file successfully
+      // leave the BlankResource here
+      return null;
+    }
+    finally {
+      if (runInBackground) {
+        SingletonManager.removeForThread("CurrentResource");
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public void redo() {
+    ImageResource imageResource = loadThumbnail();
+    if (imageResource != null) {
+      setThumbnail(imageResource);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Paints the table cell for this thumbnail. Must be run in the Swing Event Dispatch Thread.
+  **********************************************************************************************
+  **/
+  public void repaintCell() {
+    if (tableModelToUpdate != null) {
+      // paint the cell immediately (as part of this call in the Swing Event Dispatch Thread)
+      Rectangle cellRect = tableToUpdate.getCellRect(tableCellRow, tableCellColumn, false);
+      tableToUpdate.paintImmediately(cellRect);
+
+      // This is an alternative to the above, but triggers the repaint after *all* the thumbnails are loaded
+      //tableModelToUpdate.fireTableCellUpdated(tableCellRow, tableCellColumn);
     }
+  }
 
-    fm.close();
+  /**
+  **********************************************************************************************
+  Whether this task is being run in a background thread rather than the Swing Event Dispatch Thread
+  **********************************************************************************************
+  **/
+  public void setRunInBackground(boolean runInBackground) {
+    this.runInBackground = runInBackground;
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the generated <i>imageResource</i> on the Resource, and paints it in the table. Must be run
+  in the Swing Event Dispatch Thread.
+  **********************************************************************************************
+  **/
+  public void setThumbnail(ImageResource imageResource) {
+    // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
+    resource.setImageResource(imageResource);
 
-    // no plugins were able to open this file successfully
-    // leave the BlankResource here
-    return;
+    // Now that we have the thumbnail, change the value in the table
+    repaintCell();
   }
 
   /**
@@ -138,9 +138,12 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
           //  return false;
           //  }
 
-          if (arcPlugin.canScanForFileTypes() && Settings.getBoolean("IdentifyUnknownFileTypes")) {
+          boolean identifyFileTypes = arcPlugin.canScanForFileTypes() && Settings.getBoolean("IdentifyUnknownFileTypes");
+          boolean identifyInBackground = identifyFileTypes && FileTypeDetector.isIdentifyingInBackground();
+
+          if (identifyFileTypes && !identifyInBackground) {
             // Run the file type scanner over all the resources
-            FileTypeDetector.determineExtensions(resources, arcPlugin);
+            FileTypeDetector.determineExtensions(resources, arcPlugin, path);
           }
 
           Archive.makeNewArchive();
@@ -150,6 +153,11 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
           Archive.setBasePath(path);
           Archive.setColumns(arcPlugin.getColumns());
 
+          if (identifyInBackground) {
+            // Run the file type scanner while the files are being shown, starting with the ones that are visible
+            FileTypeDetector.identifyInBackground(resources, arcPlugin, path);
+          }
+
           // now display the files that are in the archive - same as in Task_ReadArchive
           TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
 
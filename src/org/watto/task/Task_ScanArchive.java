@@ -15,6 +15,11 @@
 package org.watto.task;
 
 import java.io.File;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.watto.ChangeMonitor;
 import org.watto.ErrorLogger;
 import org.watto.Language;
@@ -29,6 +34,7 @@ import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.plugin.PluginListBuilder;
 import org.watto.ge.plugin.ScannerPlugin;
+import org.watto.ge.plugin.ScannerSignatureMatcher;
 import org.watto.io.FileManipulator;
 
 /**
@@ -38,6 +44,9 @@ import org.watto.io.FileManipulator;
 **/
 public class Task_ScanArchive extends AbstractTask {
 
+  /** the size of each chunk of the file that is searched for the scanner signatures **/
+  static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
   /** The direction to perform in the thread **/
   int direction = 1;
 
@@ -66,6 +75,66 @@ public class Task_ScanArchive extends AbstractTask {
     this.withinThread = withinThread;
   }
 
+  /**
+  **********************************************************************************************
+  Gets the number of threads to look for the scanner signatures with, from the
+  <i>NumberOfScanThreads</i> setting. If the setting is 0 (or missing), uses 1 thread per processor.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfScanThreads");
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a <i>resource</i> found by a scanner into the <i>resources</i>
+  **********************************************************************************************
+  **/
+  void addResource(Resource resource, Resource[] resources, int numResources) {
+    // set the remaining information for the resource
+    resource.setSource(path);
+    resource.setName(Resource.generateFilename(numResources) + resource.getName());
+
+    // add the resource into the array
+    resources[numResources] = resource;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds all the candidates in a single chunk of the file
+  **********************************************************************************************
+  **/
+  Callable<long[]> findCandidatesInChunk(final ScannerSignatureMatcher matcher, final long chunkOffset, final long chunkEnd, final long arcSize) {
+    return new Callable<long[]>() {
+
+      @Override
+      public long[] call() {
+        // read a little past the end of the chunk, so that signatures across the boundary are found
+        long readEnd = chunkEnd + matcher.getMaxSignatureLength() - 1;
+        if (readEnd > arcSize) {
+          readEnd = arcSize;
+        }
+        int readLength = (int) (readEnd - chunkOffset);
+
+        byte[] data = new byte[readLength];
+        FileManipulator fm = new FileManipulator(path, false, readLength);
+        try {
+          fm.seek(chunkOffset);
+          fm.readBytes(data, 0, readLength);
+        }
+        finally {
+          fm.close();
+        }
+
+        return matcher.findCandidates(data, readLength, chunkOffset, chunkEnd);
+      }
+    };
+  }
+
   /**
   **********************************************************************************************
   
@@ -118,6 +187,59 @@ public class Task_ScanArchive extends AbstractTask {
     Resource[] resources = new Resource[Settings.getInt("MaxNumberOfFiles4")];
     int numResources = 0;
 
+    ScannerSignatureMatcher matcher = new ScannerSignatureMatcher(scanners);
+    if (matcher.canMatchAll() && Settings.getBoolean("UseScannerSignatureMatcher")) {
+      // only call the scanners where their signatures are found
+      numResources = scanCandidates(scanners, matcher, resources);
+    }
+    else {
+      // some scanners need to look at every byte
+      numResources = scanAllBytes(scanners, resources);
+    }
+
+    boolean archiveOpened = false;
+    if (numResources > 0) {
+      Archive.makeNewArchive();
+      //if (!ArchiveModificationMonitor.setModified(true)){
+      //  return;
+      //  }
+      Archive.setResources(resources);
+      Archive.resizeResources(numResources);
+      Archive.setBasePath(path);
+
+      TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
+
+      archiveOpened = true;
+    }
+
+    // Close the progress dialog
+    if (!withinThread) {
+      TaskProgressManager.stopTask();
+    }
+
+    ((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()).reload();
+
+    if (!archiveOpened) {
+      WSPopup.showError("ReadArchive_ReadWithScannerFailed", true);
+    }
+    else {
+      if (!withinThread) {
+        WSPopup.showMessage("ReadArchive_ArchiveOpenedWithScanner", true);
+      }
+      Settings.set("CurrentArchive", path.getAbsolutePath());
+    }
+
+  }
+
+  /**
+  **********************************************************************************************
+  Scans the file one byte at a time, giving every byte to every scanner
+  @return the number of resources that were found
+  **********************************************************************************************
+  **/
+  int scanAllBytes(ScannerPlugin[] scanners, Resource[] resources) {
+    int numResources = 0;
+
     FileManipulator fm = new FileManipulator(path, false);
     try {
       long arcSize = fm.getLength();
@@ -139,12 +261,7 @@ public class Task_ScanArchive extends AbstractTask {
             Resource resource = scanners[s].scan(b, fm);
 
             if (resource != null) {
-              // set the remaining information for the resource
-              resource.setSource(path);
-              resource.setName(Resource.generateFilename(numResources) + resource.getName());
-
-              // add the resource into the array
-              resources[numResources] = resource;
+              addResource(resource, resources, numResources);
               numResources++;
               s = scanners.length;
             }
@@ -167,38 +284,94 @@ public class Task_ScanArchive extends AbstractTask {
     }
     fm.close();
 
-    boolean archiveOpened = false;
-    if (numResources > 0) {
-      Archive.makeNewArchive();
-      //if (!ArchiveModificationMonitor.setModified(true)){
-      //  return;
-      //  }
-      Archive.setResources(resources);
-      Archive.resizeResources(numResources);
-      Archive.setBasePath(path);
+    return numResources;
+  }
 
-      TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
+  /**
+  **********************************************************************************************
+  Scans the file using the <i>matcher</i> to find the places where a scanner might find a file,
+  and only gives those bytes to the scanners. This finds the same files as scanAllBytes(), but
+  the file is read in large chunks, and the chunks are searched on several threads at once.
+  @return the number of resources that were found
+  **********************************************************************************************
+  **/
+  int scanCandidates(ScannerPlugin[] scanners, ScannerSignatureMatcher matcher, Resource[] resources) {
+    int numResources = 0;
 
-      archiveOpened = true;
-    }
+    int numThreads = getNumThreads();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
 
-    // Close the progress dialog
-    if (!withinThread) {
-      TaskProgressManager.stopTask();
-    }
+    FileManipulator fm = new FileManipulator(path, false);
+    try {
+      long arcSize = fm.getLength();
+      TaskProgressManager.setMaximum(arcSize);
 
-    ((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()).reload();
+      int numChunks = (int) ((arcSize + CHUNK_SIZE - 1) / CHUNK_SIZE);
 
-    if (!archiveOpened) {
-      WSPopup.showError("ReadArchive_ReadWithScannerFailed", true);
-    }
-    else {
-      if (!withinThread) {
-        WSPopup.showMessage("ReadArchive_ArchiveOpenedWithScanner", true);
+      // keep a few chunks ahead of the scanners, but not the whole file, so the memory stays low
+      int maxQueuedChunks = numThreads * 2;
+      ArrayDeque<Future<long[]>> queuedChunks = new ArrayDeque<Future<long[]>>(maxQueuedChunks);
+      int nextChunk = 0;
+
+      // the next offset that a file could start at (everything before this is in a file that's already been found)
+      long nextOffset = 0;
+
+      for (int c = 0; c < numChunks; c++) {
+        while (nextChunk < numChunks && queuedChunks.size() < maxQueuedChunks) {
+          long chunkOffset = (long) nextChunk * CHUNK_SIZE;
+          long chunkEnd = chunkOffset + CHUNK_SIZE;
+          if (chunkEnd > arcSize) {
+            chunkEnd = arcSize;
+          }
+          queuedChunks.add(executor.submit(findCandidatesInChunk(matcher, chunkOffset, chunkEnd, arcSize)));
+          nextChunk++;
+        }
+
+        long[] candidates = queuedChunks.poll().get();
+
+        // give each candidate to its scanner, in order, the same as if every byte was scanned
+        int numCandidates = candidates.length;
+        for (int i = 0; i < numCandidates; i++) {
+          long candidate = candidates[i];
+          long offset = ScannerSignatureMatcher.getCandidateOffset(candidate);
+          if (offset < nextOffset) {
+            continue; // inside a file that was already found
+          }
+
+          TaskProgressManager.setValue(offset);
+
+          // the scanners are given the first byte, with the fm pointing to the second byte
+          fm.relativeSeek(offset);
+          int b = fm.readByte();
+
+          try {
+            Resource resource = scanners[ScannerSignatureMatcher.getCandidateScanner(candidate)].scan(b, fm);
+            if (resource != null) {
+              addResource(resource, resources, numResources);
+              numResources++;
+
+              // continue scanning after the end of the file that was found
+              nextOffset = fm.getOffset();
+            }
+          }
+          catch (Throwable t) {
+            // scanner failed on this byte
+          }
+        }
+
+        TaskProgressManager.setValue(Math.min(arcSize, (long) (c + 1) * CHUNK_SIZE));
       }
-      Settings.set("CurrentArchive", path.getAbsolutePath());
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
     }
+    finally {
+      executor.shutdownNow();
+    }
+    fm.close();
 
+    return numResources;
   }
 
   /**
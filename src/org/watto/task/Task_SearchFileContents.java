@@ -15,7 +15,11 @@
 package org.watto.task;
 
 import java.io.File;
-import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.watto.Language;
 import org.watto.component.ComponentRepository;
 import org.watto.component.FileListPanel;
@@ -23,8 +27,8 @@ import org.watto.component.WSFileListPanelHolder;
 import org.watto.component.WSPopup;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
-import org.watto.io.FileManipulator;
-import org.watto.io.PatternFinder;
+import org.watto.ge.helper.ResourceContentSearcher;
+import org.watto.ge.plugin.ExporterPlugin;
 
 /**
 **********************************************************************************************
@@ -36,6 +40,15 @@ public class Task_SearchFileContents extends AbstractTask {
   /** The direction to perform in the thread **/
   int direction = 1;
 
+  /** the result of a file that hasn't been searched yet **/
+  static final int RESULT_PENDING = 0;
+
+  /** the result of a file that doesn't contain the search value **/
+  static final int RESULT_NO_MATCH = 1;
+
+  /** the result of a file that contains the search value **/
+  static final int RESULT_MATCH = 2;
+
   String searchVal;
   boolean firstMatchOnly = true;
 
@@ -54,7 +67,6 @@ public class Task_SearchFileContents extends AbstractTask {
   
   **********************************************************************************************
   **/
-  @SuppressWarnings("unused")
   @Override
   public void redo() {
     if (!TaskProgressManager.canDoTask()) {
@@ -72,10 +84,7 @@ public class Task_SearchFileContents extends AbstractTask {
 
     TaskProgressManager.startTask();
 
-    Charset charSet = Charset.forName("UTF-8");
-    String searchAscii = new String(searchVal.getBytes(charSet), charSet);
-    charSet = Charset.forName("UTF-16LE");
-    String searchUnicode = new String(searchVal.getBytes(charSet), charSet);
+    ResourceContentSearcher searcher = new ResourceContentSearcher(searchVal);
 
     // determine the starting position
     int numFiles = Archive.getNumFiles();
@@ -93,63 +102,139 @@ public class Task_SearchFileContents extends AbstractTask {
 
     fileList.selectNone();
 
-    // search for the files (StartPos --> end)
-    for (int i = startPos; i < numFiles; i++) {
-      Resource resource = fileList.getResource(i);
-      File path = resource.getExportedPath();
-      if (path == null) {
-        path = resource.getSource();
-      }
+    // search the files (StartPos --> end), then (beginning --> StartPos)
+    final int[] searchOrder = new int[numFiles];
+    final Resource[] resources = new Resource[numFiles];
+    for (int i = 0; i < numFiles; i++) {
+      int row = (startPos + i) % numFiles;
+      searchOrder[i] = row;
+      resources[i] = fileList.getResource(row);
+    }
 
-      FileManipulator fm = new FileManipulator(path, false);
-      fm.seek(resource.getOffset());
+    TaskProgressManager.setIndeterminate(false);
+    TaskProgressManager.setMaximum(numFiles);
 
-      PatternFinder patternFinder = new PatternFinder(fm);
-      long found = patternFinder.find(searchAscii);
+    boolean matchFound = searchFiles(searcher, resources, searchOrder, fileList);
 
-      if (found > 0) {
-        fileList.changeSelection(i);
-        if (firstMatchOnly) {
-          WSPopup.showMessage("Search_MatchFound", true);
-          TaskProgressManager.stopTask();
-          return;
-        }
-      }
+    if (matchFound && firstMatchOnly) {
+      WSPopup.showMessage("Search_MatchFound", true);
+      TaskProgressManager.stopTask();
+      return;
+    }
 
+    if (fileList.getNumSelected() <= 0) {
+      // Did not find any matching files
+      WSPopup.showError("Search_NoMatchFound", true);
     }
 
-    // search for the files (beginning --> StartPos)
-    for (int i = 0; i < startPos; i++) {
-      Resource resource = fileList.getResource(i);
-      File path = resource.getExportedPath();
-      if (path == null) {
-        path = resource.getSource();
-      }
+    TaskProgressManager.stopTask();
 
-      FileManipulator fm = new FileManipulator(path, false);
-      fm.seek(resource.getOffset());
+  }
 
-      PatternFinder patternFinder = new PatternFinder(fm);
-      long found = patternFinder.find(searchAscii);
+  /**
+  **********************************************************************************************
+  Searches all the <i>resources</i> on several threads at once. The matches are selected in the
+  <i>fileList</i> in the same order as the <i>resources</i>, as soon as all the earlier resources
+  have been searched.
+  @return true if any matches were found
+  **********************************************************************************************
+  **/
+  boolean searchFiles(final ResourceContentSearcher searcher, final Resource[] resources, int[] searchOrder, FileListPanel fileList) {
+    final int numFiles = resources.length;
+    if (numFiles <= 0) {
+      return false;
+    }
 
-      if (found > 0) {
-        fileList.changeSelection(i);
-        if (firstMatchOnly) {
-          WSPopup.showMessage("Search_MatchFound", true);
-          TaskProgressManager.stopTask();
-          return;
-        }
+    // the result for each resource - RESULT_PENDING until it has been searched
+    final AtomicIntegerArray results = new AtomicIntegerArray(numFiles);
+    final AtomicBoolean stopSearching = new AtomicBoolean(false);
+
+    // the resources with thread-safe exporters are searched on other threads.
+    // The rest are searched on this thread, in order, while reporting the results.
+    final AtomicInteger nextParallel = new AtomicInteger(0);
+    final int[] parallelFiles = new int[numFiles];
+    int numParallel = 0;
+    for (int i = 0; i < numFiles; i++) {
+      if (canSearchInParallel(resources[i])) {
+        parallelFiles[numParallel] = i;
+        numParallel++;
       }
+    }
 
+    ExecutorService executor = null;
+    int numThreads = Math.min(ResourceContentSearcher.getNumThreads(), numParallel);
+    if (numThreads > 1) {
+      final int parallelCount = numParallel;
+      executor = Executors.newFixedThreadPool(numThreads);
+      for (int t = 0; t < numThreads; t++) {
+        executor.execute(new Runnable() {
+
+          @Override
+          public void run() {
+            int next = nextParallel.getAndIncrement();
+            while (next < parallelCount && !stopSearching.get()) {
+              int file = parallelFiles[next];
+              results.set(file, searcher.contains(resources[file]) ? RESULT_MATCH : RESULT_NO_MATCH);
+              next = nextParallel.getAndIncrement();
+            }
+          }
+        });
+      }
+      executor.shutdown();
     }
 
-    if (fileList.getNumSelected() <= 0) {
-      // Did not find any matching files
-      WSPopup.showError("Search_NoMatchFound", true);
+    boolean matchFound = false;
+    try {
+      for (int i = 0; i < numFiles; i++) {
+        int result = results.get(i);
+        if (result == RESULT_PENDING && (executor == null || !canSearchInParallel(resources[i]))) {
+          // search it on this thread
+          result = searcher.contains(resources[i]) ? RESULT_MATCH : RESULT_NO_MATCH;
+          results.set(i, result);
+        }
+
+        // wait for the other threads to search it
+        while (result == RESULT_PENDING) {
+          Thread.sleep(5);
+          result = results.get(i);
+        }
+
+        TaskProgressManager.setValue(i + 1);
+
+        if (result == RESULT_MATCH) {
+          fileList.changeSelection(searchOrder[i]);
+          matchFound = true;
+          if (firstMatchOnly) {
+            break;
+          }
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    finally {
+      stopSearching.set(true);
+      if (executor != null) {
+        executor.shutdownNow();
+      }
     }
 
-    TaskProgressManager.stopTask();
+    return matchFound;
+  }
 
+  /**
+  **********************************************************************************************
+  Can this <i>resource</i> be searched at the same time as other resources?
+  **********************************************************************************************
+  **/
+  boolean canSearchInParallel(Resource resource) {
+    File exportedPath = resource.getExportedPath();
+    if (exportedPath != null && exportedPath.exists()) {
+      return true;
+    }
+    ExporterPlugin exporter = resource.getExporter();
+    return exporter != null && exporter.isThreadSafe();
   }
 
   /**
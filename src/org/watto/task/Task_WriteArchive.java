@@ -19,11 +19,13 @@ import java.nio.file.FileAlreadyExistsException;
 import org.watto.ChangeMonitor;
 import org.watto.ErrorLogger;
 import org.watto.Language;
+import org.watto.Settings;
 import org.watto.TypecastSingletonManager;
 import org.watto.component.ComponentRepository;
 import org.watto.component.WSDirectoryListHolder;
 import org.watto.component.WSPopup;
 import org.watto.datatype.Archive;
+import org.watto.ge.helper.ZipFileCache;
 import org.watto.ge.plugin.ArchivePlugin;
 
 /**
@@ -50,6 +52,21 @@ public class Task_WriteArchive extends AbstractTask {
     this.plugin = plugin;
   }
 
+  /**
+  **********************************************************************************************
+  Can the current archive be patched (see ArchivePlugin.patch()) rather than being rewritten? Only
+  if the archive is being saved in the same format it was read in, and patching is turned on by
+  the <i>PatchArchivesInPlace</i> setting.
+  **********************************************************************************************
+  **/
+  public boolean canPatchArchive() {
+    ArchivePlugin readPlugin = Archive.getReadPlugin();
+    if (readPlugin == null || readPlugin.getClass() != plugin.getClass()) {
+      return false;
+    }
+    return Settings.getBoolean("PatchArchivesInPlace") && plugin.canPatch();
+  }
+
   /**
   **********************************************************************************************
   
@@ -92,7 +109,24 @@ public class Task_WriteArchive extends AbstractTask {
     String temporaryFilePath = path.getAbsolutePath() + ".temp";
     File temporaryFile = null;
 
-    if (replacingCurrentArchive) {
+    // If we're saving the current archive in the same format, try to only write the changes into the
+    // existing archive, rather than rewriting the whole archive (which is slow for large archives)
+    boolean patched = false;
+    if (replacingCurrentArchive && canPatchArchive()) {
+      ZipFileCache.closeAll(); // so the archive isn't open while it's being changed
+      try {
+        patched = plugin.patch(Archive.getResources(), path);
+      }
+      catch (Throwable t) {
+        // the archive wasn't saved - the changes are still there, so the user can try again
+        ErrorLogger.log(t);
+        TaskProgressManager.stopTask();
+        WSPopup.showError("WriteArchive_SaveFailed", true);
+        return;
+      }
+    }
+
+    if (replacingCurrentArchive && !patched) {
       // generate a temporary name
       for (int i = 0; i < 10000; i++) {
         if (!new File(temporaryFilePath + i).exists()) {
@@ -113,7 +147,10 @@ public class Task_WriteArchive extends AbstractTask {
       path = temporaryFile;
     }
 
-    if (Archive.getReadPlugin() == null) {
+    if (patched) {
+      // already written
+    }
+    else if (Archive.getReadPlugin() == null) {
       // write from scratch
       plugin.write(Archive.getResources(), path);
     }
@@ -122,7 +159,9 @@ public class Task_WriteArchive extends AbstractTask {
       plugin.replace(Archive.getResources(), path);
     }
 
-    if (replacingCurrentArchive) {
+    if (replacingCurrentArchive && !patched) {
+      ZipFileCache.closeAll(); // otherwise the original archive can't be deleted
+
       // now that we've written into the temporary file, we need to remove the original file and rename the temporary file to the original filename
       try {
         boolean deleted = desiredFile.delete();
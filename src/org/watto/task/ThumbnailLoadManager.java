@@ -0,0 +1,244 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.task;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.SwingUtilities;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.component.WSTable;
+import org.watto.datatype.BlankImageResource;
+import org.watto.datatype.ImageResource;
+import org.watto.datatype.Resource;
+
+/**
+**********************************************************************************************
+Generates thumbnails in a small pool of background threads, rather than in the Swing Event
+Dispatch Thread, so the interface stays responsive while scrolling through large archives. The
+most recently requested thumbnails are generated first, and any thumbnails that have scrolled
+out of view before they're started are skipped (they'll be requested again if they come back
+into view).
+**********************************************************************************************
+**/
+public class ThumbnailLoadManager {
+
+  /**
+  **********************************************************************************************
+  A queued thumbnail, ordered so the newest request is run first
+  **********************************************************************************************
+  **/
+  static class ThumbnailJob implements Runnable, Comparable<ThumbnailJob> {
+
+    Task_LoadThumbnailLater task;
+
+    long sequence;
+
+    long generation;
+
+    public ThumbnailJob(Task_LoadThumbnailLater task, long sequence, long generation) {
+      this.task = task;
+      this.sequence = sequence;
+      this.generation = generation;
+    }
+
+    @Override
+    public int compareTo(ThumbnailJob otherJob) {
+      if (sequence == otherJob.sequence) {
+        return 0;
+      }
+      else if (sequence > otherJob.sequence) {
+        return -1; // newest first
+      }
+      else {
+        return 1;
+      }
+    }
+
+    @Override
+    public void run() {
+      final Resource resource = task.getResource();
+
+      if (generation != currentGeneration.get() || !isRowVisible(task.getTableToUpdate(), task.getTableCellRow())) {
+        // the table was reloaded, or the user has scrolled away, so don't bother generating this one
+        clearBlankThumbnail(resource);
+        return;
+      }
+
+      ImageResource imageResource = null;
+      try {
+        imageResource = task.loadThumbnail();
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+
+      if (imageResource == null) {
+        // leave the BlankResource here
+        return;
+      }
+
+      final ImageResource thumbnail = imageResource;
+      SwingUtilities.invokeLater(new Runnable() {
+
+        @Override
+        public void run() {
+          if (generation != currentGeneration.get()) {
+            return; // the table has been reloaded since this was requested
+          }
+          task.setThumbnail(thumbnail);
+        }
+      });
+    }
+  }
+
+  /** the number of rows either side of the visible rows that are still worth generating thumbnails for **/
+  static final int ROW_MARGIN = 2;
+
+  /** the threads that generate the thumbnails **/
+  static ThreadPoolExecutor executor = null;
+
+  /** the order that the thumbnails were requested **/
+  static AtomicLong nextSequence = new AtomicLong(0);
+
+  /** incremented whenever the queued thumbnails are cancelled, so running jobs know to discard their results **/
+  static AtomicLong currentGeneration = new AtomicLong(0);
+
+  /** the table that the visible rows belong to **/
+  static volatile WSTable visibleTable = null;
+
+  /** the first row that is visible in the table **/
+  static volatile int firstVisibleRow = -1;
+
+  /** the last row that is visible in the table **/
+  static volatile int lastVisibleRow = -1;
+
+  /**
+  **********************************************************************************************
+  Removes all the thumbnails that are waiting to be generated, and discards the results of any
+  that are being generated now. Used when the file list is reloaded.
+  **********************************************************************************************
+  **/
+  public static void cancelAll() {
+    currentGeneration.incrementAndGet();
+    if (executor == null) {
+      return;
+    }
+
+    Object[] jobs = executor.getQueue().toArray();
+    executor.getQueue().clear();
+
+    for (int i = 0; i < jobs.length; i++) {
+      clearBlankThumbnail(((ThumbnailJob) jobs[i]).task.getResource());
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  If the <i>resource</i> is still showing the BlankImageResource, removes it so that the thumbnail
+  is requested again the next time it's painted.
+  **********************************************************************************************
+  **/
+  static void clearBlankThumbnail(final Resource resource) {
+    SwingUtilities.invokeLater(new Runnable() {
+
+      @Override
+      public void run() {
+        if (resource.getImageResource() instanceof BlankImageResource) {
+          resource.setImageResource(null);
+        }
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the thread pool, creating it if it doesn't exist yet
+  **********************************************************************************************
+  **/
+  static synchronized ThreadPoolExecutor getExecutor() {
+    if (executor == null) {
+      int numThreads = getNumThreads();
+      executor = new ThreadPoolExecutor(numThreads, numThreads, 30, TimeUnit.SECONDS, new PriorityBlockingQueue<Runnable>(), new ThreadFactory() {
+
+        int threadNumber = 0;
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+          threadNumber++;
+          Thread thread = new Thread(runnable, "ThumbnailLoader-" + threadNumber);
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        }
+      });
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads to generate thumbnails with, from the <i>NumberOfThumbnailThreads</i>
+  setting. If the setting is 0 (or missing), uses 1 thread.
+  **********************************************************************************************
+  **/
+  public static int getNumThreads() {
+    int numThreads = Settings.getInt("NumberOfThumbnailThreads");
+    if (numThreads <= 0) {
+      numThreads = 1;
+    }
+    return numThreads;
+  }
+
+  /**
+  **********************************************************************************************
+  Is the <i>row</i> of the <i>table</i> visible (or nearly visible) on the screen?
+  **********************************************************************************************
+  **/
+  static boolean isRowVisible(WSTable table, int row) {
+    if (table != visibleTable || firstVisibleRow < 0) {
+      return true; // don't know what's visible, so assume it is
+    }
+    return row >= firstVisibleRow - ROW_MARGIN && row <= lastVisibleRow + ROW_MARGIN;
+  }
+
+  /**
+  **********************************************************************************************
+  Generates the thumbnail for the <i>task</i> in a background thread. The thumbnail is set on the
+  Resource and painted in the table (in the Event Dispatch Thread) once it's ready.
+  **********************************************************************************************
+  **/
+  public static void queue(Task_LoadThumbnailLater task) {
+    task.setRunInBackground(true);
+    getExecutor().execute(new ThumbnailJob(task, nextSequence.getAndIncrement(), currentGeneration.get()));
+  }
+
+  /**
+  **********************************************************************************************
+  Records which rows of the <i>table</i> are currently visible on the screen, so that thumbnails
+  that have scrolled out of view can be skipped.
+  **********************************************************************************************
+  **/
+  public static void setVisibleRows(WSTable table, int firstRow, int lastRow) {
+    visibleTable = table;
+    firstVisibleRow = firstRow;
+    lastVisibleRow = lastRow;
+  }
+
+}